@@ -0,0 +1,44 @@
+package com.sysmatic2.finalbe.strategy.benchmark;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.service.DailyStatisticsService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일간 통계 전체 구간 재계산 벤치마크 (DB 접근 제외)
+ *
+ * - registerDailyStatisticsBulk 로 가상 전략의 전체 일간 통계를 처음부터 계산합니다.
+ * - fixedPointKernel 파라미터로 BigDecimal 계산과 고정 소수점 계산 모드를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DailyStatisticsRecalculationBenchmark {
+
+    @Param({"250", "2500", "25000"})
+    private int days;
+
+    @Param({"false", "true"})
+    private boolean fixedPointKernel;
+
+    private DailyStatisticsService dailyStatisticsService;
+    private List<DailyStatisticsReqDto> reqDtos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dailyStatisticsService = InMemoryDailyStatisticsService.create(fixedPointKernel);
+        reqDtos = SyntheticStrategySeries.generate(days);
+    }
+
+    @Benchmark
+    public List<DailyStatisticsEntity> recalculateAll() {
+        return dailyStatisticsService.registerDailyStatisticsBulk(InMemoryDailyStatisticsService.STRATEGY_ID, reqDtos);
+    }
+}
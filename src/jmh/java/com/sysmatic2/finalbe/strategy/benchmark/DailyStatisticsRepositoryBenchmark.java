@@ -0,0 +1,171 @@
+package com.sysmatic2.finalbe.strategy.benchmark;
+
+import com.sysmatic2.finalbe.FinalBeApplication;
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import com.sysmatic2.finalbe.strategy.service.DailyStatisticsService;
+import com.sysmatic2.finalbe.strategy.service.MonthlyStatisticsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2 인메모리 DB 기반 일간/월간 통계 저장 경로 벤치마크
+ *
+ * - 애플리케이션 컨텍스트를 H2(MySQL 모드)로 띄워 실제 레포지토리 조회/저장 비용까지 측정합니다.
+ * - registerAll: 데이터가 없는 전략에 가상 전략의 전체 일간 데이터를 일괄 등록 (매 호출 전 데이터 삭제)
+ * - refreshMonthlyStatistics: 데이터가 등록된 전략의 전체 월간 통계 재계산 (MonthlyStatisticsCalculator)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DailyStatisticsRepositoryBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Database {
+        @Param({"250", "2500", "25000"})
+        private int days;
+
+        private ConfigurableApplicationContext context;
+        private DailyStatisticsService dailyStatisticsService;
+        private MonthlyStatisticsService monthlyStatisticsService;
+        private StrategyRepository strategyRepository;
+        private TransactionTemplate transactionTemplate;
+
+        private List<DailyStatisticsReqDto> reqDtos;
+        private Set<YearMonth> months;
+        private Long loadedStrategyId; // 데이터가 등록된 전략
+        private Long emptyStrategyId;  // 매 호출마다 비우고 다시 등록하는 전략
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            System.setProperty("spring.devtools.restart.enabled", "false"); // devtools 재시작 클래스로더 사용 안 함
+            context = new SpringApplicationBuilder(FinalBeApplication.class).run(applicationArguments());
+            dailyStatisticsService = context.getBean(DailyStatisticsService.class);
+            monthlyStatisticsService = context.getBean(MonthlyStatisticsService.class);
+            strategyRepository = context.getBean(StrategyRepository.class);
+            transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            // 전략 기본 데이터 생성 (작성자 등 감사 필드가 필수이므로 JDBC로 직접 입력)
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            jdbcTemplate.update("INSERT INTO trading_cycle (trading_cycle_order, trading_cycle_name, trading_cycle_icon, is_active) "
+                    + "VALUES (1, 'benchmark', 'icon', 'Y')");
+            Long tradingCycleId = jdbcTemplate.queryForObject("SELECT MAX(trading_cycle_id) FROM trading_cycle", Long.class);
+            loadedStrategyId = insertStrategy(jdbcTemplate, tradingCycleId, "loaded");
+            emptyStrategyId = insertStrategy(jdbcTemplate, tradingCycleId, "empty");
+
+            reqDtos = SyntheticStrategySeries.generate(days);
+            months = new TreeSet<>();
+            reqDtos.forEach(reqDto -> months.add(YearMonth.from(reqDto.getDate())));
+            dailyStatisticsService.registerDailyStatisticsBulk(loadedStrategyId, reqDtos);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        // H2(MySQL 모드) 설정 (application.properties 의 환경 변수 대체, 보안 설정 때문에 웹 서버는 임의 포트로 실행)
+        private static String[] applicationArguments() {
+            return new String[]{
+                    "--SERVER_PORT=0",
+                    "--SPRING_MAIN_WEB_APPLICATION_TYPE=servlet",
+                    "--SPRING_MAIN_BANNER_MODE=off",
+                    "--SPRING_DATASOURCE_DRIVER_CLASS_NAME=org.h2.Driver",
+                    "--SPRING_DATASOURCE_URL=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                    "--SPRING_DATASOURCE_USERNAME=sa",
+                    "--SPRING_DATASOURCE_PASSWORD=",
+                    "--SPRING_JPA_HIBERNATE_DDL_AUTO=create-drop",
+                    "--SPRING_JPA_GENERATE_DDL=true",
+                    "--SPRING_JPA_SHOW_SQL=false",
+                    "--SPRING_JPA_PROPERTIES_HIBERNATE_FORMAT_SQL=false",
+                    "--SPRING_JPA_DATABASE_PLATFORM=org.hibernate.dialect.H2Dialect",
+                    "--LOGGING_LEVEL_ORG_HIBERNATE=warn",
+                    "--SPRING_PROFILES_ACTIVE=benchmark",
+                    "--SSL_KEY_STORE=",
+                    "--SSL_KEY_STORE_PASSWORD=",
+                    "--SSL_KEY_STORE_TYPE=PKCS12",
+                    "--server.ssl.enabled=false",
+                    "--SPRING_MAIL_HOST=localhost",
+                    "--SPRING_MAIL_PORT=25",
+                    "--SPRING_MAIL_USERNAME=benchmark",
+                    "--SPRING_MAIL_PASSWORD=benchmark",
+                    "--SPRING_MAIL_PROTOCOL=smtp",
+                    "--SPRING_MAIL_SMTP_AUTH=false",
+                    "--SPRING_MAIL_STARTTLS_ENABLE=false",
+                    "--SPRING_MAIL_STARTTLS_REQUIRED=false",
+                    "--SPRING_MAIL_CONNECTION_TIMEOUT=1000",
+                    "--SPRING_MAIL_TIMEOUT=1000",
+                    "--SPRING_MAIL_WRITE_TIMEOUT=1000",
+                    "--AUTH_CODE_EXPIRATION_MILLIS=300000",
+                    "--SPRING_JWT_SECRET=benchmark-secret-key-benchmark-secret-key-benchmark",
+                    "--AWS_S3_BUCKET=benchmark",
+                    "--AWS_STACK_AUTO=false",
+                    "--AWS_REGION=ap-northeast-2",
+                    "--AWS_ACCESS_KEY=benchmark",
+                    "--AWS_SECRET_KEY=benchmark",
+                    "--MULTIPART_MAX_FILE_SIZE=10MB",
+                    "--MULTIPART_MAX_REQUEST_SIZE=10MB",
+                    "--SM_SCORE_REFRESH_INTERVAL_MILLIS=3600000"
+            };
+        }
+
+        private static Long insertStrategy(JdbcTemplate jdbcTemplate, Long tradingCycleId, String title) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "INSERT INTO strategy (strategy_status_code, trading_cycle_id, min_investment_amount, strategy_title, "
+                                + "writer_id, is_posted, is_approved, writed_at, kp_ratio, sm_score, followers_count) "
+                                + "VALUES ('STRATEGY_OPERATION_STATUS_RUNNING', ?, '1000', ?, 'benchmark', 'Y', 'Y', CURRENT_TIMESTAMP, 0, 0, 0)",
+                        Statement.RETURN_GENERATED_KEYS);
+                statement.setLong(1, tradingCycleId);
+                statement.setString(2, title);
+                return statement;
+            }, keyHolder);
+            return keyHolder.getKey().longValue();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class EmptyStrategy {
+
+        // 측정 전 전략의 일간 통계 및 누적 상태 삭제
+        @Setup(Level.Invocation)
+        public void clear(Database database) {
+            database.transactionTemplate.executeWithoutResult(status -> {
+                StrategyEntity strategy = database.strategyRepository.findById(database.emptyStrategyId).orElseThrow();
+                database.dailyStatisticsService.deleteDailyStatisticsByStrategy(strategy);
+            });
+        }
+    }
+
+    @Benchmark
+    public List<DailyStatisticsEntity> registerAll(Database database, EmptyStrategy emptyStrategy) {
+        return database.dailyStatisticsService.registerDailyStatisticsBulk(database.emptyStrategyId, database.reqDtos);
+    }
+
+    @Benchmark
+    public void refreshMonthlyStatistics(Database database) {
+        database.transactionTemplate.executeWithoutResult(status -> {
+            StrategyEntity strategy = database.strategyRepository.findById(database.loadedStrategyId).orElseThrow();
+            database.monthlyStatisticsService.refreshMonthlyStatistics(strategy, database.months);
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.sysmatic2.finalbe.strategy.benchmark;
+
+import com.sysmatic2.finalbe.strategy.common.StrategySeriesCache;
+import com.sysmatic2.finalbe.strategy.common.StrategyWriteLanes;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsHistoryRepository;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsStateRepository;
+import com.sysmatic2.finalbe.strategy.repository.MonthlyStatisticsHistoryRepository;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import com.sysmatic2.finalbe.strategy.service.DailyStatisticsService;
+import com.sysmatic2.finalbe.strategy.service.MonthlyStatisticsService;
+import com.sysmatic2.finalbe.strategy.service.SmScoreService;
+import com.sysmatic2.finalbe.strategy.service.StrategySummaryService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 레포지토리를 mock 으로 대체한 DailyStatisticsService 생성기
+ *
+ * - DB 접근 없이 계산 비용만 측정하기 위해 사용합니다.
+ * - 기존 데이터는 없고, saveAll 은 전달받은 리스트를 그대로 반환합니다.
+ * - 트랜잭션이 없으므로 전략 쓰기 레인도 mock 으로 대체합니다.
+ */
+public class InMemoryDailyStatisticsService {
+    public static final Long STRATEGY_ID = 1L;
+
+    private InMemoryDailyStatisticsService() {
+        // 유틸리티 클래스는 인스턴스화 금지
+    }
+
+    /**
+     * @param fixedPointKernelEnabled 고정 소수점 계산 모드 사용 여부
+     * @return 계산 전용 DailyStatisticsService
+     */
+    public static DailyStatisticsService create(boolean fixedPointKernelEnabled) {
+        DailyStatisticsRepository dsp = mock(DailyStatisticsRepository.class);
+        StrategyRepository strategyRepository = mock(StrategyRepository.class);
+
+        StrategyEntity strategy = new StrategyEntity();
+        strategy.setStrategyId(STRATEGY_ID);
+        when(strategyRepository.findById(anyLong())).thenReturn(Optional.of(strategy));
+        when(dsp.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        DailyStatisticsService service = new DailyStatisticsService(
+                dsp,
+                mock(DailyStatisticsHistoryRepository.class),
+                strategyRepository,
+                mock(MonthlyStatisticsHistoryRepository.class),
+                mock(MonthlyStatisticsService.class),
+                mock(DailyStatisticsStateRepository.class),
+                mock(SmScoreService.class),
+                mock(StrategyWriteLanes.class),
+                mock(StrategySeriesCache.class),
+                mock(StrategySummaryService.class));
+        ReflectionTestUtils.setField(service, "fixedPointKernelEnabled", fixedPointKernelEnabled);
+        return service;
+    }
+}
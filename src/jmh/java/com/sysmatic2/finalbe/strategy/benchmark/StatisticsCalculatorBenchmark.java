@@ -0,0 +1,81 @@
+package com.sysmatic2.finalbe.strategy.benchmark;
+
+import com.sysmatic2.finalbe.strategy.common.DailyStatisticsCalculator;
+import com.sysmatic2.finalbe.strategy.dto.DdDayAndMaxDdInRate;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DailyStatisticsCalculator 지표 계산 비용 벤치마크
+ *
+ * - 전체 이력 리스트 기반 계산과 누적 합계 기반 계산을 같은 데이터로 비교합니다.
+ * - 입력 데이터는 가상 전략을 한 번 계산한 결과의 마지막 날 기준입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsCalculatorBenchmark {
+
+    @Param({"250", "2500", "25000"})
+    private int days;
+
+    private List<BigDecimal> dailyProfitLosses;
+    private List<BigDecimal> referencePrices;
+    private List<DdDayAndMaxDdInRate> ddDayAndMaxDdInRates;
+    private BigDecimal profitLossSum;
+    private BigDecimal profitLossSquareSum;
+    private DailyStatisticsEntity latest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<DailyStatisticsEntity> rows = InMemoryDailyStatisticsService.create(false)
+                .registerDailyStatisticsBulk(InMemoryDailyStatisticsService.STRATEGY_ID, SyntheticStrategySeries.generate(days));
+
+        dailyProfitLosses = rows.stream().map(DailyStatisticsEntity::getDailyProfitLoss).toList();
+        referencePrices = rows.stream().map(DailyStatisticsEntity::getReferencePrice).toList();
+        ddDayAndMaxDdInRates = rows.stream()
+                .map(row -> new DdDayAndMaxDdInRate(row.getDdDay(), row.getMaxDdInRate()))
+                .toList();
+        profitLossSum = dailyProfitLosses.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        profitLossSquareSum = dailyProfitLosses.stream().map(pl -> pl.multiply(pl)).reduce(BigDecimal.ZERO, BigDecimal::add);
+        latest = rows.get(rows.size() - 1);
+    }
+
+    @Benchmark
+    public BigDecimal sharpRatioFromHistory() {
+        return DailyStatisticsCalculator.calculateSharpRatio(dailyProfitLosses, latest.getAverageProfitLoss());
+    }
+
+    @Benchmark
+    public BigDecimal sharpRatioFromSums() {
+        return DailyStatisticsCalculator.calculateSharpRatio(profitLossSum, profitLossSquareSum, days, latest.getAverageProfitLoss());
+    }
+
+    @Benchmark
+    public BigDecimal coefficientOfVariationFromHistory() {
+        return DailyStatisticsCalculator.calculateCoefficientOfVariation(dailyProfitLosses, latest.getAverageProfitLoss());
+    }
+
+    @Benchmark
+    public BigDecimal coefficientOfVariationFromSums() {
+        return DailyStatisticsCalculator.calculateCoefficientOfVariation(profitLossSum, profitLossSquareSum, days, latest.getAverageProfitLoss());
+    }
+
+    @Benchmark
+    public BigDecimal kpRatioFromHistory() {
+        return DailyStatisticsCalculator.calculateKPRatio(ddDayAndMaxDdInRates, latest.getCurrentDrawdownRate(),
+                latest.getCumulativeProfitLossRate(), latest.getTradingDays());
+    }
+
+    @Benchmark
+    public BigDecimal currentDrawdownRateFromHistory() {
+        return DailyStatisticsCalculator.calculateCurrentDrawdownRate(latest.getReferencePrice(), referencePrices);
+    }
+}
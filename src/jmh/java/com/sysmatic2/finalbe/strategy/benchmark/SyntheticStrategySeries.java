@@ -0,0 +1,63 @@
+package com.sysmatic2.finalbe.strategy.benchmark;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 가상 전략 일간 데이터 생성기
+ *
+ * - 같은 시드와 일수이면 항상 같은 시계열을 생성합니다. (벤치마크 간 결과 비교용)
+ * - 첫날 입금 후 약 5% 확률로 입출금, 일손익은 잔고의 약 ±1.5% 입니다.
+ */
+public class SyntheticStrategySeries {
+    public static final LocalDate START_DATE = LocalDate.of(2000, 1, 3);
+    private static final long SEED = 20241201L;
+
+    private SyntheticStrategySeries() {
+        // 유틸리티 클래스는 인스턴스화 금지
+    }
+
+    /**
+     * 일간 입력 데이터를 생성합니다.
+     *
+     * @param days 생성할 일수
+     * @return 날짜 오름차순 입력 데이터 리스트
+     */
+    public static List<DailyStatisticsReqDto> generate(int days) {
+        Random random = new Random(SEED);
+        List<DailyStatisticsReqDto> reqDtos = new ArrayList<>(days);
+        BigDecimal balance = BigDecimal.ZERO;
+
+        for (int i = 0; i < days; i++) {
+            // 입출금: 첫날 원금 입금, 이후 가끔 추가 입금 또는 일부 출금
+            BigDecimal depWdPrice = BigDecimal.ZERO;
+            if (i == 0) {
+                depWdPrice = BigDecimal.valueOf(100_000_000L);
+            } else if (random.nextInt(20) == 0) {
+                BigDecimal amount = BigDecimal.valueOf(1_000_000L + random.nextInt(20_000_000));
+                depWdPrice = random.nextBoolean() ? amount : amount.min(balance.divide(BigDecimal.valueOf(2), 0, RoundingMode.DOWN)).negate();
+            }
+
+            // 일손익: 잔고의 약 ±1.5% (정수)
+            BigDecimal available = balance.add(depWdPrice);
+            BigDecimal dailyProfitLoss = available
+                    .multiply(BigDecimal.valueOf(random.nextGaussian() * 0.015 + 0.0005))
+                    .setScale(0, RoundingMode.HALF_UP)
+                    .max(available.negate());
+
+            balance = available.add(dailyProfitLoss);
+            reqDtos.add(DailyStatisticsReqDto.builder()
+                    .date(START_DATE.plusDays(i))
+                    .depWdPrice(depWdPrice)
+                    .dailyProfitLoss(dailyProfitLoss)
+                    .build());
+        }
+        return reqDtos;
+    }
+}
@@ -8,6 +8,7 @@ import com.sysmatic2.finalbe.strategy.entity.StrategyIACEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyIACHistoryEntity;
 import com.sysmatic2.finalbe.strategy.repository.StrategyIACHistoryRepository;
 import com.sysmatic2.finalbe.strategy.repository.StrategyIACRepository;
+import com.sysmatic2.finalbe.strategy.service.StrategySummaryService;
 import com.sysmatic2.finalbe.common.DtoEntityConversion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -28,6 +29,7 @@ public class InvestmentAssetClassesService {
     private final InvestmentAssetClassesRepository iacRepository;
     private final StrategyIACRepository strategyIACRepository;
     private final StrategyIACHistoryRepository strategyIACHistoryRepository;
+    private final StrategySummaryService strategySummaryService;
 
     //1. 투자자산 분류 전체목록 메서드 페이지네이션, 소팅 적용
     @Transactional(readOnly = true)
@@ -125,6 +127,9 @@ public class InvestmentAssetClassesService {
         //관계테이블에서 엔티티 삭제
         strategyIACRepository.deleteAll(relatedStrategyIACs);
 
+        //관련 전략의 목록 요약 갱신 (커밋 직전)
+        strategySummaryService.refreshBeforeCommit(relatedStrategyIds(relatedStrategyIACs));
+
         //투자자산 분류 삭제
         iacRepository.delete(iacEntity);
     }
@@ -153,10 +158,23 @@ public class InvestmentAssetClassesService {
         if(iacPayloadDto.getOrder() != null){
             iacEntity.setOrder(iacPayloadDto.getOrder());
         }
+        //아이콘이 바뀌면 관련 전략의 목록 요약 갱신 (커밋 직전)
+        if (!Objects.equals(iacEntity.getInvestmentAssetClassesIcon(), iacPayloadDto.getInvestmentAssetClassesIcon())) {
+            strategySummaryService.refreshBeforeCommit(
+                    relatedStrategyIds(strategyIACRepository.findByInvestmentAssetClassesEntity(iacEntity)));
+        }
         iacEntity.setInvestmentAssetClassesName(iacPayloadDto.getInvestmentAssetClassesName());
         iacEntity.setInvestmentAssetClassesIcon(iacPayloadDto.getInvestmentAssetClassesIcon());
 
         //save()
         iacRepository.save(iacEntity);
     }
+
+    //관계 데이터의 전략 ID 목록
+    private List<Long> relatedStrategyIds(List<StrategyIACEntity> strategyIACEntities) {
+        return strategyIACEntities.stream()
+                .map(strategyIACEntity -> strategyIACEntity.getStrategyEntity().getStrategyId())
+                .distinct()
+                .toList();
+    }
 }
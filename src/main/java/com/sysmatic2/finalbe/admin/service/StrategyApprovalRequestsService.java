@@ -5,12 +5,15 @@ import com.sysmatic2.finalbe.admin.entity.StrategyApprovalRequestsEntity;
 import com.sysmatic2.finalbe.admin.repository.StrategyApprovalRequestsRepository;
 import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.member.service.TraderStrategyCountService;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyHistoryEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyIACEntity;
 import com.sysmatic2.finalbe.strategy.repository.StrategyHistoryRepository;
 import com.sysmatic2.finalbe.strategy.repository.StrategyIACRepository;
 import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import com.sysmatic2.finalbe.strategy.service.SmScoreLeaderboardService;
+import com.sysmatic2.finalbe.strategy.service.StrategySummaryService;
 import com.sysmatic2.finalbe.common.DtoEntityConversion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -33,6 +36,9 @@ public class StrategyApprovalRequestsService {
     private final MemberRepository memberRepository;
     private final StrategyHistoryRepository strategyHistoryRepository;
     private final StrategyRepository strategyRepository;
+    private final StrategySummaryService strategySummaryService;
+    private final TraderStrategyCountService traderStrategyCountService;
+    private final SmScoreLeaderboardService smScoreLeaderboardService;
 
     //1. 전략 승인 요청 목록
     // 주기, 매매유형, 투자자산 분류, 전략명, 운용여부, 요청일시, 공개여부
@@ -97,6 +103,11 @@ public class StrategyApprovalRequestsService {
         requestEntity.setApprovalDatetime(LocalDateTime.now());
         //저장
         strategyApprovalRequestsRepository.save(requestEntity);
+
+        //전략 목록 요약, 트레이더 전략 수 갱신 (커밋 직전)
+        strategySummaryService.refreshBeforeCommit(strategyEntity.getStrategyId());
+        traderStrategyCountService.recountBeforeCommit(strategyEntity.getWriterId());
+        smScoreLeaderboardService.invalidateAfterCommit(); // 새로 승인된 전략이 SM-Score 랭킹에 들어갈 수 있음
     }
 
     //3. 전략 승인 요청 반려
@@ -7,6 +7,7 @@ import com.sysmatic2.finalbe.admin.repository.TradingCycleRepository;
 import com.sysmatic2.finalbe.exception.DuplicateTradingCycleOrderException;
 import com.sysmatic2.finalbe.exception.TradingCycleNotFoundException;
 import com.sysmatic2.finalbe.common.DtoEntityConversion;
+import com.sysmatic2.finalbe.strategy.service.StrategySummaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
+import java.util.Objects;
 
 import static com.sysmatic2.finalbe.util.CreatePageResponse.createPageResponse;
 import static com.sysmatic2.finalbe.common.DtoEntityConversion.toDto;
@@ -25,6 +27,7 @@ import static com.sysmatic2.finalbe.common.DtoEntityConversion.toEntity;
 @RequiredArgsConstructor
 public class TradingCycleService {
     private final TradingCycleRepository tradingCycleRepository;
+    private final StrategySummaryService strategySummaryService;
 
     @Transactional(readOnly = true)
     // 1. 투자주기 전체 목록을 가져오는 메서드
@@ -102,6 +105,11 @@ public class TradingCycleService {
                     });
         }
 
+        // 아이콘이 바뀌면 전략 목록 요약에도 반영
+        if (!Objects.equals(existingTradingCycleEntity.getTradingCycleIcon(), tradingCycleAdminRequestDto.getTradingCycleIcon())) {
+            strategySummaryService.updateTradingCycleIcon(id, tradingCycleAdminRequestDto.getTradingCycleIcon());
+        }
+
         existingTradingCycleEntity.setTradingCycleOrder(tradingCycleAdminRequestDto.getTradingCycleOrder());
         existingTradingCycleEntity.setTradingCycleName(tradingCycleAdminRequestDto.getTradingCycleName());
         existingTradingCycleEntity.setTradingCycleIcon(tradingCycleAdminRequestDto.getTradingCycleIcon());
@@ -9,6 +9,7 @@ import com.sysmatic2.finalbe.admin.repository.TradingTypeRepository;
 import com.sysmatic2.finalbe.common.DtoEntityConversion;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import com.sysmatic2.finalbe.strategy.service.StrategySummaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static com.sysmatic2.finalbe.util.CreatePageResponse.createPageResponse;
 import static com.sysmatic2.finalbe.common.DtoEntityConversion.toDto;
@@ -30,6 +32,7 @@ import static com.sysmatic2.finalbe.common.DtoEntityConversion.toEntity;
 public class TradingTypeService {
     private final TradingTypeRepository tradingTypeRepository;
     private final StrategyRepository strategyRepository;
+    private final StrategySummaryService strategySummaryService;
 
     @Transactional(readOnly = true)
     // 1. 매매유형 전체 목록을 가져오는 메서드
@@ -141,6 +144,11 @@ public class TradingTypeService {
                     });
         }
 
+        // 아이콘이 바뀌면 전략 목록 요약에도 반영
+        if (!Objects.equals(existingTradingTypeEntity.getTradingTypeIcon(), tradingTypeAdminRequestDto.getTradingTypeIcon())) {
+            strategySummaryService.updateTradingTypeIcon(id, tradingTypeAdminRequestDto.getTradingTypeIcon());
+        }
+
         // 업데이트할 필드 설정
         existingTradingTypeEntity.setTradingTypeOrder(tradingTypeAdminRequestDto.getTradingTypeOrder());
         existingTradingTypeEntity.setTradingTypeName(tradingTypeAdminRequestDto.getTradingTypeName());
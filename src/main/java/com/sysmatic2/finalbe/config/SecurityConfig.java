@@ -75,7 +75,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/admin/**", "/api/admin/**").hasRole("ADMIN") //관리자 관련
                         .requestMatchers("/api/strategies/{id}/update-form","/api/strategies/{id}/approval-request",
                                 "/api/strategies/{id}/rejection-info", "/api/strategies/{id}/termination", "/api/strategies/{id}/daily-data",
-                                "/api/strategies/{strategyId}/daily-data/{dailyDataId}", "/api/strategies/{strategyId}/daily-analyses/delete"
+                                "/api/strategies/{strategyId}/daily-data/{dailyDataId}", "/api/strategies/{strategyId}/daily-data/jobs/{jobId}", "/api/strategies/{strategyId}/daily-analyses/delete"
                                 ).hasAnyRole("ADMIN", "TRADER") //전략 관련
                         .requestMatchers(HttpMethod.POST, "/api/strategies").hasAnyRole("ADMIN", "TRADER") //전략 등록
                         .requestMatchers(HttpMethod.DELETE, "/api/strategies").hasAnyRole("ADMIN", "TRADER") //전략 삭제
@@ -115,7 +115,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/admin/**", "/api/admin/**").hasRole("ADMIN") //관리자 관련
                         .requestMatchers("/api/strategies/{id}/update-form","/api/strategies/{id}/approval-request",
                                 "/api/strategies/{id}/rejection-info", "/api/strategies/{id}/termination", "/api/strategies/{id}/daily-data",
-                                "/api/strategies/{strategyId}/daily-data/{dailyDataId}", "/api/strategies/{strategyId}/daily-analyses/delete",
+                                "/api/strategies/{strategyId}/daily-data/{dailyDataId}", "/api/strategies/{strategyId}/daily-data/jobs/{jobId}", "/api/strategies/{strategyId}/daily-analyses/delete",
                                 "/api/strategies/{strategyId}/upload", "/api/strategies/{strategyId}/reviews/{reviewId}"
                         ).hasAnyRole("ADMIN", "TRADER") //전략 관련
                         .requestMatchers(HttpMethod.POST, "/api/strategies").hasAnyRole("ADMIN", "TRADER") //전략 등록
@@ -6,6 +6,7 @@ import org.apache.tomcat.websocket.AuthenticationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -279,9 +280,9 @@ public class GlobalExceptionHandler {
     }
 
     // 409: 데이터 충돌
-    @ExceptionHandler({DataIntegrityViolationException.class, DuplicateTradingTypeOrderException.class,
-            DuplicateTradingCycleOrderException.class, MemberAlreadyExistsException.class,
-            DeleteTradingTypeStrategyExistException.class})
+    @ExceptionHandler({DataIntegrityViolationException.class, OptimisticLockingFailureException.class,
+            DuplicateTradingTypeOrderException.class, DuplicateTradingCycleOrderException.class,
+            MemberAlreadyExistsException.class, DeleteTradingTypeStrategyExistException.class})
     public ResponseEntity<Object> handleConflictExceptions(Exception ex) {
         logger.error("Data conflict: {}", ex.getMessage());
 
@@ -289,6 +290,8 @@ public class GlobalExceptionHandler {
         if (ex instanceof DuplicateTradingTypeOrderException || ex instanceof DuplicateTradingCycleOrderException
                 || ex instanceof MemberAlreadyExistsException || ex instanceof DeleteTradingTypeStrategyExistException) {
             message = ex.getMessage();
+        } else if (ex instanceof OptimisticLockingFailureException) {
+            message = "다른 요청이 같은 데이터를 먼저 변경했습니다. 다시 시도해 주세요.";
         } else {
             message = "데이터베이스 제약 조건을 위반했습니다.";
         }
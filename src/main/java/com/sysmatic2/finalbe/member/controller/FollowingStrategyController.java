@@ -70,6 +70,18 @@ public class FollowingStrategyController {
         return ResponseEntity.ok(response);
     }
 
+    //관심 전략 목록 조회(커서, 무한 스크롤)
+    @GetMapping("/following-strategy/scroll/{folderId}")
+    public ResponseEntity<Map<String, Object>> getStrategiesByFolderCursor(
+            @PathVariable Long folderId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer pageSize) {
+
+        List<Long> strategyIds = followingStrategyService.getListFollowingStrategyList(folderId);
+        Map<String, Object> response = followingStrategyService.getStrategiesByFolderCursor(strategyIds, cursor, pageSize);
+        return ResponseEntity.ok(response);
+    }
+
 
     //수정사항 (followingStrategyId -> strategyId)
     //관심 전략 삭제
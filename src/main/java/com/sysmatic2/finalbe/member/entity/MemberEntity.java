@@ -10,7 +10,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "member")
+@Table(name = "member",
+        indexes = @Index(name = "idx_member_trader_strategy_count", columnList = "member_grade_code, member_status_code, strategy_count"))
 @Getter
 @Setter
 @ToString(exclude = "memberTermList")
@@ -76,6 +77,9 @@ public class MemberEntity extends Auditable {
     @Column(name = "notes")
     private String notes;  // 비고 (탈퇴사유 등 참고사항)
 
+    @Column(name = "strategy_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer strategyCount = 0;  // 승인/공개 전략 수 (전략 승인/공개 변경/삭제 시 갱신, 트레이더 검색 정렬용)
+
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<MemberTermEntity> memberTermList = new ArrayList<>();
 
@@ -7,6 +7,7 @@ import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -49,4 +50,19 @@ public interface MemberRepository extends JpaRepository<MemberEntity, String>, M
 
     //회원 등급별 인원수
     Long countBymemberGradeCode(String gradeCode);
+
+    // 회원의 승인/공개 전략 수를 전략 테이블(작성자/승인/공개 인덱스)로 다시 계산 (UPDATE 한 문장, 커밋 직전 갱신용)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MemberEntity m SET m.strategyCount = " +
+            "(SELECT COUNT(s) FROM StrategyEntity s WHERE s.writerId = m.memberId AND s.isApproved = 'Y' AND s.isPosted = 'Y') " +
+            "WHERE m.memberId = :memberId")
+    int recountStrategyCount(@Param("memberId") String memberId);
+
+    // 승인/공개 전략 수가 전략 테이블과 다른 회원만 다시 계산 (기동 시 보정)
+    @Modifying
+    @Query("UPDATE MemberEntity m SET m.strategyCount = " +
+            "(SELECT COUNT(s) FROM StrategyEntity s WHERE s.writerId = m.memberId AND s.isApproved = 'Y' AND s.isPosted = 'Y') " +
+            "WHERE m.strategyCount <> " +
+            "(SELECT COUNT(s) FROM StrategyEntity s WHERE s.writerId = m.memberId AND s.isApproved = 'Y' AND s.isPosted = 'Y')")
+    int recountStrategyCounts();
 }
\ No newline at end of file
@@ -2,11 +2,9 @@ package com.sysmatic2.finalbe.member.repository;
 
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.querydsl.jpa.JPQLQuery;
 import com.sysmatic2.finalbe.member.dto.TraderSearchResultDto;
-import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.entity.QMemberEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -37,39 +35,39 @@ public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
             // 최신 가입일순 정렬
             sortOrder = member.signupAt.desc();
         } else {
-            // 기본: 전략 수가 많은 순 정렬
-            sortOrder = Expressions.numberTemplate(Integer.class,
-                    "(SELECT COUNT(s.strategyId) FROM StrategyEntity s WHERE s.writerId = {0} AND s.isApproved = 'Y')",
-                    member.memberId).desc();
+            // 기본: 전략 수가 많은 순 정렬 (회원별 승인/공개 전략 수 컬럼, 인덱스 사용)
+            sortOrder = member.strategyCount.desc();
         }
 
+        // 검색 조건 (닉네임 포함, 활성 트레이더)
+        BooleanExpression condition = member.nickname.containsIgnoreCase(keyword)
+                .and(member.memberGradeCode.eq("MEMBER_ROLE_TRADER"))
+                .and(member.memberStatusCode.eq("ACTIVE"));
+
         // QueryDSL 쿼리 작성
-        JPQLQuery<TraderSearchResultDto> query = queryFactory
+        List<TraderSearchResultDto> content = queryFactory
                 .select(Projections.constructor(
                         TraderSearchResultDto.class,
                         member.memberId,                          // 트레이더 ID
                         member.nickname,                          // 닉네임
                         member.introduction,                      // 자기소개
                         member.profilePath,                       // 프로필 이미지 링크
-                        Expressions.numberTemplate(Integer.class, // 전략 수 서브쿼리
-                                "(SELECT COUNT(s.strategyId) FROM StrategyEntity s WHERE s.writerId = {0} AND s.isApproved = 'Y' AND s.isPosted = 'Y')",
-                                member.memberId)
+                        member.strategyCount                      // 승인/공개 전략 수
                 ))
                 .from(member)
-                .where(
-                        member.nickname.containsIgnoreCase(keyword)
-                                .and(member.memberGradeCode.eq("MEMBER_ROLE_TRADER"))
-                                .and(member.memberStatusCode.eq("ACTIVE"))
-                )
-                .orderBy(sortOrder);
-
-        // 페이징 처리
-        long total = query.fetchCount();
-        List<TraderSearchResultDto> content = query
+                .where(condition)
+                .orderBy(sortOrder)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        return new PageImpl<>(content, pageable, total);
+        // 전체 수는 정렬/프로젝션 없는 COUNT 쿼리로 조회
+        Long total = queryFactory
+                .select(member.count())
+                .from(member)
+                .where(condition)
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total == null ? 0L : total);
     }
 }
\ No newline at end of file
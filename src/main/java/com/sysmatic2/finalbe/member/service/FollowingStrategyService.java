@@ -11,17 +11,16 @@ import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.repository.FollowingStrategyFolderRepository;
 import com.sysmatic2.finalbe.member.repository.FollowingStrategyRepository;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.strategy.common.StrategyCursor;
 import com.sysmatic2.finalbe.strategy.dto.AdvancedSearchResultDto;
-import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
-import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
 import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import com.sysmatic2.finalbe.strategy.service.StrategySummaryService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -36,7 +35,7 @@ public class FollowingStrategyService {
     private final FollowingStrategyRepository followingStrategyRepository;
     private final StrategyRepository strategyRepository;
     private final FollowingStrategyFolderRepository followingStrategyFolderRepository;
-    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final StrategySummaryService strategySummaryService;
     private final MemberRepository memberRepository;
 
 
@@ -85,54 +84,8 @@ public Map<String, Object> getStrategiesByFolder(List<Long> strategyIds, Integer
     // 전략 페이지 가져오기 (SM-SCORE 정렬)
     Page<StrategyEntity> strategyPage = strategyRepository.findByStrategyIdsOrderBySmScore(strategyIds, pageable);
 
-    // 4. 각 전략의 최신 일간 통계 데이터 가져오기
-    List<DailyStatisticsEntity> latestStatisticsList = dailyStatisticsRepository.findLatestStatisticsByStrategyIds(strategyIds);
-    Map<Long, DailyStatisticsEntity> latestStatisticsMap = latestStatisticsList.stream()
-            .collect(Collectors.toMap(
-                    stat -> stat.getStrategyEntity().getStrategyId(),
-                    stat -> stat
-            ));
-
-    // 5. 누적 수익률 데이터 가져오기 (날짜 오름차순)
-    Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyIds.stream()
-            .collect(Collectors.toMap(
-                    strategyId -> strategyId, // 전략 ID를 키로 사용
-                    strategyId -> dailyStatisticsRepository.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId) // 누적 수익률 리스트
-            ));
-
-    // 6. DTO 생성
-    List<AdvancedSearchResultDto> dtoList = strategyPage.stream()
-            .map(strategyEntity -> {
-                AdvancedSearchResultDto dto = new AdvancedSearchResultDto(
-                        strategyEntity.getStrategyId(),                                // 전략 ID
-                        strategyEntity.getTradingTypeEntity().getTradingTypeIcon(),    // 매매 유형 아이콘
-                        strategyEntity.getTradingCycleEntity().getTradingCycleIcon(),  // 매매 주기 아이콘
-                        strategyEntity.getStrategyIACEntities().stream()
-                                .map(iac -> iac.getInvestmentAssetClassesEntity().getInvestmentAssetClassesIcon())
-                                .collect(Collectors.toList()),                         // 투자 자산 분류 아이콘 리스트
-                        strategyEntity.getStrategyTitle(),                             // 전략명
-                        BigDecimal.ZERO,                                               // 누적 손익률 (초기값)
-                        BigDecimal.ZERO,                                               // 최근 1년 손익률 (초기값)
-                        BigDecimal.ZERO,                                               // MDD (초기값)
-                        strategyEntity.getSmScore(),                                   // SM-Score
-                        strategyEntity.getFollowersCount(),                            // 팔로워 수
-                        null                                                           // 누적 수익률 리스트 (초기값)
-                );
-
-                // 최신 일간 통계 데이터 추가
-                DailyStatisticsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
-                if (latestStatistics != null) {
-                    dto.setCumulativeProfitLossRate(latestStatistics.getCumulativeProfitLossRate());
-                    dto.setRecentOneYearReturn(latestStatistics.getRecentOneYearReturn());
-                    dto.setMdd(latestStatistics.getMaxDrawdownRate());
-                }
-
-                // 누적 수익률 리스트 추가
-                List<BigDecimal> cumulativeProfitLossRates = cumulativeProfitLossRateMap.get(strategyEntity.getStrategyId());
-                dto.setCumulativeProfitLossRateList(cumulativeProfitLossRates);
-
-                return dto;
-            }).collect(Collectors.toList());
+    // 전략 목록 요약으로 DTO 생성 (아이콘, 최신 일간 지표, 목록 그래프 포함)
+    List<AdvancedSearchResultDto> dtoList = strategySummaryService.toResultDtos(strategyPage.getContent());
 
 
     // 7. DTO 리스트를 페이지 객체로 변환
@@ -143,6 +96,17 @@ public Map<String, Object> getStrategiesByFolder(List<Long> strategyIds, Integer
 }
 
 
+//관심전략 목록 커서 조회 (SM-SCORE, 전략 ID 내림차순, 무한 스크롤)
+@Transactional
+public Map<String, Object> getStrategiesByFolderCursor(List<Long> strategyIds, String cursor, Integer pageSize) {
+    // 다음 목록 존재 여부를 알기 위해 한 개 더 조회
+    List<StrategyEntity> strategies = strategyRepository.findByStrategyIdsAfter(strategyIds, StrategyCursor.decode(cursor), pageSize + 1);
+
+    // 전략 목록 요약으로 DTO 생성, 다음 커서 포함 (폴더 전략 수는 ID 목록 크기)
+    return strategySummaryService.toCursorResponse(strategies, pageSize, (long) strategyIds.size());
+}
+
+
     //폴더ID 별 등록된 관심전략 폴더 Count 조회
     public int countFollowingStrategy(long folderId) {
         FollowingStrategyFolderEntity folderEntity = followingStrategyFolderRepository.findById(folderId).get();
@@ -191,6 +155,7 @@ public Map<String, Object> getStrategiesByFolder(List<Long> strategyIds, Integer
         //관심전략 등록하면 전략의 follower_count 수 증가해줘야함
         strategyEntity.incrementFollowersCount();
         strategyRepository.save(strategyEntity);
+        strategySummaryService.refreshFollowersBeforeCommit(strategyEntity.getStrategyId()); // 커밋 직전 목록 요약의 팔로워 수 갱신
 
         ResponseDto.setFolderId(requestDto.getFolderId());
         ResponseDto.setStrategyId(requestDto.getStrategyId());
@@ -250,6 +215,7 @@ public Map<String, Object> getStrategiesByFolder(List<Long> strategyIds, Integer
 
         //관심전략 삭제하면 전략의 follower_count 수 감소시켜줘야함
         strategyEntity.decrementFollowersCount();
+        strategySummaryService.refreshFollowersBeforeCommit(strategyEntity.getStrategyId()); // 커밋 직전 목록 요약의 팔로워 수 갱신
     }
 
 
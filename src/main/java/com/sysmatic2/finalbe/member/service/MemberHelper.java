@@ -3,15 +3,18 @@ package com.sysmatic2.finalbe.member.service;
 import com.sysmatic2.finalbe.exception.MemberNotFoundException;
 import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.strategy.service.SmScoreLeaderboardService;
 import org.springframework.stereotype.Component;
 
 @Component
 public class MemberHelper {
 
     private final MemberRepository memberRepository;
+    private final SmScoreLeaderboardService smScoreLeaderboardService;
 
-    public MemberHelper(MemberRepository memberRepository) {
+    public MemberHelper(MemberRepository memberRepository, SmScoreLeaderboardService smScoreLeaderboardService) {
         this.memberRepository = memberRepository;
+        this.smScoreLeaderboardService = smScoreLeaderboardService;
     }
 
     public void initMemberFileId(String uploaderId, String fileId, String filePath) {
@@ -20,5 +23,6 @@ public class MemberHelper {
         memberEntity.setFileId(fileId);
         memberEntity.setProfilePath(filePath);
         memberRepository.save(memberEntity);
+        smScoreLeaderboardService.invalidateAfterCommitIfWriterListed(uploaderId); // SM-Score 랭킹의 프로필 이미지 반영
     }
 }
@@ -8,6 +8,8 @@ import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.entity.MemberTermEntity;
 import com.sysmatic2.finalbe.member.enums.TermType;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.strategy.common.StrategyFacetIndex;
+import com.sysmatic2.finalbe.strategy.service.SmScoreLeaderboardService;
 import com.sysmatic2.finalbe.strategy.service.StrategyReviewService;
 import com.sysmatic2.finalbe.strategy.service.StrategyService;
 import com.sysmatic2.finalbe.common.DtoEntityConversion;
@@ -39,6 +41,8 @@ public class MemberService {
     private final ConsultationService consultationsService;
     private final FileService fileService;
     private final StrategyReviewService strategyReviewService;
+    private final StrategyFacetIndex strategyFacetIndex;
+    private final SmScoreLeaderboardService smScoreLeaderboardService;
 
     @Transactional
     public void signup(SignupDTO signupDTO) {
@@ -192,6 +196,8 @@ public class MemberService {
         if (!member.getNickname().equals(updateNickname)) {  // 현재 닉네임과 새로운 닉네임이 다르면 중복 검사 진행
             duplicateNicknameCheck(updateNickname);
             member.setNickname(updateNickname);
+            strategyFacetIndex.invalidateAfterCommit(); // 전략 키워드 검색 인덱스에 새 닉네임 반영
+            smScoreLeaderboardService.invalidateAfterCommitIfWriterListed(memberId); // SM-Score 랭킹의 닉네임 반영
         }
 
         // 조회한 회원에 수정할 값 입력 후 저장
@@ -0,0 +1,87 @@
+package com.sysmatic2.finalbe.member.service;
+
+import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 트레이더별 승인/공개 전략 수(member.strategy_count) 관리 서비스
+ *
+ * - 트레이더 검색의 전략 수 정렬/표시는 이 컬럼을 읽습니다. (회원마다 전략 테이블을 세지 않음)
+ *   정렬도 표시와 같은 승인/공개 전략 수 기준입니다. (이전 정렬은 승인 전략 수 기준)
+ * - 전략 승인, 공개 여부 수정, 삭제 시 recountBeforeCommit 으로 갱신을 예약하고,
+ *   커밋 직전에 작성자마다 한 번 UPDATE 문 안에서 전략 테이블(작성자/승인/공개 인덱스)로 다시 셉니다.
+ *   읽은 값을 엔티티로 저장하지 않으므로, 같은 작성자의 다른 트랜잭션이 먼저 커밋한 값을 덮어쓰지 않습니다.
+ * - 기동 시 전략 테이블과 다른 값을 한 번 보정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TraderStrategyCountService {
+    private final MemberRepository memberRepository;
+
+    /**
+     * 현재 트랜잭션의 커밋 직전에 작성자의 전략 수를 다시 세도록 예약합니다. (트랜잭션 밖이면 바로 계산)
+     *
+     * @param writerId 전략 작성자 ID
+     */
+    public void recountBeforeCommit(String writerId) {
+        if (writerId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recount(writerId);
+            return;
+        }
+
+        // 트랜잭션마다 예약 하나에 작성자 ID를 모음 (같은 작성자는 한 번만 계산)
+        PendingRecount pending = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(PendingRecount.class::isInstance)
+                .map(PendingRecount.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    PendingRecount created = new PendingRecount();
+                    TransactionSynchronizationManager.registerSynchronization(created);
+                    return created;
+                });
+        pending.writerIds.add(writerId);
+    }
+
+    /**
+     * 작성자의 승인/공개 전략 수를 UPDATE 한 문장으로 다시 세어 저장합니다. (회원이 없으면 무시)
+     *
+     * @param writerId 전략 작성자 ID
+     */
+    public void recount(String writerId) {
+        memberRepository.recountStrategyCount(writerId);
+    }
+
+    /**
+     * 전략 테이블과 다른 회원의 전략 수를 보정합니다. (기동 시 1회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recountMismatched() {
+        int updated = memberRepository.recountStrategyCounts();
+        if (updated > 0) {
+            System.out.println("Trader strategy counts corrected: " + updated);
+        }
+    }
+
+    // 트랜잭션별 전략 수 갱신 예약 (커밋 직전에 한 번에 계산)
+    private class PendingRecount implements TransactionSynchronization {
+        private final Set<String> writerIds = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            writerIds.forEach(TraderStrategyCountService.this::recount);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsStateEntity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 일간 통계 누적 상태 (running state)
+ *
+ * - 기존에 전체 이력을 조회해서 계산하던 지표(최대/최소값, 합계, 표준편차, 최근 1년 수익률 등)를
+ *   누적 값만으로 O(1)에 계산합니다.
+ * - 각 계산 메서드는 DailyStatisticsCalculator의 리스트 기반 메서드와 동일한 결과를 반환하도록
+ *   같은 공식(스케일, 반올림)을 사용합니다.
+ * - 계산 순서: 당일 지표 계산(calculate... 메서드) -> 엔티티 생성 -> append(엔티티)
+ */
+public class DailyStatisticsAccumulator {
+    private int rowCount; // 누적된 일간 데이터 수
+    private LocalDate firstDate; // 최초 일자
+    private LocalDate lastDate; // 마지막 일자
+    private BigDecimal firstDepWdPrice; // 최초 입출금액
+    private BigDecimal depWdSum = BigDecimal.ZERO; // 입출금 합계
+    private BigDecimal dailyProfitLossSum = BigDecimal.ZERO; // 일손익 합계
+    private BigDecimal dailyProfitLossSquareSum = BigDecimal.ZERO; // 일손익 제곱 합계
+    private BigDecimal maxReferencePrice; // 최대 기준가
+    private BigDecimal minDrawdownAmount; // 자본인하금액 최저값
+    private BigDecimal minDrawdownRate; // 자본인하율 최저값
+    private BigDecimal maxDailyPlRate; // 일손익률 최대값
+    private BigDecimal minDailyPlRate; // 일손익률 최저값
+    private BigDecimal maxPositiveCumulativeProfitLoss = BigDecimal.ZERO; // 양수 누적손익 최대값
+    private BigDecimal maxPositiveCumulativeProfitLossRate = BigDecimal.ZERO; // 양수 누적손익률 최대값
+
+    // 최근 1년 구간 (날짜 오름차순)
+    // - oneYearWindowTruncated 가 true 이면 구간의 첫 번째 데이터만 보관하고 있으며,
+    //   첫 번째 데이터가 구간을 벗어나면 windowLoader 로 다음 데이터를 조회합니다.
+    private final Deque<ReferencePricePoint> oneYearWindow = new ArrayDeque<>();
+    private boolean oneYearWindowTruncated;
+
+    /**
+     * 빈 누적 상태 (첫 번째 데이터 등록 시)
+     */
+    public DailyStatisticsAccumulator() {
+    }
+
+    /**
+     * 일간 데이터 리스트(날짜 오름차순)로 누적 상태를 구성합니다.
+     *
+     * @param rows 기준일 이전의 일간 데이터 리스트 (날짜 오름차순)
+     * @return 누적 상태
+     */
+    public static DailyStatisticsAccumulator fromRows(List<DailyStatisticsEntity> rows) {
+        DailyStatisticsAccumulator accumulator = new DailyStatisticsAccumulator();
+        for (DailyStatisticsEntity row : rows) {
+            accumulator.append(row);
+        }
+        return accumulator;
+    }
+
+    /**
+     * 저장된 누적 상태 엔티티로 누적 상태를 복원합니다.
+     *
+     * @param state 누적 상태 엔티티
+     * @return 누적 상태
+     */
+    public static DailyStatisticsAccumulator fromState(DailyStatisticsStateEntity state) {
+        DailyStatisticsAccumulator accumulator = new DailyStatisticsAccumulator();
+        accumulator.rowCount = state.getRowCount();
+        accumulator.firstDate = state.getFirstDate();
+        accumulator.lastDate = state.getLastDate();
+        accumulator.firstDepWdPrice = state.getFirstDepWdPrice();
+        accumulator.depWdSum = state.getDepWdSum();
+        accumulator.dailyProfitLossSum = state.getDailyProfitLossSum();
+        accumulator.dailyProfitLossSquareSum = state.getDailyProfitLossSquareSum();
+        accumulator.maxReferencePrice = state.getMaxReferencePrice();
+        accumulator.minDrawdownAmount = state.getMinDrawdownAmount();
+        accumulator.minDrawdownRate = state.getMinDrawdownRate();
+        accumulator.maxDailyPlRate = state.getMaxDailyPlRate();
+        accumulator.minDailyPlRate = state.getMinDailyPlRate();
+        accumulator.maxPositiveCumulativeProfitLoss = state.getMaxPositiveCumulativeProfitLoss();
+        accumulator.maxPositiveCumulativeProfitLossRate = state.getMaxPositiveCumulativeProfitLossRate();
+
+        // 최근 1년 구간은 첫 번째 데이터만 저장되어 있으므로, 마지막 데이터가 아니면 잘린 상태로 복원
+        if (state.getOneYearBaseDate() != null) {
+            accumulator.oneYearWindow.addLast(new ReferencePricePoint(state.getOneYearBaseDate(), state.getOneYearBaseReferencePrice()));
+            accumulator.oneYearWindowTruncated = !state.getOneYearBaseDate().equals(state.getLastDate());
+        }
+        return accumulator;
+    }
+
+    /**
+     * 누적 상태를 저장용 엔티티에 반영합니다.
+     *
+     * @param state 누적 상태 엔티티
+     */
+    public void writeTo(DailyStatisticsStateEntity state) {
+        ReferencePricePoint oneYearBase = oneYearWindow.peekFirst();
+        state.setRowCount(rowCount);
+        state.setFirstDate(firstDate);
+        state.setLastDate(lastDate);
+        state.setFirstDepWdPrice(firstDepWdPrice);
+        state.setDepWdSum(depWdSum);
+        state.setDailyProfitLossSum(dailyProfitLossSum);
+        state.setDailyProfitLossSquareSum(dailyProfitLossSquareSum);
+        state.setMaxReferencePrice(maxReferencePrice);
+        state.setMinDrawdownAmount(minDrawdownAmount);
+        state.setMinDrawdownRate(minDrawdownRate);
+        state.setMaxDailyPlRate(maxDailyPlRate);
+        state.setMinDailyPlRate(minDailyPlRate);
+        state.setMaxPositiveCumulativeProfitLoss(maxPositiveCumulativeProfitLoss);
+        state.setMaxPositiveCumulativeProfitLossRate(maxPositiveCumulativeProfitLossRate);
+        state.setOneYearBaseDate(oneYearBase == null ? null : oneYearBase.date);
+        state.setOneYearBaseReferencePrice(oneYearBase == null ? null : oneYearBase.referencePrice);
+    }
+
+    /**
+     * 잘린 최근 1년 구간을 일간 데이터로 다시 채웁니다.
+     * - 여러 건을 연속으로 계산하는 경우 구간을 한 번에 채워 두면 이후 조회가 필요 없습니다.
+     *
+     * @param rows 마지막 일자 기준 최근 1년 구간의 일간 데이터 리스트 (날짜 오름차순, 마지막 일자 포함)
+     */
+    public void restoreOneYearWindow(List<DailyStatisticsEntity> rows) {
+        oneYearWindow.clear();
+        for (DailyStatisticsEntity row : rows) {
+            oneYearWindow.addLast(new ReferencePricePoint(row.getDate(), row.getReferencePrice()));
+        }
+        oneYearWindowTruncated = false;
+    }
+
+    /**
+     * 계산이 끝난 일간 데이터를 누적 상태에 반영합니다.
+     *
+     * @param row 계산이 끝난 일간 데이터 (이전에 반영된 데이터보다 이후 일자)
+     */
+    public void append(DailyStatisticsEntity row) {
+        if (rowCount == 0) {
+            firstDate = row.getDate();
+            firstDepWdPrice = row.getDepWdPrice();
+        }
+        rowCount++;
+        lastDate = row.getDate();
+
+        depWdSum = depWdSum.add(row.getDepWdPrice());
+        dailyProfitLossSum = dailyProfitLossSum.add(row.getDailyProfitLoss());
+        dailyProfitLossSquareSum = dailyProfitLossSquareSum.add(row.getDailyProfitLoss().multiply(row.getDailyProfitLoss()));
+
+        maxReferencePrice = max(maxReferencePrice, row.getReferencePrice());
+        minDrawdownAmount = min(minDrawdownAmount, row.getCurrentDrawdownAmount());
+        minDrawdownRate = min(minDrawdownRate, row.getCurrentDrawdownRate());
+        maxDailyPlRate = max(maxDailyPlRate, row.getDailyPlRate());
+        minDailyPlRate = min(minDailyPlRate, row.getDailyPlRate());
+
+        // Peak는 양수 누적손익(률)만 고려
+        if (row.getCumulativeProfitLoss().compareTo(BigDecimal.ZERO) > 0) {
+            maxPositiveCumulativeProfitLoss = maxPositiveCumulativeProfitLoss.max(row.getCumulativeProfitLoss());
+        }
+        if (row.getCumulativeProfitLossRate().compareTo(BigDecimal.ZERO) > 0) {
+            maxPositiveCumulativeProfitLossRate = maxPositiveCumulativeProfitLossRate.max(row.getCumulativeProfitLossRate());
+        }
+
+        // 잘린 구간은 첫 번째 데이터만 유지
+        if (!oneYearWindowTruncated || oneYearWindow.isEmpty()) {
+            oneYearWindow.addLast(new ReferencePricePoint(row.getDate(), row.getReferencePrice()));
+        }
+    }
+
+    /**
+     * 최대 자본인하 금액 계산 (현재 자본인하 금액 포함 최저값, 0 이하).
+     *
+     * @param currentDrawdownAmount 현재 자본인하 금액
+     * @return 최대 자본인하 금액
+     */
+    public BigDecimal calculateMaxDrawdownAmount(BigDecimal currentDrawdownAmount) {
+        return min(minDrawdownAmount, currentDrawdownAmount).min(BigDecimal.ZERO);
+    }
+
+    /**
+     * 현재 자본인하율 계산 (지금까지의 최대 기준가 기준).
+     *
+     * @param referencePrice 현재 기준가
+     * @return 현재 자본인하율
+     */
+    public BigDecimal calculateCurrentDrawdownRate(BigDecimal referencePrice) {
+        return DailyStatisticsCalculator.calculateCurrentDrawdownRate(referencePrice, asList(maxReferencePrice));
+    }
+
+    /**
+     * 최대 자본인하율 계산 (현재 자본인하율 포함 최저값, 0 이하, 소수점 4자리).
+     *
+     * @param currentDrawdownRate 현재 자본인하율
+     * @return 최대 자본인하율
+     */
+    public BigDecimal calculateMaxDrawdownRate(BigDecimal currentDrawdownRate) {
+        return min(minDrawdownRate, currentDrawdownRate)
+                .min(BigDecimal.ZERO)
+                .setScale(4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 누적 입출금 계산 (첫 번째 입출금 이후의 합계).
+     *
+     * @param todayDepWd 오늘의 입출금 금액
+     * @return 누적 입출금
+     */
+    public BigDecimal calculateCumulativeDepWd(BigDecimal todayDepWd) {
+        if (rowCount == 0) {
+            return BigDecimal.ZERO; // 첫 번째 등록일 경우 0 반환
+        }
+
+        BigDecimal totalDepWd = depWdSum.subtract(firstDepWdPrice);
+
+        // 첫 번째 등록 이후라면 오늘의 금액 포함
+        if (rowCount > 1) {
+            totalDepWd = totalDepWd.add(todayDepWd);
+        }
+        return totalDepWd;
+    }
+
+    /**
+     * 최대 일 이익률 계산.
+     *
+     * @param dailyPlRate 오늘의 일손익률
+     * @return 최대 일 이익률
+     */
+    public BigDecimal calculateMaxDailyProfitRate(BigDecimal dailyPlRate) {
+        return DailyStatisticsCalculator.calculateMaxDailyProfitRate(asList(maxDailyPlRate, dailyPlRate));
+    }
+
+    /**
+     * 최대 일 손실률 계산.
+     *
+     * @param dailyPlRate 오늘의 일손익률
+     * @return 최대 일 손실률
+     */
+    public BigDecimal calculateMaxDailyLossRate(BigDecimal dailyPlRate) {
+        return DailyStatisticsCalculator.calculateMaxDailyLossRate(asList(minDailyPlRate), dailyPlRate);
+    }
+
+    /**
+     * 변동계수 계산 (오늘의 일손익 포함).
+     *
+     * @param dailyProfitLoss   오늘의 일손익
+     * @param averageProfitLoss 평균손익
+     * @return 변동계수
+     */
+    public BigDecimal calculateCoefficientOfVariation(BigDecimal dailyProfitLoss, BigDecimal averageProfitLoss) {
+        return DailyStatisticsCalculator.calculateCoefficientOfVariation(
+                dailyProfitLossSum.add(dailyProfitLoss),
+                dailyProfitLossSquareSum.add(dailyProfitLoss.multiply(dailyProfitLoss)),
+                rowCount + 1,
+                averageProfitLoss);
+    }
+
+    /**
+     * Sharp Ratio 계산 (오늘의 일손익 포함).
+     *
+     * @param dailyProfitLoss   오늘의 일손익
+     * @param averageProfitLoss 평균손익
+     * @return Sharp Ratio
+     */
+    public BigDecimal calculateSharpRatio(BigDecimal dailyProfitLoss, BigDecimal averageProfitLoss) {
+        return DailyStatisticsCalculator.calculateSharpRatio(
+                dailyProfitLossSum.add(dailyProfitLoss),
+                dailyProfitLossSquareSum.add(dailyProfitLoss.multiply(dailyProfitLoss)),
+                rowCount + 1,
+                averageProfitLoss);
+    }
+
+    /**
+     * 총 전략 운용일수 계산.
+     *
+     * @param date 오늘 일자
+     * @return 총 전략 운용일수
+     */
+    public Integer calculateStrategyOperationDays(LocalDate date) {
+        if (firstDate == null) {
+            return 1; // 데이터가 없으면 운용일수는 최소 1로 설정
+        }
+        LocalDate adjustedLatestDate = lastDate.isAfter(date) ? lastDate : date;
+        return DailyStatisticsCalculator.calculateStrategyOperationDays(firstDate, adjustedLatestDate);
+    }
+
+    /**
+     * 최근 1년 수익률 계산.
+     *
+     * @param date           오늘 일자
+     * @param referencePrice 오늘 기준가
+     * @param windowLoader   잘린 구간에서 기준일(포함) 이후 첫 번째 일간 데이터를 조회하는 함수
+     * @return 최근 1년 수익률
+     */
+    public BigDecimal calculateRecentOneYearReturn(LocalDate date, BigDecimal referencePrice,
+                                                   Function<LocalDate, Optional<DailyStatisticsEntity>> windowLoader) {
+        LocalDate oneYearAgo = date.minusYears(1);
+
+        // 1년 구간을 벗어난 데이터 제거
+        while (!oneYearWindow.isEmpty() && oneYearWindow.peekFirst().date.isBefore(oneYearAgo)) {
+            oneYearWindow.pollFirst();
+
+            // 잘린 구간이면 구간 안의 첫 번째 데이터를 조회
+            if (oneYearWindow.isEmpty() && oneYearWindowTruncated) {
+                oneYearWindowTruncated = false;
+                windowLoader.apply(oneYearAgo).ifPresent(row -> {
+                    oneYearWindow.addLast(new ReferencePricePoint(row.getDate(), row.getReferencePrice()));
+                    oneYearWindowTruncated = !row.getDate().equals(lastDate);
+                });
+            }
+        }
+
+        ReferencePricePoint oneYearBase = oneYearWindow.peekFirst();
+        return DailyStatisticsCalculator.calculateRecentOneYearReturn(
+                oneYearBase == null ? List.of(referencePrice) : List.of(oneYearBase.referencePrice, referencePrice));
+    }
+
+    /**
+     * Peak (최대 누적손익) 계산.
+     *
+     * @param cumulativeProfitLoss 현재 누적손익
+     * @return Peak
+     */
+    public BigDecimal calculatePeak(BigDecimal cumulativeProfitLoss) {
+        return DailyStatisticsCalculator.calculatePeak(
+                rowCount == 0 ? Collections.emptyList() : List.of(maxPositiveCumulativeProfitLoss), cumulativeProfitLoss);
+    }
+
+    /**
+     * Peak Rate (최대 누적손익률) 계산.
+     *
+     * @param cumulativeProfitLossRate 현재 누적손익률
+     * @return Peak Rate
+     */
+    public BigDecimal calculatePeakRate(BigDecimal cumulativeProfitLossRate) {
+        return DailyStatisticsCalculator.calculatePeakRate(
+                rowCount == 0 ? Collections.emptyList() : List.of(maxPositiveCumulativeProfitLossRate), cumulativeProfitLossRate);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+
+    public boolean isOneYearWindowTruncated() {
+        return oneYearWindowTruncated;
+    }
+
+    private static BigDecimal max(BigDecimal current, BigDecimal value) {
+        return current == null ? value : current.max(value);
+    }
+
+    private static BigDecimal min(BigDecimal current, BigDecimal value) {
+        return current == null ? value : current.min(value);
+    }
+
+    // null 값을 제외한 리스트 생성
+    private static List<BigDecimal> asList(BigDecimal... values) {
+        List<BigDecimal> list = new ArrayList<>(values.length);
+        for (BigDecimal value : values) {
+            if (value != null) {
+                list.add(value);
+            }
+        }
+        return list;
+    }
+
+    // 최근 1년 구간의 기준가 데이터
+    private static final class ReferencePricePoint {
+        private final LocalDate date;
+        private final BigDecimal referencePrice;
+
+        private ReferencePricePoint(LocalDate date, BigDecimal referencePrice) {
+            this.date = date;
+            this.referencePrice = referencePrice;
+        }
+    }
+}
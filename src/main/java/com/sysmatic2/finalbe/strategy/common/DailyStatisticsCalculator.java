@@ -1,17 +1,12 @@
 package com.sysmatic2.finalbe.strategy.common;
 
 import com.sysmatic2.finalbe.strategy.dto.DdDayAndMaxDdInRate;
-import com.sysmatic2.finalbe.strategy.dto.StrategyKpDto;
-import org.apache.commons.math3.distribution.NormalDistribution;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 public class DailyStatisticsCalculator {
     private DailyStatisticsCalculator() {
@@ -52,6 +47,33 @@ public class DailyStatisticsCalculator {
                 .setScale(10, RoundingMode.HALF_UP); // 최종 결과는 10자리
     }
 
+    /**
+     * 변동계수(Coefficient of Variation, CV)를 일손익 합계와 제곱 합계로 계산하는 메서드.
+     * - 리스트 기반 메서드와 동일한 결과를 반환합니다.
+     *
+     * @param profitLossSum       오늘까지의 일손익 합계
+     * @param profitLossSquareSum 오늘까지의 일손익 제곱 합계
+     * @param count               오늘까지의 일손익 개수
+     * @param averageProfitLoss   기준일까지의 평균손익
+     * @return 변동계수 (단위: %, 소수점 10자리까지 표시)
+     */
+    public static BigDecimal calculateCoefficientOfVariation(BigDecimal profitLossSum, BigDecimal profitLossSquareSum,
+                                                             int count, BigDecimal averageProfitLoss) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("일손익 데이터 리스트는 비어 있을 수 없습니다.");
+        }
+        if (averageProfitLoss.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal stdDevProfitLoss = calculateStdDevProfitLoss(profitLossSum, profitLossSquareSum, count);
+
+        // 변동계수 계산
+        return stdDevProfitLoss.divide(averageProfitLoss, 11, RoundingMode.HALF_UP) // 비율 계산 중간 단계는 11자리
+                .multiply(BigDecimal.valueOf(100)) // 백분율로 변환
+                .setScale(10, RoundingMode.HALF_UP); // 최종 결과는 10자리
+    }
+
     /**
      * 승률 계산.
      * @param totalProfitDays 총 이익일수
@@ -133,6 +155,60 @@ public class DailyStatisticsCalculator {
                 : BigDecimal.ZERO;
     }
 
+    /**
+     * Sharp Ratio를 일손익 합계와 제곱 합계로 계산하는 메서드.
+     * - 리스트 기반 메서드와 동일한 결과를 반환합니다.
+     *
+     * @param profitLossSum       오늘까지의 일손익 합계
+     * @param profitLossSquareSum 오늘까지의 일손익 제곱 합계
+     * @param count               오늘까지의 일손익 개수
+     * @param averageProfitLoss   평균손익
+     * @return Sharp Ratio (소수점 10자리까지 표시)
+     */
+    public static BigDecimal calculateSharpRatio(BigDecimal profitLossSum, BigDecimal profitLossSquareSum,
+                                                 int count, BigDecimal averageProfitLoss) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("일손익 데이터 리스트는 비어 있을 수 없습니다.");
+        }
+
+        if (averageProfitLoss == null || averageProfitLoss.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO; // 평균손익이 0이면 Sharp Ratio는 0
+        }
+
+        BigDecimal stdDevProfitLoss = calculateStdDevProfitLoss(profitLossSum, profitLossSquareSum, count);
+
+        // Sharp Ratio 계산: 평균손익 / 표준편차
+        return stdDevProfitLoss.compareTo(BigDecimal.ZERO) > 0
+                ? averageProfitLoss.divide(stdDevProfitLoss, 11, RoundingMode.HALF_UP) // Sharp Ratio 계산
+                .setScale(10, RoundingMode.HALF_UP) // 최종 결과 소수점 10자리
+                : BigDecimal.ZERO;
+    }
+
+    /**
+     * 일손익 합계와 제곱 합계로 표준편차를 계산합니다.
+     *
+     * - 평균(mean)은 리스트 기반 계산과 같이 소수점 11자리에서 반올림합니다.
+     * - ∑(X - mean)^2 = ∑X^2 - 2 * mean * ∑X + n * mean^2 는 BigDecimal에서 정확히 성립하므로
+     *   리스트를 순회해서 구한 분산과 같은 값이 됩니다.
+     *
+     * @param profitLossSum       일손익 합계
+     * @param profitLossSquareSum 일손익 제곱 합계
+     * @param count               일손익 개수
+     * @return 표준편차 (소수점 10자리)
+     */
+    private static BigDecimal calculateStdDevProfitLoss(BigDecimal profitLossSum, BigDecimal profitLossSquareSum, int count) {
+        BigDecimal size = BigDecimal.valueOf(count);
+        BigDecimal mean = profitLossSum.divide(size, 11, RoundingMode.HALF_UP); // 중간 계산은 11자리
+
+        BigDecimal variance = profitLossSquareSum
+                .subtract(mean.multiply(profitLossSum).multiply(BigDecimal.valueOf(2)))
+                .add(mean.pow(2).multiply(size))
+                .divide(size, 11, RoundingMode.HALF_UP); // 중간 계산은 11자리
+
+        return BigDecimal.valueOf(Math.sqrt(variance.doubleValue()))
+                .setScale(10, RoundingMode.HALF_UP); // 표준편차 계산 후 소수점 10자리 반올림
+    }
+
     /**
      * 최대누적손익 계산.
      * @param cumulativeProfitLoss 현재 누적손익
@@ -688,6 +764,7 @@ public class DailyStatisticsCalculator {
      *
      * @param ddDayAndMaxDdInRateList ddDay와 maxDDInRate 리스트 (날짜 오름차순)
      *                                - 각 배열: [0] = ddDay (int), [1] = maxDDInRate (BigDecimal)
+     * @param currentDrawdownRate      현재 자본인하율 (0이면 ∑(ddDay)와 ∑(maxDdInRate)를 갱신)
      * @param cumulativeProfitLossRate 누적손익률 (cumulativeProfitLossRate)
      * @param tradingDays              총 거래일수 (tradingDays)
      * @return KP Ratio (소수점 10자리까지 반올림)
@@ -764,59 +841,4 @@ public class DailyStatisticsCalculator {
 
         return kpRatio;
     }
-
-    /**
-     * KP-RATIO 평균, 분산, 표준편차 및 SM-SCORE를 계산하고 갱신하는 메서드.
-     *
-     * @param kpRatios 전략별 KP-RATIO 리스트
-     * @return 전략별 SM-SCORE 리스트 (전략 ID와 SM-SCORE를 매핑)
-     */
-    public static Map<Long, BigDecimal> calculateAndUpdateSmScores(List<StrategyKpDto> kpRatios) {
-        // 1. KP-RATIO 평균 계산
-        BigDecimal kpMean = kpRatios.stream()
-                .map(StrategyKpDto::getKpRatio)
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(kpRatios.size()), 10, RoundingMode.HALF_UP);
-
-        // 2. 분산 및 표준편차 계산
-        BigDecimal variance = kpRatios.stream()
-                .map(dto -> dto.getKpRatio().subtract(kpMean).pow(2)) // (KP - 평균)^2
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(kpRatios.size()), 10, RoundingMode.HALF_UP);
-
-        BigDecimal stdDev = BigDecimal.valueOf(Math.sqrt(variance.doubleValue()))
-                .setScale(10, RoundingMode.HALF_UP); // 소수점 10자리까지 반올림
-
-        // 3. 표준편차가 0인 경우 처리
-        if (stdDev.compareTo(BigDecimal.ZERO) == 0) {
-            // 모든 SM-SCORE를 0으로 설정
-            return kpRatios.stream().collect(Collectors.toMap(
-                    StrategyKpDto::getStrategyId,
-                    dto -> BigDecimal.ZERO
-            ));
-        }
-
-        // 3. SM-SCORE 계산 및 갱신
-        Map<Long, BigDecimal> smScores = new HashMap<>();
-        for (StrategyKpDto dto : kpRatios) {
-            // Z-Score = (KP - 평균) / 표준편차
-            BigDecimal zScore = dto.getKpRatio().subtract(kpMean).divide(stdDev, 10, RoundingMode.HALF_UP);
-
-            // 표준정규누적분포값 계산
-            double normDist = calculateNormDist(zScore.doubleValue()); // 표준정규누적분포
-
-            // SM-SCORE = 표준정규누적분포값 * 100
-            BigDecimal smScore = BigDecimal.valueOf(normDist * 100).setScale(2, RoundingMode.HALF_UP);
-
-            // SM-SCORE 저장
-            smScores.put(dto.getStrategyId(), smScore);
-        }
-
-        return smScores; // 전략 ID와 SM-SCORE를 매핑한 결과 반환
-    }
-
-    public static double calculateNormDist(double zScore) {
-        NormalDistribution normalDist = new NormalDistribution(); // Apache Commons Math 라이브러리
-        return normalDist.cumulativeProbability(zScore);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,350 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.exception.ExcelValidationException;
+import org.apache.poi.ooxml.POIXMLTypeLoader;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.xmlbeans.XmlException;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbookPr;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.WorkbookDocument;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Iterator;
+
+/**
+ * 엑셀 파일을 한 행씩 읽는 스트리밍 리더
+ *
+ * - xlsx 파일은 POI 이벤트 API(SAX)로 시트 XML을 한 행씩 읽으므로 전체 워크북을 메모리에 올리지 않습니다.
+ *   (공유 문자열: ReadOnlySharedStringsTable, 날짜 서식 판단: StylesTable)
+ * - xls(구버전) 파일은 이벤트 API를 지원하지 않으므로 기존과 같이 Workbook으로 읽습니다.
+ * - 행 번호는 기존 Sheet 순회와 동일하게 실제 존재하는 행을 1부터 센 값입니다.
+ */
+public class ExcelStreamingReader {
+
+    /**
+     * 행 단위 처리 함수
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * @param rowNumber 행 번호 (1부터 시작, 실제 존재하는 행 기준)
+         * @param cellCount 행에 존재하는 셀 수
+         * @param cells     앞쪽 열(columnCount개)의 셀 값 (셀이 없으면 null)
+         */
+        void handle(int rowNumber, int cellCount, CellValue[] cells);
+    }
+
+    /**
+     * 엑셀 파일의 첫 번째 시트를 한 행씩 읽습니다.
+     *
+     * @param inputStream 엑셀 파일 입력 스트림
+     * @param columnCount 셀 값을 전달할 앞쪽 열 수
+     * @param rowHandler  행 단위 처리 함수
+     */
+    public static void read(InputStream inputStream, int columnCount, RowHandler rowHandler)
+            throws IOException, OpenXML4JException, SAXException, XmlException, ParserConfigurationException {
+        // 업로드 파일을 임시 파일로 저장하여 압축 해제 내용을 메모리에 올리지 않음
+        Path tempFile = Files.createTempFile("excel-upload-", ".tmp");
+        try {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+
+            if (FileMagic.valueOf(tempFile.toFile()) == FileMagic.OOXML) {
+                readXlsx(tempFile.toFile(), columnCount, rowHandler);
+            } else {
+                readWorkbook(tempFile.toFile(), columnCount, rowHandler);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // xlsx 파일을 SAX 방식으로 읽기
+    private static void readXlsx(File file, int columnCount, RowHandler rowHandler)
+            throws IOException, OpenXML4JException, SAXException, XmlException, ParserConfigurationException {
+        try (OPCPackage opcPackage = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            StylesTable styles = xssfReader.getStylesTable();
+            boolean date1904 = isDate1904(xssfReader);
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                if (sheets.hasNext()) {
+                    throw new ExcelValidationException("엑셀 파일에 여러 시트가 포함되어 있습니다. 첫 번째 시트만 허용됩니다.");
+                }
+
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new SheetHandler(sharedStrings, styles, date1904, columnCount, rowHandler));
+                xmlReader.parse(new InputSource(sheet));
+            }
+        }
+    }
+
+    // xls 파일을 Workbook으로 읽기
+    private static void readWorkbook(File file, int columnCount, RowHandler rowHandler) throws IOException {
+        try (Workbook workbook = WorkbookFactory.create(file, null, true)) {
+            if (workbook.getNumberOfSheets() > 1) {
+                throw new ExcelValidationException("엑셀 파일에 여러 시트가 포함되어 있습니다. 첫 번째 시트만 허용됩니다.");
+            }
+
+            int rowNumber = 0;
+            for (Row row : workbook.getSheetAt(0)) {
+                rowNumber++;
+                CellValue[] cells = new CellValue[columnCount];
+                for (int column = 0; column < columnCount; column++) {
+                    Cell cell = row.getCell(column);
+                    cells[column] = cell == null ? null : CellValue.of(cell);
+                }
+                rowHandler.handle(rowNumber, row.getPhysicalNumberOfCells(), cells);
+            }
+        }
+    }
+
+    // 1904 날짜 체계 사용 여부
+    private static boolean isDate1904(XSSFReader xssfReader) throws IOException, OpenXML4JException, XmlException {
+        try (InputStream workbookData = xssfReader.getWorkbookData()) {
+            CTWorkbookPr workbookPr = WorkbookDocument.Factory
+                    .parse(workbookData, POIXMLTypeLoader.DEFAULT_XML_OPTIONS)
+                    .getWorkbook()
+                    .getWorkbookPr();
+            return workbookPr != null && workbookPr.getDate1904();
+        }
+    }
+
+    /**
+     * 셀 값 (Cell 객체 없이 유형과 값만 보관)
+     */
+    public static final class CellValue {
+        private final CellType cellType;
+        private final String stringValue;
+        private final double numericValue;
+        private final LocalDate dateValue; // 날짜 서식의 숫자 셀인 경우에만 존재
+
+        private CellValue(CellType cellType, String stringValue, double numericValue, LocalDate dateValue) {
+            this.cellType = cellType;
+            this.stringValue = stringValue;
+            this.numericValue = numericValue;
+            this.dateValue = dateValue;
+        }
+
+        // Workbook 셀로부터 생성
+        private static CellValue of(Cell cell) {
+            CellType cellType = cell.getCellType();
+            if (cellType == CellType.NUMERIC) {
+                LocalDate dateValue = DateUtil.isCellDateFormatted(cell)
+                        ? cell.getLocalDateTimeCellValue().toLocalDate()
+                        : null;
+                return new CellValue(cellType, null, cell.getNumericCellValue(), dateValue);
+            }
+            if (cellType == CellType.STRING) {
+                return new CellValue(cellType, cell.getStringCellValue(), 0, null);
+            }
+            return new CellValue(cellType, null, 0, null);
+        }
+
+        public CellType getCellType() {
+            return cellType;
+        }
+
+        public String getStringValue() {
+            return stringValue;
+        }
+
+        public double getNumericValue() {
+            return numericValue;
+        }
+
+        public boolean isDateFormatted() {
+            return dateValue != null;
+        }
+
+        public LocalDate getDateValue() {
+            return dateValue;
+        }
+    }
+
+    /**
+     * 시트 XML(sheetN.xml) SAX 처리기
+     * - row/c/v/f/is/t 요소만 해석하며, 셀 유형은 XSSFCell의 getCellType()과 동일하게 판단합니다.
+     */
+    private static final class SheetHandler extends DefaultHandler {
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final StylesTable styles;
+        private final boolean date1904;
+        private final int columnCount;
+        private final RowHandler rowHandler;
+        private final StringBuilder text = new StringBuilder();
+
+        private int rowNumber;
+        private int cellCount;
+        private CellValue[] cells;
+        private int lastColumn;
+
+        private int column;
+        private String type;
+        private String style;
+        private boolean formula;
+        private String value;
+        private StringBuilder inlineString;
+        private boolean collectingText;
+
+        private SheetHandler(ReadOnlySharedStringsTable sharedStrings, StylesTable styles, boolean date1904,
+                             int columnCount, RowHandler rowHandler) {
+            this.sharedStrings = sharedStrings;
+            this.styles = styles;
+            this.date1904 = date1904;
+            this.columnCount = columnCount;
+            this.rowHandler = rowHandler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (elementName(localName, qName)) {
+                case "row": // 행 시작
+                    rowNumber++;
+                    cellCount = 0;
+                    cells = new CellValue[columnCount];
+                    lastColumn = -1;
+                    break;
+                case "c": // 셀 시작 (r: 셀 위치, t: 셀 유형, s: 스타일 인덱스)
+                    cellCount++;
+                    String reference = attributes.getValue("r");
+                    column = reference == null ? lastColumn + 1 : new CellReference(reference).getCol();
+                    lastColumn = column;
+                    type = attributes.getValue("t");
+                    style = attributes.getValue("s");
+                    formula = false;
+                    value = null;
+                    inlineString = null;
+                    break;
+                case "f": // 수식
+                    formula = true;
+                    break;
+                case "v": // 셀 값
+                    startText();
+                    break;
+                case "is": // 인라인 문자열
+                    inlineString = new StringBuilder();
+                    break;
+                case "t": // 인라인 문자열 텍스트
+                    if (inlineString != null) {
+                        startText();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (collectingText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (elementName(localName, qName)) {
+                case "v":
+                    value = text.toString();
+                    collectingText = false;
+                    break;
+                case "t":
+                    if (inlineString != null && collectingText) {
+                        inlineString.append(text);
+                        collectingText = false;
+                    }
+                    break;
+                case "c":
+                    if (column < columnCount) {
+                        cells[column] = toCellValue();
+                    }
+                    break;
+                case "row":
+                    rowHandler.handle(rowNumber, cellCount, cells);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void startText() {
+            collectingText = true;
+            text.setLength(0);
+        }
+
+        // 현재 셀의 유형과 값 해석
+        private CellValue toCellValue() {
+            if (formula) {
+                return new CellValue(CellType.FORMULA, null, 0, null);
+            }
+            if (type == null || type.equals("n")) {
+                if (value == null || value.isEmpty()) {
+                    return new CellValue(CellType.BLANK, null, 0, null);
+                }
+                double numericValue = Double.parseDouble(value);
+                LocalDate dateValue = isDateFormatted(numericValue)
+                        ? DateUtil.getLocalDateTime(numericValue, date1904).toLocalDate()
+                        : null;
+                return new CellValue(CellType.NUMERIC, null, numericValue, dateValue);
+            }
+            switch (type) {
+                case "s": // 공유 문자열
+                    return value == null
+                            ? new CellValue(CellType.BLANK, null, 0, null)
+                            : new CellValue(CellType.STRING, sharedStrings.getItemAt(Integer.parseInt(value)).getString(), 0, null);
+                case "inlineStr": // 인라인 문자열
+                    return new CellValue(CellType.STRING, inlineString == null ? "" : inlineString.toString(), 0, null);
+                case "str": // 문자열
+                    return new CellValue(CellType.STRING, value == null ? "" : value, 0, null);
+                case "b": // 불리언
+                    return new CellValue(CellType.BOOLEAN, null, 0, null);
+                case "e": // 오류
+                    return new CellValue(CellType.ERROR, null, 0, null);
+                default:
+                    return new CellValue(CellType._NONE, null, 0, null);
+            }
+        }
+
+        // DateUtil.isCellDateFormatted(cell)과 동일한 판단 (유효한 엑셀 날짜 + 날짜 서식)
+        private boolean isDateFormatted(double numericValue) {
+            if (styles == null || !DateUtil.isValidExcelDate(numericValue)) {
+                return false;
+            }
+            CellStyle cellStyle = styles.getStyleAt(style == null ? 0 : Integer.parseInt(style));
+            return cellStyle != null && DateUtil.isADateFormat(ExcelNumberFormat.from(cellStyle));
+        }
+
+        private static String elementName(String localName, String qName) {
+            if (localName != null && !localName.isEmpty()) {
+                return localName;
+            }
+            int prefixEnd = qName.indexOf(':');
+            return prefixEnd < 0 ? qName : qName.substring(prefixEnd + 1);
+        }
+    }
+}
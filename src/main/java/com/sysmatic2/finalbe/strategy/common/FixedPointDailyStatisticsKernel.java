@@ -0,0 +1,464 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Optional;
+
+import static com.sysmatic2.finalbe.strategy.common.FixedPointMath.*;
+
+/**
+ * 고정 소수점(scaled long) 일간 통계 계산 커널
+ *
+ * - 전체 구간 재계산 시 직전 데이터와 입력값만으로 정해지는 지표(잔고, 원금, 기준가, 손익률, 손익 합계, 연속일수 등)를
+ *   primitive 배열에서 한 번에 계산하고, 엔티티로 변환할 때만 BigDecimal을 생성합니다.
+ * - 각 지표는 DailyStatisticsCalculator / DailyStatisticsService 의 BigDecimal 계산과 같은 스케일, 같은 반올림 방식으로
+ *   계산하므로 저장 정밀도에서 같은 값을 반환합니다.
+ * - 누적 상태(DailyStatisticsAccumulator)가 필요한 지표(자본인하율, KP-RATIO, 변동계수 등)는 계산하지 않습니다.
+ * - 입력값이 고정 소수점으로 표현되지 않거나 계산 중 long 범위를 벗어나면 Optional.empty()를 반환하며,
+ *   이 경우 호출하는 쪽에서 BigDecimal 계산을 사용합니다.
+ */
+public class FixedPointDailyStatisticsKernel {
+    public static final int MONEY_SCALE = 4; // 금액 스케일 (입력 금액은 소수점 4자리 이하만 지원)
+    private static final int REFERENCE_PRICE_SCALE = 2; // 기준가 스케일
+    private static final int DAILY_PL_RATE_SCALE = 5; // 일손익률 스케일
+    private static final int RATE_SCALE = 4; // 누적손익률, 평균손익률, Profit Factor 스케일
+    private static final int WIN_RATE_SCALE = 2; // 승률 스케일
+    private static final int RATIO_SCALE = 10; // 평균손익비, 원금 조정 비율 스케일
+    private static final long INITIAL_REFERENCE_PRICE = 100_000L; // 기준가 1000 (스케일 2)
+    private static final long MAX_DAILY_PL_RATE_DIFF = pow10(10); // MathContext(10)에서 반올림 없이 표현되는 기준가 차이 (스케일 2)
+
+    private final List<DailyStatisticsReqDto> reqDtos;
+    private final int[] tradingDays;
+    private final long[] balance;
+    private final long[] principal;
+    private final long[] cumulativeProfitLoss;
+    private final long[] unrealizedProfitLoss;
+    private final long[] referencePrice;
+    private final long[] dailyPlRate;
+    private final long[] cumulativeProfitLossRate;
+    private final long[] maxCumulativeProfitLoss;
+    private final long[] maxCumulativeProfitLossRate;
+    private final long[] currentDrawdownAmount;
+    private final long[] winRate;
+    private final long[] profitFactor;
+    private final long[] totalProfit;
+    private final int[] totalProfitDays;
+    private final long[] averageProfit;
+    private final long[] totalLoss;
+    private final int[] totalLossDays;
+    private final long[] averageLoss;
+    private final long[] averageProfitLossRatio;
+    private final int[] daysSincePeak;
+    private final long[] maxDailyProfit;
+    private final long[] maxDailyLoss;
+    private final long[] averageProfitLoss;
+    private final long[] averageProfitLossRate;
+    private final int[] currentConsecutivePlDays;
+    private final int[] maxConsecutiveProfitDays;
+    private final int[] maxConsecutiveLossDays;
+    private final long[] depositAmount;
+    private final long[] cumulativeDepositAmount;
+    private final long[] withdrawAmount;
+    private final long[] cumulativeWithdrawAmount;
+
+    private FixedPointDailyStatisticsKernel(List<DailyStatisticsReqDto> reqDtos) {
+        int size = reqDtos.size();
+        this.reqDtos = reqDtos;
+        this.tradingDays = new int[size];
+        this.balance = new long[size];
+        this.principal = new long[size];
+        this.cumulativeProfitLoss = new long[size];
+        this.unrealizedProfitLoss = new long[size];
+        this.referencePrice = new long[size];
+        this.dailyPlRate = new long[size];
+        this.cumulativeProfitLossRate = new long[size];
+        this.maxCumulativeProfitLoss = new long[size];
+        this.maxCumulativeProfitLossRate = new long[size];
+        this.currentDrawdownAmount = new long[size];
+        this.winRate = new long[size];
+        this.profitFactor = new long[size];
+        this.totalProfit = new long[size];
+        this.totalProfitDays = new int[size];
+        this.averageProfit = new long[size];
+        this.totalLoss = new long[size];
+        this.totalLossDays = new int[size];
+        this.averageLoss = new long[size];
+        this.averageProfitLossRatio = new long[size];
+        this.daysSincePeak = new int[size];
+        this.maxDailyProfit = new long[size];
+        this.maxDailyLoss = new long[size];
+        this.averageProfitLoss = new long[size];
+        this.averageProfitLossRate = new long[size];
+        this.currentConsecutivePlDays = new int[size];
+        this.maxConsecutiveProfitDays = new int[size];
+        this.maxConsecutiveLossDays = new int[size];
+        this.depositAmount = new long[size];
+        this.cumulativeDepositAmount = new long[size];
+        this.withdrawAmount = new long[size];
+        this.cumulativeWithdrawAmount = new long[size];
+    }
+
+    /**
+     * 입력 데이터 리스트의 지표를 날짜순으로 계산합니다.
+     *
+     * @param reqDtos      입력 데이터 리스트 (날짜 오름차순)
+     * @param previousData 직전 데이터 (없으면 null, 첫 번째 입력이 첫 번째 데이터)
+     * @return 계산 결과 (고정 소수점으로 계산할 수 없으면 Optional.empty())
+     * @throws IllegalArgumentException 잔고가 0보다 작아지는 경우 (BigDecimal 계산과 동일)
+     */
+    public static Optional<FixedPointDailyStatisticsKernel> compute(List<DailyStatisticsReqDto> reqDtos,
+                                                                    DailyStatisticsEntity previousData) {
+        FixedPointDailyStatisticsKernel kernel = new FixedPointDailyStatisticsKernel(reqDtos);
+        try {
+            kernel.computeSeries(previousData);
+            return Optional.of(kernel);
+        } catch (ArithmeticException e) {
+            // 소수점 4자리를 넘는 입력값, long 범위 초과 등
+            return Optional.empty();
+        }
+    }
+
+    private void computeSeries(DailyStatisticsEntity previousData) {
+        boolean firstEntry = previousData == null;
+
+        // 직전 데이터 (없는 값은 0)
+        long previousBalance = firstEntry ? 0 : money(previousData.getBalance());
+        long previousPrincipal = firstEntry ? 0 : money(previousData.getPrincipal());
+        long previousCumulativeProfitLoss = firstEntry ? 0 : money(previousData.getCumulativeProfitLoss());
+        long previousReferencePrice = firstEntry ? INITIAL_REFERENCE_PRICE : unscaled(previousData.getReferencePrice(), REFERENCE_PRICE_SCALE);
+        long previousMaxCumulativeProfitLoss = firstEntry ? 0 : money(previousData.getMaxCumulativeProfitLoss());
+        long previousMaxCumulativeProfitLossRate = firstEntry ? 0 : unscaled(previousData.getMaxCumulativeProfitLossRate(), RATE_SCALE);
+        int previousTradingDays = firstEntry ? 0 : count(previousData.getTradingDays());
+        int previousProfitDays = firstEntry ? 0 : count(previousData.getTotalProfitDays());
+        int previousLossDays = firstEntry ? 0 : count(previousData.getTotalLossDays());
+        long previousTotalProfit = firstEntry ? 0 : money(previousData.getTotalProfit());
+        long previousTotalLoss = firstEntry ? 0 : money(previousData.getTotalLoss());
+        int previousCurrentConsecutivePlDays = firstEntry ? 0 : count(previousData.getCurrentConsecutivePlDays());
+        int previousMaxConsecutiveProfitDays = firstEntry ? 0 : count(previousData.getMaxConsecutiveProfitDays());
+        int previousMaxConsecutiveLossDays = firstEntry ? 0 : count(previousData.getMaxConsecutiveLossDays());
+        int previousDaysSincePeak = firstEntry ? 0 : count(previousData.getDaysSincePeak());
+        long previousMaxDailyProfit = firstEntry ? 0 : money(previousData.getMaxDailyProfit());
+        long previousMaxDailyLoss = firstEntry ? 0 : money(previousData.getMaxDailyLoss());
+        long previousCumulativeDeposit = firstEntry ? 0 : money(previousData.getCumulativeDepositAmount());
+        long previousCumulativeWithdraw = firstEntry ? 0 : money(previousData.getCumulativeWithdrawAmount());
+
+        // 고점 후 경과일은 BigDecimal.equals(스케일 포함 비교)로 판단하므로 누적손익의 스케일도 함께 추적
+        int cumulativeProfitLossScale = firstEntry ? 0 : scale(previousData.getCumulativeProfitLoss());
+        int maxCumulativeProfitLossScale = firstEntry ? 0 : scale(previousData.getMaxCumulativeProfitLoss());
+
+        for (int i = 0; i < reqDtos.size(); i++) {
+            DailyStatisticsReqDto reqDto = reqDtos.get(i);
+            long profitLoss = money(reqDto.getDailyProfitLoss());
+            long depWd = money(reqDto.getDepWdPrice());
+            boolean isFirstRow = firstEntry && i == 0;
+
+            // 잔고 = 이전 잔고 + 일손익 + 입출금
+            long currentBalance = Math.addExact(Math.addExact(previousBalance, profitLoss), depWd);
+            if (currentBalance < 0) {
+                throw new IllegalArgumentException("잔고가 0보다 작을 수 없습니다. (계산된 잔고: " + toBigDecimal(currentBalance, MONEY_SCALE) + ")");
+            }
+
+            // 원금 (첫 데이터는 입출금 금액)
+            long currentPrincipal = isFirstRow ? depWd : calculatePrincipal(previousPrincipal, depWd, previousBalance);
+
+            // 누적손익, 거래일수, 이익/손실 일수와 합계, 평균 이익/손실
+            long currentCumulativeProfitLoss = Math.addExact(previousCumulativeProfitLoss, profitLoss);
+            cumulativeProfitLossScale = Math.max(cumulativeProfitLossScale, reqDto.getDailyProfitLoss().scale());
+            int currentTradingDays = previousTradingDays + 1;
+            int currentLossDays = previousLossDays + (profitLoss < 0 ? 1 : 0);
+            int currentProfitDays = previousProfitDays + (profitLoss > 0 ? 1 : 0);
+            long currentTotalLoss = Math.addExact(previousTotalLoss, Math.min(profitLoss, 0));
+            long currentTotalProfit = Math.addExact(previousTotalProfit, Math.max(profitLoss, 0));
+            long currentAverageLoss = currentLossDays > 0
+                    ? divide(currentTotalLoss, MONEY_SCALE, currentLossDays, 0, 0, RoundingMode.HALF_UP)
+                    : 0;
+            long currentAverageProfit = currentProfitDays > 0
+                    ? divide(currentTotalProfit, MONEY_SCALE, currentProfitDays, 0, 0, RoundingMode.HALF_UP)
+                    : 0;
+
+            // 기준가, 일손익률, 누적손익률
+            long currentReferencePrice = calculateReferencePrice(currentBalance, currentPrincipal);
+            long currentDailyPlRate = calculateDailyPlRate(currentReferencePrice,
+                    previousReferencePrice > 0 ? previousReferencePrice : INITIAL_REFERENCE_PRICE);
+            long currentCumulativeProfitLossRate = calculateCumulativeProfitLossRate(currentReferencePrice);
+
+            // 최대 누적손익(률), 현재 자본인하 금액
+            long currentMaxCumulativeProfitLoss = previousMaxCumulativeProfitLoss;
+            int currentMaxCumulativeProfitLossScale = maxCumulativeProfitLossScale;
+            if (currentCumulativeProfitLoss >= previousMaxCumulativeProfitLoss) {
+                currentMaxCumulativeProfitLoss = currentCumulativeProfitLoss;
+                currentMaxCumulativeProfitLossScale = cumulativeProfitLossScale;
+            }
+            long currentMaxCumulativeProfitLossRate = Math.max(currentCumulativeProfitLossRate, previousMaxCumulativeProfitLossRate);
+            long currentDrawdown = currentCumulativeProfitLoss > 0
+                    ? Math.subtractExact(currentCumulativeProfitLoss, currentMaxCumulativeProfitLoss)
+                    : 0;
+
+            // 승률 = 이익일수 / 거래일수 (소수점 4자리 비율 * 100 -> 소수점 2자리)
+            long currentWinRate = rescale(
+                    Math.multiplyExact(divide(currentProfitDays, 0, currentTradingDays, 0, 4, RoundingMode.HALF_UP), 100),
+                    4, WIN_RATE_SCALE, RoundingMode.HALF_UP);
+
+            // Profit Factor = 총 이익 / |총 손실|
+            long currentProfitFactor = currentTotalLoss < 0
+                    ? divide(currentTotalProfit, MONEY_SCALE, Math.negateExact(currentTotalLoss), MONEY_SCALE, RATE_SCALE, RoundingMode.HALF_UP)
+                    : 0;
+
+            // 평균 손익비 = 평균 이익 / |평균 손실| (11자리 계산 후 10자리 반올림)
+            long currentAverageProfitLossRatio = currentAverageLoss != 0
+                    ? rescale(divide(currentAverageProfit, 0, Math.absExact(currentAverageLoss), 0, RATIO_SCALE + 1, RoundingMode.HALF_UP),
+                    RATIO_SCALE + 1, RATIO_SCALE, RoundingMode.HALF_UP)
+                    : 0;
+
+            // 고점 후 경과일
+            int currentDaysSincePeak = currentMaxCumulativeProfitLoss == previousMaxCumulativeProfitLoss
+                    && currentMaxCumulativeProfitLossScale == maxCumulativeProfitLossScale
+                    && currentMaxCumulativeProfitLoss > 0
+                    ? previousDaysSincePeak + 1
+                    : 0;
+
+            // 입금/출금 (첫 번째 데이터는 0)
+            long currentDeposit = isFirstRow ? 0 : Math.max(depWd, 0);
+            long currentWithdraw = isFirstRow ? 0 : Math.negateExact(Math.min(depWd, 0));
+
+            // 평균 손익 = (총 이익 + 총 손실) / 거래일수, 평균 손익률 = 누적손익률 / 거래일수
+            long currentAverageProfitLoss = divide(Math.addExact(currentTotalProfit, currentTotalLoss), MONEY_SCALE,
+                    currentTradingDays, 0, 0, RoundingMode.HALF_UP);
+            long currentAverageProfitLossRate = rescale(
+                    divide(currentCumulativeProfitLossRate, RATE_SCALE, currentTradingDays, 0, 10, RoundingMode.DOWN),
+                    10, RATE_SCALE, RoundingMode.DOWN);
+
+            // 연속 손익일수
+            int currentConsecutive;
+            if (profitLoss > 0) {
+                currentConsecutive = previousCurrentConsecutivePlDays < 0 ? 1 : previousCurrentConsecutivePlDays + 1;
+            } else if (profitLoss < 0) {
+                currentConsecutive = previousCurrentConsecutivePlDays > 0 ? -1 : previousCurrentConsecutivePlDays - 1;
+            } else {
+                currentConsecutive = 0;
+            }
+            int currentMaxConsecutiveProfitDays = profitLoss > 0
+                    ? Math.max(previousMaxConsecutiveProfitDays, currentConsecutive)
+                    : previousMaxConsecutiveProfitDays;
+            int currentMaxConsecutiveLossDays = profitLoss < 0
+                    ? Math.min(previousMaxConsecutiveLossDays, currentConsecutive)
+                    : previousMaxConsecutiveLossDays;
+
+            // 결과 저장
+            tradingDays[i] = currentTradingDays;
+            balance[i] = currentBalance;
+            principal[i] = currentPrincipal;
+            cumulativeProfitLoss[i] = currentCumulativeProfitLoss;
+            unrealizedProfitLoss[i] = Math.subtractExact(currentPrincipal, currentBalance);
+            referencePrice[i] = currentReferencePrice;
+            dailyPlRate[i] = currentDailyPlRate;
+            cumulativeProfitLossRate[i] = currentCumulativeProfitLossRate;
+            maxCumulativeProfitLoss[i] = currentMaxCumulativeProfitLoss;
+            maxCumulativeProfitLossRate[i] = currentMaxCumulativeProfitLossRate;
+            currentDrawdownAmount[i] = currentDrawdown;
+            winRate[i] = currentWinRate;
+            profitFactor[i] = currentProfitFactor;
+            totalProfit[i] = currentTotalProfit;
+            totalProfitDays[i] = currentProfitDays;
+            averageProfit[i] = currentAverageProfit;
+            totalLoss[i] = currentTotalLoss;
+            totalLossDays[i] = currentLossDays;
+            averageLoss[i] = currentAverageLoss;
+            averageProfitLossRatio[i] = currentAverageProfitLossRatio;
+            daysSincePeak[i] = currentDaysSincePeak;
+            maxDailyProfit[i] = Math.max(previousMaxDailyProfit, profitLoss);
+            maxDailyLoss[i] = Math.min(previousMaxDailyLoss, profitLoss);
+            averageProfitLoss[i] = currentAverageProfitLoss;
+            averageProfitLossRate[i] = currentAverageProfitLossRate;
+            currentConsecutivePlDays[i] = currentConsecutive;
+            maxConsecutiveProfitDays[i] = currentMaxConsecutiveProfitDays;
+            maxConsecutiveLossDays[i] = currentMaxConsecutiveLossDays;
+            depositAmount[i] = currentDeposit;
+            cumulativeDepositAmount[i] = Math.addExact(previousCumulativeDeposit, currentDeposit);
+            withdrawAmount[i] = currentWithdraw;
+            cumulativeWithdrawAmount[i] = Math.addExact(previousCumulativeWithdraw, currentWithdraw);
+
+            // 다음 계산의 직전 데이터
+            previousBalance = currentBalance;
+            previousPrincipal = currentPrincipal;
+            previousCumulativeProfitLoss = currentCumulativeProfitLoss;
+            previousReferencePrice = currentReferencePrice;
+            previousMaxCumulativeProfitLoss = currentMaxCumulativeProfitLoss;
+            maxCumulativeProfitLossScale = currentMaxCumulativeProfitLossScale;
+            previousMaxCumulativeProfitLossRate = currentMaxCumulativeProfitLossRate;
+            previousTradingDays = currentTradingDays;
+            previousProfitDays = currentProfitDays;
+            previousLossDays = currentLossDays;
+            previousTotalProfit = currentTotalProfit;
+            previousTotalLoss = currentTotalLoss;
+            previousCurrentConsecutivePlDays = currentConsecutive;
+            previousMaxConsecutiveProfitDays = currentMaxConsecutiveProfitDays;
+            previousMaxConsecutiveLossDays = currentMaxConsecutiveLossDays;
+            previousDaysSincePeak = currentDaysSincePeak;
+            previousMaxDailyProfit = maxDailyProfit[i];
+            previousMaxDailyLoss = maxDailyLoss[i];
+            previousCumulativeDeposit = cumulativeDepositAmount[i];
+            previousCumulativeWithdraw = cumulativeWithdrawAmount[i];
+        }
+    }
+
+    /**
+     * 계산 결과를 일간 통계 엔티티로 변환합니다.
+     * - 누적 상태가 필요한 지표는 채우지 않으므로 호출하는 쪽에서 계산해야 합니다.
+     *
+     * @param index 입력 데이터 인덱스
+     * @return 커널이 계산한 지표가 채워진 일간 통계 엔티티
+     */
+    public DailyStatisticsEntity toEntity(int index) {
+        DailyStatisticsReqDto reqDto = reqDtos.get(index);
+        return DailyStatisticsEntity.builder()
+                .date(reqDto.getDate())
+                .depWdPrice(reqDto.getDepWdPrice())
+                .dailyProfitLoss(reqDto.getDailyProfitLoss())
+                .tradingDays(tradingDays[index])
+                .balance(toBigDecimal(balance[index], MONEY_SCALE))
+                .principal(toBigDecimal(principal[index], MONEY_SCALE))
+                .cumulativeProfitLoss(toBigDecimal(cumulativeProfitLoss[index], MONEY_SCALE))
+                .unrealizedProfitLoss(toBigDecimal(unrealizedProfitLoss[index], MONEY_SCALE))
+                .referencePrice(toBigDecimal(referencePrice[index], REFERENCE_PRICE_SCALE))
+                .dailyPlRate(toBigDecimal(dailyPlRate[index], DAILY_PL_RATE_SCALE))
+                .cumulativeProfitLossRate(toBigDecimal(cumulativeProfitLossRate[index], RATE_SCALE))
+                .maxCumulativeProfitLoss(toBigDecimal(maxCumulativeProfitLoss[index], MONEY_SCALE))
+                .maxCumulativeProfitLossRate(toBigDecimal(maxCumulativeProfitLossRate[index], RATE_SCALE))
+                .currentDrawdownAmount(toBigDecimal(currentDrawdownAmount[index], MONEY_SCALE))
+                .winRate(toBigDecimal(winRate[index], WIN_RATE_SCALE))
+                .profitFactor(toBigDecimal(profitFactor[index], RATE_SCALE))
+                .totalProfit(toBigDecimal(totalProfit[index], MONEY_SCALE))
+                .totalProfitDays(totalProfitDays[index])
+                .averageProfit(toBigDecimal(averageProfit[index], 0))
+                .totalLoss(toBigDecimal(totalLoss[index], MONEY_SCALE))
+                .totalLossDays(totalLossDays[index])
+                .averageLoss(toBigDecimal(averageLoss[index], 0))
+                .averageProfitLossRatio(toBigDecimal(averageProfitLossRatio[index], RATIO_SCALE))
+                .daysSincePeak(daysSincePeak[index])
+                .maxDailyProfit(toBigDecimal(maxDailyProfit[index], MONEY_SCALE))
+                .maxDailyLoss(toBigDecimal(maxDailyLoss[index], MONEY_SCALE))
+                .averageProfitLoss(toBigDecimal(averageProfitLoss[index], 0))
+                .averageProfitLossRate(toBigDecimal(averageProfitLossRate[index], RATE_SCALE))
+                .currentConsecutivePlDays(currentConsecutivePlDays[index])
+                .maxConsecutiveProfitDays(maxConsecutiveProfitDays[index])
+                .maxConsecutiveLossDays(maxConsecutiveLossDays[index])
+                .depositAmount(toBigDecimal(depositAmount[index], MONEY_SCALE))
+                .cumulativeDepositAmount(toBigDecimal(cumulativeDepositAmount[index], MONEY_SCALE))
+                .withdrawAmount(toBigDecimal(withdrawAmount[index], MONEY_SCALE))
+                .cumulativeWithdrawAmount(toBigDecimal(cumulativeWithdrawAmount[index], MONEY_SCALE))
+                .build();
+    }
+
+    public int size() {
+        return reqDtos.size();
+    }
+
+    /**
+     * 원금 = 이전 원금 + (입출금 금액 / (이전 잔고 / 이전 원금)), 정수 반올림 (DailyStatisticsCalculator.calculatePrincipal)
+     * - 입출금이 있는 날은 조정 금액(소수점 10자리)이 long 범위를 넘을 수 있으므로 BigDecimal 계산을 그대로 사용합니다.
+     */
+    private static long calculatePrincipal(long previousPrincipal, long depWd, long previousBalance) {
+        long integerPrincipal;
+        if (previousPrincipal == 0) {
+            integerPrincipal = rescale(depWd, MONEY_SCALE, 0, RoundingMode.HALF_UP);
+        } else if (previousBalance == 0) {
+            integerPrincipal = addAndRescale(previousPrincipal, MONEY_SCALE, depWd, MONEY_SCALE, 0, RoundingMode.HALF_UP);
+        } else {
+            long adjustmentFactor = divide(previousBalance, MONEY_SCALE, previousPrincipal, MONEY_SCALE, RATIO_SCALE, RoundingMode.HALF_UP);
+            if (adjustmentFactor == 0) {
+                throw new ArithmeticException("0으로 나눌 수 없습니다.");
+            }
+            if (depWd != 0) {
+                return toUnscaled(DailyStatisticsCalculator.calculatePrincipal(
+                        toBigDecimal(previousPrincipal, MONEY_SCALE),
+                        toBigDecimal(depWd, MONEY_SCALE),
+                        toBigDecimal(previousBalance, MONEY_SCALE)), MONEY_SCALE);
+            }
+            integerPrincipal = rescale(previousPrincipal, MONEY_SCALE, 0, RoundingMode.HALF_UP);
+        }
+        return rescale(integerPrincipal, 0, MONEY_SCALE, RoundingMode.HALF_UP);
+    }
+
+    // 기준가 = 잔고 / 원금 (10자리 버림) * 1000, 소수점 2자리 반올림 (DailyStatisticsCalculator.calculateReferencePrice)
+    private static long calculateReferencePrice(long balance, long principal) {
+        if (principal <= 0) {
+            return 0;
+        }
+        long ratio = divide(balance, MONEY_SCALE, principal, MONEY_SCALE, 10, RoundingMode.DOWN);
+        return rescale(Math.multiplyExact(ratio, 1000), 10, REFERENCE_PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 일손익률 = (오늘 기준가 - 이전 기준가) / 이전 기준가 * 100 (DailyStatisticsCalculator.calculateDailyPlRate)
+     * - 유효숫자 10자리(MathContext)로 나눈 뒤 소수점 5자리로 반올림합니다.
+     * - 기준가 차이가 유효숫자 10자리를 넘으면 BigDecimal 계산을 사용하도록 ArithmeticException 을 던집니다.
+     */
+    private static long calculateDailyPlRate(long referencePrice, long previousReferencePrice) {
+        long difference = Math.subtractExact(referencePrice, previousReferencePrice);
+        if (difference <= -MAX_DAILY_PL_RATE_DIFF || difference >= MAX_DAILY_PL_RATE_DIFF) {
+            throw new ArithmeticException("기준가 차이가 MathContext 정밀도를 넘습니다.");
+        }
+        if (difference == 0) {
+            return 0;
+        }
+
+        // 몫의 정수부 자릿수 k (10^(k-1) <= |몫| < 10^k) 로 유효숫자 10자리의 스케일 결정
+        int quotientScale = 10 - integerDigitsOfQuotient(Math.abs(difference), previousReferencePrice);
+        long quotient = divide(difference, REFERENCE_PRICE_SCALE, previousReferencePrice, REFERENCE_PRICE_SCALE,
+                quotientScale, RoundingMode.HALF_UP);
+
+        // * 100 은 스케일만 2 줄이고, 소수점 5자리로 반올림
+        return rescale(quotient, quotientScale - 2, DAILY_PL_RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    // 누적손익률 = (기준가 / 1000 - 1) * 100, 소수점 4자리 반올림 (DailyStatisticsCalculator.calculateCumulativeProfitLossRate)
+    private static long calculateCumulativeProfitLossRate(long referencePrice) {
+        if (referencePrice <= 0) {
+            return 0;
+        }
+        long ratio = divide(referencePrice, REFERENCE_PRICE_SCALE, 1000, 0, 10, RoundingMode.HALF_UP);
+        return rescale(Math.multiplyExact(Math.subtractExact(ratio, pow10(10)), 100), 10, RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    // 양수 a, b 에 대해 a / b 의 정수부 자릿수 k (10^(k-1) <= a / b < 10^k)
+    private static int integerDigitsOfQuotient(long a, long b) {
+        int digits;
+        if (a >= b) {
+            digits = 1;
+            long bound = b; // b * 10^(digits-1)
+            while (bound <= Long.MAX_VALUE / 10 && bound * 10 <= a) {
+                bound *= 10;
+                digits++;
+            }
+        } else {
+            digits = 0;
+            long scaled = a; // a * 10^(-digits)
+            while (scaled <= Long.MAX_VALUE / 10 && scaled * 10 < b) {
+                scaled *= 10;
+                digits--;
+            }
+        }
+        return digits;
+    }
+
+    private static long money(BigDecimal value) {
+        return value == null ? 0 : toUnscaled(value, MONEY_SCALE);
+    }
+
+    private static long unscaled(BigDecimal value, int scale) {
+        return value == null ? 0 : toUnscaled(value, scale);
+    }
+
+    private static int count(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static int scale(BigDecimal value) {
+        return value == null ? 0 : value.scale();
+    }
+}
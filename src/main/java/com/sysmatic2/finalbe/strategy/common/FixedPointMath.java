@@ -0,0 +1,236 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 고정 소수점(scaled long) 연산 유틸리티
+ *
+ * - 값은 (unscaled long, scale) 으로 표현합니다. 예) 1234.56 -> (123456, 2)
+ * - 나눗셈은 128비트 중간값으로 정확히 계산한 뒤 BigDecimal과 같은 방식으로 반올림하므로,
+ *   BigDecimal.divide(divisor, scale, roundingMode) 와 같은 값을 반환합니다.
+ * - 결과가 long 범위를 벗어나면 ArithmeticException 을 던집니다. (호출하는 쪽에서 BigDecimal 계산으로 대체)
+ * - 지원하는 반올림 방식: RoundingMode.DOWN, RoundingMode.HALF_UP
+ */
+public class FixedPointMath {
+    private static final long[] POW10 = new long[19];
+
+    static {
+        POW10[0] = 1L;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private FixedPointMath() {
+        // 유틸리티 클래스는 인스턴스화 금지
+    }
+
+    /**
+     * 10의 거듭제곱을 반환합니다.
+     *
+     * @param exponent 지수 (0 ~ 18)
+     * @return 10^exponent
+     */
+    public static long pow10(int exponent) {
+        if (exponent < 0 || exponent >= POW10.length) {
+            throw new ArithmeticException("10^" + exponent + " 는 long 범위를 벗어납니다.");
+        }
+        return POW10[exponent];
+    }
+
+    /**
+     * BigDecimal 값을 지정한 스케일의 unscaled long 값으로 변환합니다.
+     *
+     * @param value BigDecimal 값
+     * @param scale 변환할 스케일
+     * @return unscaled long 값
+     * @throws ArithmeticException 반올림이 필요하거나 long 범위를 벗어나는 경우
+     */
+    public static long toUnscaled(BigDecimal value, int scale) {
+        return value.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * unscaled long 값을 BigDecimal 값으로 변환합니다.
+     *
+     * @param unscaled unscaled long 값
+     * @param scale    스케일
+     * @return BigDecimal 값
+     */
+    public static BigDecimal toBigDecimal(long unscaled, int scale) {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * 나눗셈 (a / b) 결과를 지정한 스케일로 반올림합니다.
+     * - BigDecimal.valueOf(a, aScale).divide(BigDecimal.valueOf(b, bScale), scale, roundingMode) 와 같습니다.
+     *
+     * @param a            피제수 unscaled 값
+     * @param aScale       피제수 스케일
+     * @param b            제수 unscaled 값
+     * @param bScale       제수 스케일
+     * @param scale        결과 스케일
+     * @param roundingMode 반올림 방식
+     * @return 결과 unscaled 값
+     */
+    public static long divide(long a, int aScale, long b, int bScale, int scale, RoundingMode roundingMode) {
+        if (b == 0) {
+            throw new ArithmeticException("0으로 나눌 수 없습니다.");
+        }
+        // 결과 = a * 10^shift / b
+        int shift = scale - aScale + bScale;
+        if (shift >= 0) {
+            long multiplier = pow10(shift);
+            return divide128(Math.multiplyHigh(a, multiplier), a * multiplier, b, roundingMode);
+        }
+        return divide128(a >> 63, a, Math.multiplyExact(b, pow10(-shift)), roundingMode);
+    }
+
+    /**
+     * 스케일을 변경합니다. (스케일을 줄이는 경우 반올림)
+     * - BigDecimal.valueOf(value, fromScale).setScale(toScale, roundingMode) 와 같습니다.
+     *
+     * @param value        unscaled 값
+     * @param fromScale    현재 스케일
+     * @param toScale      변경할 스케일
+     * @param roundingMode 반올림 방식
+     * @return 변경된 스케일의 unscaled 값
+     */
+    public static long rescale(long value, int fromScale, int toScale, RoundingMode roundingMode) {
+        if (toScale >= fromScale) {
+            return Math.multiplyExact(value, pow10(toScale - fromScale));
+        }
+        return divide128(value >> 63, value, pow10(fromScale - toScale), roundingMode);
+    }
+
+    /**
+     * 덧셈 (a + b) 결과를 지정한 스케일로 반올림합니다.
+     * - BigDecimal.valueOf(a, aScale).add(BigDecimal.valueOf(b, bScale)).setScale(scale, roundingMode) 와 같습니다.
+     * - 두 값을 공통 스케일로 맞출 때 long 범위를 넘더라도 128비트로 계산합니다.
+     *
+     * @param a            첫 번째 값 unscaled 값
+     * @param aScale       첫 번째 값 스케일
+     * @param b            두 번째 값 unscaled 값
+     * @param bScale       두 번째 값 스케일
+     * @param scale        결과 스케일
+     * @param roundingMode 반올림 방식
+     * @return 결과 unscaled 값
+     */
+    public static long addAndRescale(long a, int aScale, long b, int bScale, int scale, RoundingMode roundingMode) {
+        int commonScale = Math.max(Math.max(aScale, bScale), scale);
+        long aMultiplier = pow10(commonScale - aScale);
+        long bMultiplier = pow10(commonScale - bScale);
+
+        // 128비트 덧셈 (hi:lo)
+        long aLo = a * aMultiplier;
+        long bLo = b * bMultiplier;
+        long lo = aLo + bLo;
+        long carry = Long.compareUnsigned(lo, aLo) < 0 ? 1 : 0;
+        long hi = Math.multiplyHigh(a, aMultiplier) + Math.multiplyHigh(b, bMultiplier) + carry;
+        return divide128(hi, lo, pow10(commonScale - scale), roundingMode);
+    }
+
+    /**
+     * 128비트 부호 있는 정수 (hi:lo) 를 64비트 정수로 나누고 반올림합니다.
+     */
+    private static long divide128(long hi, long lo, long divisor, RoundingMode roundingMode) {
+        if (divisor == 0) {
+            throw new ArithmeticException("0으로 나눌 수 없습니다.");
+        }
+        if (divisor == Long.MIN_VALUE) {
+            throw new ArithmeticException("제수가 long 범위를 벗어납니다.");
+        }
+
+        // 부호와 절대값으로 분리
+        boolean negative = (hi < 0) != (divisor < 0);
+        if (hi < 0) {
+            lo = -lo;
+            hi = lo == 0 ? -hi : ~hi;
+        }
+        long absDivisor = Math.abs(divisor);
+        if (Long.compareUnsigned(hi, absDivisor) >= 0) {
+            throw new ArithmeticException("나눗셈 결과가 long 범위를 벗어납니다.");
+        }
+
+        long[] remainder = new long[1];
+        long quotient = hi == 0
+                ? divideUnsigned64(lo, absDivisor, remainder)
+                : divideUnsigned128(hi, lo, absDivisor, remainder);
+        if (quotient < 0) {
+            throw new ArithmeticException("나눗셈 결과가 long 범위를 벗어납니다.");
+        }
+
+        switch (roundingMode) {
+            case DOWN:
+                break;
+            case HALF_UP:
+                // 나머지가 제수의 절반 이상이면 절대값 올림
+                if (Long.compareUnsigned(remainder[0], absDivisor - remainder[0]) >= 0) {
+                    quotient++;
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 반올림 방식입니다: " + roundingMode);
+        }
+
+        if (quotient < 0) {
+            throw new ArithmeticException("나눗셈 결과가 long 범위를 벗어납니다.");
+        }
+        return negative ? -quotient : quotient;
+    }
+
+    private static long divideUnsigned64(long dividend, long divisor, long[] remainder) {
+        long quotient = Long.divideUnsigned(dividend, divisor);
+        remainder[0] = dividend - quotient * divisor;
+        return quotient;
+    }
+
+    /**
+     * 부호 없는 128비트 정수 (u1:u0) 를 부호 없는 64비트 정수로 나눕니다. (u1 < v)
+     * - Hacker's Delight 의 divlu 알고리즘 (32비트 단위 나눗셈)
+     */
+    private static long divideUnsigned128(long u1, long u0, long v, long[] remainder) {
+        final long base = 1L << 32;
+        final long mask = base - 1;
+
+        // 제수의 최상위 비트가 1이 되도록 정규화
+        int shift = Long.numberOfLeadingZeros(v);
+        v <<= shift;
+        long vn1 = v >>> 32;
+        long vn0 = v & mask;
+
+        long un32 = shift == 0 ? u1 : (u1 << shift) | (u0 >>> (64 - shift));
+        long un10 = u0 << shift;
+        long un1 = un10 >>> 32;
+        long un0 = un10 & mask;
+
+        // 상위 32비트 몫
+        long q1 = Long.divideUnsigned(un32, vn1);
+        long rhat = un32 - q1 * vn1;
+        while (Long.compareUnsigned(q1, base) >= 0
+                || Long.compareUnsigned(q1 * vn0, (rhat << 32) + un1) > 0) {
+            q1--;
+            rhat += vn1;
+            if (Long.compareUnsigned(rhat, base) >= 0) {
+                break;
+            }
+        }
+
+        // 하위 32비트 몫
+        long un21 = (un32 << 32) + un1 - q1 * v;
+        long q0 = Long.divideUnsigned(un21, vn1);
+        rhat = un21 - q0 * vn1;
+        while (Long.compareUnsigned(q0, base) >= 0
+                || Long.compareUnsigned(q0 * vn0, (rhat << 32) + un0) > 0) {
+            q0--;
+            rhat += vn1;
+            if (Long.compareUnsigned(rhat, base) >= 0) {
+                break;
+            }
+        }
+
+        remainder[0] = ((un21 << 32) + un0 - q0 * v) >>> shift;
+        return (q1 << 32) | q0;
+    }
+}
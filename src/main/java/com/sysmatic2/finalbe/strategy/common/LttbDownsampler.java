@@ -0,0 +1,102 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import java.util.Arrays;
+
+/**
+ * LTTB(Largest-Triangle-Three-Buckets) 다운샘플링
+ *
+ * - 첫 점과 마지막 점은 항상 남기고, 나머지 구간을 (maxPoints - 2)개 버킷으로 나눠 버킷마다 한 점을 고릅니다.
+ * - 직전에 고른 점, 현재 버킷의 후보, 다음 버킷 평균점이 이루는 삼각형 넓이가 가장 큰 후보를 고릅니다.
+ * - 여러 시리즈를 같은 인덱스로 고르기 위해, 시리즈별 넓이를 값 범위로 나눠 합산합니다. (단위가 다른 시리즈도 같은 비중)
+ */
+public class LttbDownsampler {
+    private LttbDownsampler() {
+        // 유틸리티 클래스는 인스턴스화 금지
+    }
+
+    /**
+     * 남길 점의 인덱스를 고릅니다.
+     *
+     * @param x         x 값 (오름차순, 예: epoch day)
+     * @param series    y 값 시리즈 목록 (각 시리즈 길이는 x 와 같음)
+     * @param maxPoints 남길 최대 점 수 (3 이상)
+     * @return 남길 점의 인덱스 (오름차순, 점 수가 maxPoints 이하면 전체)
+     */
+    public static int[] select(double[] x, double[][] series, int maxPoints) {
+        int size = x.length;
+        if (maxPoints < 3) {
+            throw new IllegalArgumentException("maxPoints는 3 이상이어야 합니다: " + maxPoints);
+        }
+        if (size <= maxPoints) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        // 시리즈별 값 범위 (넓이 정규화용)
+        double[] ranges = new double[series.length];
+        for (int s = 0; s < series.length; s++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (double value : series[s]) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            ranges[s] = max > min ? max - min : 1;
+        }
+
+        int[] selected = new int[maxPoints];
+        double bucketSize = (double) (size - 2) / (maxPoints - 2);
+        int previous = 0; // 직전에 고른 점
+        selected[0] = 0;
+
+        double[] nextAverageY = new double[series.length];
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            // 다음 버킷 평균점 (마지막 버킷이면 마지막 점)
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            if (nextStart >= nextEnd) {
+                nextStart = size - 1;
+                nextEnd = size;
+            }
+            double nextAverageX = 0;
+            Arrays.fill(nextAverageY, 0);
+            for (int i = nextStart; i < nextEnd; i++) {
+                nextAverageX += x[i];
+                for (int s = 0; s < series.length; s++) {
+                    nextAverageY[s] += series[s][i];
+                }
+            }
+            int nextCount = nextEnd - nextStart;
+            nextAverageX /= nextCount;
+            for (int s = 0; s < series.length; s++) {
+                nextAverageY[s] /= nextCount;
+            }
+
+            // 현재 버킷에서 삼각형 넓이가 가장 큰 점
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = Math.min((int) Math.floor((bucket + 1) * bucketSize) + 1, size - 1);
+            int best = start;
+            double bestArea = -1;
+            for (int i = start; i < end; i++) {
+                double area = 0;
+                for (int s = 0; s < series.length; s++) {
+                    double previousY = series[s][previous];
+                    area += Math.abs((x[previous] - nextAverageX) * (series[s][i] - previousY)
+                            - (x[previous] - x[i]) * (nextAverageY[s] - previousY)) / ranges[s];
+                }
+                if (area > bestArea) {
+                    bestArea = area;
+                    best = i;
+                }
+            }
+            selected[bucket + 1] = best;
+            previous = best;
+        }
+
+        selected[maxPoints - 1] = size - 1;
+        return selected;
+    }
+}
@@ -2,6 +2,7 @@ package com.sysmatic2.finalbe.strategy.common;
 
 import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.MonthlyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
 import com.sysmatic2.finalbe.strategy.repository.MonthlyStatisticsRepository;
 import org.springframework.data.domain.Pageable;
@@ -9,9 +10,15 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.YearMonth;
-import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 월간 통계 계산기
+ *
+ * - 월간 통계는 해당 월의 누적 값(원금 합계, 일간 데이터 수, 입출금/손익 합계, 마지막 기준가)을 가지고 있어
+ *   일간 데이터가 추가될 때 해당 월 전체를 다시 조회하지 않고 O(1)로 갱신합니다.
+ * - 월 손익률과 월 누적 손익은 이전 월의 마지막 기준가와 월 누적 손익으로 계산합니다.
+ */
 public class MonthlyStatisticsCalculator {
 
     /**
@@ -27,208 +34,183 @@ public class MonthlyStatisticsCalculator {
                                                                        YearMonth currentMonth, MonthlyStatisticsRepository msp) {
         // 월간 통계 데이터가 이미 존재하면 반환, 없으면 새로운 데이터 생성
         return msp.findByStrategyIdAndAnalysisMonth(strategyId, currentMonth)
-                .orElseGet(() -> MonthlyStatisticsEntity.builder()
-                        .strategyEntity(dailyStatistics.getStrategyEntity()) // 전략 엔티티 설정
-                        .analysisMonth(currentMonth) // 현재 월 설정
-                        .monthlyAvgPrincipal(BigDecimal.ZERO) // 초기 월평균 원금
-                        .monthlyDepWdAmount(BigDecimal.ZERO) // 초기 월 입출금 총액
-                        .monthlyProfitLoss(BigDecimal.ZERO) // 초기 월 손익
-                        .monthlyReturn(BigDecimal.ZERO) // 초기 월 손익률
-                        .monthlyCumulativeProfitLoss(BigDecimal.ZERO) // 초기 월 누적 손익
-                        .monthlyCumulativeReturn(BigDecimal.ZERO) // 초기 월 누적 손익률
-                        .build());
+                .orElseGet(() -> createMonthlyStatistics(dailyStatistics.getStrategyEntity(), currentMonth));
     }
 
     /**
-     * 월평균 원금을 계산하는 메서드.
+     * 누적 값이 0인 새 월간 통계 데이터를 생성하는 메서드.
      *
-     * @param strategyId      전략 ID
-     * @param dailyStatistics 해당 일간 통계 데이터
-     * @param currentMonth    현재 월 (YearMonth)
-     * @param dsp             일간 통계 레포지토리
-     * @return 월평균 원금
+     * @param strategyEntity 전략 엔티티
+     * @param currentMonth   현재 월 (YearMonth)
+     * @return 새로 생성된 월간 통계 데이터
      */
-    public static BigDecimal calculateMonthlyAveragePrincipal(Long strategyId, DailyStatisticsEntity dailyStatistics,
-                                                              YearMonth currentMonth, DailyStatisticsRepository dsp) {
-        // 해당 월의 모든 일간 원금을 조회
-        List<BigDecimal> dailyPrincipals = dsp.findDailyPrincipalsByStrategyIdAndMonth(
-                strategyId, currentMonth.getYear(), currentMonth.getMonthValue());
-        // 데이터가 null인 경우 빈 리스트로 초기화
-        if (dailyPrincipals == null) {
-            dailyPrincipals = new ArrayList<>();
-        }
-        // 현재 원금을 리스트에 추가
-        dailyPrincipals.add(dailyStatistics.getPrincipal());
-
-        // 원금 리스트가 비어 있으면 0 반환, 그렇지 않으면 평균 계산
-        return dailyPrincipals.isEmpty()
-                ? BigDecimal.ZERO
-                : dailyPrincipals.stream()
-                .reduce(BigDecimal.ZERO, BigDecimal::add) // 원금 합산
-                .divide(BigDecimal.valueOf(dailyPrincipals.size()), 4, RoundingMode.HALF_UP); // 평균 계산 (소수점 4자리 반올림)
+    public static MonthlyStatisticsEntity createMonthlyStatistics(StrategyEntity strategyEntity, YearMonth currentMonth) {
+        return MonthlyStatisticsEntity.builder()
+                .strategyEntity(strategyEntity) // 전략 엔티티 설정
+                .analysisMonth(currentMonth) // 현재 월 설정
+                .monthlyAvgPrincipal(BigDecimal.ZERO) // 초기 월평균 원금
+                .monthlyDepWdAmount(BigDecimal.ZERO) // 초기 월 입출금 총액
+                .monthlyProfitLoss(BigDecimal.ZERO) // 초기 월 손익
+                .monthlyReturn(BigDecimal.ZERO) // 초기 월 손익률
+                .monthlyCumulativeProfitLoss(BigDecimal.ZERO) // 초기 월 누적 손익
+                .monthlyCumulativeReturn(BigDecimal.ZERO) // 초기 월 누적 손익률
+                .principalSum(BigDecimal.ZERO) // 초기 원금 합계
+                .dailyCount(0) // 초기 일간 데이터 수
+                .build();
     }
 
     /**
-     * 월 입출금 총액을 계산하는 메서드.
+     * 월간 통계 데이터에 누적 값이 있는지 확인하는 메서드.
      *
-     * @param strategyId      전략 ID
-     * @param dailyStatistics 해당 일간 통계 데이터
-     * @param currentMonth    현재 월 (YearMonth)
-     * @param dsp             일간 통계 레포지토리
-     * @return 월 입출금 총액
+     * @param monthlyStatistics 월간 통계 데이터
+     * @return 누적 값이 있으면 true (이전 버전에서 생성된 데이터는 false)
      */
-    public static BigDecimal calculateTotalDepWdAmount(Long strategyId, DailyStatisticsEntity dailyStatistics,
-                                                       YearMonth currentMonth, DailyStatisticsRepository dsp) {
-        // 해당 월의 모든 입출금 데이터를 조회
-        List<BigDecimal> depWdAmounts = dsp.findDailyDepWdAmountsByStrategyIdAndMonth(
-                strategyId, currentMonth.getYear(), currentMonth.getMonthValue());
-        // 데이터가 null인 경우 빈 리스트로 초기화
-        if (depWdAmounts == null) {
-            depWdAmounts = new ArrayList<>();
-        }
-        // 현재 입출금 금액을 리스트에 추가
-        depWdAmounts.add(dailyStatistics.getDepWdPrice());
-
-        // 입출금 데이터가 비어 있으면 0 반환, 그렇지 않으면 총합 계산
-        return depWdAmounts.isEmpty()
-                ? BigDecimal.ZERO
-                : depWdAmounts.stream().reduce(BigDecimal.ZERO, BigDecimal::add); // 총합 계산
+    public static boolean hasRunningTotals(MonthlyStatisticsEntity monthlyStatistics) {
+        return monthlyStatistics.getPrincipalSum() != null && monthlyStatistics.getDailyCount() != null;
     }
 
     /**
-     * 월 손익을 계산하는 메서드.
+     * 누적 값이 없는 월간 통계 데이터의 누적 값을 저장된 일간 데이터로 초기화하는 메서드. (월별 1회)
      *
-     * @param strategyId      전략 ID
-     * @param dailyStatistics 해당 일간 통계 데이터
-     * @param currentMonth    현재 월 (YearMonth)
-     * @param dsp             일간 통계 레포지토리
-     * @return 월 손익
+     * - 입출금 총액과 월 손익은 이미 해당 월의 합계이므로 그대로 사용합니다.
+     * - 마지막 일자는 알 수 없으므로 비워 두고, 이후 추가되는 일간 데이터를 마지막 데이터로 간주합니다.
+     *
+     * @param strategyId        전략 ID
+     * @param monthlyStatistics 초기화할 월간 통계 데이터
+     * @param dsp               일간 통계 레포지토리
      */
-    public static BigDecimal calculateTotalProfitLoss(Long strategyId, DailyStatisticsEntity dailyStatistics,
-                                                      YearMonth currentMonth, DailyStatisticsRepository dsp) {
-        // 해당 월의 모든 일간 손익 데이터를 조회
-        List<BigDecimal> profitLosses = dsp.findDailyProfitLossesByStrategyIdAndMonth(
-                strategyId, currentMonth.getYear(), currentMonth.getMonthValue());
-        // 데이터가 null인 경우 빈 리스트로 초기화
-        if (profitLosses == null) {
-            profitLosses = new ArrayList<>();
-        }
-        // 현재 일간 손익을 리스트에 추가
-        profitLosses.add(dailyStatistics.getDailyProfitLoss());
+    public static void initializeRunningTotals(Long strategyId, MonthlyStatisticsEntity monthlyStatistics,
+                                               DailyStatisticsRepository dsp) {
+        YearMonth month = monthlyStatistics.getAnalysisMonth();
+        List<BigDecimal> dailyPrincipals = dsp.findDailyPrincipalsByStrategyIdAndMonth(
+                strategyId, month.getYear(), month.getMonthValue());
 
-        // 손익 데이터가 비어 있으면 0 반환, 그렇지 않으면 총합 계산
-        return profitLosses.isEmpty()
-                ? BigDecimal.ZERO
-                : profitLosses.stream().reduce(BigDecimal.ZERO, BigDecimal::add); // 총합 계산
+        monthlyStatistics.setPrincipalSum(sum(dailyPrincipals));
+        monthlyStatistics.setDailyCount(dailyPrincipals == null ? 0 : dailyPrincipals.size());
+        monthlyStatistics.setLastReferencePrice(getPreviousMonthLastReferencePrice(strategyId, month, dsp));
+        monthlyStatistics.setLastDate(null);
     }
 
     /**
-     * 월 손익률을 계산하는 메서드.
+     * 월간 통계 데이터의 누적 값을 0으로 초기화하는 메서드. (일괄 재구성 시)
      *
-     * @param strategyId   전략 ID
-     * @param currentMonth 현재 월 (YearMonth)
-     * @param dsp          일간 통계 레포지토리
-     * @return 월 손익률
+     * @param monthlyStatistics 초기화할 월간 통계 데이터
      */
-    public static BigDecimal calculateMonthlyReturn(Long strategyId, YearMonth currentMonth,
-                                                    DailyStatisticsRepository dsp) {
-        // 이전 월 계산
-        YearMonth previousMonth = currentMonth.minusMonths(1);
-
-        // 이전 월 마지막 기준가 가져오기
-        BigDecimal previousReferencePrice = getPreviousMonthLastReferencePrice(strategyId, previousMonth, dsp);
+    public static void resetRunningTotals(MonthlyStatisticsEntity monthlyStatistics) {
+        monthlyStatistics.setPrincipalSum(BigDecimal.ZERO);
+        monthlyStatistics.setDailyCount(0);
+        monthlyStatistics.setMonthlyDepWdAmount(BigDecimal.ZERO);
+        monthlyStatistics.setMonthlyProfitLoss(BigDecimal.ZERO);
+        monthlyStatistics.setLastDate(null);
+        monthlyStatistics.setLastReferencePrice(null);
+    }
 
-        // 이전 기준가 검증: 0 이하일 경우 예외 처리
-        if (previousReferencePrice.compareTo(BigDecimal.ZERO) <= 0) {
-            return BigDecimal.ZERO;
+    /**
+     * 일간 데이터 1건을 월간 통계 누적 값에 반영하는 메서드.
+     *
+     * - 원금 합계, 일간 데이터 수, 입출금 총액, 월 손익을 더합니다.
+     * - 해당 월의 마지막 일자 이후 데이터인 경우에만 마지막 기준가를 갱신합니다.
+     *
+     * @param monthlyStatistics 월간 통계 데이터 (누적 값 필요)
+     * @param dailyStatistics   반영할 일간 통계 데이터
+     */
+    public static void appendDailyStatistics(MonthlyStatisticsEntity monthlyStatistics, DailyStatisticsEntity dailyStatistics) {
+        monthlyStatistics.setPrincipalSum(monthlyStatistics.getPrincipalSum().add(dailyStatistics.getPrincipal()));
+        monthlyStatistics.setDailyCount(monthlyStatistics.getDailyCount() + 1);
+        monthlyStatistics.setMonthlyDepWdAmount(monthlyStatistics.getMonthlyDepWdAmount().add(dailyStatistics.getDepWdPrice()));
+        monthlyStatistics.setMonthlyProfitLoss(monthlyStatistics.getMonthlyProfitLoss().add(dailyStatistics.getDailyProfitLoss()));
+
+        if (monthlyStatistics.getLastDate() == null || dailyStatistics.getDate().isAfter(monthlyStatistics.getLastDate())) {
+            monthlyStatistics.setLastDate(dailyStatistics.getDate());
+            monthlyStatistics.setLastReferencePrice(dailyStatistics.getReferencePrice());
         }
+    }
 
-        // 현재 월 마지막 기준가 가져오기
-        List<BigDecimal> lastReferencePrices = dsp.findLastReferencePriceByStrategyIdAndMonth(
-                strategyId, currentMonth.getYear(), currentMonth.getMonthValue(), Pageable.ofSize(1));
-
-        // 현재 기준가 검증: 데이터가 없으면 0 설정
-        BigDecimal currentReferencePrice = lastReferencePrices == null || lastReferencePrices.isEmpty()
+    /**
+     * 누적 값과 이전 월 값으로 월평균 원금, 월 손익률, 월 누적 손익, 월 누적 손익률을 계산하는 메서드.
+     *
+     * @param monthlyStatistics            월간 통계 데이터 (누적 값 필요)
+     * @param previousLastReferencePrice   이전 월 마지막 기준가 (없으면 0)
+     * @param previousCumulativeProfitLoss 이전 월까지의 월 누적 손익 (없으면 0)
+     */
+    public static void applyMonthlyMetrics(MonthlyStatisticsEntity monthlyStatistics,
+                                           BigDecimal previousLastReferencePrice,
+                                           BigDecimal previousCumulativeProfitLoss) {
+        BigDecimal lastReferencePrice = monthlyStatistics.getLastReferencePrice() == null
                 ? BigDecimal.ZERO
-                : lastReferencePrices.get(0);
+                : monthlyStatistics.getLastReferencePrice();
 
-        // 현재 기준가가 0 이하인 경우 월 손익률 0 반환
-        if (currentReferencePrice.compareTo(BigDecimal.ZERO) <= 0) {
-            return BigDecimal.ZERO;
-        }
-
-        // 월 손익률 = (현재 기준가 - 이전 기준가) / 이전 기준가
-        return currentReferencePrice.subtract(previousReferencePrice)
-                .divide(previousReferencePrice, 4, RoundingMode.HALF_UP);
+        monthlyStatistics.setMonthlyAvgPrincipal(
+                calculateMonthlyAveragePrincipal(monthlyStatistics.getPrincipalSum(), monthlyStatistics.getDailyCount()));
+        monthlyStatistics.setMonthlyReturn(calculateMonthlyReturn(lastReferencePrice, previousLastReferencePrice));
+        monthlyStatistics.setMonthlyCumulativeProfitLoss(previousCumulativeProfitLoss.add(monthlyStatistics.getMonthlyProfitLoss()));
+        monthlyStatistics.setMonthlyCumulativeReturn(calculateCumulativeReturn(lastReferencePrice));
     }
 
     /**
-     * 월 누적 손익을 계산하는 메서드.
-     *
-     * - 이전 월까지의 모든 월간 손익 데이터를 합산하여 월 누적 손익을 계산합니다.
-     * - 현재 일간 손익도 포함하여 계산합니다.
+     * 월평균 원금을 계산하는 메서드.
      *
-     * @param strategyId       전략 ID
-     * @param currentProfitLoss 현재 일간 손익
-     * @param msp              월간 통계 레포지토리
-     * @return 월 누적 손익
+     * @param principalSum 해당 월 일간 원금 합계
+     * @param dailyCount   해당 월 일간 데이터 수
+     * @return 월평균 원금 (소수점 4자리 반올림, 데이터가 없으면 0)
      */
-    public static BigDecimal calculateCumulativeProfitLoss(Long strategyId, BigDecimal currentProfitLoss,
-                                                           MonthlyStatisticsRepository msp) {
-        // 이전 월까지의 모든 월간 손익 데이터를 조회
-        List<BigDecimal> monthlyProfitLosses = msp.findAllMonthlyProfitLossByStrategyId(strategyId);
-
-        // 월간 손익 데이터를 합산 (데이터가 없으면 기본값 0으로 설정)
-        BigDecimal totalProfitLoss = monthlyProfitLosses == null || monthlyProfitLosses.isEmpty()
+    public static BigDecimal calculateMonthlyAveragePrincipal(BigDecimal principalSum, int dailyCount) {
+        return dailyCount <= 0
                 ? BigDecimal.ZERO
-                : monthlyProfitLosses.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+                : principalSum.divide(BigDecimal.valueOf(dailyCount), 4, RoundingMode.HALF_UP);
+    }
 
-        // 현재 일간 손익 추가
-        return totalProfitLoss.add(currentProfitLoss);
+    /**
+     * 월 손익률을 계산하는 메서드.
+     *
+     * @param lastReferencePrice         해당 월 마지막 기준가
+     * @param previousLastReferencePrice 이전 월 마지막 기준가
+     * @return 월 손익률 = (현재 기준가 - 이전 기준가) / 이전 기준가 (기준가가 0 이하이면 0)
+     */
+    public static BigDecimal calculateMonthlyReturn(BigDecimal lastReferencePrice, BigDecimal previousLastReferencePrice) {
+        // 이전 기준가 또는 현재 기준가가 0 이하인 경우 월 손익률 0 반환
+        if (previousLastReferencePrice.compareTo(BigDecimal.ZERO) <= 0 || lastReferencePrice.compareTo(BigDecimal.ZERO) <= 0) {
+            return BigDecimal.ZERO;
+        }
+
+        return lastReferencePrice.subtract(previousLastReferencePrice)
+                .divide(previousLastReferencePrice, 4, RoundingMode.HALF_UP);
     }
 
     /**
      * 월 누적 손익률을 계산하는 메서드.
      *
-     * - 현재 월의 마지막 기준가를 기준으로 초기 기준가와 비교하여 월 누적 손익률을 계산합니다.
-     *
-     * @param strategyId   전략 ID
-     * @param currentMonth 현재 월 (YearMonth)
-     * @param dsp          일간 통계 레포지토리
-     * @return 월 누적 손익률
+     * @param lastReferencePrice 해당 월 마지막 기준가
+     * @return 월 누적 손익률 = 마지막 기준가 / 1000 - 1 (기준가가 0 이하이면 0)
      */
-    public static BigDecimal calculateCumulativeReturn(Long strategyId, YearMonth currentMonth,
-                                                       DailyStatisticsRepository dsp) {
-        // 현재 월의 마지막 기준가를 조회
-        List<BigDecimal> lastReferencePrices = dsp.findLastReferencePriceByStrategyIdAndMonth(
-                strategyId, currentMonth.getYear(), currentMonth.getMonthValue(), Pageable.ofSize(1));
-
-        // 마지막 기준가 설정 (데이터가 없으면 기본값 0으로 설정)
-        BigDecimal lastReferencePrice = lastReferencePrices == null || lastReferencePrices.isEmpty()
-                ? BigDecimal.ZERO
-                : lastReferencePrices.get(0);
-
-        // 기준가가 유효한 경우 손익률 계산, 그렇지 않으면 기본값 0 반환
+    public static BigDecimal calculateCumulativeReturn(BigDecimal lastReferencePrice) {
         return lastReferencePrice.compareTo(BigDecimal.ZERO) > 0
                 ? lastReferencePrice.divide(BigDecimal.valueOf(1000), 4, RoundingMode.HALF_UP).subtract(BigDecimal.ONE)
                 : BigDecimal.ZERO;
     }
 
     /**
-     * 이전 월의 마지막 기준가를 가져오는 메서드.
+     * 월의 마지막 기준가를 가져오는 메서드. (누적 값이 없는 월간 통계 데이터용)
      *
      * @param strategyId    전략 ID
-     * @param previousMonth 이전 월 (YearMonth)
+     * @param previousMonth 조회할 월 (YearMonth)
      * @param dsp           일간 통계 레포지토리
-     * @return 이전 월의 마지막 기준가
+     * @return 해당 월의 마지막 기준가 (없으면 0)
      */
     public static BigDecimal getPreviousMonthLastReferencePrice(Long strategyId, YearMonth previousMonth,
                                                                 DailyStatisticsRepository dsp) {
-        // 이전 월의 마지막 기준가를 조회
+        // 해당 월의 마지막 기준가를 조회
         List<BigDecimal> referencePrices = dsp.findLastReferencePriceByStrategyIdAndMonth(
                 strategyId, previousMonth.getYear(), previousMonth.getMonthValue(), Pageable.ofSize(1));
 
         // 리스트가 비어 있으면 0 반환, 그렇지 않으면 첫 번째 값 반환
         return referencePrices == null || referencePrices.isEmpty() ? BigDecimal.ZERO : referencePrices.get(0);
     }
-}
\ No newline at end of file
+
+    // 합계 계산 (데이터가 없으면 0)
+    private static BigDecimal sum(List<BigDecimal> values) {
+        return values == null || values.isEmpty()
+                ? BigDecimal.ZERO
+                : values.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
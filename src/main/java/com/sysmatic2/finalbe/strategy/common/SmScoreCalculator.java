@@ -0,0 +1,56 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+
+/**
+ * SM-SCORE 계산기.
+ *
+ * - 전체 전략의 KP-RATIO 분포(평균, 표준편차)를 기준으로 표준정규누적분포값 * 100을 SM-SCORE로 계산합니다.
+ * - 전략 수만큼 BigDecimal/DTO를 만들지 않도록 primitive 배열로 계산합니다.
+ */
+public final class SmScoreCalculator {
+    // 표준정규분포 (누적분포값 계산만 사용하므로 난수 생성기 없이 한 번만 생성)
+    private static final NormalDistribution STANDARD_NORMAL = new NormalDistribution(null, 0, 1);
+
+    private SmScoreCalculator() {
+    }
+
+    /**
+     * KP-RATIO 배열로 SM-SCORE를 계산합니다.
+     *
+     * - 평균과 분산은 Welford 방식으로 한 번 순회하여 계산합니다. (모분산)
+     * - 표준편차가 0이면(전략이 1개이거나 모든 KP-RATIO가 같으면) 모든 SM-SCORE는 0입니다.
+     *
+     * @param kpRatios KP-RATIO 배열
+     * @param size     배열에서 사용할 데이터 개수
+     * @return SM-SCORE * 100 (소수점 둘째 자리까지 반올림한 값을 정수로 표현)
+     */
+    public static long[] calculateSmScoreCents(double[] kpRatios, int size) {
+        long[] smScoreCents = new long[size];
+        if (size == 0) {
+            return smScoreCents;
+        }
+
+        // 1. 평균 및 분산 계산 (한 번 순회)
+        double mean = 0;
+        double sumOfSquares = 0;
+        for (int i = 0; i < size; i++) {
+            double delta = kpRatios[i] - mean;
+            mean += delta / (i + 1);
+            sumOfSquares += delta * (kpRatios[i] - mean);
+        }
+        double stdDev = Math.sqrt(sumOfSquares / size);
+
+        // 2. 표준편차가 0인 경우 모든 SM-SCORE를 0으로 설정
+        if (stdDev == 0 || Double.isNaN(stdDev)) {
+            return smScoreCents;
+        }
+
+        // 3. SM-SCORE = 표준정규누적분포값((KP - 평균) / 표준편차) * 100
+        for (int i = 0; i < size; i++) {
+            double zScore = (kpRatios[i] - mean) / stdDev;
+            smScoreCents[i] = Math.round(STANDARD_NORMAL.cumulativeProbability(zScore) * 10000);
+        }
+        return smScoreCents;
+    }
+}
@@ -0,0 +1,63 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * SM-Score 정렬 전략 목록의 커서 (smScore 내림차순, strategyId 내림차순)
+ *
+ * - 마지막으로 받은 전략의 (smScore, strategyId) 를 담고, 다음 페이지는 그 뒤의 전략만 조회합니다.
+ * - 클라이언트에는 내부 값을 드러내지 않도록 Base64(URL) 문자열로 전달합니다.
+ *
+ * @param smScore    마지막 전략의 SM-Score
+ * @param strategyId 마지막 전략 ID
+ */
+public record StrategyCursor(BigDecimal smScore, Long strategyId) {
+    private static final String DELIMITER = ":";
+
+    /**
+     * 전략의 정렬 값으로 커서를 만듭니다.
+     *
+     * @param strategy 마지막으로 반환한 전략
+     * @return 커서
+     */
+    public static StrategyCursor of(StrategyEntity strategy) {
+        return new StrategyCursor(strategy.getSmScore(), strategy.getStrategyId());
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param cursor 커서 문자열 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 커서 (첫 페이지이면 null)
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static StrategyCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            if (values.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new StrategyCursor(new BigDecimal(values[0]), Long.valueOf(values[1]));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * 커서를 문자열로 만듭니다.
+     *
+     * @return Base64(URL) 커서 문자열
+     */
+    public String encode() {
+        String value = smScore.toPlainString() + DELIMITER + strategyId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
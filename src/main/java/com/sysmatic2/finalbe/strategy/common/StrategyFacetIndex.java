@@ -0,0 +1,460 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
+import com.sysmatic2.finalbe.strategy.dto.StrategyFacetSearchResultDto;
+import com.sysmatic2.finalbe.strategy.dto.StrategySuggestionDto;
+import com.sysmatic2.finalbe.strategy.repository.StrategySummaryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 게시/승인 전략 상세 검색용 메모리 필터 인덱스
+ *
+ * - 전략을 SM-Score, 전략 ID 내림차순으로 번호(0..n-1)를 매기고, 매매유형/매매주기/투자자산 분류/운용상태 값마다 BitSet 을 둡니다.
+ * - SM-Score, MDD, 누적손익률, 원금, 작성일시, 최초/최신 일자는 값 순으로 정렬한 컬럼으로 두고 범위 조건을 이진 탐색으로 BitSet 으로 만듭니다.
+ * - 조건 BitSet 을 AND 한 뒤 앞에서부터 읽으면 SM-Score 순 페이지가 되므로 DB 조회 없이 검색합니다.
+ * - 키워드는 전략명/작성자 닉네임의 글자 n-gram 역색인({@link StrategyKeywordIndex})으로 찾습니다.
+ * - 전략 요약이 갱신되는 변경(등록/수정/승인/삭제, 일간 데이터, 팔로우)과 SM-Score 일괄 갱신 시 커밋 후 무효화하고, 다음 검색 때 다시 만듭니다.
+ * - 생성은 호출한 곳의 트랜잭션이 아닌 새 읽기 트랜잭션(READ_COMMITTED)에서 커밋된 최신 값으로 수행합니다.
+ * - 무효화는 같은 서버의 변경에만 반응하므로, 다른 서버의 변경은 보관 기간(ttl-millis)이 지나 다시 만들 때 반영됩니다.
+ */
+@Component
+public class StrategyFacetIndex {
+    public static final String TRADING_TYPES = "tradingTypes";
+    public static final String TRADING_CYCLES = "tradingCycles";
+    public static final String INVESTMENT_ASSET_CLASSES = "investmentAssetClasses";
+    public static final String STRATEGY_OPERATION_STATUSES = "strategyOperationStatuses";
+
+    private static final BigDecimal RETURN_RATE_LOW = BigDecimal.valueOf(0.10);
+    private static final BigDecimal RETURN_RATE_HIGH = BigDecimal.valueOf(0.30);
+
+    private final StrategySummaryRepository strategySummaryRepository;
+    private final TransactionTemplate buildTransaction; // 생성용 새 읽기 트랜잭션
+    private final long ttlNanos; // 보관 기간 (0 이하면 만료 없음)
+
+    private volatile Snapshot snapshot; // null이면 다음 검색 때 다시 만듦
+    private long generation; // 무효화할 때마다 증가 (생성 중 변경 감지)
+
+    public StrategyFacetIndex(StrategySummaryRepository strategySummaryRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${strategy.facet-index.ttl-millis:60000}") long ttlMillis) {
+        this.strategySummaryRepository = strategySummaryRepository;
+        this.buildTransaction = new TransactionTemplate(transactionManager);
+        this.buildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.buildTransaction.setReadOnly(true);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * 상세 검색 조건으로 전략 ID 한 페이지와 필터 항목별 전략 수를 조회합니다.
+     *
+     * @param options 상세 검색 조건
+     * @param offset  건너뛸 전략 수
+     * @param limit   조회할 최대 전략 수
+     * @return 전략 ID 페이지, 전체 수, 필터 항목별 전략 수
+     */
+    public StrategyFacetSearchResultDto search(SearchOptionsDto options, long offset, int limit) {
+        Snapshot current = current();
+
+        // 1. 조건마다 BitSet 을 만들고 모두 AND
+        Map<String, BitSet> conditions = current.conditions(options, LocalDateTime.now());
+        BitSet matched = current.matchAll(conditions, null);
+
+        // 2. 순번 순서가 SM-Score 순이므로 앞에서부터 한 페이지
+        List<Long> strategyIds = new ArrayList<>(limit);
+        long skipped = 0;
+        for (int i = matched.nextSetBit(0); i >= 0 && strategyIds.size() < limit; i = matched.nextSetBit(i + 1)) {
+            if (skipped++ < offset) {
+                continue;
+            }
+            strategyIds.add(current.strategyIds[i]);
+        }
+
+        // 3. 필터 항목별 전략 수 (해당 항목 조건만 뺀 나머지 조건 기준)
+        Map<String, Map<Object, Integer>> facetCounts = new LinkedHashMap<>();
+        facetCounts.put(TRADING_TYPES, current.facetCounts(TRADING_TYPES, current.byTradingType, conditions));
+        facetCounts.put(TRADING_CYCLES, current.facetCounts(TRADING_CYCLES, current.byTradingCycle, conditions));
+        facetCounts.put(INVESTMENT_ASSET_CLASSES, current.facetCounts(INVESTMENT_ASSET_CLASSES, current.byInvestmentAssetClasses, conditions));
+        facetCounts.put(STRATEGY_OPERATION_STATUSES, current.facetCounts(STRATEGY_OPERATION_STATUSES, current.byStatus, conditions));
+
+        return new StrategyFacetSearchResultDto(strategyIds, matched.cardinality(), facetCounts);
+    }
+
+    /**
+     * 전략명 또는 작성자 닉네임에 키워드가 포함된 전략 ID 한 페이지를 관련도 순으로 조회합니다.
+     *
+     * - 전략명 일치 > 전략명 시작 > 전략명 포함 > 닉네임 시작 > 닉네임 포함 순이고, 같은 관련도는 SM-Score 순입니다.
+     * - 키워드가 비어 있으면 전체 전략을 SM-Score 순으로 반환합니다.
+     *
+     * @param keyword 검색 키워드
+     * @param offset  건너뛸 전략 수
+     * @param limit   조회할 최대 전략 수
+     * @return 전략 ID 페이지, 전체 수 (필터 항목별 전략 수는 비어 있음)
+     */
+    public StrategyFacetSearchResultDto searchKeyword(String keyword, long offset, int limit) {
+        Snapshot current = current();
+        int[] ranked = current.keywordIndex.rank(keyword, current.keywordIndex.match(keyword));
+
+        List<Long> strategyIds = new ArrayList<>(limit);
+        for (long i = offset; i < ranked.length && strategyIds.size() < limit; i++) {
+            strategyIds.add(current.strategyIds[ranked[(int) i]]);
+        }
+        return new StrategyFacetSearchResultDto(strategyIds, ranked.length, Collections.emptyMap());
+    }
+
+    /**
+     * 전략명 또는 작성자 닉네임이 입력어로 시작하는 전략을 SM-Score 순으로 조회합니다. (검색어 자동완성)
+     *
+     * @param prefix 입력어
+     * @param limit  최대 개수
+     * @return 자동완성 항목 목록
+     */
+    public List<StrategySuggestionDto> suggest(String prefix, int limit) {
+        Snapshot current = current();
+        List<StrategySuggestionDto> suggestions = new ArrayList<>();
+        for (int ordinal : current.keywordIndex.suggest(prefix, limit)) {
+            suggestions.add(new StrategySuggestionDto(current.strategyIds[ordinal],
+                    current.displayTitles[ordinal], current.displayNicknames[ordinal]));
+        }
+        return suggestions;
+    }
+
+    /**
+     * 인덱스를 무효화합니다. (다음 검색 때 다시 만듦)
+     */
+    public synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 인덱스를 무효화합니다. (트랜잭션 밖이면 바로 무효화)
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        // 트랜잭션마다 한 번만 등록
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(PendingInvalidation.class::isInstance);
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(new PendingInvalidation());
+        }
+    }
+
+    // 현재 인덱스 (없거나 보관 기간이 지났으면 DB 값으로 생성)
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        long buildingGeneration;
+        synchronized (this) {
+            if (isFresh(snapshot)) {
+                return snapshot;
+            }
+            buildingGeneration = generation;
+        }
+
+        // DB 조회는 잠금 밖에서, 새 읽기 트랜잭션으로 수행 (호출한 곳의 트랜잭션 스냅샷보다 이후에 커밋된 변경도 읽음)
+        Snapshot built = buildTransaction.execute(status -> new Snapshot(strategySummaryRepository.findFacetRows(),
+                strategySummaryRepository.findFacetInvestmentAssetClasses()));
+        synchronized (this) {
+            // 생성 중 무효화되었으면 보관하지 않음 (이번 검색에만 사용)
+            if (generation == buildingGeneration) {
+                snapshot = built;
+            }
+        }
+        return built;
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null && (ttlNanos <= 0 || System.nanoTime() - current.builtAt <= ttlNanos);
+    }
+
+    // 커밋 후 무효화
+    private class PendingInvalidation implements TransactionSynchronization {
+        @Override
+        public void afterCommit() {
+            invalidate();
+        }
+    }
+
+    /**
+     * 특정 시점의 인덱스 (생성 후 변경하지 않음)
+     */
+    static final class Snapshot {
+        final long[] strategyIds; // 순번별 전략 ID
+        final String[] displayTitles; // 순번별 전략명
+        final String[] displayNicknames; // 순번별 작성자 닉네임
+        final StrategyKeywordIndex keywordIndex;
+        final Map<Object, BitSet> byTradingType = new TreeMap<>();
+        final Map<Object, BitSet> byTradingCycle = new TreeMap<>();
+        final Map<Object, BitSet> byInvestmentAssetClasses = new TreeMap<>();
+        final Map<Object, BitSet> byStatus = new TreeMap<>();
+        final Map<String, BitSet> byMinInvestmentAmount = new HashMap<>();
+        final SortedColumn<BigDecimal> smScore;
+        final SortedColumn<BigDecimal> maxDrawdownRate;
+        final SortedColumn<BigDecimal> cumulativeProfitLossRate;
+        final SortedColumn<BigDecimal> principal;
+        final SortedColumn<LocalDateTime> writedAt;
+        final SortedColumn<LocalDate> earliestDate;
+        final SortedColumn<LocalDate> latestDate;
+        final long builtAt = System.nanoTime(); // 생성 시각 (보관 기간 판단)
+
+        Snapshot(List<Object[]> rows, List<Object[]> investmentAssetClassRows) {
+            int size = rows.size();
+            strategyIds = new long[size];
+            displayTitles = new String[size];
+            displayNicknames = new String[size];
+            String[] titles = new String[size];
+            String[] nicknames = new String[size];
+            Map<Long, Integer> ordinals = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                Object[] row = rows.get(i);
+                strategyIds[i] = (Long) row[0];
+                ordinals.put(strategyIds[i], i);
+                add(byTradingType, row[2], i);
+                add(byTradingCycle, row[3], i);
+                add(byStatus, row[4], i);
+                add(byMinInvestmentAmount, (String) row[5], i);
+                displayTitles[i] = (String) row[7];
+                displayNicknames[i] = (String) row[13];
+                titles[i] = StrategyKeywordIndex.normalize(displayTitles[i]);
+                nicknames[i] = StrategyKeywordIndex.normalize(displayNicknames[i]);
+            }
+            keywordIndex = new StrategyKeywordIndex(titles, nicknames);
+            for (Object[] row : investmentAssetClassRows) {
+                Integer ordinal = ordinals.get((Long) row[0]);
+                if (ordinal != null) {
+                    add(byInvestmentAssetClasses, row[1], ordinal);
+                }
+            }
+            smScore = new SortedColumn<>(column(rows, 1, BigDecimal.class));
+            writedAt = new SortedColumn<>(column(rows, 6, LocalDateTime.class));
+            maxDrawdownRate = new SortedColumn<>(column(rows, 8, BigDecimal.class));
+            cumulativeProfitLossRate = new SortedColumn<>(column(rows, 9, BigDecimal.class));
+            earliestDate = new SortedColumn<>(column(rows, 10, LocalDate.class));
+            latestDate = new SortedColumn<>(column(rows, 11, LocalDate.class));
+            principal = new SortedColumn<>(column(rows, 12, BigDecimal.class));
+        }
+
+        // 검색 조건별 BitSet (조건이 있는 항목만)
+        Map<String, BitSet> conditions(SearchOptionsDto options, LocalDateTime now) {
+            Map<String, BitSet> conditions = new LinkedHashMap<>();
+
+            // 목록 항목 (항목 안에서는 OR)
+            putAny(conditions, TRADING_TYPES, byTradingType, options.getTradingTypeIdList());
+            putAny(conditions, TRADING_CYCLES, byTradingCycle, options.getTradingCylcleIdList());
+            putAny(conditions, INVESTMENT_ASSET_CLASSES, byInvestmentAssetClasses, options.getInvestmentAssetClassesIdList());
+            putAny(conditions, STRATEGY_OPERATION_STATUSES, byStatus, options.getStrategyOperationStatusList());
+
+            // 최소 운용 가능 금액
+            if (options.getMinInvestmentAmount() != null) {
+                conditions.put("minInvestmentAmount", copy(byMinInvestmentAmount.get(options.getMinInvestmentAmount())));
+            }
+
+            // 키워드 (전략명 또는 작성자 닉네임 포함, 대소문자 무시)
+            if (!StrategyKeywordIndex.normalize(options.getKeyword()).isEmpty()) {
+                conditions.put("keyword", keywordIndex.match(options.getKeyword()));
+            }
+
+            // 운용 기간 (작성일시 기준, 항목 안에서는 OR)
+            if (options.getOperationDaysList() != null && !options.getOperationDaysList().isEmpty()) {
+                BitSet bits = new BitSet(strategyIds.length);
+                for (Integer days : options.getOperationDaysList()) {
+                    switch (days) {
+                        case 0 -> bits.or(writedAt.range(now.minusYears(1), false, null, false)); // 1년 미만
+                        case 1 -> bits.or(writedAt.range(now.minusYears(2), true, now.minusYears(1), true)); // 1년 ~ 2년
+                        case 2 -> bits.or(writedAt.range(now.minusYears(3), true, now.minusYears(2), true)); // 2년 ~ 3년
+                        case 3 -> bits.or(writedAt.range(null, false, now.minusYears(3), false)); // 3년 이상
+                        default -> { }
+                    }
+                }
+                conditions.put("operationDays", bits);
+            }
+
+            // 최신 원금
+            if (options.getMinPrincipal() != null || options.getMaxPrincipal() != null) {
+                conditions.put("principal", principal.range(options.getMinPrincipal(), true, options.getMaxPrincipal(), true));
+            }
+
+            // SM-Score
+            if (options.getMinSmscore() != null || options.getMaxSmscore() != null) {
+                conditions.put("smScore", smScore.range(
+                        options.getMinSmscore() == null ? null : BigDecimal.valueOf(options.getMinSmscore()), true,
+                        options.getMaxSmscore() == null ? null : BigDecimal.valueOf(options.getMaxSmscore()), true));
+            }
+
+            // 최신 MDD
+            if (options.getMinMdd() != null || options.getMaxMdd() != null) {
+                conditions.put("mdd", maxDrawdownRate.range(options.getMinMdd(), true, options.getMaxMdd(), true));
+            }
+
+            // 운용 기간(최초 ~ 최신 일자)이 해당 기간과 겹치는 전략
+            if (options.getStartDate() != null && options.getEndDate() != null) {
+                BitSet bits = earliestDate.range(null, false, options.getEndDate(), true);
+                bits.and(latestDate.range(options.getStartDate(), true, null, false));
+                conditions.put("dateRange", bits);
+            }
+
+            // 최신 누적손익률 구간 (항목 안에서는 OR, 알 수 없는 구간은 무시)
+            if (options.getReturnRateList() != null && !options.getReturnRateList().isEmpty()) {
+                BitSet bits = new BitSet(strategyIds.length);
+                boolean filtered = false;
+                for (Integer rate : options.getReturnRateList()) {
+                    switch (rate) {
+                        case 1 -> bits.or(cumulativeProfitLossRate.range(null, false, RETURN_RATE_LOW, true)); // 10% 이하
+                        case 2 -> bits.or(cumulativeProfitLossRate.range(RETURN_RATE_LOW, false, RETURN_RATE_HIGH, false)); // 10% 초과 ~ 30% 미만
+                        case 3 -> bits.or(cumulativeProfitLossRate.range(RETURN_RATE_HIGH, true, null, false)); // 30% 이상
+                        default -> {
+                            continue;
+                        }
+                    }
+                    filtered = true;
+                }
+                if (filtered) {
+                    conditions.put("returnRate", bits);
+                }
+            }
+            return conditions;
+        }
+
+        // 전체 전략 중 조건을 모두 만족하는 전략 (except 항목 조건은 제외)
+        BitSet matchAll(Map<String, BitSet> conditions, String except) {
+            BitSet matched = new BitSet(strategyIds.length);
+            matched.set(0, strategyIds.length);
+            conditions.forEach((name, bits) -> {
+                if (!name.equals(except)) {
+                    matched.and(bits);
+                }
+            });
+            return matched;
+        }
+
+        // 항목 값별 전략 수
+        Map<Object, Integer> facetCounts(String name, Map<Object, BitSet> facet, Map<String, BitSet> conditions) {
+            BitSet base = matchAll(conditions, name);
+            Map<Object, Integer> counts = new LinkedHashMap<>();
+            facet.forEach((value, bits) -> {
+                BitSet intersection = (BitSet) bits.clone();
+                intersection.and(base);
+                counts.put(value, intersection.cardinality());
+            });
+            return counts;
+        }
+
+        private void putAny(Map<String, BitSet> conditions, String name, Map<Object, BitSet> facet, List<?> values) {
+            if (values == null || values.isEmpty()) {
+                return;
+            }
+            BitSet bits = new BitSet(strategyIds.length);
+            for (Object value : values) {
+                BitSet valueBits = facet.get(value);
+                if (valueBits != null) {
+                    bits.or(valueBits);
+                }
+            }
+            conditions.put(name, bits);
+        }
+
+        private static <K> void add(Map<K, BitSet> facet, K value, int ordinal) {
+            if (value != null) {
+                facet.computeIfAbsent(value, key -> new BitSet()).set(ordinal);
+            }
+        }
+
+        private static BitSet copy(BitSet bits) {
+            return bits == null ? new BitSet() : (BitSet) bits.clone();
+        }
+
+        private static <T> List<T> column(List<Object[]> rows, int index, Class<T> type) {
+            List<T> values = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                values.add(type.cast(row[index]));
+            }
+            return values;
+        }
+    }
+
+    /**
+     * 값 순으로 정렬한 숫자/일자 컬럼 (값이 없는 순번은 제외)
+     */
+    static final class SortedColumn<T extends Comparable<? super T>> {
+        private final List<T> values; // 오름차순 값
+        private final int[] ordinals; // 값별 순번
+
+        SortedColumn(List<T> columnValues) {
+            List<Integer> order = new ArrayList<>(columnValues.size());
+            for (int i = 0; i < columnValues.size(); i++) {
+                if (columnValues.get(i) != null) {
+                    order.add(i);
+                }
+            }
+            order.sort(Comparator.comparing((Function<Integer, T>) columnValues::get));
+            this.values = new ArrayList<>(order.size());
+            this.ordinals = new int[order.size()];
+            for (int i = 0; i < order.size(); i++) {
+                values.add(columnValues.get(order.get(i)));
+                ordinals[i] = order.get(i);
+            }
+        }
+
+        /**
+         * 범위에 있는 순번을 BitSet 으로 반환합니다. (경계가 null이면 해당 방향 제한 없음)
+         */
+        BitSet range(T min, boolean minInclusive, T max, boolean maxInclusive) {
+            int from = min == null ? 0 : (minInclusive ? lowerBound(min) : upperBound(min));
+            int to = max == null ? values.size() : (maxInclusive ? upperBound(max) : lowerBound(max));
+            BitSet bits = new BitSet();
+            for (int i = from; i < to; i++) {
+                bits.set(ordinals[i]);
+            }
+            return bits;
+        }
+
+        // key 이상인 첫 위치
+        private int lowerBound(T key) {
+            int low = 0;
+            int high = values.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values.get(mid).compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // key 초과인 첫 위치
+        private int upperBound(T key) {
+            int low = 0;
+            int high = values.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values.get(mid).compareTo(key) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import java.util.*;
+
+/**
+ * 전략명/트레이더 닉네임 키워드 검색용 글자 n-gram 역색인
+ *
+ * - 전략명과 닉네임(소문자)의 글자 하나(1-gram)와 이웃한 두 글자(2-gram)마다 해당 순번 목록을 오름차순으로 둡니다.
+ *   형태소 분석 없이 한글도 부분 일치로 찾을 수 있습니다.
+ * - 키워드의 2-gram 순번 목록을 가장 짧은 것부터 교집합한 뒤, 후보만 실제로 포함하는지 확인하므로
+ *   검색 비용은 전체 전략 수가 아니라 가장 드문 2-gram 의 전략 수에 비례합니다.
+ * - 순번은 필터 인덱스와 같은 SM-Score, 전략 ID 내림차순이므로 같은 관련도 안에서는 SM-Score 순입니다.
+ */
+final class StrategyKeywordIndex {
+    // 관련도 (값이 클수록 앞)
+    static final int TITLE_EQUALS = 5;
+    static final int TITLE_PREFIX = 4;
+    static final int TITLE_CONTAINS = 3;
+    static final int NICKNAME_PREFIX = 2;
+    static final int NICKNAME_CONTAINS = 1;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final int size;
+    private final String[] titles; // 순번별 전략명 (소문자)
+    private final String[] nicknames; // 순번별 작성자 닉네임 (소문자)
+    private final Map<String, int[]> postings; // n-gram 별 순번 (오름차순)
+
+    StrategyKeywordIndex(String[] titles, String[] nicknames) {
+        this.size = titles.length;
+        this.titles = titles;
+        this.nicknames = nicknames;
+
+        Map<String, List<Integer>> building = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Set<String> grams = new HashSet<>();
+            addGrams(grams, titles[i]);
+            addGrams(grams, nicknames[i]);
+            for (String gram : grams) {
+                building.computeIfAbsent(gram, key -> new ArrayList<>()).add(i); // 순번 순으로 추가되므로 정렬 불필요
+            }
+        }
+        this.postings = new HashMap<>(building.size() * 2);
+        building.forEach((gram, ordinals) -> postings.put(gram, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * 전략명 또는 닉네임에 키워드가 포함된 순번을 반환합니다. (대소문자 무시)
+     *
+     * @param keyword 검색 키워드
+     * @return 일치하는 순번
+     */
+    BitSet match(String keyword) {
+        String normalized = normalize(keyword);
+        BitSet matched = new BitSet(size);
+        if (normalized.isEmpty()) {
+            matched.set(0, size);
+            return matched;
+        }
+        for (int ordinal : candidates(normalized)) {
+            if (titles[ordinal].contains(normalized) || nicknames[ordinal].contains(normalized)) {
+                matched.set(ordinal);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 일치한 순번을 관련도 순으로 정렬합니다. (같은 관련도는 순번 순 = SM-Score 순)
+     *
+     * @param keyword 검색 키워드
+     * @param matched {@link #match(String)} 결과 (다른 조건과 AND 한 결과도 가능)
+     * @return 관련도 순 순번
+     */
+    int[] rank(String keyword, BitSet matched) {
+        String normalized = normalize(keyword);
+        int[] ranked = new int[matched.cardinality()];
+        if (normalized.isEmpty()) {
+            int n = 0;
+            for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                ranked[n++] = i;
+            }
+            return ranked;
+        }
+
+        // 관련도별 개수를 센 뒤 자리를 나눠 채움 (정렬 없이 O(일치 수))
+        int[] scores = new int[ranked.length];
+        int[] counts = new int[TITLE_EQUALS + 1];
+        int n = 0;
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            scores[n] = score(i, normalized);
+            counts[scores[n]]++;
+            ranked[n++] = i;
+        }
+        int[] starts = new int[TITLE_EQUALS + 1];
+        for (int score = TITLE_EQUALS - 1; score >= 0; score--) {
+            starts[score] = starts[score + 1] + counts[score + 1];
+        }
+        int[] ordered = new int[ranked.length];
+        for (int i = 0; i < ranked.length; i++) {
+            ordered[starts[scores[i]]++] = ranked[i];
+        }
+        return ordered;
+    }
+
+    /**
+     * 전략명 또는 닉네임이 입력어로 시작하는 순번을 SM-Score 순으로 최대 limit 개 반환합니다. (자동완성)
+     *
+     * @param prefix 입력어
+     * @param limit  최대 개수
+     * @return 순번
+     */
+    int[] suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return EMPTY;
+        }
+        int[] suggested = new int[limit];
+        int n = 0;
+        for (int ordinal : candidates(normalized)) {
+            if (titles[ordinal].startsWith(normalized) || nicknames[ordinal].startsWith(normalized)) {
+                suggested[n++] = ordinal;
+                if (n == limit) {
+                    break;
+                }
+            }
+        }
+        return Arrays.copyOf(suggested, n);
+    }
+
+    // 키워드의 모든 n-gram 을 가진 순번 (오름차순, 실제 포함 여부는 확인 전)
+    private int[] candidates(String keyword) {
+        Set<String> grams = new HashSet<>();
+        if (keyword.length() == 1) {
+            grams.add(keyword);
+        } else {
+            for (int i = 0; i + 1 < keyword.length(); i++) {
+                grams.add(keyword.substring(i, i + 2));
+            }
+        }
+
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            int[] ordinals = postings.get(gram);
+            if (ordinals == null) {
+                return EMPTY;
+            }
+            lists.add(ordinals);
+        }
+        lists.sort(Comparator.comparingInt(ordinals -> ordinals.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private int score(int ordinal, String keyword) {
+        String title = titles[ordinal];
+        if (title.equals(keyword)) {
+            return TITLE_EQUALS;
+        }
+        if (title.startsWith(keyword)) {
+            return TITLE_PREFIX;
+        }
+        if (title.contains(keyword)) {
+            return TITLE_CONTAINS;
+        }
+        return nicknames[ordinal].startsWith(keyword) ? NICKNAME_PREFIX : NICKNAME_CONTAINS;
+    }
+
+    // 짧은 목록의 값마다 긴 목록에서 이진 탐색 (긴 목록은 앞으로만 좁혀 감)
+    private static int[] intersect(int[] shorter, int[] longer) {
+        int[] result = new int[shorter.length];
+        int n = 0;
+        int from = 0;
+        for (int value : shorter) {
+            int found = Arrays.binarySearch(longer, from, longer.length, value);
+            if (found >= 0) {
+                result[n++] = value;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+            if (from >= longer.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private static void addGrams(Set<String> grams, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase();
+    }
+}
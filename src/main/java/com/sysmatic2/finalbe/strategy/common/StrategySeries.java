@@ -0,0 +1,169 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 전략 일간 시계열 (컬럼형, 불변)
+ *
+ * - 일자는 epoch day(int), 값은 DB 컬럼 scale(10) 기준의 정수(long)로 저장합니다.
+ * - 조회 시 같은 scale 의 BigDecimal 로 복원하므로 DB 에서 읽은 값과 같습니다.
+ */
+public final class StrategySeries {
+    static final int SCALE = 10; // daily_statistics 컬럼 scale
+
+    /**
+     * 캐시하는 컬럼 (일간 통계 필드명)
+     */
+    public enum Column {
+        REFERENCE_PRICE("referencePrice"), // 기준가
+        CUMULATIVE_PROFIT_LOSS_RATE("cumulativeProfitLossRate"), // 누적손익률
+        DAILY_PL_RATE("dailyPlRate"), // 일손익률
+        CURRENT_DRAWDOWN_RATE("currentDrawdownRate"); // 현재자본인하율
+
+        private final String fieldName;
+
+        Column(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        /**
+         * @param fieldName 일간 통계 필드명 (차트 옵션)
+         * @return 캐시하는 컬럼 (캐시하지 않는 필드면 empty)
+         */
+        public static Optional<Column> fromFieldName(String fieldName) {
+            for (Column column : values()) {
+                if (column.fieldName.equals(fieldName)) {
+                    return Optional.of(column);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final int[] epochDays;
+    private final long[][] columns; // [컬럼][일자 인덱스]
+    private volatile Sample sample; // 마지막 다운샘플링 결과 (목록 그래프용)
+
+    private record Sample(Column column, int maxPoints, List<BigDecimal> values) {
+    }
+
+    private StrategySeries(int[] epochDays, long[][] columns) {
+        this.epochDays = epochDays;
+        this.columns = columns;
+    }
+
+    /**
+     * 날짜 오름차순 조회 결과로 시계열을 만듭니다.
+     *
+     * @param rows 날짜 오름차순 행 (일자, 기준가, 누적손익률, 일손익률, 현재자본인하율)
+     * @return 시계열 (값이 long 범위를 넘으면 empty - 캐시하지 않음)
+     */
+    public static Optional<StrategySeries> fromRows(List<Object[]> rows) {
+        return fromRows(rows, 0);
+    }
+
+    /**
+     * 날짜 오름차순 조회 결과로 시계열을 만듭니다. (앞쪽 offset 개 컬럼은 건너뜀)
+     *
+     * @param rows   날짜 오름차순 행 (offset 위치부터 일자, 기준가, 누적손익률, 일손익률, 현재자본인하율)
+     * @param offset 일자 컬럼 위치 (예: 전략 ID 가 앞에 있으면 1)
+     * @return 시계열 (값이 long 범위를 넘으면 empty - 캐시하지 않음)
+     */
+    static Optional<StrategySeries> fromRows(List<Object[]> rows, int offset) {
+        int size = rows.size();
+        int[] epochDays = new int[size];
+        long[][] columns = new long[Column.values().length][size];
+        try {
+            for (int i = 0; i < size; i++) {
+                Object[] row = rows.get(i);
+                epochDays[i] = Math.toIntExact(((LocalDate) row[offset]).toEpochDay());
+                for (int c = 0; c < columns.length; c++) {
+                    columns[c][i] = ((BigDecimal) row[offset + c + 1]).setScale(SCALE).unscaledValue().longValueExact();
+                }
+            }
+        } catch (ArithmeticException e) {
+            return Optional.empty();
+        }
+        return Optional.of(new StrategySeries(epochDays, columns));
+    }
+
+    /**
+     * @return 일자 수
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * @return 일자 리스트 (오름차순)
+     */
+    public List<LocalDate> dates() {
+        List<LocalDate> result = new ArrayList<>(epochDays.length);
+        for (int epochDay : epochDays) {
+            result.add(LocalDate.ofEpochDay(epochDay));
+        }
+        return result;
+    }
+
+    /**
+     * @param column 컬럼
+     * @return 날짜 오름차순 값 리스트
+     */
+    public List<BigDecimal> values(Column column) {
+        long[] values = columns[column.ordinal()];
+        List<BigDecimal> result = new ArrayList<>(values.length);
+        for (long value : values) {
+            result.add(BigDecimal.valueOf(value, SCALE));
+        }
+        return result;
+    }
+
+    /**
+     * 컬럼 값을 최대 maxPoints 개로 줄여 반환합니다. (LTTB, 첫/마지막 값 유지)
+     *
+     * - 시계열은 불변이므로 결과를 보관해 두고, 같은 컬럼/점 수로 다시 요청하면 그대로 반환합니다.
+     *
+     * @param column    컬럼
+     * @param maxPoints 최대 점 수 (3 이상)
+     * @return 날짜 오름차순 값 리스트 (수정 불가)
+     */
+    public List<BigDecimal> sample(Column column, int maxPoints) {
+        Sample cached = sample;
+        if (cached != null && cached.column() == column && cached.maxPoints() == maxPoints) {
+            return cached.values();
+        }
+
+        long[] values = columns[column.ordinal()];
+        double[] x = new double[values.length];
+        double[][] y = new double[1][values.length];
+        for (int i = 0; i < values.length; i++) {
+            x[i] = epochDays[i];
+            y[0][i] = values[i];
+        }
+        int[] selected = LttbDownsampler.select(x, y, maxPoints);
+        List<BigDecimal> result = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            result.add(BigDecimal.valueOf(values[index], SCALE));
+        }
+
+        List<BigDecimal> sampled = Collections.unmodifiableList(result);
+        sample = new Sample(column, maxPoints, sampled);
+        return sampled;
+    }
+
+    /**
+     * @param column 컬럼
+     * @param date   일자
+     * @return 해당 일자의 값 (데이터가 없으면 empty)
+     */
+    public Optional<BigDecimal> valueAt(Column column, LocalDate date) {
+        int index = Arrays.binarySearch(epochDays, Math.toIntExact(date.toEpochDay()));
+        return index < 0 ? Optional.empty() : Optional.of(BigDecimal.valueOf(columns[column.ordinal()][index], SCALE));
+    }
+}
@@ -0,0 +1,233 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 전략 일간 시계열 캐시 (LRU)
+ *
+ * - 차트/목록에서 반복 조회하는 시계열(기준가, 누적손익률, 일손익률, 현재자본인하율)을 전략별 컬럼형 배열로 보관합니다.
+ * - 전체 일자 수(max-points) 기준으로 크기를 제한하며, 초과 시 가장 오래 사용하지 않은 전략부터 제거합니다.
+ * - 일간 데이터 변경 시 커밋 후 해당 전략을 제거합니다. (다음 조회 시 다시 적재)
+ * - 적재는 호출한 곳의 트랜잭션이 아닌 새 읽기 트랜잭션(READ_COMMITTED)에서 수행하여 항상 커밋된 최신 값을 읽고,
+ *   제거와 적재가 겹치면 적재 결과를 버려 변경 전 데이터가 캐시에 남지 않도록 합니다.
+ * - 제거는 같은 서버의 변경에만 반응하므로, 다른 서버에서 변경된 시계열은 보관 기간(ttl-millis)이 지나야 다시 적재됩니다.
+ */
+@Component
+public class StrategySeriesCache {
+    private final DailyStatisticsRepository dsp;
+    private final TransactionTemplate loadTransaction; // 적재용 새 읽기 트랜잭션
+    private final long maxPoints;
+    private final long ttlNanos; // 보관 기간 (0 이하면 만료 없음)
+
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); // 접근 순서
+    private long points; // 캐시된 전체 일자 수
+    private long generation; // 제거할 때마다 증가 (적재 중 변경 감지)
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public StrategySeriesCache(DailyStatisticsRepository dsp,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${statistics.series-cache.max-points:1000000}") long maxPoints,
+                               @Value("${statistics.series-cache.ttl-millis:300000}") long ttlMillis) {
+        this.dsp = dsp;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.loadTransaction.setReadOnly(true);
+        this.maxPoints = maxPoints;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * 전략의 시계열을 조회합니다. 캐시에 없으면 DB 에서 적재합니다.
+     *
+     * @param strategyId 전략 ID
+     * @return 날짜 오름차순 시계열 (캐시할 수 없는 값이 있으면 empty - 호출한 곳에서 DB 조회)
+     */
+    public Optional<StrategySeries> get(Long strategyId) {
+        long loadingGeneration;
+        synchronized (this) {
+            StrategySeries cached = cached(strategyId);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return Optional.of(cached);
+            }
+            loadingGeneration = generation;
+        }
+        misses.incrementAndGet();
+
+        // DB 조회는 잠금 밖에서 수행
+        Optional<StrategySeries> loaded = StrategySeries.fromRows(loadCommitted(() -> dsp.findSeriesByStrategyId(strategyId)));
+        loaded.ifPresent(series -> put(strategyId, series, loadingGeneration));
+        return loaded;
+    }
+
+    /**
+     * 여러 전략의 시계열을 조회합니다. 캐시에 없는 전략은 한 번의 IN 조회로 적재합니다.
+     *
+     * @param strategyIds 전략 ID 목록
+     * @return 전략 ID별 시계열 (캐시할 수 없는 값이 있는 전략은 빠짐 - 호출한 곳에서 DB 조회)
+     */
+    public Map<Long, StrategySeries> getAll(Collection<Long> strategyIds) {
+        Map<Long, StrategySeries> result = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        long loadingGeneration;
+        synchronized (this) {
+            for (Long strategyId : new LinkedHashSet<>(strategyIds)) {
+                StrategySeries cached = cached(strategyId);
+                if (cached != null) {
+                    result.put(strategyId, cached);
+                } else {
+                    missingIds.add(strategyId);
+                }
+            }
+            loadingGeneration = generation;
+        }
+        hits.addAndGet(result.size());
+        if (missingIds.isEmpty()) {
+            return result;
+        }
+        misses.addAndGet(missingIds.size());
+
+        // DB 조회는 잠금 밖에서 수행 (전략 ID, 날짜 오름차순)
+        Map<Long, List<Object[]>> rowsByStrategyId = new HashMap<>();
+        for (Object[] row : loadCommitted(() -> dsp.findSeriesByStrategyIds(missingIds))) {
+            rowsByStrategyId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(row);
+        }
+        for (Long strategyId : missingIds) {
+            Optional<StrategySeries> loaded = StrategySeries.fromRows(
+                    rowsByStrategyId.getOrDefault(strategyId, List.of()), 1);
+            loaded.ifPresent(series -> {
+                put(strategyId, series, loadingGeneration);
+                result.put(strategyId, series);
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 전략의 누적손익률을 날짜 오름차순으로 조회합니다. (목록 화면 그래프용)
+     *
+     * @param strategyId 전략 ID
+     * @return 날짜 오름차순 누적손익률 리스트
+     */
+    public List<BigDecimal> getCumulativeProfitLossRates(Long strategyId) {
+        return get(strategyId)
+                .map(series -> series.values(StrategySeries.Column.CUMULATIVE_PROFIT_LOSS_RATE))
+                .orElseGet(() -> dsp.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 전략의 시계열을 제거합니다. (트랜잭션 밖이면 바로 제거)
+     *
+     * @param strategyId 전략 ID
+     */
+    public void evictAfterCommit(Long strategyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(strategyId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(strategyId);
+            }
+        });
+    }
+
+    /**
+     * 전략의 시계열을 제거합니다.
+     *
+     * @param strategyId 전략 ID
+     */
+    public synchronized void evict(Long strategyId) {
+        generation++;
+        invalidations.incrementAndGet();
+        remove(strategyId);
+    }
+
+    /**
+     * @return 캐시 상태 (전략 수, 일자 수, 적중/미적중/용량 초과 제거/변경 제거 횟수)
+     */
+    public synchronized Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("strategies", (long) entries.size());
+        stats.put("points", points);
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    // 새 읽기 트랜잭션에서 조회 (호출한 곳의 트랜잭션 스냅샷보다 이후에 커밋된 변경도 읽음)
+    private <T> T loadCommitted(Supplier<T> loader) {
+        return loadTransaction.execute(status -> loader.get());
+    }
+
+    // 보관 기간이 지나지 않은 시계열 (지났으면 제거, 잠금 안에서 호출)
+    private StrategySeries cached(Long strategyId) {
+        Entry entry = entries.get(strategyId);
+        if (entry == null) {
+            return null;
+        }
+        if (ttlNanos > 0 && System.nanoTime() - entry.loadedAt() > ttlNanos) {
+            remove(strategyId);
+            return null;
+        }
+        return entry.series();
+    }
+
+    private void remove(Long strategyId) {
+        Entry removed = entries.remove(strategyId);
+        if (removed != null) {
+            points -= removed.series().size();
+        }
+    }
+
+    private synchronized void put(Long strategyId, StrategySeries series, long loadingGeneration) {
+        // 적재 중 변경이 있었거나 한 전략이 전체 용량보다 크면 캐시하지 않음
+        if (loadingGeneration != generation || series.size() > maxPoints) {
+            return;
+        }
+        Entry previous = entries.put(strategyId, new Entry(series, System.nanoTime()));
+        points += series.size() - (previous == null ? 0 : previous.series().size());
+
+        // 용량 초과 시 가장 오래 사용하지 않은 전략부터 제거
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (points > maxPoints && iterator.hasNext()) {
+            Map.Entry<Long, Entry> eldest = iterator.next();
+            if (eldest.getKey().equals(strategyId)) {
+                continue;
+            }
+            points -= eldest.getValue().series().size();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * 캐시 항목
+     *
+     * @param series   시계열
+     * @param loadedAt 적재 시각 (System.nanoTime)
+     */
+    private record Entry(StrategySeries series, long loadedAt) {
+    }
+}
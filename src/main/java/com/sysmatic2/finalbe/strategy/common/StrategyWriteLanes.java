@@ -0,0 +1,76 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 전략별 일간 데이터 쓰기 레인 (striped lock)
+ *
+ * - 같은 전략의 일간 데이터 등록/수정/삭제는 순서대로 처리하고, 다른 전략은 병렬로 처리합니다.
+ * - 잠금은 현재 트랜잭션이 끝난 뒤(커밋/롤백 후) 해제되므로, 다음 요청은 항상 커밋된 직전 데이터를 읽습니다.
+ * - 전략 ID로 stripe 를 고르므로 서로 다른 전략이 같은 잠금을 공유할 수 있습니다. (stripe 수로 조정)
+ * - 한 서버 안에서만 순서를 보장하며, 서버 간 충돌은 누적 상태(DailyStatisticsStateEntity)의 버전으로 감지합니다.
+ */
+@Component
+public class StrategyWriteLanes {
+    private final ReentrantLock[] locks;
+    private final long timeoutMillis;
+
+    public StrategyWriteLanes(@Value("${statistics.write-lanes.stripes:64}") int stripes,
+                              @Value("${statistics.write-lanes.timeout-millis:30000}") long timeoutMillis) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripe 수는 1 이상이어야 합니다: " + stripes);
+        }
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.locks[i] = new ReentrantLock(true); // 대기 순서대로 처리
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 전략의 쓰기 레인을 잠급니다. 잠금은 현재 트랜잭션이 끝나면 해제됩니다.
+     *
+     * - 같은 트랜잭션 안에서 여러 번 호출해도 됩니다. (재진입 가능)
+     *
+     * @param strategyId 전략 ID
+     * @throws IllegalStateException   트랜잭션 밖에서 호출한 경우
+     * @throws ResponseStatusException 대기 시간 안에 잠금을 얻지 못한 경우 (409)
+     */
+    public void lock(Long strategyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("전략 쓰기 레인은 트랜잭션 안에서만 사용할 수 있습니다.");
+        }
+
+        ReentrantLock lock = locks[stripe(strategyId)];
+        try {
+            if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "같은 전략의 일간 데이터를 처리 중입니다. 잠시 후 다시 시도해 주세요. strategyId=" + strategyId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("전략 쓰기 레인 대기 중 인터럽트되었습니다. strategyId=" + strategyId, e);
+        }
+
+        // 커밋/롤백 후 해제
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    // 전략 ID로 stripe 선택
+    int stripe(Long strategyId) {
+        return Math.floorMod(Long.hashCode(strategyId), locks.length);
+    }
+}
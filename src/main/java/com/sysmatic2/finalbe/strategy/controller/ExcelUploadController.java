@@ -1,8 +1,7 @@
 package com.sysmatic2.finalbe.strategy.controller;
 
 import com.sysmatic2.finalbe.member.dto.CustomUserDetails;
-import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
-import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsJobResponseDto;
 import com.sysmatic2.finalbe.strategy.service.ExcelUploadService;
 import com.sysmatic2.finalbe.exception.ExcelValidationException;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,10 +14,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/strategies")
@@ -30,14 +28,17 @@ public class ExcelUploadController {
     this.excelUploadService = excelUploadService;
   }
 
-  @Operation(summary = "엑셀 파일 업로드 및 데이터 저장", description = "특정 전략 ID와 연동된 엑셀 파일을 업로드하고 데이터를 추출하여 저장합니다.")
+  @Operation(summary = "엑셀 파일 업로드 및 데이터 저장", description = "특정 전략 ID와 연동된 엑셀 파일을 업로드하고 데이터를 추출하여 저장합니다. 지표 계산은 백그라운드 작업으로 처리됩니다.")
   @ApiResponses(value = {
-          @ApiResponse(responseCode = "201", description = "엑셀 데이터 추출 및 저장 성공",
+          @ApiResponse(responseCode = "202", description = "엑셀 데이터 추출 및 저장 성공 (지표 계산 작업 접수)",
                   content = @Content(mediaType = "application/json",
-                          schema = @Schema(example = "{ \"msg\": \"CREATE_SUCCESS\", \"data\": [ { \"date\": \"2024-01-01\", \"depWdPrice\": 1000, \"dailyProfitLoss\": 200 } ] }"))),
+                          schema = @Schema(example = "{ \"msg\": \"ACCEPTED\", \"data\": { \"jobId\": 1, \"strategyId\": 1, \"status\": \"PENDING\", \"source\": \"EXCEL\", \"rowCount\": 20 } }"))),
           @ApiResponse(responseCode = "400", description = "잘못된 엑셀 파일 형식 또는 유효하지 않은 전략 ID",
                   content = @Content(mediaType = "application/json",
                           schema = @Schema(example = "{ \"msg\": \"EXCEL_VALIDATION_FAILED\", \"error\": \"Invalid Excel file format\" }"))),
+          @ApiResponse(responseCode = "503", description = "계산 작업 대기열 초과",
+                  content = @Content(mediaType = "application/json",
+                          schema = @Schema(example = "{ \"msg\": \"EXCEL_UPLOAD_FAILED\", \"error\": \"일간 데이터 등록 요청이 많습니다. 잠시 후 다시 시도해 주세요.\" }"))),
           @ApiResponse(responseCode = "500", description = "서버 오류",
                   content = @Content(mediaType = "application/json",
                           schema = @Schema(example = "{ \"msg\": \"EXCEL_UPLOAD_FAILED\", \"error\": \"Unexpected error occurred\" }")))
@@ -53,24 +54,13 @@ public class ExcelUploadController {
       Boolean isTrader = userDetails.getAuthorities().stream()
               .anyMatch(authority -> authority.getAuthority().equals("ROLE_TRADER"));
 
-      // 엑셀 파일에서 데이터를 추출하고 저장 (엔티티 리스트 반환)
-      List<DailyStatisticsEntity> entities = excelUploadService.extractAndSaveData(file, strategyId, memberId, isTrader);
-
-
+      // 엑셀 파일에서 데이터를 추출하고 저장 (지표 계산 작업 반환)
+      DailyStatisticsJobResponseDto job = excelUploadService.extractAndSaveData(file, strategyId, memberId, isTrader);
 
-      // 엔티티 리스트를 DTO 리스트로 변환
-      List<DailyStatisticsReqDto> dtos = entities.stream()
-              .map(entity -> DailyStatisticsReqDto.builder()
-                      .date(entity.getDate())
-                      .depWdPrice(entity.getDepWdPrice())
-                      .dailyProfitLoss(entity.getDailyProfitLoss())
-                      .build())
-              .collect(Collectors.toList());
-
-      // 성공적인 응답
-      return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
-              "msg", "CREATE_SUCCESS",
-              "data", dtos
+      // 접수 응답 (작업 ID로 처리 상태 조회)
+      return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+              "msg", "ACCEPTED",
+              "data", job
       ));
 
     } catch (ExcelValidationException e) {
@@ -85,6 +75,12 @@ public class ExcelUploadController {
               "msg", "EXCEL_UPLOAD_FAILED",
               "error", e.getMessage()
       ));
+    } catch (ResponseStatusException e) {
+      // 계산 작업 대기열 초과
+      return ResponseEntity.status(e.getStatusCode()).body(Map.of(
+              "msg", "EXCEL_UPLOAD_FAILED",
+              "error", e.getReason()
+      ));
     } catch (Exception e) {
       // 서버 내부 오류
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
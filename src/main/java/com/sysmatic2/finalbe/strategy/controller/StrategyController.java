@@ -5,6 +5,7 @@ import com.sysmatic2.finalbe.member.repository.MemberRepository;
 import com.sysmatic2.finalbe.strategy.dto.*;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import com.sysmatic2.finalbe.strategy.service.DailyStatisticsJobService;
 import com.sysmatic2.finalbe.strategy.service.DailyStatisticsService;
 import com.sysmatic2.finalbe.strategy.service.MonthlyStatisticsService;
 import com.sysmatic2.finalbe.strategy.service.StrategyService;
@@ -28,6 +29,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -40,6 +42,7 @@ import java.util.NoSuchElementException;
 public class StrategyController {
     private final StrategyService strategyService;
     private final DailyStatisticsService dailyStatisticsService;
+    private final DailyStatisticsJobService dailyStatisticsJobService;
     private final MonthlyStatisticsService monthlyStatisticsService;
     private final MemberRepository memberRepository;
     private final StrategyRepository strategyRepository;
@@ -114,6 +117,31 @@ public class StrategyController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    /**
+     * 2-1. 필터 조건에 따라 전략 목록을 커서로 반환 - 전략 랭킹 (무한 스크롤)
+     *
+     * @param tradingCycleId           투자주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @param cursor                   이전 응답의 nextCursor (없으면 처음부터)
+     * @param pageSize                 한 번에 받을 데이터 개수
+     * @param total                    전체 개수 포함 여부
+     * @return 전략 목록 및 다음 커서를 포함한 Map 객체
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "필터 조건으로 전략 목록 커서 조회 - 전략 랭킹",
+            description = "SM-Score 순 전략 랭킹을 커서로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. " +
+                    "전체 개수는 total=true 인 경우에만 포함합니다.")
+    public ResponseEntity<Map<String, Object>> getStrategiesByCursor(
+            @RequestParam(required = false) @Positive(message = "tradingCycleId는 양수여야 합니다.") Integer tradingCycleId,
+            @RequestParam(required = false) @Positive(message = "investmentAssetClassesId는 양수여야 합니다.") Integer investmentAssetClassesId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") @Min(1) int pageSize,
+            @RequestParam(defaultValue = "false") boolean total) {
+
+        Map<String, Object> response = strategyService.getStrategiesByCursor(tradingCycleId, investmentAssetClassesId, cursor, pageSize, total);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     /**
      * 3. 승인 받은 전략의 갯수와 트레이더 수를 반환 - 메인페이지
      *
@@ -291,7 +319,7 @@ public class StrategyController {
     }
 
     // 10. 전략 수기 데이터 등록
-    @Operation(summary = "전략 수기 데이터 등록", description = "날짜, 입출금, 일손익을 최대 5행까지 입력받아 전략 데이터를 등록합니다.")
+    @Operation(summary = "전략 수기 데이터 등록", description = "날짜, 입출금, 일손익을 최대 5행까지 입력받아 저장하고, 지표 계산 작업 ID를 반환합니다.")
     @PostMapping(value = "/{id}/daily-data", produces = "application/json")
     public ResponseEntity<Map<String, Object>> registerManualDailyData(
             @PathVariable("id") Long strategyId,
@@ -323,26 +351,45 @@ public class StrategyController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "수기 데이터는 최대 5개까지 등록 가능합니다.");
         }
 
-        // 2. 수기 데이터를 저장
-        // 수기 데이터를 하나씩 처리하여 저장
-        payload.getPayload().forEach(entry -> {
-            /// 각 데이터 항목을 기반으로 수기 데이터를 처리하는 서비스 메서드 호출
-            dailyStatisticsService.registerDailyStatistics(
-                    strategyId,  // 전략 ID를 서비스 메서드에 전달
-                    DailyStatisticsReqDto.builder()
-                            .date(entry.getDate())  // 수기 데이터의 날짜
-                            .dailyProfitLoss(entry.getDailyProfitLoss())  // 일손익
-                            .depWdPrice(entry.getDepWdPrice())  // 입출금 금액
-                            .build()
-            );
-        });
-
-        // 3. 응답 데이터 구성
+        // 2. 수기 데이터를 입력 순서(1부터)대로 작업에 저장 (지표 계산은 백그라운드에서 처리)
+        Map<Integer, DailyStatisticsReqDto> rows = new LinkedHashMap<>();
+        payload.getPayload().forEach(entry -> rows.put(rows.size() + 1,
+                DailyStatisticsReqDto.builder()
+                        .date(entry.getDate())  // 수기 데이터의 날짜
+                        .dailyProfitLoss(entry.getDailyProfitLoss())  // 일손익
+                        .depWdPrice(entry.getDepWdPrice())  // 입출금 금액
+                        .build()));
+        DailyStatisticsJobResponseDto job = dailyStatisticsJobService.submit(strategyId, rows, "MANUAL", memberId);
+
+        // 3. 응답 데이터 구성 (작업 ID로 처리 상태 조회)
         Map<String, Object> responseMap = new HashMap<>();
-        responseMap.put("msg", "CREATE_SUCCESS");
+        responseMap.put("msg", "ACCEPTED");
+        responseMap.put("data", job);
         responseMap.put("timestamp", Instant.now());
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(responseMap);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(responseMap);
+    }
+
+    // 10-1. 전략 일간 데이터 등록 작업 상태 조회
+    @Operation(summary = "전략 일간 데이터 등록 작업 상태 조회",
+            description = "수기 등록/엑셀 업로드 작업의 상태(PENDING, COMPUTING, DONE, FAILED)와 등록하지 못한 행을 조회합니다.")
+    @GetMapping(value = "/{id}/daily-data/jobs/{jobId}", produces = "application/json")
+    public ResponseEntity<Map<String, Object>> getDailyDataJob(
+            @PathVariable("id") Long strategyId,
+            @PathVariable("jobId") Long jobId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        //접속자 정보
+        String memberId = userDetails.getMemberId();
+        Boolean isTrader = userDetails.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_TRADER"));
+
+        DailyStatisticsJobResponseDto job = dailyStatisticsJobService.getJob(strategyId, jobId, memberId, isTrader);
+
+        Map<String, Object> responseMap = new HashMap<>();
+        responseMap.put("data", job);
+        responseMap.put("timestamp", Instant.now());
+        return ResponseEntity.status(HttpStatus.OK).body(responseMap);
     }
 
     //11. 전략 수기 데이터 수정
@@ -565,6 +612,25 @@ public class StrategyController {
         return ResponseEntity.status(HttpStatus.OK).body(responseData);
     }
 
+    /**
+     * 16-3. 전략 검색어 자동완성.
+     *
+     * @param keyword                              입력어
+     * @param size                                 최대 개수
+     * @return ResponseEntity<Map<String, Object>> 전략명 또는 닉네임이 입력어로 시작하는 전략 목록
+     */
+    @GetMapping("/search/suggestions")
+    @Operation(summary = "입력어로 시작하는 전략명/트레이더 닉네임을 자동완성하는 메서드")
+    public ResponseEntity<Map<String, Object>> suggestStrategies(@RequestParam(required = false) String keyword,
+                                                                 @RequestParam(defaultValue = "10") @Min(1) @Max(50) Integer size){
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("keyword", keyword);
+        responseData.put("data", strategyService.getStrategySuggestions(keyword, size));
+        responseData.put("timestamp", Instant.now());
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseData);
+    }
+
     // 17. 월간 분석 목록
     /**
      * 전략의 월간 분석 목록을 페이징 처리하여 반환하는 API.
@@ -595,19 +661,21 @@ public class StrategyController {
      * @param strategyId 차트 데이터를 조회할 전략 ID
      * @param option1 첫 번째 데이터 옵션 (예: "referencePrice", "balance" 등)
      * @param option2 두 번째 데이터 옵션 (예: "dailyProfitLoss", "cumulativeProfitLoss" 등)
-     * @return ResponseEntity<DailyStatisticsChartResponseDto> (전략 차트 데이터와 타임스탬프)
+     * @param maxPoints 반환할 최대 점 수 (선택, 3 이상)
+     * @return ResponseEntity<DailyStatisticsChartResponseDto> (일자, 전략 차트 데이터와 타임스탬프)
      */
     @Operation(
             summary = "전략 상세 차트 데이터 조회",
-            description = "특정 전략 ID와 선택된 데이터 옵션(예: referencePrice, balance 등)을 날짜순으로 조회합니다."
+            description = "특정 전략 ID와 선택된 데이터 옵션(예: referencePrice, balance 등)을 일자와 함께 날짜순으로 조회합니다. maxPoints를 지정하면 LTTB 방식으로 최대 maxPoints개 점으로 다운샘플링합니다."
     )
     @GetMapping("/{id}/details-chart")
     public ResponseEntity<DailyStatisticsChartResponseDto> getStrategyChartDetails(
             @PathVariable("id") Long strategyId,
             @RequestParam("option1") String option1,
-            @RequestParam("option2") String option2) {
-        // Service에서 데이터와 타임스탬프 포함한 DTO 생성
-        DailyStatisticsChartResponseDto responseDto = strategyService.getStrategyChartDetails(strategyId, option1, option2);
+            @RequestParam("option2") String option2,
+            @RequestParam(value = "maxPoints", required = false) @Min(value = 3, message = "maxPoints는 3 이상이어야 합니다.") Integer maxPoints) {
+        // Service에서 데이터와 타임스탬프 포함한 DTO 생성 (maxPoints가 있으면 다운샘플링)
+        DailyStatisticsChartResponseDto responseDto = strategyService.getStrategyChartDetails(strategyId, option1, option2, maxPoints);
 
         // 바로 반환
         return ResponseEntity.ok(responseDto);
@@ -616,11 +684,15 @@ public class StrategyController {
     // 19. SM Score 기반 상위 5개 전략 리스트
     @Operation(
             summary = "SM SCORE 상위 5개 전략 조회",
-            description = "SM SCORE 기준 상위 5개의 전략 리스트를 반환합니다. 응답에는 전략 ID, 전략명, 작성자 프로필, 작성자 닉네임, 전일대비, 누적 수익률의 정보가 포함됩니다."
+            description = "SM SCORE 기준 상위 전략 리스트를 반환합니다. 응답에는 전략 ID, 전략명, 작성자 프로필, 작성자 닉네임, 전일대비, 누적 수익률의 정보가 포함됩니다. " +
+                    "매매유형/매매주기/투자자산 분류 중 하나를 지정하면 해당 분류의 랭킹을 반환합니다."
     )
     @GetMapping("/top5-sm-score")
-    public ResponseEntity<Map<String, Object>> getTop5SmScoreStrategies() {
-        Map<String, Object> response = strategyService.getSmScoreTop5Strategies();
+    public ResponseEntity<Map<String, Object>> getTop5SmScoreStrategies(@RequestParam(defaultValue = "5") @Min(1) Integer size,
+                                                                        @RequestParam(required = false) Integer tradingTypeId,
+                                                                        @RequestParam(required = false) Integer tradingCycleId,
+                                                                        @RequestParam(required = false) Integer investmentAssetClassesId) {
+        Map<String, Object> response = strategyService.getSmScoreTop5Strategies(size, tradingTypeId, tradingCycleId, investmentAssetClassesId);
         return ResponseEntity.ok(response);
     }
 }
@@ -3,16 +3,22 @@ package com.sysmatic2.finalbe.strategy.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
 /**
  * 전략 상세 차트 데이터를 반환하는 DTO
+ *
+ * - dates 와 data 의 각 값 리스트는 같은 인덱스끼리 대응합니다.
+ * - maxPoints 로 다운샘플링한 경우 totalPoints 는 원본 일자 수입니다.
  */
 @Data
 @AllArgsConstructor
 public class DailyStatisticsChartResponseDto {
 
+    private List<LocalDate> dates; // 일자 리스트 (오름차순)
     private Map<String, List<?>> data; // 데이터 맵 (옵션 이름: 값 리스트)
+    private int totalPoints; // 원본 일자 수
     private String timestamp;
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 전략 상세 차트 시계열 (일자와 두 옵션 값, 같은 인덱스끼리 대응)
+ */
+@Getter
+@AllArgsConstructor
+public class DailyStatisticsChartSeriesDto {
+    private List<LocalDate> dates; // 일자 (오름차순)
+    private List<BigDecimal> values1; // 첫 번째 옵션 값
+    private List<BigDecimal> values2; // 두 번째 옵션 값
+}
@@ -0,0 +1,39 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일간 데이터 등록 작업 상태 응답
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class DailyStatisticsJobResponseDto {
+    private Long jobId; // 작업 ID
+    private Long strategyId; // 전략 ID
+    private DailyStatisticsJobStatus status; // 작업 상태 (PENDING, COMPUTING, DONE, FAILED)
+    private String source; // 요청 경로 (MANUAL, EXCEL)
+    private Integer rowCount; // 입력 데이터 수
+    private String errorMessage; // 실패 사유
+    private LocalDateTime requestedAt; // 요청 일시
+    private LocalDateTime startedAt; // 계산 시작 일시
+    private LocalDateTime finishedAt; // 계산 종료 일시
+    private List<RowError> rowErrors; // 등록하지 못한 행
+
+    /**
+     * 등록하지 못한 행의 오류
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class RowError {
+        private Integer rowNumber; // 행 번호
+        private LocalDate date; // 일자
+        private String message; // 오류 사유
+    }
+}
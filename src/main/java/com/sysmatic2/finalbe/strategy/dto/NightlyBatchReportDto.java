@@ -0,0 +1,46 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 자정 일간 통계 배치 실행 결과
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NightlyBatchReportDto {
+    private LocalDate date; // 처리 일자 (전날)
+    private List<PartitionReport> partitions; // 파티션별 처리 결과
+    private int stampedCount; // SM-SCORE가 반영된 일간 데이터 수
+    private long elapsedMillis; // 전체 소요 시간
+
+    public int getProcessedCount() {
+        return partitions.stream().mapToInt(PartitionReport::getProcessedCount).sum();
+    }
+
+    public int getFailedCount() {
+        return partitions.stream().mapToInt(partition -> partition.getFailedStrategyIds().size()).sum();
+    }
+
+    /**
+     * 파티션별 처리 결과
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class PartitionReport {
+        private int partition; // 파티션 번호
+        private int processedCount; // 등록 성공 전략 수
+        private List<Long> failedStrategyIds; // 등록 실패 전략 ID
+        private long elapsedMillis; // 소요 시간
+
+        // 초당 처리 전략 수
+        public double getThroughput() {
+            int total = processedCount + failedStrategyIds.size();
+            return elapsedMillis == 0 ? total : total * 1000.0 / elapsedMillis;
+        }
+    }
+}
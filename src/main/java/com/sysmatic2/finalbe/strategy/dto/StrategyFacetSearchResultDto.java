@@ -0,0 +1,18 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전략 상세 검색 결과 (필터 인덱스)
+ */
+@Getter
+@AllArgsConstructor
+public class StrategyFacetSearchResultDto {
+    private List<Long> strategyIds; // 한 페이지의 전략 ID (SM-Score, 전략 ID 내림차순)
+    private long totalCount; // 조건에 맞는 전체 전략 수
+    private Map<String, Map<Object, Integer>> facetCounts; // 필터 항목별 값마다 전략 수 (해당 항목 조건을 뺀 나머지 조건 기준)
+}
@@ -0,0 +1,15 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import lombok.*;
+
+/**
+ * 전략 검색어 자동완성 항목
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StrategySuggestionDto {
+    private Long strategyId; // 전략 ID
+    private String strategyTitle; // 전략명
+    private String nickname; // 작성자 닉네임
+}
@@ -6,12 +6,14 @@ import java.util.ArrayList;
 import java.util.List;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
 @Table(name = "daily_statistics")
+@DynamicUpdate // 재계산 시 변경된 컬럼만 UPDATE
 @Getter
 @Setter
 @ToString
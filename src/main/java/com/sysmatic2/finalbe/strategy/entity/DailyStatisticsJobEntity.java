@@ -0,0 +1,55 @@
+package com.sysmatic2.finalbe.strategy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일간 데이터 등록 작업 (수기 등록 / 엑셀 업로드)
+ *
+ * - 입력 데이터(일자, 입출금, 일손익)는 요청 시 작업 행(DailyStatisticsJobRowEntity)으로 바로 저장하고,
+ *   파생 지표 계산은 백그라운드 작업에서 처리합니다.
+ */
+@Entity
+@Table(name = "daily_statistics_job")
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStatisticsJobEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id", nullable = false)
+    private Long jobId; // 작업 ID
+
+    @Column(name = "strategy_id", nullable = false)
+    private Long strategyId; // 전략 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private DailyStatisticsJobStatus status; // 작업 상태
+
+    @Column(name = "source", nullable = false, length = 20)
+    private String source; // 요청 경로 (MANUAL: 수기 등록, EXCEL: 엑셀 업로드)
+
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount; // 입력 데이터 수
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage; // 실패 사유
+
+    @Column(name = "requested_by", nullable = false)
+    private String requestedBy; // 요청자 ID
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt; // 요청 일시
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt; // 계산 시작 일시
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt; // 계산 종료 일시
+}
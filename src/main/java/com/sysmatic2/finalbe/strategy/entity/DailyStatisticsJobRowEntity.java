@@ -0,0 +1,44 @@
+package com.sysmatic2.finalbe.strategy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일간 데이터 등록 작업의 입력 데이터 (행 단위)
+ */
+@Entity
+@Table(name = "daily_statistics_job_row",
+        indexes = @Index(name = "idx_daily_statistics_job_row_job_id", columnList = "job_id"))
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStatisticsJobRowEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_row_id", nullable = false)
+    private Long jobRowId; // 작업 행 ID
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId; // 작업 ID
+
+    @Column(name = "row_no", nullable = false)
+    private Integer rowNumber; // 행 번호 (수기 등록: 입력 순서, 엑셀: 시트 행 번호)
+
+    @Column(name = "date", nullable = false)
+    private LocalDate date; // 일자
+
+    @Column(name = "dep_wd_price", nullable = false, precision = 25, scale = 10)
+    private BigDecimal depWdPrice; // 입출금
+
+    @Column(name = "daily_profit_loss", nullable = false, precision = 25, scale = 10)
+    private BigDecimal dailyProfitLoss; // 일손익
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage; // 행 오류 사유
+}
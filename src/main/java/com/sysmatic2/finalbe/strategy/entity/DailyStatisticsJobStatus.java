@@ -0,0 +1,22 @@
+package com.sysmatic2.finalbe.strategy.entity;
+
+import lombok.Getter;
+
+/**
+ * 일간 데이터 등록 작업 상태 열거형
+ */
+@Getter
+public enum DailyStatisticsJobStatus {
+
+    PENDING("대기"),
+    COMPUTING("계산 중"),
+    DONE("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    DailyStatisticsJobStatus(String description) {
+        this.description = description;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.sysmatic2.finalbe.strategy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 전략별 일간 통계 누적 상태 (running state)
+ *
+ * - 일간 분석 데이터를 등록할 때마다 전체 이력을 다시 조회하지 않도록
+ *   최신 일자까지의 누적 합계, 최대/최소값, 1년 구간 시작점을 보관합니다.
+ * - lastDate 가 해당 전략의 최신 일간 데이터 일자와 같을 때만 유효하며,
+ *   그렇지 않으면 일간 데이터로부터 다시 구성합니다.
+ * - 일간 데이터 변경 시 항상 함께 갱신되므로, 버전으로 같은 전략에 대한 동시 변경을 감지합니다. (낙관적 잠금)
+ */
+@Entity
+@Table(name = "daily_statistics_state")
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStatisticsStateEntity {
+    @Id
+    @Column(name = "strategy_id", nullable = false)
+    private Long strategyId; // 전략 ID
+
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long version; // 낙관적 잠금 버전
+
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount; // 누적된 일간 데이터 수
+
+    @Column(name = "first_date")
+    private LocalDate firstDate; // 최초 일자
+
+    @Column(name = "last_date")
+    private LocalDate lastDate; // 마지막으로 반영된 일자
+
+    @Column(name = "first_dep_wd_price", precision = 25, scale = 10)
+    private BigDecimal firstDepWdPrice; // 최초 입출금액
+
+    @Column(name = "dep_wd_sum", nullable = false, precision = 35, scale = 10)
+    private BigDecimal depWdSum; // 입출금 합계
+
+    @Column(name = "daily_profit_loss_sum", nullable = false, precision = 35, scale = 10)
+    private BigDecimal dailyProfitLossSum; // 일손익 합계
+
+    @Column(name = "daily_profit_loss_square_sum", nullable = false, precision = 60, scale = 20)
+    private BigDecimal dailyProfitLossSquareSum; // 일손익 제곱 합계
+
+    @Column(name = "max_reference_price", precision = 25, scale = 10)
+    private BigDecimal maxReferencePrice; // 최대 기준가
+
+    @Column(name = "min_drawdown_amount", precision = 25, scale = 10)
+    private BigDecimal minDrawdownAmount; // 자본인하금액 최저값
+
+    @Column(name = "min_drawdown_rate", precision = 25, scale = 10)
+    private BigDecimal minDrawdownRate; // 자본인하율 최저값
+
+    @Column(name = "max_daily_pl_rate", precision = 25, scale = 10)
+    private BigDecimal maxDailyPlRate; // 일손익률 최대값
+
+    @Column(name = "min_daily_pl_rate", precision = 25, scale = 10)
+    private BigDecimal minDailyPlRate; // 일손익률 최저값
+
+    @Column(name = "max_positive_cumulative_profit_loss", nullable = false, precision = 25, scale = 10)
+    private BigDecimal maxPositiveCumulativeProfitLoss; // 양수 누적손익 최대값
+
+    @Column(name = "max_positive_cumulative_profit_loss_rate", nullable = false, precision = 25, scale = 10)
+    private BigDecimal maxPositiveCumulativeProfitLossRate; // 양수 누적손익률 최대값
+
+    @Column(name = "one_year_base_date")
+    private LocalDate oneYearBaseDate; // 최근 1년 구간의 첫 일자
+
+    @Column(name = "one_year_base_reference_price", precision = 25, scale = 10)
+    private BigDecimal oneYearBaseReferencePrice; // 최근 1년 구간의 첫 기준가
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.YearMonth;
 
 @Entity
@@ -48,6 +49,20 @@ public class MonthlyStatisticsEntity extends Auditable {
     @Column(name = "monthly_cumulative_return", nullable = false, precision = 10, scale = 4)
     private BigDecimal monthlyCumulativeReturn; // 월누적손익률(%) - 해당월 마지막 기준가 / 1000 - 1
 
+    // ===== 누적 값 (일간 데이터 추가 시 해당 월 전체를 다시 조회하지 않고 갱신) =====
+    // - 이전 버전에서 생성된 데이터는 null 이며, 처음 갱신할 때 저장된 일간 데이터로 한 번 초기화합니다.
+    @Column(name = "principal_sum", precision = 30, scale = 10)
+    private BigDecimal principalSum; // 해당 월 일간 원금 합계 (월평균 원금 = 원금 합계 / 일간 데이터 수)
+
+    @Column(name = "daily_count")
+    private Integer dailyCount; // 해당 월 일간 데이터 수
+
+    @Column(name = "last_date")
+    private LocalDate lastDate; // 해당 월 마지막 일간 데이터 일자
+
+    @Column(name = "last_reference_price", precision = 25, scale = 10)
+    private BigDecimal lastReferencePrice; // 해당 월 마지막 기준가 (다음 달 월 손익률 계산에 사용)
+
     /**
      * 엔티티 데이터를 리스트로 매핑하는 메서드
      *
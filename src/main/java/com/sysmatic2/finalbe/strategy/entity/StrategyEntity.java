@@ -20,7 +20,11 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Entity
-@Table(name = "strategy")
+@Table(name = "strategy",
+        indexes = {
+                @Index(name = "idx_strategy_ranking", columnList = "is_approved, is_posted, sm_score, strategy_id"),
+                @Index(name = "idx_strategy_writer_approved", columnList = "writer_id, is_approved, is_posted")
+        })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -0,0 +1,71 @@
+package com.sysmatic2.finalbe.strategy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 전략 목록용 요약 (읽기 모델)
+ *
+ * - 목록/랭킹 화면에 필요한 값(아이콘, 최신 일간 지표, SM-SCORE, 팔로워 수, 목록 그래프)을 전략당 한 행으로 보관합니다.
+ * - 일간 데이터, 전략 등록/수정/승인, 팔로우 변경 시 같은 트랜잭션 안에서 바뀐 컬럼을 갱신하고, 목록 그래프는 커밋 후 다시 계산합니다. (StrategySummaryService)
+ * - 일자 기준 최신 일간 통계 행 ID와 최초/최신 일자를 함께 보관해, 통계 패널은 기본키 조회만 합니다.
+ */
+@Entity
+@Table(name = "strategy_summary")
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StrategySummaryEntity {
+    @Id
+    @Column(name = "strategy_id", nullable = false)
+    private Long strategyId; // 전략 ID
+
+    @Column(name = "strategy_title", nullable = false)
+    private String strategyTitle; // 전략명
+
+    @Column(name = "trading_type_icon")
+    private String tradingTypeIcon; // 매매유형 아이콘
+
+    @Column(name = "trading_cycle_icon")
+    private String tradingCycleIcon; // 매매주기 아이콘
+
+    @Column(name = "investment_asset_classes_icons", columnDefinition = "TEXT")
+    private String investmentAssetClassesIcons; // 투자자산 분류 아이콘 (줄바꿈 구분)
+
+    @Column(name = "latest_daily_statistics_id")
+    private Long latestDailyStatisticsId; // 일자 기준 최신 일간 통계 ID (없으면 null)
+
+    @Column(name = "earliest_date")
+    private LocalDate earliestDate; // 최초 일간 데이터 일자 (없으면 null)
+
+    @Column(name = "latest_date")
+    private LocalDate latestDate; // 최신 일간 데이터 일자 (없으면 null)
+
+    @Column(name = "cumulative_profit_loss_rate", precision = 25, scale = 10)
+    private BigDecimal cumulativeProfitLossRate; // 최신 누적손익률
+
+    @Column(name = "recent_one_year_return", precision = 25, scale = 10)
+    private BigDecimal recentOneYearReturn; // 최신 최근 1년 수익률
+
+    @Column(name = "max_drawdown_rate", precision = 25, scale = 10)
+    private BigDecimal maxDrawdownRate; // 최신 MDD
+
+    @Column(name = "sm_score", nullable = false, precision = 10, scale = 2)
+    private BigDecimal smScore; // SM-Score
+
+    @Column(name = "followers_count", nullable = false)
+    private Long followersCount; // 팔로워 수
+
+    @Column(name = "sparkline", columnDefinition = "TEXT")
+    private String sparkline; // 목록 그래프용 누적손익률 (쉼표 구분, 날짜 오름차순)
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt; // 마지막 갱신 일시
+}
@@ -0,0 +1,63 @@
+package com.sysmatic2.finalbe.strategy.repository;
+
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobEntity;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyStatisticsJobRepository extends JpaRepository<DailyStatisticsJobEntity, Long> {
+
+    /**
+     * 전략의 작업을 조회합니다.
+     *
+     * @param jobId      작업 ID
+     * @param strategyId 전략 ID
+     * @return 작업 (다른 전략의 작업이면 empty)
+     */
+    Optional<DailyStatisticsJobEntity> findByJobIdAndStrategyId(Long jobId, Long strategyId);
+
+    /**
+     * 특정 상태의 작업을 요청 순서대로 조회합니다. (서버 시작 시 미처리 작업 복구용)
+     *
+     * @param status 작업 상태
+     * @return 작업 리스트
+     */
+    List<DailyStatisticsJobEntity> findByStatusOrderByJobIdAsc(DailyStatisticsJobStatus status);
+
+    /**
+     * 대기 중인 작업을 계산 중 상태로 변경합니다.
+     *
+     * - 대기 상태인 경우에만 변경하므로, 같은 작업이 두 번 실행되지 않습니다.
+     *
+     * @param jobId     작업 ID
+     * @param startedAt 계산 시작 일시
+     * @return 변경된 작업 수 (0이면 이미 다른 곳에서 처리 중이거나 처리된 작업)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DailyStatisticsJobEntity j SET j.status = com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobStatus.COMPUTING, " +
+            "j.startedAt = :startedAt WHERE j.jobId = :jobId AND j.status = com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobStatus.PENDING")
+    int markComputing(@Param("jobId") Long jobId, @Param("startedAt") LocalDateTime startedAt);
+
+    /**
+     * 대기 중인 작업을 실패 상태로 변경합니다. (대기열에 넣지 못한 작업)
+     *
+     * @param jobId        작업 ID
+     * @param errorMessage 실패 사유
+     * @param finishedAt   종료 일시
+     * @return 변경된 작업 수 (0이면 이미 다른 곳에서 처리 중이거나 처리된 작업)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DailyStatisticsJobEntity j SET j.status = com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobStatus.FAILED, " +
+            "j.errorMessage = :errorMessage, j.finishedAt = :finishedAt " +
+            "WHERE j.jobId = :jobId AND j.status = com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobStatus.PENDING")
+    int markFailed(@Param("jobId") Long jobId, @Param("errorMessage") String errorMessage, @Param("finishedAt") LocalDateTime finishedAt);
+}
@@ -0,0 +1,25 @@
+package com.sysmatic2.finalbe.strategy.repository;
+
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobRowEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface DailyStatisticsJobRowRepository extends JpaRepository<DailyStatisticsJobRowEntity, Long> {
+
+    /**
+     * 작업의 입력 데이터를 행 번호순으로 조회합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 입력 데이터 리스트
+     */
+    List<DailyStatisticsJobRowEntity> findByJobIdOrderByRowNumberAsc(Long jobId);
+
+    /**
+     * 작업의 오류가 있는 행을 행 번호순으로 조회합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 오류가 있는 행 리스트
+     */
+    List<DailyStatisticsJobRowEntity> findByJobIdAndErrorMessageIsNotNullOrderByRowNumberAsc(Long jobId);
+}
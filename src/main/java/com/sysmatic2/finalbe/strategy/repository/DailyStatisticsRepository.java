@@ -1,7 +1,6 @@
 package com.sysmatic2.finalbe.strategy.repository;
 
 import com.sysmatic2.finalbe.strategy.dto.DateRange;
-import com.sysmatic2.finalbe.strategy.dto.DdDayAndMaxDdInRate;
 import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import org.springframework.data.domain.Page;
@@ -13,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,18 +33,15 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     /**
      * 특정 전략의 일 손익 데이터를 날짜 오름차순으로 조회합니다.
      * 전략 id 리스트를 받고 각 전략의 가장 최근의 일일 통계 데이터 1개를 리스트에 담는다.
+     * (전략 요약에 보관한 일자 기준 최신 일간 통계 ID로 기본키 조회)
      *
      * @param strategyIds 조회할 전략의 ID
      * @return 최신 일일 통계 데이터 리스트
      */
     @Query(value = """
-        SELECT * FROM daily_statistics ds
-        WHERE ds.strategy_id IN :strategyIds
-        AND ds.daily_statistics_id = (
-            SELECT MAX(ds_inner.daily_statistics_id)
-            FROM daily_statistics ds_inner
-            WHERE ds_inner.strategy_id = ds.strategy_id
-        )
+        SELECT ds.* FROM strategy_summary m
+        JOIN daily_statistics ds ON ds.daily_statistics_id = m.latest_daily_statistics_id
+        WHERE m.strategy_id IN :strategyIds
     """, nativeQuery = true)
     List<DailyStatisticsEntity> findLatestStatisticsByStrategyIds(@Param("strategyIds") List<Long> strategyIds);
 
@@ -111,6 +108,16 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     @Query("SELECT COUNT(ds) > 0 FROM DailyStatisticsEntity ds WHERE ds.strategyEntity.strategyId = :strategyId AND ds.date = :date")
     boolean existsByStrategyIdAndDate(@Param("strategyId") Long strategyId, @Param("date") LocalDate date);
 
+    /**
+     * 주어진 날짜 중 특정 전략에 이미 등록된 날짜를 조회합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param dates      확인할 날짜 목록
+     * @return 이미 등록된 날짜 리스트
+     */
+    @Query("SELECT ds.date FROM DailyStatisticsEntity ds WHERE ds.strategyEntity.strategyId = :strategyId AND ds.date IN :dates")
+    List<LocalDate> findRegisteredDates(@Param("strategyId") Long strategyId, @Param("dates") Collection<LocalDate> dates);
+
     /**
      * 특정 전략의 누적 손익 데이터를 날짜 오름차순으로 조회합니다.
      *
@@ -180,6 +187,15 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     @Query("SELECT d FROM DailyStatisticsEntity d WHERE d.strategyEntity.strategyId = :strategyId AND d.date > :fromDate ORDER BY d.date ASC")
     List<DailyStatisticsEntity> findOldestAfterDateList(@Param("strategyId") Long strategyId, @Param("fromDate") LocalDate fromDate, Pageable pageable);
 
+    /**
+     * 특정 전략의 전체 데이터를 날짜 오름차순으로 조회합니다.
+     *
+     * @param strategyId 전략 ID
+     * @return 전체 데이터 리스트
+     */
+    @Query("SELECT d FROM DailyStatisticsEntity d WHERE d.strategyEntity.strategyId = :strategyId ORDER BY d.date ASC")
+    List<DailyStatisticsEntity> findAllByStrategyIdOrderByDateAsc(@Param("strategyId") Long strategyId);
+
     /**
      * 특정 날짜 기준으로 이후 데이터를 조회합니다.
      *
@@ -190,6 +206,43 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     @Query("SELECT d FROM DailyStatisticsEntity d WHERE d.strategyEntity.strategyId = :strategyId AND d.date >= :fromDate ORDER BY d.date ASC")
     List<DailyStatisticsEntity> findAllAfterDate(@Param("strategyId") Long strategyId, @Param("fromDate") LocalDate fromDate);
 
+    /**
+     * 특정 날짜 기준으로 이전 데이터를 날짜 오름차순으로 조회합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param toDate     기준 날짜 (미포함)
+     * @return 기준 날짜 이전의 데이터 리스트
+     */
+    @Query("SELECT d FROM DailyStatisticsEntity d WHERE d.strategyEntity.strategyId = :strategyId AND d.date < :toDate ORDER BY d.date ASC")
+    List<DailyStatisticsEntity> findAllBeforeDate(@Param("strategyId") Long strategyId, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 기간(시작일 포함, 종료일 미포함) 내의 데이터를 날짜 오름차순으로 조회합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param fromDate   시작 날짜 (포함)
+     * @param toDate     종료 날짜 (미포함)
+     * @return 기간 내 데이터 리스트
+     */
+    @Query("SELECT d FROM DailyStatisticsEntity d WHERE d.strategyEntity.strategyId = :strategyId " +
+            "AND d.date >= :fromDate AND d.date < :toDate ORDER BY d.date ASC")
+    List<DailyStatisticsEntity> findAllBetweenDates(@Param("strategyId") Long strategyId, @Param("fromDate") LocalDate fromDate,
+                                                    @Param("toDate") LocalDate toDate);
+
+    /**
+     * 기간(시작일 포함, 종료일 미포함) 내에서 가장 오래된 데이터를 조회합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param fromDate   시작 날짜 (포함)
+     * @param toDate     종료 날짜 (미포함)
+     * @param pageable   페이징 객체 (최대 1개의 데이터만 반환)
+     * @return 기간 내 가장 오래된 데이터 리스트 (최대 1개 데이터 반환)
+     */
+    @Query("SELECT d FROM DailyStatisticsEntity d WHERE d.strategyEntity.strategyId = :strategyId " +
+            "AND d.date >= :fromDate AND d.date < :toDate ORDER BY d.date ASC")
+    List<DailyStatisticsEntity> findOldestBetweenDates(@Param("strategyId") Long strategyId, @Param("fromDate") LocalDate fromDate,
+                                                       @Param("toDate") LocalDate toDate, Pageable pageable);
+
     /**
      * 특정 날짜 이후 데이터를 삭제합니다.
      *
@@ -224,18 +277,6 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     @Query("DELETE FROM DailyStatisticsEntity d WHERE d.dailyStatisticsId IN :dailyStatisticsIds")
     void deleteAllById(@Param("dailyStatisticsIds") List<Long> dailyStatisticsIds);
 
-    /**
-     * 특정 전략의 ddDay와 maxDdInRate 데이터를 날짜 오름차순으로 조회합니다.
-     *
-     * @param strategyId 조회할 전략의 ID
-     * @return 날짜 오름차순으로 정렬된 ddDay와 maxDdInRate 데이터 리스트 (Object[] 형태로 반환)
-     */
-    @Query("SELECT new com.sysmatic2.finalbe.strategy.dto.DdDayAndMaxDdInRate(d.ddDay, d.maxDdInRate) " +
-            "FROM DailyStatisticsEntity d " +
-            "WHERE d.strategyEntity.strategyId = :strategyId " +
-            "ORDER BY d.date ASC")
-    List<DdDayAndMaxDdInRate> findDdDayAndMaxDdInRateByStrategyIdOrderByDate(@Param("strategyId") Long strategyId);
-
     /**
      * 특정 전략의 모든 현재 자본인하율 데이터를 날짜 오름차순으로 조회합니다.
      *
@@ -303,6 +344,24 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     """)
     Page<Long> findStrategyIdsWithoutDailyStatistics(@Param("date") LocalDate date, Pageable pageable);
 
+    /**
+     * 주어진 날짜의 일간 데이터에 전략 테이블의 SM-SCORE를 일괄 반영합니다.
+     *
+     * @param date 반영할 날짜
+     * @return 갱신된 일간 데이터 수
+     */
+    @Modifying
+    @Query("""
+        UPDATE DailyStatisticsEntity d
+        SET d.smScore = (
+            SELECT s.smScore
+            FROM StrategyEntity s
+            WHERE s.strategyId = d.strategyEntity.strategyId
+        )
+        WHERE d.date = :date
+    """)
+    int updateSmScoresFromStrategies(@Param("date") LocalDate date);
+
     /**
 <<<<<<< HEAD
      * 특정 전략 ID와 연도, 월에 해당하는 모든 원금을 조회하는 메서드.
@@ -413,6 +472,30 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
             "ORDER BY d.date ASC")
     List<BigDecimal> findCumulativeProfitLossRateByStrategyIdOrderByDate(Long strategyId);
 
+    /**
+     * 특정 전략의 차트/목록용 시계열을 날짜 오름차순으로 조회합니다. (StrategySeriesCache 적재용)
+     *
+     * @param strategyId 조회할 전략의 ID
+     * @return 날짜 오름차순 행 (일자, 기준가, 누적손익률, 일손익률, 현재자본인하율)
+     */
+    @Query("SELECT d.date, d.referencePrice, d.cumulativeProfitLossRate, d.dailyPlRate, d.currentDrawdownRate " +
+            "FROM DailyStatisticsEntity d " +
+            "WHERE d.strategyEntity.strategyId = :strategyId " +
+            "ORDER BY d.date ASC")
+    List<Object[]> findSeriesByStrategyId(@Param("strategyId") Long strategyId);
+
+    /**
+     * 여러 전략의 차트/목록용 시계열을 한 번에 조회합니다. (StrategySeriesCache 일괄 적재용)
+     *
+     * @param strategyIds 조회할 전략 ID 목록
+     * @return 전략 ID, 날짜 오름차순 행 (전략 ID, 일자, 기준가, 누적손익률, 일손익률, 현재자본인하율)
+     */
+    @Query("SELECT d.strategyEntity.strategyId, d.date, d.referencePrice, d.cumulativeProfitLossRate, d.dailyPlRate, d.currentDrawdownRate " +
+            "FROM DailyStatisticsEntity d " +
+            "WHERE d.strategyEntity.strategyId IN :strategyIds " +
+            "ORDER BY d.strategyEntity.strategyId ASC, d.date ASC")
+    List<Object[]> findSeriesByStrategyIds(@Param("strategyIds") Collection<Long> strategyIds);
+
     // strategy id로 일일통계 데이터 모두 삭제
     void deleteAllByStrategyEntity(StrategyEntity strategyEntity);
 
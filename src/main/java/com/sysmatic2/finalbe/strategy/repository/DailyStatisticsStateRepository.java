@@ -0,0 +1,7 @@
+package com.sysmatic2.finalbe.strategy.repository;
+
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsStateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DailyStatisticsStateRepository extends JpaRepository<DailyStatisticsStateEntity, Long> {
+}
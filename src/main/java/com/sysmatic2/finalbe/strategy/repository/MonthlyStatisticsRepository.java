@@ -46,6 +46,27 @@ public interface MonthlyStatisticsRepository extends JpaRepository<MonthlyStatis
   Optional<MonthlyStatisticsEntity> findByStrategyIdAndAnalysisMonth(@Param("strategyId") Long strategyId,
                                                                      @Param("analysisMonth") YearMonth analysisMonth);
 
+  /**
+   * 특정 월 이전의 가장 최근 월간 통계 데이터를 조회하는 메서드.
+   *
+   * - 월 손익률(이전 월 마지막 기준가)과 월 누적 손익(이전 월 누적 손익) 계산에 사용합니다.
+   *
+   * @param strategyId    전략 ID
+   * @param analysisMonth 기준 월 (미포함)
+   * @param pageable      페이징 정보 (한 개의 데이터만 가져오기 위해 Pageable 사용)
+   * @return 기준 월 이전의 월간 통계 데이터 (월 내림차순)
+   */
+  @Query("""
+    SELECT m
+    FROM MonthlyStatisticsEntity m
+    WHERE m.strategyEntity.strategyId = :strategyId
+      AND m.analysisMonth < :analysisMonth
+    ORDER BY m.analysisMonth DESC
+""")
+  List<MonthlyStatisticsEntity> findLatestBeforeMonth(@Param("strategyId") Long strategyId,
+                                                      @Param("analysisMonth") YearMonth analysisMonth,
+                                                      Pageable pageable);
+
   /**
    * 특정 전략의 모든 월간 손익 데이터를 조회하는 메서드.
    *
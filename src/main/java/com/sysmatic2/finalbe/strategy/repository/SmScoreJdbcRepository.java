@@ -0,0 +1,111 @@
+package com.sysmatic2.finalbe.strategy.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * SM-SCORE 재계산용 JDBC 리포지토리.
+ *
+ * - 전체 전략의 KP-RATIO를 엔티티/DTO 없이 primitive 배열로 읽습니다.
+ * - 계산된 SM-SCORE를 JDBC 배치 업데이트로 한 번에 반영합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SmScoreJdbcRepository {
+    private static final int BATCH_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * KP-RATIO가 0보다 큰 전략의 ID, KP-RATIO, 현재 SM-SCORE를 전략 ID 순으로 조회합니다.
+     *
+     * @return 조회 결과 (컬럼별 배열)
+     */
+    public KpRatioColumns findAllPositiveKpRatios() {
+        KpRatioColumns columns = new KpRatioColumns(INITIAL_CAPACITY);
+        jdbcTemplate.query(
+                "SELECT strategy_id, kp_ratio, sm_score FROM strategy WHERE kp_ratio > 0 ORDER BY strategy_id",
+                rs -> {
+                    BigDecimal smScore = rs.getBigDecimal(3);
+                    columns.add(
+                            rs.getLong(1),
+                            rs.getDouble(2),
+                            smScore == null ? 0 : smScore.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue()
+                    );
+                });
+        return columns;
+    }
+
+    /**
+     * 전략별 SM-SCORE를 배치 업데이트합니다. (전략 목록 요약에도 같은 값 반영)
+     *
+     * @param strategyIds  전략 ID 배열
+     * @param smScoreCents SM-SCORE * 100 배열
+     * @param size         배열에서 사용할 데이터 개수
+     */
+    public void batchUpdateSmScores(long[] strategyIds, long[] smScoreCents, int size) {
+        batchUpdateSmScores("UPDATE strategy SET sm_score = ? WHERE strategy_id = ?", strategyIds, smScoreCents, size);
+        batchUpdateSmScores("UPDATE strategy_summary SET sm_score = ? WHERE strategy_id = ?", strategyIds, smScoreCents, size);
+    }
+
+    private void batchUpdateSmScores(String sql, long[] strategyIds, long[] smScoreCents, int size) {
+        for (int from = 0; from < size; from += BATCH_SIZE) {
+            int start = from;
+            int end = Math.min(from + BATCH_SIZE, size);
+            jdbcTemplate.batchUpdate(
+                    sql,
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setBigDecimal(1, BigDecimal.valueOf(smScoreCents[start + i], 2));
+                            ps.setLong(2, strategyIds[start + i]);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return end - start;
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 전략 ID, KP-RATIO, 현재 SM-SCORE * 100을 컬럼별 배열로 보관합니다.
+     */
+    @Getter
+    public static class KpRatioColumns {
+        private long[] strategyIds;
+        private double[] kpRatios;
+        private long[] smScoreCents;
+        private int size;
+
+        public KpRatioColumns(int capacity) {
+            this.strategyIds = new long[capacity];
+            this.kpRatios = new double[capacity];
+            this.smScoreCents = new long[capacity];
+        }
+
+        public void add(long strategyId, double kpRatio, long smScoreCent) {
+            if (size == strategyIds.length) {
+                int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+                strategyIds = Arrays.copyOf(strategyIds, capacity);
+                kpRatios = Arrays.copyOf(kpRatios, capacity);
+                smScoreCents = Arrays.copyOf(smScoreCents, capacity);
+            }
+            strategyIds[size] = strategyId;
+            kpRatios[size] = kpRatio;
+            smScoreCents[size] = smScoreCent;
+            size++;
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package com.sysmatic2.finalbe.strategy.repository;
 
 import com.sysmatic2.finalbe.admin.entity.TradingTypeEntity;
-import com.sysmatic2.finalbe.strategy.dto.StrategyKpDto;
-import com.sysmatic2.finalbe.strategy.dto.StrategySmScoreDto;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import org.apache.ibatis.annotations.Param;
 import org.springframework.data.domain.Page;
@@ -83,47 +81,10 @@ public interface StrategyRepository extends JpaRepository<StrategyEntity, Long>,
                                              @Param("kpRatio") BigDecimal kpRatio,
                                              @Param("smScore") BigDecimal smScore);
 
-    /**
-     * 특정 전략 ID의 SM-SCORE만 업데이트합니다.
-     *
-     * @param strategyId 업데이트할 전략 ID
-     * @param smScore    새로운 SM-SCORE 값
-     */
-    @Modifying
-    @Query("UPDATE StrategyEntity s SET s.smScore = :smScore WHERE s.strategyId = :strategyId")
-    void updateSmScoreByStrategyId(@Param("strategyId") Long strategyId, @Param("smScore") BigDecimal smScore);
-
-    /**
-     * KP-RATIO가 0보다 큰 전략의 데이터를 페이징 처리하여 조회합니다.
-     *
-     * @param pageable 페이징 정보
-     * @return KP-RATIO가 0보다 큰 전략 ID와 KP-RATIO 값을 포함하는 페이징된 DTO 리스트
-     */
-    @Query("""
-    SELECT new com.sysmatic2.finalbe.strategy.dto.StrategyKpDto(s.strategyId, s.kpRatio)
-    FROM StrategyEntity s
-    WHERE s.kpRatio > 0
-    ORDER BY s.strategyId ASC
-""")
-    Page<StrategyKpDto> findByNonZeroKpRatio(Pageable pageable);
-
-    /**
-     * 모든 전략의 SM-SCORE 데이터를 페이징하여 조회하는 메서드.
-     *
-     * - 이 메서드는 StrategyEntity에서 모든 전략 데이터를 조회하여,
-     *   전략 ID와 SM-SCORE를 포함하는 DTO 객체로 매핑합니다.
-     *
-     * @param pageable 페이징 정보를 포함하는 객체 (페이지 번호와 크기 설정)
-     * @return 전략 ID와 SM-SCORE를 포함하는 DTO의 페이징된 결과
-     */
-    @Query("SELECT new com.sysmatic2.finalbe.strategy.dto.StrategySmScoreDto(s.strategyId, s.smScore) " +
-            "FROM StrategyEntity s ORDER BY s.strategyId ASC")
-    Page<StrategySmScoreDto> findAllStrategySmScores(Pageable pageable);
-
     // 전략 작성자 id로 전략 목록 전체 조회
     List<StrategyEntity> findAllByWriterId(String writerId);
 
-    @Query("SELECT s FROM StrategyEntity s WHERE s.strategyId IN :strategyIds ORDER BY s.smScore DESC")
+    @Query("SELECT s FROM StrategyEntity s WHERE s.strategyId IN :strategyIds ORDER BY s.smScore DESC, s.strategyId DESC")
     Page<StrategyEntity> findByStrategyIdsOrderBySmScore(@Param("strategyIds") List<Long> strategyIds, Pageable pageable);
 
     /**
@@ -136,6 +97,15 @@ public interface StrategyRepository extends JpaRepository<StrategyEntity, Long>,
      */
     Page<StrategyEntity> findByIsApprovedAndIsPosted(String isApproved, String isPosted, Pageable pageable);
 
+    /**
+     * 승인(isApproved) 및 게시(isPosted)된 전략 중 SM-Score 상위 5개를 조회합니다. (COUNT 없음)
+     *
+     * @param isApproved 승인 여부 (예: "Y" 또는 "N")
+     * @param isPosted   게시 여부 (예: "Y" 또는 "N")
+     * @return SM-Score, 전략 ID 내림차순 상위 5개 전략
+     */
+    List<StrategyEntity> findTop5ByIsApprovedAndIsPostedOrderBySmScoreDescStrategyIdDesc(String isApproved, String isPosted);
+
     /**
      * 특정 매매유형 ID(TradingTypeEntity.tradingTypeId)에 연결된 모든 전략(StrategyEntity)을 조회합니다.
      *
@@ -1,5 +1,7 @@
 package com.sysmatic2.finalbe.strategy.repository;
 
+import com.sysmatic2.finalbe.strategy.common.StrategyCursor;
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsChartSeriesDto;
 import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import jakarta.validation.constraints.DecimalMax;
@@ -7,7 +9,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * QueryDSL 기반 커스텀 쿼리를 위한 인터페이스
@@ -24,6 +25,36 @@ public interface StrategyRepositoryCustom {
      */
     Page<StrategyEntity> findStrategiesByFilters(Integer tradingCycleId, Integer investmentAssetClassesId, Pageable pageable);
 
+    /**
+     * 필터 조건에 따라 커서 다음의 전략 목록을 조회합니다. (SM-Score, 전략 ID 내림차순, COUNT 없음)
+     *
+     * @param tradingCycleId 투자주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @param cursor 마지막으로 받은 전략의 커서 (null이면 처음부터)
+     * @param limit 조회할 최대 개수
+     * @return 전략 목록
+     */
+    List<StrategyEntity> findStrategiesByFiltersAfter(Integer tradingCycleId, Integer investmentAssetClassesId, StrategyCursor cursor, int limit);
+
+    /**
+     * 필터 조건에 맞는 전략 수를 조회합니다.
+     *
+     * @param tradingCycleId 투자주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @return 전략 수
+     */
+    long countStrategiesByFilters(Integer tradingCycleId, Integer investmentAssetClassesId);
+
+    /**
+     * 전략 ID 목록 중 커서 다음의 전략 목록을 조회합니다. (SM-Score, 전략 ID 내림차순, COUNT 없음)
+     *
+     * @param strategyIds 전략 ID 목록
+     * @param cursor 마지막으로 받은 전략의 커서 (null이면 처음부터)
+     * @param limit 조회할 최대 개수
+     * @return 전략 목록
+     */
+    List<StrategyEntity> findByStrategyIdsAfter(List<Long> strategyIds, StrategyCursor cursor, int limit);
+
     /**
      * 필터 객체에 따라 전략 목록을 필터링(페이지네이션).
      *
@@ -36,15 +67,13 @@ public interface StrategyRepositoryCustom {
     /**
      * 특정 전략 ID와 두 가지 데이터 옵션에 해당하는 값을 날짜순으로 조회
      *
-     * <p>동적 쿼리를 통해 전달받은 두 개의 옵션 필드(컬럼 이름)에 대한 데이터를 날짜순 오름차순으로 조회하여 반환합니다.</p>
+     * <p>동적 쿼리 한 번으로 일자와 두 옵션 필드(컬럼 이름)의 값을 날짜 오름차순으로 조회하여 반환합니다.</p>
      *
      * @param strategyId 전략 ID (필수)
      * @param option1 첫 번째 데이터 옵션 (DailyStatisticsEntity의 필드 이름)
      * @param option2 두 번째 데이터 옵션 (DailyStatisticsEntity의 필드 이름)
-     * @return Map<String, List<?>> (옵션 이름과 해당 데이터 리스트)
-     *         - Key: option1, option2의 이름
-     *         - Value: 각 옵션에 해당하는 값 리스트 (날짜 오름차순)
+     * @return 일자와 두 옵션 값 리스트 (같은 인덱스끼리 대응, 날짜 오름차순)
      * @throws IllegalArgumentException 옵션이 유효하지 않거나 컬럼이 존재하지 않을 경우 예외 발생
      */
-    Map<String, List<?>> findChartDataByOptions(Long strategyId, String option1, String option2);
-}
\ No newline at end of file
+    DailyStatisticsChartSeriesDto findChartDataByOptions(Long strategyId, String option1, String option2);
+}
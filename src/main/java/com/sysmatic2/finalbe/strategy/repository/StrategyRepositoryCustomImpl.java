@@ -1,20 +1,21 @@
 package com.sysmatic2.finalbe.strategy.repository;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Expression;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.PathBuilder;
-import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sysmatic2.finalbe.exception.InvalidFieldNameException;
-import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsChartResponseDto;
+import com.sysmatic2.finalbe.strategy.common.StrategyCursor;
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsChartSeriesDto;
 import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
 import com.sysmatic2.finalbe.strategy.entity.QDailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.QStrategyEntity;
-import com.sysmatic2.finalbe.admin.entity.QInvestmentAssetClassesEntity;
-import com.sysmatic2.finalbe.admin.entity.QTradingCycleEntity;
-import com.sysmatic2.finalbe.admin.entity.QTradingTypeEntity;
 import com.sysmatic2.finalbe.strategy.entity.QStrategyIACEntity;
+import com.sysmatic2.finalbe.strategy.entity.QStrategySummaryEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
@@ -23,11 +24,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -59,36 +60,15 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
     public Page<StrategyEntity> findStrategiesByFilters(Integer tradingCycleId, Integer investmentAssetClassesId, Pageable pageable) {
         // QueryDSL에서 사용할 Q클래스 정의
         QStrategyEntity strategy = QStrategyEntity.strategyEntity;
-        QTradingCycleEntity tradingCycle = QTradingCycleEntity.tradingCycleEntity;
-        QTradingTypeEntity tradingType = QTradingTypeEntity.tradingTypeEntity;
-        QStrategyIACEntity strategyIAC = QStrategyIACEntity.strategyIACEntity;
-        QInvestmentAssetClassesEntity investmentAsset = QInvestmentAssetClassesEntity.investmentAssetClassesEntity;
 
         // 5. 총 데이터 개수 조회
-        long total = queryFactory
-                .select(strategy.count())
-                .from(strategy)
-                .where(
-                        tradingCycleId != null ? tradingCycle.tradingCycleId.eq(tradingCycleId) : null,
-                        investmentAssetClassesId != null ? strategy.strategyIACEntities.any().investmentAssetClassesEntity.investmentAssetClassesId.eq(investmentAssetClassesId) : null,
-                        strategy.isPosted.eq("Y"),
-                        strategy.isApproved.eq("Y")
-                )
-                .fetchOne();
+        long total = countStrategiesByFilters(tradingCycleId, investmentAssetClassesId);
 
-        // 1. 전략 데이터 조회
+        // 1. 전략 데이터 조회 (같은 SM-Score는 전략 ID 순으로 고정)
         List<StrategyEntity> strategyEntities = queryFactory
                 .selectFrom(strategy)
-                .leftJoin(strategy.tradingTypeEntity, tradingType)
-                .leftJoin(strategy.tradingCycleEntity, tradingCycle)
-                .where(
-                        tradingCycleId != null ? tradingCycle.tradingCycleId.eq(tradingCycleId) : null,
-                        investmentAssetClassesId != null ? strategy.strategyIACEntities.any()
-                                .investmentAssetClassesEntity.investmentAssetClassesId.eq(investmentAssetClassesId) : null,
-                        strategy.isPosted.eq("Y"),
-                        strategy.isApproved.eq("Y")
-                )
-                .orderBy(strategy.smScore.desc()) // smScore 내림차순 정렬 추가
+                .where(filterConditions(tradingCycleId, investmentAssetClassesId))
+                .orderBy(strategy.smScore.desc(), strategy.strategyId.desc()) // smScore 내림차순 정렬 추가
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -101,6 +81,97 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
 
     }
 
+    /**
+     * 1-1. 투자주기, 투자자산 분류 id로 필터링(커서)
+     *
+     * - (smScore, strategyId) 가 커서보다 작은 전략만 인덱스 순서대로 읽으므로 몇 번째 페이지든 비용이 같습니다.
+     *
+     * @param tradingCycleId 투자주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @param cursor 마지막으로 받은 전략의 커서 (null이면 처음부터)
+     * @param limit 조회할 최대 개수
+     * @return 전략 목록
+     */
+    @Override
+    public List<StrategyEntity> findStrategiesByFiltersAfter(Integer tradingCycleId, Integer investmentAssetClassesId, StrategyCursor cursor, int limit) {
+        QStrategyEntity strategy = QStrategyEntity.strategyEntity;
+
+        return queryFactory
+                .selectFrom(strategy)
+                .where(filterConditions(tradingCycleId, investmentAssetClassesId).and(after(strategy, cursor)))
+                .orderBy(strategy.smScore.desc(), strategy.strategyId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 1-2. 투자주기, 투자자산 분류 id로 필터링한 전략 수
+     *
+     * @param tradingCycleId 투자주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @return 전략 수
+     */
+    @Override
+    public long countStrategiesByFilters(Integer tradingCycleId, Integer investmentAssetClassesId) {
+        QStrategyEntity strategy = QStrategyEntity.strategyEntity;
+
+        Long total = queryFactory
+                .select(strategy.count())
+                .from(strategy)
+                .where(filterConditions(tradingCycleId, investmentAssetClassesId))
+                .fetchOne();
+        return total == null ? 0L : total;
+    }
+
+    /**
+     * 1-3. 전략 ID 목록 중 커서 다음의 전략 목록 (관심전략 폴더)
+     *
+     * @param strategyIds 전략 ID 목록
+     * @param cursor 마지막으로 받은 전략의 커서 (null이면 처음부터)
+     * @param limit 조회할 최대 개수
+     * @return 전략 목록
+     */
+    @Override
+    public List<StrategyEntity> findByStrategyIdsAfter(List<Long> strategyIds, StrategyCursor cursor, int limit) {
+        QStrategyEntity strategy = QStrategyEntity.strategyEntity;
+
+        if (strategyIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(strategy)
+                .where(strategy.strategyId.in(strategyIds), after(strategy, cursor))
+                .orderBy(strategy.smScore.desc(), strategy.strategyId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 랭킹 필터 조건 (게시/승인된 전략)
+    private BooleanBuilder filterConditions(Integer tradingCycleId, Integer investmentAssetClassesId) {
+        QStrategyEntity strategy = QStrategyEntity.strategyEntity;
+
+        BooleanBuilder builder = new BooleanBuilder();
+        if (tradingCycleId != null) {
+            builder.and(strategy.tradingCycleEntity.tradingCycleId.eq(tradingCycleId));
+        }
+        if (investmentAssetClassesId != null) {
+            builder.and(strategy.strategyIACEntities.any()
+                    .investmentAssetClassesEntity.investmentAssetClassesId.eq(investmentAssetClassesId));
+        }
+        builder.and(strategy.isPosted.eq("Y"));
+        builder.and(strategy.isApproved.eq("Y"));
+        return builder;
+    }
+
+    // 커서 다음 조건: smScore < 커서 smScore, 또는 smScore가 같고 strategyId < 커서 strategyId
+    private static BooleanExpression after(QStrategyEntity strategy, StrategyCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return strategy.smScore.lt(cursor.smScore())
+                .or(strategy.smScore.eq(cursor.smScore()).and(strategy.strategyId.lt(cursor.strategyId())));
+    }
+
     /**
      * 2. 필터 옵션 Dto를 받아 상세 필터링한 전략 목록 반환(페이지네이션)
      *
@@ -113,7 +184,8 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
         //QueryDSL용 Q객체 생성
         QStrategyEntity strategyQ = QStrategyEntity.strategyEntity; //전략
         QStrategyIACEntity strategyIACQ = QStrategyIACEntity.strategyIACEntity; //전략-투자자산분류 관계엔티티
-        QDailyStatisticsEntity dailyStatisticsQ = QDailyStatisticsEntity.dailyStatisticsEntity; //일간데이터
+        QDailyStatisticsEntity dailyStatisticsQ = QDailyStatisticsEntity.dailyStatisticsEntity; //일간데이터 (전략별 최신 행)
+        QStrategySummaryEntity summaryQ = QStrategySummaryEntity.strategySummaryEntity; //전략 요약 (최신 일간 통계 ID, 최초/최신 일자)
 
         //전략관련 필터 생성
         BooleanBuilder strategyBuilder = new BooleanBuilder();
@@ -217,9 +289,10 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
             statisticsBuilder.and(mddBuilder);
         }
 
-        //13. 날짜 필터링 - 해당기간의 일간데이터
+        //13. 날짜 필터링 - 운용 기간(최초 ~ 최신 일자)이 해당 기간과 겹치는 전략
         if (searchOptions.getStartDate() != null && searchOptions.getEndDate() != null) {
-            statisticsBuilder.and(dailyStatisticsQ.date.between(searchOptions.getStartDate(), searchOptions.getEndDate()));
+            statisticsBuilder.and(summaryQ.earliestDate.loe(searchOptions.getEndDate())
+                    .and(summaryQ.latestDate.goe(searchOptions.getStartDate())));
         }
 
         //14. 손익률 필터
@@ -246,79 +319,31 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
             statisticsBuilder.and(returnRateBuilder);
         }
 
-        //1)서브쿼리 관련 필터 없는경우 메인쿼리만 동작함.
-        if (!statisticsBuilder.hasValue()) {
-            List<StrategyEntity> allStrategies = queryFactory
-                    .selectFrom(strategyQ)
-                    .where(strategyBuilder)
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .distinct()
-                    .fetch();
-
-            Long totalCount = queryFactory
-                    .select(strategyQ.count())
-                    .from(strategyQ)
-                    .where(strategyBuilder)
-                    .fetchOne();
-
-            return new PageImpl<>(allStrategies, pageable, totalCount);
+        //15. 일간데이터 관련 필터 - 전략별 최신 일간 통계 한 행으로 판단
+        //    (요약의 최신 일간 통계 ID로 기본키 조인하는 EXISTS 조건이므로 검색은 한 번의 쿼리로 끝남)
+        if (statisticsBuilder.hasValue()) {
+            strategyBuilder.and(JPAExpressions.selectOne()
+                    .from(summaryQ)
+                    .join(dailyStatisticsQ).on(dailyStatisticsQ.dailyStatisticsId.eq(summaryQ.latestDailyStatisticsId))
+                    .where(summaryQ.strategyId.eq(strategyQ.strategyId), statisticsBuilder)
+                    .exists());
         }
 
-        //2) 서브쿼리 필터가 있는경우
-        //DailyStatistics 관련 서브쿼리
-        JPQLQuery<Long> strategyIdsQuery = queryFactory
-                .select(dailyStatisticsQ.strategyEntity.strategyId)
-                .from(dailyStatisticsQ)
-                .where(statisticsBuilder)
-                .distinct();
-
-        //서브쿼리의 결과 값들 id 저장
-        List<Long> strategyIds = strategyIdsQuery.fetch();
-
-        //전략 관련 메인 쿼리
-        //3-1)서브쿼리 결과 없는경우
-        if(strategyIds.isEmpty()) {
-            List<StrategyEntity> allStrategies = queryFactory
-                    .selectFrom(strategyQ)
-                    .where(strategyBuilder)
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .distinct()
-                    .fetch();
-
-            Long totalCount = queryFactory
-                    .select(strategyQ.count())
-                    .from(strategyQ)
-                    .where(strategyBuilder)
-                    .fetchOne();
-
-            return new PageImpl<>(allStrategies, pageable, totalCount);
-        }
-
-        //3-2)서브쿼리 결과 있는 경우
+        //전략 목록 조회
         List<StrategyEntity> strategyEntities = queryFactory
                 .selectFrom(strategyQ)
-                .where(strategyBuilder.and(strategyQ.strategyId.in(strategyIds)))
+                .where(strategyBuilder)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .distinct()
                 .fetch();
 
         //결과 갯수
         Long resultCnt = queryFactory
                 .select(strategyQ.count())
                 .from(strategyQ)
-                .where(strategyBuilder.and(strategyQ.strategyId.in(strategyIdsQuery)))
+                .where(strategyBuilder)
                 .fetchOne();
 
-        //결과 없거나 빈경우
-        if(strategyEntities == null && strategyEntities.isEmpty()) {
-            return new PageImpl<>(List.of(), pageable, 0);
-        }
-
-
-
         return new PageImpl<>(strategyEntities, pageable, resultCnt);
     }
 
@@ -328,10 +353,10 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
      * @param strategyId 전략 ID
      * @param option1 첫 번째 데이터 옵션 (조회할 컬럼 이름)
      * @param option2 두 번째 데이터 옵션 (조회할 컬럼 이름)
-     * @return Map<String, List<?>> (선택된 데이터 옵션 이름과 값 리스트)
+     * @return 일자와 두 옵션 값 리스트 (같은 인덱스끼리 대응)
      */
     @Override
-    public Map<String, List<?>> findChartDataByOptions(Long strategyId, String option1, String option2) {
+    public DailyStatisticsChartSeriesDto findChartDataByOptions(Long strategyId, String option1, String option2) {
         QDailyStatisticsEntity dailyStatistics = QDailyStatisticsEntity.dailyStatisticsEntity;
 
         // 유효한 필드 이름 목록
@@ -351,36 +376,26 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
             throw new InvalidFieldNameException("Invalid field name for option2: " + option2);
         }
 
-        // 동적으로 PathBuilder를 사용하여 컬럼 선택
+        // 동적으로 PathBuilder를 사용하여 컬럼 선택 (일자와 두 옵션을 한 번에 조회)
         PathBuilder<Object> dailyStatisticsPath = new PathBuilder<>(Object.class, dailyStatistics.getMetadata());
+        NumberPath<BigDecimal> column1 = dailyStatisticsPath.getNumber(option1, BigDecimal.class);
+        NumberPath<BigDecimal> column2 = dailyStatisticsPath.getNumber(option2, BigDecimal.class);
 
-        Expression<Object> column1 = dailyStatisticsPath.get(option1, Object.class);
-
-        // 중복 여부에 따라 동일한 컬럼만 조회
-        List<Object> option1Values = queryFactory
-                .select(column1)
+        List<Tuple> rows = queryFactory
+                .select(dailyStatistics.date, column1, column2)
                 .from(dailyStatistics)
                 .where(dailyStatistics.strategyEntity.strategyId.eq(strategyId))
                 .orderBy(dailyStatistics.date.asc())
                 .fetch();
 
-        Map<String, List<?>> result = new HashMap<>();
-        result.put(option1, option1Values);
-
-        // 두 옵션이 다르면 두 번째 데이터 추가
-        if (!option1.equals(option2)) {
-            Expression<Object> column2 = dailyStatisticsPath.get(option2, Object.class);
-            List<Object> option2Values = queryFactory
-                    .select(column2)
-                    .from(dailyStatistics)
-                    .where(dailyStatistics.strategyEntity.strategyId.eq(strategyId))
-                    .orderBy(dailyStatistics.date.asc())
-                    .fetch();
-
-            result.put(option2, option2Values);
+        List<LocalDate> dates = new ArrayList<>(rows.size());
+        List<BigDecimal> values1 = new ArrayList<>(rows.size());
+        List<BigDecimal> values2 = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            dates.add(row.get(dailyStatistics.date));
+            values1.add(row.get(column1));
+            values2.add(row.get(column2));
         }
-
-        return result;
+        return new DailyStatisticsChartSeriesDto(dates, values1, values2);
     }
 }
-
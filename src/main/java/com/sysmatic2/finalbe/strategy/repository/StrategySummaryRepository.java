@@ -0,0 +1,206 @@
+package com.sysmatic2.finalbe.strategy.repository;
+
+import com.sysmatic2.finalbe.strategy.entity.StrategySummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StrategySummaryRepository extends JpaRepository<StrategySummaryEntity, Long> {
+
+    /**
+     * 요약에 담을 전략 기본 값을 조회합니다. (엔티티가 아닌 값으로 조회해 같은 트랜잭션의 일괄 UPDATE 결과도 반영)
+     *
+     * @param strategyId 전략 ID
+     * @return 행 (전략명, 매매유형 아이콘, 매매주기 아이콘, SM-SCORE, 팔로워 수) - 전략이 없으면 빈 리스트
+     */
+    @Query("SELECT s.strategyTitle, tt.tradingTypeIcon, tc.tradingCycleIcon, s.smScore, s.followersCount " +
+            "FROM StrategyEntity s LEFT JOIN s.tradingTypeEntity tt LEFT JOIN s.tradingCycleEntity tc " +
+            "WHERE s.strategyId = :strategyId")
+    List<Object[]> findSummarySource(@Param("strategyId") Long strategyId);
+
+    /**
+     * 요약에 담을 전략의 투자자산 분류 아이콘을 조회합니다.
+     *
+     * @param strategyId 전략 ID
+     * @return 투자자산 분류 아이콘 목록
+     */
+    @Query("SELECT iac.investmentAssetClassesEntity.investmentAssetClassesIcon FROM StrategyIACEntity iac " +
+            "WHERE iac.strategyEntity.strategyId = :strategyId")
+    List<String> findInvestmentAssetClassesIcons(@Param("strategyId") Long strategyId);
+
+    /**
+     * 요약이 없는 전략 ID를 조회합니다. (기동 시 요약 생성용)
+     *
+     * @return 요약이 없는 전략 ID 목록
+     */
+    @Query("SELECT s.strategyId FROM StrategyEntity s " +
+            "WHERE NOT EXISTS (SELECT 1 FROM StrategySummaryEntity m WHERE m.strategyId = s.strategyId) " +
+            "ORDER BY s.strategyId ASC")
+    List<Long> findStrategyIdsWithoutSummary();
+
+    /**
+     * 일간 데이터가 있지만 최신 일간 통계 ID가 비어 있는 요약의 전략 ID를 조회합니다. (기동 시 보정용)
+     *
+     * @return 전략 ID 목록
+     */
+    @Query("SELECT m.strategyId FROM StrategySummaryEntity m " +
+            "WHERE m.latestDate IS NOT NULL AND m.latestDailyStatisticsId IS NULL " +
+            "ORDER BY m.strategyId ASC")
+    List<Long> findStrategyIdsWithoutLatestPointer();
+
+    /**
+     * 매매유형 아이콘 변경 시 해당 매매유형 전략의 요약 아이콘을 일괄 변경합니다.
+     *
+     * @param tradingTypeId 매매유형 ID
+     * @param icon          변경된 아이콘
+     * @return 변경된 요약 수
+     */
+    @Modifying
+    @Query("UPDATE StrategySummaryEntity m SET m.tradingTypeIcon = :icon " +
+            "WHERE m.strategyId IN (SELECT s.strategyId FROM StrategyEntity s WHERE s.tradingTypeEntity.tradingTypeId = :tradingTypeId)")
+    int updateTradingTypeIcon(@Param("tradingTypeId") Integer tradingTypeId, @Param("icon") String icon);
+
+    /**
+     * 매매주기 아이콘 변경 시 해당 매매주기 전략의 요약 아이콘을 일괄 변경합니다.
+     *
+     * @param tradingCycleId 매매주기 ID
+     * @param icon           변경된 아이콘
+     * @return 변경된 요약 수
+     */
+    @Modifying
+    @Query("UPDATE StrategySummaryEntity m SET m.tradingCycleIcon = :icon " +
+            "WHERE m.strategyId IN (SELECT s.strategyId FROM StrategyEntity s WHERE s.tradingCycleEntity.tradingCycleId = :tradingCycleId)")
+    int updateTradingCycleIcon(@Param("tradingCycleId") Integer tradingCycleId, @Param("icon") String icon);
+
+    /**
+     * 요약의 전략 기본 값(전략명, 아이콘)만 변경합니다. (전략 등록/수정/승인 시, 다른 컬럼은 그대로 둠)
+     *
+     * @param strategyId                  전략 ID
+     * @param strategyTitle               전략명
+     * @param tradingTypeIcon             매매유형 아이콘
+     * @param tradingCycleIcon            매매주기 아이콘
+     * @param investmentAssetClassesIcons 투자자산 분류 아이콘 (줄바꿈 구분)
+     * @param refreshedAt                 갱신 일시
+     * @return 변경된 요약 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StrategySummaryEntity m SET m.strategyTitle = :strategyTitle, " +
+            "m.tradingTypeIcon = :tradingTypeIcon, m.tradingCycleIcon = :tradingCycleIcon, " +
+            "m.investmentAssetClassesIcons = :investmentAssetClassesIcons, m.refreshedAt = :refreshedAt " +
+            "WHERE m.strategyId = :strategyId")
+    int updateStrategyColumns(@Param("strategyId") Long strategyId,
+                              @Param("strategyTitle") String strategyTitle,
+                              @Param("tradingTypeIcon") String tradingTypeIcon,
+                              @Param("tradingCycleIcon") String tradingCycleIcon,
+                              @Param("investmentAssetClassesIcons") String investmentAssetClassesIcons,
+                              @Param("refreshedAt") LocalDateTime refreshedAt);
+
+    /**
+     * 요약의 최신 일간 통계 ID, 최초/최신 일자를 일간 통계(전략/일자 인덱스)에서 다시 읽어 변경합니다.
+     *
+     * - 전체 이력을 읽지 않고 전략의 가장 이른/늦은 일자 행만 찾습니다. (같은 일자면 ID가 큰 행)
+     * - 일간 데이터가 없으면 모두 null 이 됩니다.
+     *
+     * @param strategyId  전략 ID
+     * @param refreshedAt 갱신 일시
+     * @return 변경된 요약 수 (요약이나 전략이 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StrategySummaryEntity m SET " +
+            "m.latestDailyStatisticsId = (SELECT MAX(d.dailyStatisticsId) FROM DailyStatisticsEntity d " +
+            "    WHERE d.strategyEntity.strategyId = :strategyId AND d.date = " +
+            "    (SELECT MAX(l.date) FROM DailyStatisticsEntity l WHERE l.strategyEntity.strategyId = :strategyId)), " +
+            "m.latestDate = (SELECT MAX(l.date) FROM DailyStatisticsEntity l WHERE l.strategyEntity.strategyId = :strategyId), " +
+            "m.earliestDate = (SELECT MIN(e.date) FROM DailyStatisticsEntity e WHERE e.strategyEntity.strategyId = :strategyId), " +
+            "m.refreshedAt = :refreshedAt " +
+            "WHERE m.strategyId = :strategyId " +
+            "AND EXISTS (SELECT 1 FROM StrategyEntity s WHERE s.strategyId = :strategyId)")
+    int updateLatestPointer(@Param("strategyId") Long strategyId, @Param("refreshedAt") LocalDateTime refreshedAt);
+
+    /**
+     * 요약의 최신 누적손익률, 최근 1년 수익률, MDD를 최신 일간 통계 ID의 행(기본키)으로 변경합니다.
+     *
+     * - updateLatestPointer 다음에 호출합니다. (최신 일간 통계가 없으면 null)
+     *
+     * @param strategyId 전략 ID
+     * @return 변경된 요약 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StrategySummaryEntity m SET " +
+            "m.cumulativeProfitLossRate = (SELECT d.cumulativeProfitLossRate FROM DailyStatisticsEntity d WHERE d.dailyStatisticsId = m.latestDailyStatisticsId), " +
+            "m.recentOneYearReturn = (SELECT d.recentOneYearReturn FROM DailyStatisticsEntity d WHERE d.dailyStatisticsId = m.latestDailyStatisticsId), " +
+            "m.maxDrawdownRate = (SELECT d.maxDrawdownRate FROM DailyStatisticsEntity d WHERE d.dailyStatisticsId = m.latestDailyStatisticsId) " +
+            "WHERE m.strategyId = :strategyId")
+    int updateLatestValues(@Param("strategyId") Long strategyId);
+
+    /**
+     * 요약의 팔로워 수를 전략의 팔로워 수로 변경합니다.
+     *
+     * @param strategyId  전략 ID
+     * @param refreshedAt 갱신 일시
+     * @return 변경된 요약 수 (요약이나 전략이 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StrategySummaryEntity m SET " +
+            "m.followersCount = (SELECT s.followersCount FROM StrategyEntity s WHERE s.strategyId = :strategyId), " +
+            "m.refreshedAt = :refreshedAt " +
+            "WHERE m.strategyId = :strategyId " +
+            "AND EXISTS (SELECT 1 FROM StrategyEntity s WHERE s.strategyId = :strategyId)")
+    int updateFollowersCount(@Param("strategyId") Long strategyId, @Param("refreshedAt") LocalDateTime refreshedAt);
+
+    /**
+     * 요약의 목록 그래프를 변경합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param sparkline  목록 그래프 (쉼표 구분)
+     * @return 변경된 요약 수
+     */
+    @Modifying
+    @Query("UPDATE StrategySummaryEntity m SET m.sparkline = :sparkline WHERE m.strategyId = :strategyId")
+    int updateSparkline(@Param("strategyId") Long strategyId, @Param("sparkline") String sparkline);
+
+    /**
+     * 필터 인덱스에 담을 게시/승인 전략 값을 조회합니다. (SM-Score, 전략 ID 내림차순)
+     *
+     * @return 행 (전략 ID, SM-Score, 매매유형 ID, 매매주기 ID, 운용상태 코드, 최소운용가능금액, 작성일시, 전략명,
+     *         최신 MDD, 최신 누적손익률, 최초 일자, 최신 일자, 최신 원금, 작성자 닉네임)
+     */
+    @Query("SELECT s.strategyId, s.smScore, tt.tradingTypeId, tc.tradingCycleId, s.strategyStatusCode, " +
+            "s.minInvestmentAmount, s.writedAt, s.strategyTitle, " +
+            "m.maxDrawdownRate, m.cumulativeProfitLossRate, m.earliestDate, m.latestDate, d.principal, w.nickname " +
+            "FROM StrategyEntity s LEFT JOIN s.tradingTypeEntity tt LEFT JOIN s.tradingCycleEntity tc " +
+            "LEFT JOIN StrategySummaryEntity m ON m.strategyId = s.strategyId " +
+            "LEFT JOIN DailyStatisticsEntity d ON d.dailyStatisticsId = m.latestDailyStatisticsId " +
+            "LEFT JOIN MemberEntity w ON w.memberId = s.writerId " +
+            "WHERE s.isPosted = 'Y' AND s.isApproved = 'Y' " +
+            "ORDER BY s.smScore DESC, s.strategyId DESC")
+    List<Object[]> findFacetRows();
+
+    /**
+     * 필터 인덱스에 담을 게시/승인 전략의 투자자산 분류 ID를 조회합니다.
+     *
+     * @return 행 (전략 ID, 투자자산 분류 ID)
+     */
+    @Query("SELECT iac.strategyEntity.strategyId, iac.investmentAssetClassesEntity.investmentAssetClassesId " +
+            "FROM StrategyIACEntity iac " +
+            "WHERE iac.strategyEntity.isPosted = 'Y' AND iac.strategyEntity.isApproved = 'Y'")
+    List<Object[]> findFacetInvestmentAssetClasses();
+
+    /**
+     * SM-Score 랭킹에 담을 전략별 표시 값을 조회합니다.
+     *
+     * @param strategyIds 전략 ID 목록
+     * @return 행 (전략 ID, 전략명, 작성자 ID, 작성자 닉네임, 작성자 프로필 이미지 링크, 목록 그래프, 최신 일자, 최신 일손익률)
+     */
+    @Query("SELECT s.strategyId, s.strategyTitle, s.writerId, w.nickname, w.profilePath, m.sparkline, m.latestDate, d.dailyPlRate " +
+            "FROM StrategyEntity s LEFT JOIN MemberEntity w ON w.memberId = s.writerId " +
+            "LEFT JOIN StrategySummaryEntity m ON m.strategyId = s.strategyId " +
+            "LEFT JOIN DailyStatisticsEntity d ON d.dailyStatisticsId = m.latestDailyStatisticsId " +
+            "WHERE s.strategyId IN :strategyIds")
+    List<Object[]> findLeaderboardRows(@Param("strategyIds") Collection<Long> strategyIds);
+}
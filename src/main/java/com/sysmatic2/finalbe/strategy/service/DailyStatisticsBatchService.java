@@ -0,0 +1,139 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+import com.sysmatic2.finalbe.strategy.dto.NightlyBatchReportDto;
+import com.sysmatic2.finalbe.strategy.dto.NightlyBatchReportDto.PartitionReport;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 자정 일간 통계 배치 서비스.
+ *
+ * - 전날 데이터가 없는 전략을 전략 ID 기준으로 파티션에 나누어 병렬로 등록합니다.
+ * - 전략마다 별도의 짧은 트랜잭션으로 등록하므로 일부 전략이 실패해도 나머지는 반영됩니다.
+ * - 모든 파티션이 끝나면 SM-SCORE를 한 번 재계산하고, 전날 일간 데이터에 일괄 반영합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyStatisticsBatchService {
+    private static final int PAGE_SIZE = 1000;
+
+    private final DailyStatisticsService dailyStatisticsService;
+    private final DailyStatisticsRepository dsp;
+    private final SmScoreService smScoreService;
+
+    // 병렬 처리 스레드(파티션) 수
+    @Value("${statistics.nightly.worker-threads:4}")
+    private int workerThreads;
+
+    /**
+     * 전날 일간 데이터를 등록하고 SM-SCORE를 반영합니다.
+     *
+     * @param date 처리 일자 (전날)
+     * @return 파티션별 처리 결과
+     */
+    public NightlyBatchReportDto runNightlyUpdate(LocalDate date) {
+        long startedAt = System.currentTimeMillis();
+
+        // 1. 데이터가 없는 전략 ID를 등록 전에 모두 조회 (등록 중에는 조회 결과가 바뀌므로)
+        List<Long> strategyIds = findStrategyIdsWithoutDailyStatistics(date);
+
+        // 2. 전략 ID 기준으로 파티션을 나누어 병렬 등록
+        int partitionCount = Math.max(1, Math.min(workerThreads, strategyIds.size()));
+        List<List<Long>> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (Long strategyId : strategyIds) {
+            partitions.get(Math.floorMod(strategyId, partitionCount)).add(strategyId);
+        }
+        List<PartitionReport> partitionReports = registerInParallel(date, partitions);
+
+        // 3. 모든 파티션이 끝난 뒤 SM-SCORE를 한 번 재계산하고 전날 일간 데이터에 일괄 반영
+        smScoreService.flush();
+        int stampedCount = dailyStatisticsService.stampSmScores(date);
+
+        return NightlyBatchReportDto.builder()
+                .date(date)
+                .partitions(partitionReports)
+                .stampedCount(stampedCount)
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .build();
+    }
+
+    private List<Long> findStrategyIdsWithoutDailyStatistics(LocalDate date) {
+        List<Long> strategyIds = new ArrayList<>();
+        int page = 0;
+        Page<Long> strategyIdsPage;
+        do {
+            strategyIdsPage = dsp.findStrategyIdsWithoutDailyStatistics(date, PageRequest.of(page, PAGE_SIZE));
+            strategyIds.addAll(strategyIdsPage.getContent());
+            page++;
+        } while (!strategyIdsPage.isLast());
+        return strategyIds;
+    }
+
+    private List<PartitionReport> registerInParallel(LocalDate date, List<List<Long>> partitions) {
+        ExecutorService executor = Executors.newFixedThreadPool(partitions.size());
+        try {
+            List<Callable<PartitionReport>> tasks = new ArrayList<>(partitions.size());
+            for (int i = 0; i < partitions.size(); i++) {
+                int partition = i;
+                tasks.add(() -> registerPartition(partition, date, partitions.get(partition)));
+            }
+
+            List<PartitionReport> reports = new ArrayList<>(partitions.size());
+            for (Future<PartitionReport> future : executor.invokeAll(tasks)) {
+                reports.add(future.get());
+            }
+            return reports;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("자정 일간 통계 배치가 중단되었습니다. Date: " + date, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("자정 일간 통계 배치 파티션 처리에 실패했습니다. Date: " + date, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 파티션의 전략을 순서대로 등록 (전략마다 별도 트랜잭션)
+    private PartitionReport registerPartition(int partition, LocalDate date, List<Long> strategyIds) {
+        long startedAt = System.currentTimeMillis();
+        int processedCount = 0;
+        List<Long> failedStrategyIds = new ArrayList<>();
+
+        for (Long strategyId : strategyIds) {
+            DailyStatisticsReqDto reqDto = DailyStatisticsReqDto.builder()
+                    .date(date)
+                    .depWdPrice(BigDecimal.ZERO) // 입출금 금액 기본값
+                    .dailyProfitLoss(BigDecimal.ZERO) // 일 손익 기본값
+                    .build();
+            try {
+                dailyStatisticsService.registerDailyStatistics(strategyId, reqDto);
+                processedCount++;
+            } catch (RuntimeException e) {
+                // 실패한 전략은 기록만 하고 다음 전략 계속 처리
+                System.out.println("Nightly batch failed. Strategy ID: " + strategyId + ", Date: " + date + ", Reason: " + e.getMessage());
+                failedStrategyIds.add(strategyId);
+            }
+        }
+
+        return PartitionReport.builder()
+                .partition(partition)
+                .processedCount(processedCount)
+                .failedStrategyIds(failedStrategyIds)
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .build();
+    }
+}
@@ -0,0 +1,352 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsJobResponseDto;
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsJobResponseDto.RowError;
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobEntity;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobRowEntity;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobStatus;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsJobRepository;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsJobRowRepository;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 일간 데이터 등록 작업 서비스 (수기 등록 / 엑셀 업로드)
+ *
+ * - 입력 데이터(일자, 입출금, 일손익)는 요청 트랜잭션에서 작업 행으로 바로 저장하고 작업 ID를 반환합니다.
+ * - 파생 지표(일간 통계, 월간 통계, KP-RATIO, SM-SCORE) 계산은 커밋 후 제한된 크기의 작업 스레드 풀에서 처리합니다.
+ * - 이미 등록된 날짜 등 행 단위 오류는 해당 행에 기록하고 나머지 행만 등록합니다.
+ *   일괄 등록이 실패하면 한 행씩 다시 등록하여 실패한 행과 사유를 기록합니다.
+ * - 접수 시 처리 자리(작업 스레드 수 + 대기열 크기)를 예약하고, 자리가 없으면 입력 데이터를 저장하지 않고 503을 반환합니다.
+ *   자리를 예약한 작업만 대기열에 넣으므로 접수된 작업이 대기열에서 거부되지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyStatisticsJobService {
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+    private static final int MAX_ROW_ERROR_MESSAGE_LENGTH = 500;
+
+    private final DailyStatisticsJobRepository jobRepository;
+    private final DailyStatisticsJobRowRepository jobRowRepository;
+    private final DailyStatisticsRepository dsp;
+    private final StrategyRepository strategyRepository;
+    private final DailyStatisticsService dailyStatisticsService;
+
+    // 계산 작업 스레드 수
+    @Value("${statistics.jobs.worker-threads:4}")
+    private int workerThreads;
+
+    // 대기열 크기 (초과 시 503)
+    @Value("${statistics.jobs.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+    private Semaphore slots; // 처리 자리 (접수 시 예약, 작업 종료 시 반환)
+    private LocalDateTime startedAt; // 서버 시작 일시 (이전 실행에서 중단된 작업 판별용)
+
+    @PostConstruct
+    void start() {
+        startedAt = LocalDateTime.now();
+        executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity));
+        slots = new Semaphore(workerThreads + queueCapacity);
+    }
+
+    @PreDestroy
+    void stop() {
+        // 대기 중인 작업은 PENDING 으로 남아 다음 시작 시 다시 처리
+        executor.shutdownNow();
+    }
+
+    /**
+     * 일간 데이터 등록 작업을 접수합니다.
+     *
+     * - 처리 자리를 예약한 뒤 입력 데이터를 작업 행으로 저장하고, 커밋 후 계산 작업을 대기열에 넣습니다.
+     * - 롤백되면 예약한 자리를 반환합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param rows       행 번호별 입력 데이터 (수기 등록: 입력 순서, 엑셀: 시트 행 번호)
+     * @param source     요청 경로 (MANUAL, EXCEL)
+     * @param memberId   요청자 ID
+     * @return 접수된 작업 (PENDING)
+     * @throws ResponseStatusException 처리 자리가 없는 경우 (503)
+     */
+    @Transactional
+    public DailyStatisticsJobResponseDto submit(Long strategyId, Map<Integer, DailyStatisticsReqDto> rows, String source, String memberId) {
+        if (strategyId == null) {
+            throw new IllegalArgumentException("Strategy ID는 null일 수 없습니다.");
+        }
+        if (!slots.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "일간 데이터 등록 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        boolean reserved = false;
+        try {
+            DailyStatisticsJobEntity job = saveJob(strategyId, rows, source, memberId);
+
+            // 커밋 후 예약한 자리로 계산 작업 대기열에 추가 (커밋 전에는 작업 스레드에서 입력 데이터를 읽을 수 없으므로)
+            Long jobId = job.getJobId();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        enqueue(jobId);
+                    } else {
+                        slots.release();
+                    }
+                }
+            });
+            reserved = true;
+            return toResponseDto(job, List.of());
+        } finally {
+            if (!reserved) {
+                slots.release();
+            }
+        }
+    }
+
+    // 작업 및 입력 데이터 저장
+    private DailyStatisticsJobEntity saveJob(Long strategyId, Map<Integer, DailyStatisticsReqDto> rows, String source, String memberId) {
+        DailyStatisticsJobEntity job = jobRepository.save(DailyStatisticsJobEntity.builder()
+                .strategyId(strategyId)
+                .status(DailyStatisticsJobStatus.PENDING)
+                .source(source)
+                .rowCount(rows.size())
+                .requestedBy(memberId)
+                .requestedAt(LocalDateTime.now())
+                .build());
+
+        List<DailyStatisticsJobRowEntity> jobRows = new ArrayList<>(rows.size());
+        rows.forEach((rowNumber, reqDto) -> jobRows.add(DailyStatisticsJobRowEntity.builder()
+                .jobId(job.getJobId())
+                .rowNumber(rowNumber)
+                .date(reqDto.getDate())
+                .depWdPrice(reqDto.getDepWdPrice())
+                .dailyProfitLoss(reqDto.getDailyProfitLoss())
+                .build()));
+        jobRowRepository.saveAll(jobRows);
+        return job;
+    }
+
+    /**
+     * 작업 상태와 행 단위 오류를 조회합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param jobId      작업 ID
+     * @param memberId   접속자 ID
+     * @param isTrader   트레이더 여부 (트레이더는 본인 전략의 작업만 조회 가능)
+     * @return 작업 상태
+     */
+    @Transactional(readOnly = true)
+    public DailyStatisticsJobResponseDto getJob(Long strategyId, Long jobId, String memberId, Boolean isTrader) {
+        StrategyEntity strategyEntity = strategyRepository.findById(strategyId).orElseThrow(
+                () -> new NoSuchElementException("해당 전략의 정보가 없습니다."));
+
+        // 트레이더면 작성자 판별
+        if (isTrader && !strategyEntity.getWriterId().equals(memberId)) {
+            throw new AccessDeniedException("작업 조회 권한이 없습니다.");
+        }
+
+        DailyStatisticsJobEntity job = jobRepository.findByJobIdAndStrategyId(jobId, strategyId).orElseThrow(
+                () -> new NoSuchElementException("해당 작업의 정보가 없습니다."));
+
+        List<RowError> rowErrors = jobRowRepository.findByJobIdAndErrorMessageIsNotNullOrderByRowNumberAsc(jobId).stream()
+                .map(row -> RowError.builder()
+                        .rowNumber(row.getRowNumber())
+                        .date(row.getDate())
+                        .message(row.getErrorMessage())
+                        .build())
+                .toList();
+        return toResponseDto(job, rowErrors);
+    }
+
+    /**
+     * 서버 시작 시 미처리 작업을 복구합니다.
+     *
+     * - 대기 중(PENDING)이던 작업은 다시 대기열에 넣습니다. (처리 자리가 없으면 실패로 처리)
+     * - 이전 실행에서 계산 중(COMPUTING)이던 작업은 결과를 알 수 없으므로 실패로 처리합니다. (등록 트랜잭션은 롤백되었거나 커밋됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverJobs() {
+        for (DailyStatisticsJobEntity job : jobRepository.findByStatusOrderByJobIdAsc(DailyStatisticsJobStatus.COMPUTING)) {
+            if (!job.getStartedAt().isBefore(startedAt)) {
+                continue; // 이번 실행에서 시작된 작업
+            }
+            finish(job, DailyStatisticsJobStatus.FAILED, "서버 재시작으로 계산이 중단되었습니다. 등록 결과를 확인한 뒤 다시 요청해 주세요.");
+        }
+        for (DailyStatisticsJobEntity job : jobRepository.findByStatusOrderByJobIdAsc(DailyStatisticsJobStatus.PENDING)) {
+            if (slots.tryAcquire()) {
+                enqueue(job.getJobId());
+            } else {
+                jobRepository.markFailed(job.getJobId(), "대기 중인 작업이 많아 처리하지 못했습니다. 다시 요청해 주세요.", LocalDateTime.now());
+            }
+        }
+    }
+
+    /**
+     * 작업의 파생 지표를 계산합니다. (작업 스레드에서 실행)
+     *
+     * @param jobId 작업 ID
+     */
+    void process(Long jobId) {
+        // 1. 대기 중인 작업만 계산 중으로 변경 (중복 실행 방지)
+        if (jobRepository.markComputing(jobId, LocalDateTime.now()) == 0) {
+            return;
+        }
+        DailyStatisticsJobEntity job = jobRepository.findById(jobId).orElseThrow(
+                () -> new NoSuchElementException("해당 작업의 정보가 없습니다. Job ID: " + jobId));
+
+        try {
+            // 2. 이미 등록된 날짜 및 작업 내 중복 날짜는 행 오류로 기록
+            List<DailyStatisticsJobRowEntity> rows = jobRowRepository.findByJobIdOrderByRowNumberAsc(jobId);
+            Set<LocalDate> registeredDates = new HashSet<>(dsp.findRegisteredDates(job.getStrategyId(),
+                    rows.stream().map(DailyStatisticsJobRowEntity::getDate).toList()));
+            Set<LocalDate> seenDates = new HashSet<>();
+            List<DailyStatisticsJobRowEntity> validRows = new ArrayList<>(rows.size());
+            List<DailyStatisticsReqDto> reqDtos = new ArrayList<>(rows.size());
+            List<DailyStatisticsJobRowEntity> errorRows = new ArrayList<>();
+            for (DailyStatisticsJobRowEntity row : rows) {
+                if (registeredDates.contains(row.getDate())) {
+                    row.setErrorMessage("이미 등록된 날짜입니다: " + row.getDate());
+                    errorRows.add(row);
+                } else if (!seenDates.add(row.getDate())) {
+                    row.setErrorMessage("중복된 날짜가 포함되어 있습니다: " + row.getDate());
+                    errorRows.add(row);
+                } else {
+                    validRows.add(row);
+                    reqDtos.add(DailyStatisticsReqDto.builder()
+                            .date(row.getDate())
+                            .depWdPrice(row.getDepWdPrice())
+                            .dailyProfitLoss(row.getDailyProfitLoss())
+                            .build());
+                }
+            }
+            if (!errorRows.isEmpty()) {
+                jobRowRepository.saveAll(errorRows);
+            }
+
+            // 3. 나머지 행을 한 번에 등록 및 재계산
+            if (reqDtos.isEmpty()) {
+                finish(job, DailyStatisticsJobStatus.FAILED, "등록 가능한 데이터가 없습니다.");
+                return;
+            }
+            try {
+                dailyStatisticsService.registerDailyStatisticsBulk(job.getStrategyId(), reqDtos);
+            } catch (RuntimeException e) {
+                // 4. 일괄 등록이 실패하면 한 행씩 등록하여 실패한 행과 사유를 기록
+                System.out.println("Daily statistics bulk registration failed, retrying row by row. Job ID: " + jobId + ", Reason: " + e.getMessage());
+                if (!registerRowByRow(job.getStrategyId(), validRows, reqDtos)) {
+                    finish(job, DailyStatisticsJobStatus.FAILED, "모든 행의 등록에 실패했습니다. 행 오류를 확인해 주세요.");
+                    return;
+                }
+            }
+            finish(job, DailyStatisticsJobStatus.DONE, null);
+        } catch (RuntimeException e) {
+            System.out.println("Daily statistics job failed. Job ID: " + jobId + ", Strategy ID: " + job.getStrategyId() + ", Reason: " + e.getMessage());
+            finish(job, DailyStatisticsJobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 입력 데이터를 날짜순으로 한 행씩 등록하고, 실패한 행에 사유를 기록합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param rows       작업 행 (reqDtos 와 같은 순서)
+     * @param reqDtos    입력 데이터
+     * @return 등록된 행이 있으면 true
+     */
+    private boolean registerRowByRow(Long strategyId, List<DailyStatisticsJobRowEntity> rows, List<DailyStatisticsReqDto> reqDtos) {
+        List<Integer> order = IntStream.range(0, reqDtos.size()).boxed()
+                .sorted(Comparator.comparing(i -> reqDtos.get(i).getDate()))
+                .toList();
+
+        boolean registered = false;
+        List<DailyStatisticsJobRowEntity> failedRows = new ArrayList<>();
+        for (int i : order) {
+            try {
+                dailyStatisticsService.registerDailyStatisticsBulk(strategyId, List.of(reqDtos.get(i)));
+                registered = true;
+            } catch (RuntimeException e) {
+                String reason = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+                rows.get(i).setErrorMessage(truncate(reason, MAX_ROW_ERROR_MESSAGE_LENGTH));
+                failedRows.add(rows.get(i));
+            }
+        }
+        if (!failedRows.isEmpty()) {
+            jobRowRepository.saveAll(failedRows);
+        }
+        return registered;
+    }
+
+    // 예약한 자리로 계산 작업을 대기열에 추가 (작업이 끝나면 자리 반환)
+    private void enqueue(Long jobId) {
+        try {
+            executor.execute(() -> {
+                try {
+                    process(jobId);
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            if (executor.isShutdown()) {
+                return; // 종료 중이면 PENDING 으로 남겨 다음 시작 시 처리
+            }
+            System.out.println("Daily statistics job rejected. Job ID: " + jobId + ", Reason: " + e.getMessage());
+            jobRepository.markFailed(jobId, "작업을 대기열에 넣지 못했습니다. 다시 요청해 주세요.", LocalDateTime.now());
+        }
+    }
+
+    private void finish(DailyStatisticsJobEntity job, DailyStatisticsJobStatus status, String errorMessage) {
+        job.setStatus(status);
+        job.setErrorMessage(truncate(errorMessage, MAX_ERROR_MESSAGE_LENGTH));
+        job.setFinishedAt(LocalDateTime.now());
+        jobRepository.save(job);
+    }
+
+    private static String truncate(String message, int maxLength) {
+        return message == null || message.length() <= maxLength ? message : message.substring(0, maxLength);
+    }
+
+    private static DailyStatisticsJobResponseDto toResponseDto(DailyStatisticsJobEntity job, List<RowError> rowErrors) {
+        return DailyStatisticsJobResponseDto.builder()
+                .jobId(job.getJobId())
+                .strategyId(job.getStrategyId())
+                .status(job.getStatus())
+                .source(job.getSource())
+                .rowCount(job.getRowCount())
+                .errorMessage(job.getErrorMessage())
+                .requestedAt(job.getRequestedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .rowErrors(rowErrors)
+                .build();
+    }
+}
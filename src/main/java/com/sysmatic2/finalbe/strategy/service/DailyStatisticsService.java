@@ -3,25 +3,31 @@ package com.sysmatic2.finalbe.strategy.service;
 import com.sysmatic2.finalbe.exception.DuplicateDateException;
 import com.sysmatic2.finalbe.strategy.dto.*;
 import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsStateEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategySummaryEntity;
 import com.sysmatic2.finalbe.strategy.repository.*;
+import com.sysmatic2.finalbe.strategy.common.DailyStatisticsAccumulator;
 import com.sysmatic2.finalbe.strategy.common.DailyStatisticsCalculator;
+import com.sysmatic2.finalbe.strategy.common.FixedPointDailyStatisticsKernel;
+import com.sysmatic2.finalbe.strategy.common.StrategySeriesCache;
+import com.sysmatic2.finalbe.strategy.common.StrategyWriteLanes;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
-import java.util.function.Consumer;
 import java.util.function.Function;
 
 @Service
@@ -35,6 +41,19 @@ public class DailyStatisticsService {
     // TODO 월간분석이력테이블
     private final MonthlyStatisticsHistoryRepository monthlyStatisticsHistoryRepository;
     private final MonthlyStatisticsService monthlyStatisticsService;
+    private final DailyStatisticsStateRepository dailyStatisticsStateRepository;
+    private final SmScoreService smScoreService;
+    private final StrategyWriteLanes strategyWriteLanes;
+    private final StrategySeriesCache strategySeriesCache;
+    private final StrategySummaryService strategySummaryService;
+
+    // KP-RATIO 검증 모드 (현재 입력 데이터 기반 계산 결과를 전체 이력 기반 계산과 비교)
+    @Value("${statistics.kp-ratio.verify:false}")
+    private boolean verifyKpRatio;
+
+    // 고정 소수점 계산 모드 (전체 구간 재계산 시 누적 상태가 필요 없는 지표를 primitive 배열에서 계산)
+    @Value("${statistics.fixed-point-kernel.enabled:false}")
+    private boolean fixedPointKernelEnabled;
 
     /**
      * 특정 전략의 통계 데이터를 조회합니다.
@@ -44,28 +63,19 @@ public class DailyStatisticsService {
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getDailyStatistics(Long strategyId) {
-        // 전략 존재 여부 확인
-        Optional<StrategyEntity> strategyOpt = strategyRepository.findById(strategyId);
-        if (strategyOpt.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Strategy with ID " + strategyId + " does not exist.");
-        }
-
-        // 최신 일간 통계 데이터 조회
-        List<DailyStatisticsEntity> latestStatisticsList = dsp.findLatestStatisticsByStrategyId(strategyId, SINGLE_RESULT_PAGE);
+        // 전략 요약 조회 (전략 존재 여부 확인, 최신 일간 통계 ID와 최초/최신 일자 보관)
+        StrategySummaryEntity summary = strategySummaryService.findSummary(strategyId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Strategy with ID " + strategyId + " does not exist."));
 
-        if (latestStatisticsList.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No daily statistics found for strategy with ID " + strategyId);
-        }
-        // 첫 번째 데이터 가져오기
-        DailyStatisticsEntity latestStatistics = latestStatisticsList.get(0);
+        // 최신 일간 통계 데이터 조회 (기본키 조회, 요약 갱신 전에 행이 삭제되었으면 일자 기준으로 다시 조회)
+        DailyStatisticsEntity latestStatistics = Optional.ofNullable(summary.getLatestDailyStatisticsId())
+                .flatMap(dsp::findById)
+                .or(() -> dsp.findLatestByStrategyId(strategyId, PageRequest.of(0, 1)).stream().findFirst())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No daily statistics found for strategy with ID " + strategyId));
 
-        // 최초 입력 일자 조회
-        Optional<LocalDate> earliestDateOpt = dsp.findEarliestDateByStrategyId(strategyId);
-        if (earliestDateOpt.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No data found for strategy with ID " + strategyId);
-        }
-        LocalDate startDate = earliestDateOpt.get();
         LocalDate endDate = latestStatistics.getDate();
+        LocalDate startDate = Optional.ofNullable(summary.getEarliestDate())
+                .orElseGet(() -> dsp.findEarliestDateByStrategyId(strategyId).orElse(endDate));
 
         // 운용기간 계산
         long operationPeriod = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
@@ -134,6 +144,11 @@ public class DailyStatisticsService {
             throw new IllegalArgumentException("Strategy ID는 null일 수 없습니다.");
         }
 
+        // 같은 전략의 일간 데이터 변경은 순서대로 처리 (트랜잭션 종료 시 해제)
+        strategyWriteLanes.lock(strategyId);
+        strategySeriesCache.evictAfterCommit(strategyId); // 커밋 후 시계열 캐시 제거
+        strategySummaryService.refreshLatestBeforeCommit(strategyId); // 커밋 직전 목록 요약의 최신 일간 지표 갱신
+
         // 전략 존재 여부 확인
         StrategyEntity strategyEntity = strategyRepository.findById(strategyId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Strategy with ID " + strategyId + " does not exist."));
@@ -170,10 +185,7 @@ public class DailyStatisticsService {
             // 등록한 날짜 이후의 데이터 가져오기
             List<DailyStatisticsEntity> affectedRows = dsp.findAllAfterDate(strategyId, afterState.getDate());
 
-            // 등록한 데이터부터 이후 데이터를 삭제
-            dsp.deleteFromDate(strategyId, afterState.getDate());
-
-            // 이후 데이터를 재계산 및 저장
+            // 이후 데이터를 재계산하여 기존 행에 반영 (ID 유지)
             recalculateAndSave(affectedRows, newEntry, strategyId);
         }
     }
@@ -187,6 +199,11 @@ public class DailyStatisticsService {
      */
     @Transactional
     public void updateDailyData(Long strategyId, Long dailyDataId, String memberId, Boolean isTrader, DailyStatisticsReqDto reqDto) {
+        // 같은 전략의 일간 데이터 변경은 순서대로 처리 (트랜잭션 종료 시 해제)
+        strategyWriteLanes.lock(strategyId);
+        strategySeriesCache.evictAfterCommit(strategyId); // 커밋 후 시계열 캐시 제거
+        strategySummaryService.refreshLatestBeforeCommit(strategyId); // 커밋 직전 목록 요약의 최신 일간 지표 갱신
+
         // 1. 수정 대상 데이터 조회
         DailyStatisticsEntity targetData = dsp.findById(dailyDataId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Daily data not found"));
@@ -201,56 +218,31 @@ public class DailyStatisticsService {
             throw new DuplicateDateException("Date already exists: " + reqDto.getDate());
         }
 
+        // 누적 상태 무효화 (재계산 시 일간 데이터로부터 다시 구성)
+        invalidateStatisticsState(strategyId);
+
         // 3. 날짜 비교: 수정 전 날짜 vs 수정 후 날짜
         boolean isDateEarlier = targetData.getDate().isBefore(reqDto.getDate());
 
-        // 직전 최신 데이터 조회
-        List<DailyStatisticsEntity> previousDataList = dsp.findLatestBeforeDate(
-                strategyId,
-                isDateEarlier ? targetData.getDate() : reqDto.getDate(),
-                SINGLE_RESULT_PAGE
-        );
-        // 직후 오래된 데이터 조회
-        List<DailyStatisticsEntity> afterDataList = dsp.findOldestAfterDateList(
-                strategyId,
-                targetData.getDate(),
-                SINGLE_RESULT_PAGE
-        );
+        // 기준이 되는 날짜: 수정 전 날짜와 수정 후 날짜 중 빠른 날짜
+        LocalDate fromDate = isDateEarlier ? targetData.getDate() : reqDto.getDate();
 
-        // 가장 처음 데이터일 경우 null
-        DailyStatisticsEntity previousData = previousDataList.isEmpty() ? null : previousDataList.get(0);
-        // 가장 처음 데이터일 경우 null
-        DailyStatisticsEntity afterData = afterDataList.isEmpty() ? null : afterDataList.get(0);
+        // 직전 최신 데이터 조회 (가장 처음 데이터일 경우 null)
+        DailyStatisticsEntity previousData = dsp.findLatestBeforeDate(strategyId, fromDate, SINGLE_RESULT_PAGE)
+                .stream().findFirst().orElse(null);
 
-        // 수정된 데이터 업데이트
+        // 수정된 데이터 반영 (ID 유지, 파생 지표는 아래에서 재계산)
         targetData.setDate(reqDto.getDate());
         targetData.setDailyProfitLoss(reqDto.getDailyProfitLoss());
         targetData.setDepWdPrice(reqDto.getDepWdPrice());
-        dsp.save(targetData);
-
-        // 가장 뒤 데이터를 더 늦은 일자로 수정한 경우 해당 날짜 데이터만 수정하고 리턴
-        if(afterData == null) return;
 
-        List<DailyStatisticsEntity> affectedRows = null;
-        LocalDate fromDate = null; // 기준이 되는 날짜
-        if (isDateEarlier) {
-            // (1) 수정 전 날짜가 빠른 경우
+        // 기준일(포함) 이후 데이터를 수정된 데이터와 함께 날짜순으로 정렬
+        List<DailyStatisticsEntity> affectedRows = new ArrayList<>(dsp.findAllAfterDate(strategyId, fromDate));
+        affectedRows.remove(targetData);
+        affectedRows.add(targetData);
+        affectedRows.sort(Comparator.comparing(DailyStatisticsEntity::getDate));
 
-            // 직전 최신 데이터부터 리스트 조회
-            // 가장 처음 데이터면 현재 데이터부터 리스트 조회
-            // 직전 최신 데이터부터 삭제
-            // 가장 처음 데이터면 현재 데이터부터 삭제
-            fromDate = afterData.getDate();
-        } else {
-            // (2) 수정 전 날짜가 느린 경우
-
-            // 수정된 데이터부터 리스트 조회
-            // 수정된 데이터부터 삭제 및 재등록
-            fromDate = reqDto.getDate();
-        }
-        affectedRows = dsp.findAllAfterDate(strategyId, fromDate);
-        dsp.deleteFromDate(strategyId, fromDate);
-        // 리스트 데이터 재등록 및 재계산
+        // 수정된 데이터부터 재계산하여 기존 행에 반영
         recalculateAndSave(affectedRows, previousData, strategyId);
     }
 
@@ -268,6 +260,11 @@ public class DailyStatisticsService {
             throw new IllegalArgumentException("삭제할 ID 리스트가 비어 있습니다.");
         }
 
+        // 같은 전략의 일간 데이터 변경은 순서대로 처리 (트랜잭션 종료 시 해제)
+        strategyWriteLanes.lock(strategyId);
+        strategySeriesCache.evictAfterCommit(strategyId); // 커밋 후 시계열 캐시 제거
+        strategySummaryService.refreshLatestBeforeCommit(strategyId); // 커밋 직전 목록 요약의 최신 일간 지표 갱신
+
         // 2. 삭제 대상 ID 리스트의 모든 엔티티가 존재하는지 검증
         List<DailyStatisticsEntity> entitiesToDelete = dsp.findAllById(dailyStatisticsIds);
 
@@ -297,6 +294,9 @@ public class DailyStatisticsService {
         // 5. 삭제 대상 데이터를 삭제
         dsp.deleteAllById(dailyStatisticsIds);
 
+        // 누적 상태 무효화 (재계산 시 일간 데이터로부터 다시 구성)
+        invalidateStatisticsState(strategyId);
+
         // 6. 삭제 이후 재계산을 위한 다음 날짜 조회
         LocalDate nextDate;
         if (previousState.isPresent()) {
@@ -310,18 +310,17 @@ public class DailyStatisticsService {
                     .orElse(null);
         }
 
-        // 7. nextDate가 없는 경우 바로 리턴
+        // 7. nextDate가 없는 경우 삭제된 월 이후 월간 통계만 다시 구성하고 리턴
         if (nextDate == null) {
+            monthlyStatisticsService.refreshMonthlyStatistics(
+                    entitiesToDelete.get(0).getStrategyEntity(), List.of(YearMonth.from(oldestDateInIds)));
             return;
         }
 
-        // 7. 기준일(포함) 이후 데이터를 조회
+        // 8. 기준일(포함) 이후 데이터를 조회
         List<DailyStatisticsEntity> entitiesAfterDeletion = dsp.findAllAfterDate(strategyId, nextDate);
 
-        // 8. 기준일(포함) 이후 데이터 삭제
-        dsp.deleteFromDate(strategyId, nextDate);
-
-        // 9. 기준일(포함) 이후 데이터를 순회하며 재계산
+        // 9. 기준일(포함) 이후 데이터를 재계산하여 기존 행에 반영 (ID 유지)
         if (!entitiesAfterDeletion.isEmpty()) {
             recalculateAndSave(entitiesAfterDeletion, previousState.orElse(null), strategyId);
         }
@@ -329,42 +328,192 @@ public class DailyStatisticsService {
 
 
     /**
-     * 주어진 데이터 리스트를 재계산하여 저장합니다.
+     * 일간 통계 데이터를 일괄 등록하는 메서드 (엑셀 업로드)
+     *
+     * - 요청 데이터를 날짜순으로 정렬한 뒤, 가장 이른 날짜 이후의 기존 데이터와 병합하여 한 번에 재계산합니다.
+     * - 기존 데이터는 삭제하지 않고 재계산 결과로 갱신하며(ID 유지), 요청 데이터만 새로 저장합니다.
+     * - 재계산 결과는 일괄 저장하며, KP-RATIO / SM-SCORE / 월간 통계는 마지막에 한 번만 갱신합니다.
      *
-     * @param affectedRows 수정 후 영향을 받는 데이터 리스트
+     * @param strategyId 전략 ID
+     * @param reqDtos    등록할 데이터 리스트 (순서 무관)
+     * @return 등록된 일간 통계 데이터 리스트 (날짜 오름차순)
+     */
+    @Transactional
+    public List<DailyStatisticsEntity> registerDailyStatisticsBulk(Long strategyId, List<DailyStatisticsReqDto> reqDtos) {
+        // 전략 ID 유효성 검사
+        if (strategyId == null) {
+            throw new IllegalArgumentException("Strategy ID는 null일 수 없습니다.");
+        }
+
+        // 같은 전략의 일간 데이터 변경은 순서대로 처리 (트랜잭션 종료 시 해제)
+        strategyWriteLanes.lock(strategyId);
+        strategySeriesCache.evictAfterCommit(strategyId); // 커밋 후 시계열 캐시 제거
+        strategySummaryService.refreshLatestBeforeCommit(strategyId); // 커밋 직전 목록 요약의 최신 일간 지표 갱신
+        if (reqDtos.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 요청 데이터를 날짜순으로 정렬
+        List<DailyStatisticsReqDto> sortedReqDtos = reqDtos.stream()
+                .sorted(Comparator.comparing(DailyStatisticsReqDto::getDate))
+                .toList();
+        LocalDate fromDate = sortedReqDtos.get(0).getDate();
+
+        // 2. 직전 데이터 및 가장 이른 날짜 이후의 기존 데이터 조회
+        DailyStatisticsEntity previousData = dsp.findLatestBeforeDate(strategyId, fromDate, SINGLE_RESULT_PAGE)
+                .stream().findFirst().orElse(null);
+        List<DailyStatisticsEntity> existingRows = dsp.findAllAfterDate(strategyId, fromDate);
+
+        // 3. 기존 데이터와 날짜순으로 병합 (요청 내 중복 및 기존 날짜와의 중복 확인)
+        // - mergedRows: 병합된 위치의 기존 데이터 (요청 데이터 위치는 null)
+        List<DailyStatisticsReqDto> mergedReqDtos = new ArrayList<>(sortedReqDtos.size() + existingRows.size());
+        List<DailyStatisticsEntity> mergedRows = new ArrayList<>(sortedReqDtos.size() + existingRows.size());
+        Set<LocalDate> registeredDates = new HashSet<>();
+        int existingIndex = 0;
+        for (DailyStatisticsReqDto reqDto : sortedReqDtos) {
+            while (existingIndex < existingRows.size() && existingRows.get(existingIndex).getDate().isBefore(reqDto.getDate())) {
+                mergedRows.add(existingRows.get(existingIndex));
+                mergedReqDtos.add(toReqDto(existingRows.get(existingIndex++)));
+            }
+            if (existingIndex < existingRows.size() && existingRows.get(existingIndex).getDate().equals(reqDto.getDate())) {
+                throw new DuplicateDateException("이미 등록된 날짜입니다: " + reqDto.getDate());
+            }
+            if (!registeredDates.add(reqDto.getDate())) {
+                throw new DuplicateDateException("중복된 날짜가 포함되어 있습니다: " + reqDto.getDate());
+            }
+            mergedRows.add(null);
+            mergedReqDtos.add(reqDto);
+        }
+        while (existingIndex < existingRows.size()) {
+            mergedRows.add(existingRows.get(existingIndex));
+            mergedReqDtos.add(toReqDto(existingRows.get(existingIndex++)));
+        }
+
+        // 4. 병합된 데이터를 한 번에 재계산하여 기존 데이터는 갱신, 요청 데이터는 새로 저장
+        List<DailyStatisticsEntity> savedRows = recalculateAndSaveAll(mergedReqDtos, mergedRows, previousData, strategyId);
+
+        // 5. 일괄 등록이 끝난 시점에 SM-SCORE를 한 번 재계산
+        smScoreService.flush();
+
+        // 6. 등록한 날짜의 데이터만 반환
+        return savedRows.stream()
+                .filter(savedRow -> registeredDates.contains(savedRow.getDate()))
+                .toList();
+    }
+
+    /**
+     * 주어진 데이터 리스트를 재계산하여 기존 행에 저장합니다. (ID 유지)
+     *
+     * @param affectedRows 수정 후 영향을 받는 데이터 리스트 (날짜 오름차순, 마지막 데이터까지)
      * @param previousData 직전 최신 데이터 (수정된 데이터 기준)
      * @param strategyId   전략 ID
      */
     private void recalculateAndSave(List<DailyStatisticsEntity> affectedRows, DailyStatisticsEntity previousData, Long strategyId) {
-        Optional<DailyStatisticsEntity> previousState = Optional.ofNullable(previousData);
+        // 기존 메서드에 맞춰 매개변수 가공
+        List<DailyStatisticsReqDto> reqDtos = affectedRows.stream()
+                .map(DailyStatisticsService::toReqDto)
+                .toList();
+        recalculateAndSaveAll(reqDtos, affectedRows, previousData, strategyId);
+    }
+
+    /**
+     * 입력 데이터 리스트로 일간 통계를 재계산하여 일괄 저장합니다.
+     *
+     * - 직전 데이터까지의 누적 상태를 한 번만 구성한 뒤, 메모리에서 날짜순으로 한 번에 재계산합니다.
+     * - 재계산 결과는 일괄 저장하고, KP-RATIO / SM-SCORE / 월간 통계는 마지막에 한 번만 갱신합니다.
+     * - 기존 데이터가 있는 위치는 기존 행의 ID로 저장하여 변경된 컬럼만 UPDATE 합니다. (삭제 후 재등록하지 않음)
+     *
+     * @param reqDtos      재계산할 입력 데이터 리스트 (날짜 오름차순, 마지막 데이터까지)
+     * @param existingRows 입력 데이터와 같은 위치의 기존 데이터 리스트 (새로 등록하는 위치는 null)
+     * @param previousData 직전 최신 데이터 (없으면 null)
+     * @param strategyId   전략 ID
+     * @return 저장된 일간 통계 데이터 리스트 (날짜 오름차순)
+     */
+    private List<DailyStatisticsEntity> recalculateAndSaveAll(List<DailyStatisticsReqDto> reqDtos, List<DailyStatisticsEntity> existingRows,
+                                                              DailyStatisticsEntity previousData, Long strategyId) {
+        if (reqDtos.isEmpty()) {
+            return List.of();
+        }
 
         // 전략 존재 여부 확인
-        Optional<StrategyEntity> strategy = strategyRepository.findById(strategyId);
-        if (strategy.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Strategy with ID " + strategyId + " does not exist.");
+        StrategyEntity strategy = strategyRepository.findById(strategyId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Strategy with ID " + strategyId + " does not exist."));
+
+        // 1. 재계산 시작일 직전까지의 누적 상태 구성 (1회)
+        LocalDate fromDate = reqDtos.get(0).getDate();
+        Optional<DailyStatisticsEntity> previousState = Optional.ofNullable(previousData);
+        DailyStatisticsStateEntity state = dailyStatisticsStateRepository.findById(strategyId)
+                .orElseGet(() -> DailyStatisticsStateEntity.builder().strategyId(strategyId).build());
+        DailyStatisticsAccumulator accumulator = loadAccumulator(strategyId, fromDate, previousState, state);
+
+        // 최근 1년 구간을 미리 채워 두면 재계산 중에는 조회가 필요 없음
+        if (accumulator.isOneYearWindowTruncated()) {
+            accumulator.restoreOneYearWindow(dsp.findAllBetweenDates(strategyId, fromDate.minusYears(1), fromDate));
         }
 
-        for (DailyStatisticsEntity row : affectedRows) {
-            // 기존 메서드에 맞춰 매개변수 가공
-            DailyStatisticsReqDto reqDto = new DailyStatisticsReqDto(
-                    row.getDate(),
-                    row.getDepWdPrice(),
-                    row.getDailyProfitLoss()
-            );
-
-            boolean firstEntry = previousData == null;
-
-            DailyStatisticsEntity recalculatedData = calculateDailyStatistics(
-                    strategyId,
-                    reqDto,
-                    firstEntry,
-                    previousState,
-                    strategy.get()
-            );
-
-            dsp.save(recalculatedData);
+        // 2. 메모리에서 날짜순으로 재계산
+        // - 고정 소수점 계산 모드이면 누적 상태가 필요 없는 지표를 전체 구간에 대해 먼저 계산
+        //   (입력값이 고정 소수점으로 표현되지 않으면 BigDecimal 계산 사용)
+        Optional<FixedPointDailyStatisticsKernel> kernel = fixedPointKernelEnabled
+                ? FixedPointDailyStatisticsKernel.compute(reqDtos, previousData)
+                : Optional.empty();
+        Function<LocalDate, Optional<DailyStatisticsEntity>> windowLoader = oneYearAgo -> Optional.empty(); // 구간이 채워져 있으므로 조회하지 않음
+
+        List<DailyStatisticsEntity> recalculatedRows = new ArrayList<>(reqDtos.size());
+        for (int i = 0; i < reqDtos.size(); i++) {
+            DailyStatisticsEntity recalculatedData = kernel.isPresent()
+                    ? completeDailyStatistics(kernel.get().toEntity(i), previousState, strategy, accumulator, windowLoader)
+                    : computeDailyStatistics(
+                            reqDtos.get(i),
+                            previousState.isEmpty(), // 직전 데이터가 없는 경우에만 첫 번째 데이터
+                            previousState,
+                            strategy,
+                            accumulator,
+                            windowLoader
+                    );
+
+            accumulator.append(recalculatedData);
+            if (existingRows.get(i) != null) {
+                keepIdentity(recalculatedData, existingRows.get(i));
+            }
+            recalculatedRows.add(recalculatedData);
             previousState = Optional.of(recalculatedData); // 업데이트된 데이터를 다음 계산의 기준으로 사용
         }
+
+        // 3. 재계산 결과 및 누적 상태 일괄 저장
+        List<DailyStatisticsEntity> savedRows = dsp.saveAll(recalculatedRows);
+        accumulator.writeTo(state);
+        dailyStatisticsStateRepository.save(state);
+
+        // 4. 마지막 데이터 기준으로 KP-RATIO 갱신 후 월간 통계를 한 번만 갱신
+        // SM-SCORE는 재계산 대상으로만 표시 (수정/삭제/과거 일자 등록은 스케줄러가, 일괄 등록은 마지막에 한 번 재계산)
+        DailyStatisticsEntity latest = recalculatedRows.get(recalculatedRows.size() - 1);
+        updateKpRatio(strategyId, latest.getKpRatio());
+        smScoreService.markDirty();
+
+        Set<YearMonth> affectedMonths = new TreeSet<>();
+        recalculatedRows.forEach(recalculated -> affectedMonths.add(YearMonth.from(recalculated.getDate())));
+        monthlyStatisticsService.refreshMonthlyStatistics(strategy, affectedMonths);
+
+        return savedRows;
+    }
+
+    // 재계산 결과를 기존 행으로 저장하도록 ID와 작성 정보를 유지 (변경되지 않은 행은 UPDATE 되지 않음)
+    private static void keepIdentity(DailyStatisticsEntity recalculatedData, DailyStatisticsEntity existingRow) {
+        recalculatedData.setDailyStatisticsId(existingRow.getDailyStatisticsId());
+        recalculatedData.setCreatedBy(existingRow.getCreatedBy());
+        recalculatedData.setCreatedAt(existingRow.getCreatedAt());
+        recalculatedData.setModifiedBy(existingRow.getModifiedBy());
+        recalculatedData.setModifiedAt(existingRow.getModifiedAt());
+    }
+
+    // 저장된 일간 데이터를 재계산용 입력 데이터로 변환
+    private static DailyStatisticsReqDto toReqDto(DailyStatisticsEntity row) {
+        return new DailyStatisticsReqDto(
+                row.getDate(),
+                row.getDepWdPrice(),
+                row.getDailyProfitLoss()
+        );
     }
 
     /**
@@ -385,6 +534,87 @@ public class DailyStatisticsService {
         Optional<DailyStatisticsEntity> previousState,
         StrategyEntity strategyEntity) {
 
+        // 누적 상태 조회 (전체 이력 조회 대신 누적 값으로 지표 계산)
+        DailyStatisticsStateEntity state = dailyStatisticsStateRepository.findById(strategyId)
+                .orElseGet(() -> DailyStatisticsStateEntity.builder().strategyId(strategyId).build());
+        DailyStatisticsAccumulator accumulator = loadAccumulator(strategyId, reqDto.getDate(), previousState, state);
+
+        // 지표 계산
+        // - 1년 전 기준가는 누적 상태의 1년 구간 첫 데이터, 구간을 벗어나면 다음 데이터 1건만 조회
+        DailyStatisticsEntity dailyStatistics = computeDailyStatistics(
+                reqDto,
+                firstEntry,
+                previousState,
+                strategyEntity,
+                accumulator,
+                oneYearAgo -> dsp.findOldestBetweenDates(strategyId, oneYearAgo, reqDto.getDate(), SINGLE_RESULT_PAGE)
+                        .stream().findFirst()
+        );
+
+        // 검증 모드: 현재 입력 데이터로 계산한 KP-RATIO를 전체 이력 기반 계산과 비교
+        if (verifyKpRatio) {
+            verifyKpRatio(strategyId, dailyStatistics);
+        }
+
+        // KP-RATIO 값에 따라 전략 테이블의 KP-RATIO와 SM-SCORE를 업데이트합니다.
+        updateKpRatio(strategyId, dailyStatistics.getKpRatio());
+
+        // SM-SCORE는 재계산 대상으로만 표시 (스케줄러가 주기적으로 한 번에 재계산)
+        smScoreService.markDirty();
+
+        // 누적 상태 갱신
+        accumulator.append(dailyStatistics);
+        accumulator.writeTo(state);
+        dailyStatisticsStateRepository.save(state);
+
+        // 월간 통계 업데이트
+        monthlyStatisticsService.updateMonthlyStatistics(strategyId, dailyStatistics);
+
+        return dailyStatistics;
+    }
+
+    /**
+     * 일일 통계 지표를 계산하는 메서드 (DB 갱신 없음)
+     *
+     * - 이전 데이터와 누적 상태만으로 당일 지표를 계산합니다.
+     * - 누적 상태 반영(append)과 저장, 전략/월간 통계 갱신은 호출하는 쪽에서 처리합니다.
+     *
+     * @param reqDto         요청 데이터
+     * @param firstEntry     첫 번째 데이터 여부
+     * @param previousState  이전 상태 데이터
+     * @param strategyEntity 전략 엔티티
+     * @param accumulator    직전 데이터까지 반영된 누적 상태
+     * @param windowLoader   최근 1년 구간이 잘린 경우 기준일(포함) 이후 첫 번째 일간 데이터를 조회하는 함수
+     * @return 계산된 일일 통계 데이터 엔티티
+     */
+    private DailyStatisticsEntity computeDailyStatistics(
+        DailyStatisticsReqDto reqDto,
+        boolean firstEntry,
+        Optional<DailyStatisticsEntity> previousState,
+        StrategyEntity strategyEntity,
+        DailyStatisticsAccumulator accumulator,
+        Function<LocalDate, Optional<DailyStatisticsEntity>> windowLoader) {
+
+        DailyStatisticsEntity dailyStatistics = computeSeriesStatistics(reqDto, firstEntry, previousState);
+        return completeDailyStatistics(dailyStatistics, previousState, strategyEntity, accumulator, windowLoader);
+    }
+
+    /**
+     * 직전 데이터와 입력값만으로 정해지는 지표를 계산하는 메서드
+     *
+     * - 잔고, 원금, 기준가, 손익률, 손익 합계, 연속일수 등 누적 상태가 필요 없는 지표만 계산합니다.
+     * - FixedPointDailyStatisticsKernel 이 같은 지표를 고정 소수점으로 계산합니다. (공식 변경 시 함께 수정)
+     *
+     * @param reqDto        요청 데이터
+     * @param firstEntry    첫 번째 데이터 여부
+     * @param previousState 이전 상태 데이터
+     * @return 지표가 일부 채워진 일일 통계 데이터 엔티티
+     */
+    private static DailyStatisticsEntity computeSeriesStatistics(
+        DailyStatisticsReqDto reqDto,
+        boolean firstEntry,
+        Optional<DailyStatisticsEntity> previousState) {
+
         // 이전 상태 가져오기
         // ===== 첫 번째 데이터 초기화 처리 =====
         BigDecimal previousBalance = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getBalance).orElse(BigDecimal.ZERO); // 이전 잔고
@@ -401,9 +631,6 @@ public class DailyStatisticsService {
         Integer previousCurrentConsecutivePlDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getCurrentConsecutivePlDays).orElse(0); // 이전 연속 손익일수
         Integer previousMaxConsecutiveProfitDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getMaxConsecutiveProfitDays).orElse(0); // 이전 최대 연속 수익일수
         Integer previousMaxConsecutiveLossDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getMaxConsecutiveLossDays).orElse(0); // 이전 최대 연속 손실일수
-        BigDecimal previousMaxDdInRate = previousState
-                .map(DailyStatisticsEntity::getMaxDdInRate)
-                .orElse(BigDecimal.ZERO); // 이전 maxDDInRate 값 가져오기
 
         // 사용자 입력값
         BigDecimal dailyProfitLoss = reqDto.getDailyProfitLoss(); // 오늘의 일손익
@@ -482,67 +709,25 @@ public class DailyStatisticsService {
                 ? cumulativeProfitLoss.subtract(maxCumulativeProfitLoss) // 누적손익 - 최대 누적손익
                 : BigDecimal.ZERO; // 누적손익이 0보다 작거나 같으면 0
 
-        // 최대 자본인하 금액 계산
-        List<BigDecimal> drawdownAmounts = dsp.findAllDrawdownAmountsByStrategyId(strategyId);
-
-        // 현재 자본인하 금액을 리스트에 추가
-        drawdownAmounts.add(currentDrawdownAmount);
-
-        // 전체 자본인하 금액 중 최소값 계산 후, 0과 비교해 최소값 반환
-        BigDecimal maxDrawdownAmount = drawdownAmounts.stream()
-                .min(BigDecimal::compareTo) // 전체 최소값
-                .orElse(BigDecimal.ZERO)    // 리스트가 비어있으면 0 반환
-                .min(BigDecimal.ZERO);      // 결과가 0보다 크면 0 반환
-
-        // 현재 자본인하율 계산을 위한 데이터 조회
-        List<BigDecimal> allReferencePrices = dsp.findAllReferencePricesByStrategyId(strategyId);
-        // 현재 자본인하율 = (기준가 - max(이전 기준가, 현재 기준가)) / 기준가
-        // - 기준가가 1000 초과인 경우 계산
-        // - 기준가가 1000 이하이거나 데이터가 없는 경우 0 반환
-        BigDecimal currentDrawdownRate = DailyStatisticsCalculator.calculateCurrentDrawdownRate(referencePrice, allReferencePrices);
-
-        // 최대 자본인하율 계산: 현재 자본인하율 포함 모든 자본인하율의 최소값
-        List<BigDecimal> drawdownRates = dsp.findAllDrawdownRatesByStrategyId(strategyId);
-        drawdownRates.add(currentDrawdownRate);
-
-        BigDecimal maxDrawdownRate = drawdownRates.stream()
-                .min(BigDecimal::compareTo) // 전체 최소값
-                .orElse(BigDecimal.ZERO)    // 리스트가 비어있으면 0 반환
-                .min(BigDecimal.ZERO)       // 결과가 0보다 크면 0 반환
-                .setScale(4, RoundingMode.HALF_UP); // 소수점 4자리까지 반올림
-
         // 승률 = 이익일수 / 거래일수
         BigDecimal winRate = DailyStatisticsCalculator.calculateWinRate(totalProfitDays, tradingDays);
 
         // Profit Factor = 총 이익 / |총 손실|
         BigDecimal profitFactor = DailyStatisticsCalculator.calculateProfitFactor(totalProfit, totalLoss);
 
-        // ROA = 누적손익 / 최대 자본인하 금액 * -1
-        BigDecimal roa = DailyStatisticsCalculator.calculateROA(cumulativeProfitLoss, maxDrawdownAmount);
-
         // 평균 손익비 = 평균 이익 / |평균 손실|
         BigDecimal averageProfitLossRatio = averageLoss.compareTo(BigDecimal.ZERO) != 0
                 ? averageProfit.divide(averageLoss.abs(), 11, RoundingMode.HALF_UP) // 11번째 자리까지 계산
                 .setScale(10, RoundingMode.HALF_UP) // 10번째 자리로 반올림
                 : BigDecimal.ZERO;
 
-        // `dailyProfitLosses` 리스트 가져오기
-        List<BigDecimal> dailyProfitLosses = dsp.findDailyProfitLossesByStrategyId(strategyId);
-        // 현재 입력하려는 일손익도 추가
-        dailyProfitLosses.add(reqDto.getDailyProfitLoss());
-
         // 평가손익 = 원금 - 잔고
         BigDecimal unrealizedProfitLoss = DailyStatisticsCalculator.calculateUnrealizedProfitLoss(principal, balance);
 
         // 고점 후 경과일 = 현재 고점과 이전 고점 비교
         Integer daysSincePeak = DailyStatisticsCalculator.calculateDaysSincePeak(maxCumulativeProfitLoss, previousMaxCumulativeProfitLoss, previousState.map(DailyStatisticsEntity::getDaysSincePeak).orElse(0));
 
-        // 누적 입출금, 입금, 출금 계산
-        BigDecimal cumulativeDepWdPrice = DailyStatisticsCalculator.calculateCumulativeDepWd(
-                dsp.findDepWdHistoryByStrategyId(strategyId), // 전략 ID를 기준으로 모든 입출금 내역 조회
-                reqDto.getDepWdPrice()
-        );
-
+        // 입금, 출금 계산
         BigDecimal depositAmount = DailyStatisticsCalculator.calculateDepositAmount(depWdPrice, firstEntry); // 입금 = 오늘 입출금 금액이 양수인 경우
         BigDecimal cumulativeDepositAmount = DailyStatisticsCalculator.calculateCumulativeDeposit(
                 previousState.map(DailyStatisticsEntity::getCumulativeDepositAmount).orElse(BigDecimal.ZERO),
@@ -557,19 +742,8 @@ public class DailyStatisticsService {
         BigDecimal maxDailyProfit = previousState.map(DailyStatisticsEntity::getMaxDailyProfit).orElse(BigDecimal.ZERO).max(dailyProfitLoss);
 
 
-        // 1. 일 손익률 데이터 조회
-        List<BigDecimal> dailyPlRates = dsp.findDailyPlRatesByStrategyId(strategyId);
-        dailyPlRates.add(dailyPlRate);
-        // 최대 일 이익률 = 일손익률 중 최대값. 음수면 0
-        BigDecimal maxDailyProfitRate = DailyStatisticsCalculator.calculateMaxDailyProfitRate(dailyPlRates);
-
         // 최대 일 손실 = min(이전 최대 일 손실, 오늘 일손익)
         BigDecimal maxDailyLoss = previousState.map(DailyStatisticsEntity::getMaxDailyLoss).orElse(BigDecimal.ZERO).min(dailyProfitLoss);
-        // 최대 일 손실률 = MIN(일 손익률 리스트 중 최소 값, 0)
-        // 2. 현재 일 손익률 포함하여 최대 일 손실률 계산
-        // - 기존의 모든 일 손익률 데이터와 현재 입력된 일 손익률을 고려하여 최소값(최대 음수)을 반환합니다.
-        // - 최대 일 손실률은 항상 음수 또는 0이어야 합니다.
-        BigDecimal maxDailyLossRate = DailyStatisticsCalculator.calculateMaxDailyLossRate(dailyPlRates, dailyPlRate);
 
         // 평균 손익 = (총 이익 + 총 손실) / 거래일수
         BigDecimal averageProfitLoss = tradingDays > 0
@@ -583,15 +757,6 @@ public class DailyStatisticsService {
                 .setScale(4, RoundingMode.DOWN) // 최종적으로 4자리까지 표현 (반올림 없이)
                 : BigDecimal.ZERO;
 
-        // 변동계수(Coefficient of Variation) 계산
-        // (일손익 합산의 표준편차) / 평균손익 * 100
-        BigDecimal coefficientOfVariation = dailyProfitLosses.isEmpty()
-                ? BigDecimal.ZERO
-                : DailyStatisticsCalculator.calculateCoefficientOfVariation(dailyProfitLosses, averageProfitLoss);
-
-        // Sharp Ratio = 평균손익 / (일손익 합산의 표준편차)
-        BigDecimal sharpRatio = DailyStatisticsCalculator.calculateSharpRatio(dailyProfitLosses, averageProfitLoss);
-
         // 현재 연속 손익일수 계산
         Integer currentConsecutivePlDays;
 
@@ -616,83 +781,8 @@ public class DailyStatisticsService {
                 ? Math.min(previousMaxConsecutiveLossDays, currentConsecutivePlDays) // 음수에서 최솟값(더 작은 음수) 선택
                 : previousMaxConsecutiveLossDays;
 
-        // 총 전략 운용일수 = 일간분석 첫 등록 일자와 마지막 등록 일자 범위
-        // 가장 오래된 날짜와 가장 최신 날짜를 조회하여 계산
-        Integer strategyOperationDays = dsp.findEarliestAndLatestDatesByStrategyId(strategyId)
-                .map(dateRange -> {
-                    LocalDate latestDate = dateRange.getLatestDate(); // DB에서 조회한 가장 최신 날짜 (null일 가능성 있음)
-                    LocalDate currentDate = reqDto.getDate(); // 현재 입력 중인 데이터의 날짜
-
-                    // 최신 날짜가 null인 경우 현재 입력 날짜를 사용
-                    LocalDate adjustedLatestDate = (latestDate != null && latestDate.isAfter(currentDate))
-                            ? latestDate
-                            : currentDate; // 더 최신 날짜를 선택
-
-                    // 가장 오래된 날짜와 최종 조정된 최신 날짜로 운용일수를 계산
-                    return DailyStatisticsCalculator.calculateStrategyOperationDays(
-                            dateRange.getEarliestDate(), // 가장 오래된 날짜
-                            adjustedLatestDate           // 조정된 최신 날짜
-                    );
-                })
-                .orElse(1); // 데이터가 없으면 운용일수는 최소 1로 설정
-
-
-        // 최근 1년 수익률 = ((오늘 기준가 / 1년 전 기준가) - 1) * 100
-        List<BigDecimal> referencePrices = dsp.findReferencePricesOneYearAgo(strategyId, reqDto.getDate().minusYears(1));
-        referencePrices.add(referencePrice);
-        BigDecimal recentOneYearReturn = DailyStatisticsCalculator.calculateRecentOneYearReturn(referencePrices);
-
-        // 고점 이후 최대 하락 기간(dd_day) 계산
-        Integer ddDay = DailyStatisticsCalculator.calculateDdDay(
-                currentDrawdownRate, // 현재 자본인하율
-                previousState.map(DailyStatisticsEntity::getDdDay).orElse(0) // 이전 DD 기간
-        );
-
-        // maxDdInRate 계산
-        BigDecimal maxDdInRate = DailyStatisticsCalculator.calculateMaxDdInRate(
-                currentDrawdownRate,    // 현재 자본인하율
-                previousMaxDdInRate,    // 이전 maxDdInRate
-                ddDay                  // 현재 DD 기간
-        );
-
-        // ddDay와 maxDdInRate 데이터를 날짜 오름차순으로 조회
-        List<DdDayAndMaxDdInRate> ddDayAndMaxDdInRateList = dsp.findDdDayAndMaxDdInRateByStrategyIdOrderByDate(strategyId);
-        // 현재 입력 데이터도 포함
-        ddDayAndMaxDdInRateList.add(new DdDayAndMaxDdInRate(ddDay, maxDdInRate));
-
-        // KP-RATIO 계산
-        BigDecimal kpRatio = DailyStatisticsCalculator.calculateKPRatio(
-                ddDayAndMaxDdInRateList,   // ddDay 및 maxDdInRate 리스트
-                currentDrawdownRate, // 현재자본인하율
-                cumulativeProfitLossRate, // 누적손익률
-                tradingDays               // 거래일수
-        );
-        // KP-RATIO 값에 따라 전략 테이블의 KP-RATIO와 SM-SCORE를 업데이트합니다.
-        if (kpRatio.compareTo(BigDecimal.ZERO) == 0) {
-            // KP-RATIO가 0인 경우, SM-SCORE도 0으로 업데이트
-            strategyRepository.updateKpRatioAndSmScoreByStrategyId(strategyId, kpRatio, BigDecimal.ZERO);
-        } else {
-            // KP-RATIO만 업데이트
-            strategyRepository.updateKpRatioByStrategyId(strategyId, kpRatio);
-        }
-
-        // SM-SCORE 배치 처리
-        batchUpdateSmScores();
-
-        // 누적손익 리스트 가져오기
-        List<BigDecimal> cumulativeProfitLossHistory = dsp.findCumulativeProfitLossByStrategyId(strategyId);
-
-        // 누적손익률 리스트 가져오기
-        List<BigDecimal> cumulativeProfitLossRateHistory = dsp.findCumulativeProfitLossRateByStrategyId(strategyId);
-
-        // 누적손익의 최대값 (Peak) 계산
-        BigDecimal peak = DailyStatisticsCalculator.calculatePeak(cumulativeProfitLossHistory, cumulativeProfitLoss);
-
-        // 누적손익률의 최대값 (Peak Rate) 계산
-        BigDecimal peakRate = DailyStatisticsCalculator.calculatePeakRate(cumulativeProfitLossRateHistory, cumulativeProfitLossRate);
-
         // 빌더 패턴으로 결과 엔티티 생성
-        DailyStatisticsEntity dailyStatistics = DailyStatisticsEntity.builder()
+        return DailyStatisticsEntity.builder()
                 .date(reqDto.getDate())
                 .depWdPrice(depWdPrice)
                 .dailyProfitLoss(dailyProfitLoss)
@@ -701,19 +791,14 @@ public class DailyStatisticsService {
                 .principal(principal)
                 .cumulativeProfitLoss(cumulativeProfitLoss)
                 .unrealizedProfitLoss(unrealizedProfitLoss)
-                .kpRatio(kpRatio)
                 .referencePrice(referencePrice)
                 .dailyPlRate(dailyPlRate)
                 .cumulativeProfitLossRate(cumulativeProfitLossRate)
                 .maxCumulativeProfitLoss(maxCumulativeProfitLoss)
                 .maxCumulativeProfitLossRate(maxCumulativeProfitLossRate)
                 .currentDrawdownAmount(currentDrawdownAmount)
-                .maxDrawdownAmount(maxDrawdownAmount)
-                .currentDrawdownRate(currentDrawdownRate)
-                .maxDrawdownRate(maxDrawdownRate)
                 .winRate(winRate)
                 .profitFactor(profitFactor)
-                .roa(roa)
                 .totalProfit(totalProfit)
                 .totalProfitDays(totalProfitDays)
                 .averageProfit(averageProfit)
@@ -721,149 +806,242 @@ public class DailyStatisticsService {
                 .totalLossDays(totalLossDays)
                 .averageLoss(averageLoss)
                 .averageProfitLossRatio(averageProfitLossRatio)
-                .peak(peak)
-                .peakRate(peakRate)
                 .daysSincePeak(daysSincePeak)
-                .ddDay(ddDay)
-                .maxDdInRate(maxDdInRate)
-                .coefficientOfVariation(coefficientOfVariation)
-                .sharpRatio(sharpRatio)
                 .maxDailyProfit(maxDailyProfit)
-                .maxDailyProfitRate(maxDailyProfitRate)
                 .maxDailyLoss(maxDailyLoss)
-                .maxDailyLossRate(maxDailyLossRate)
                 .averageProfitLoss(averageProfitLoss)
                 .averageProfitLossRate(averageProfitLossRate)
                 .currentConsecutivePlDays(currentConsecutivePlDays)
                 .maxConsecutiveProfitDays(maxConsecutiveProfitDays)
                 .maxConsecutiveLossDays(maxConsecutiveLossDays)
-                .recentOneYearReturn(recentOneYearReturn)
-                .strategyOperationDays(strategyOperationDays)
-                .cumulativeDepWdPrice(cumulativeDepWdPrice)
                 .depositAmount(depositAmount)
                 .cumulativeDepositAmount(cumulativeDepositAmount)
                 .withdrawAmount(withdrawAmount)
                 .cumulativeWithdrawAmount(cumulativeWithdrawAmount)
-                .strategyEntity(strategyEntity)
                 .build();
+    }
 
-        // 월간 통계 업데이트
-        monthlyStatisticsService.updateMonthlyStatistics(strategyId, dailyStatistics);
+    /**
+     * 누적 상태가 필요한 지표를 계산하여 일일 통계 데이터 엔티티를 완성하는 메서드
+     *
+     * - 자본인하, 일손익률 최대/최저값, 변동계수, Sharp Ratio, 최근 1년 수익률, DD 기간, KP-RATIO, Peak 등을 계산합니다.
+     *
+     * @param dailyStatistics 직전 데이터와 입력값만으로 정해지는 지표가 채워진 엔티티
+     * @param previousState   이전 상태 데이터
+     * @param strategyEntity  전략 엔티티
+     * @param accumulator     직전 데이터까지 반영된 누적 상태
+     * @param windowLoader    최근 1년 구간이 잘린 경우 기준일(포함) 이후 첫 번째 일간 데이터를 조회하는 함수
+     * @return 계산된 일일 통계 데이터 엔티티
+     */
+    private DailyStatisticsEntity completeDailyStatistics(
+        DailyStatisticsEntity dailyStatistics,
+        Optional<DailyStatisticsEntity> previousState,
+        StrategyEntity strategyEntity,
+        DailyStatisticsAccumulator accumulator,
+        Function<LocalDate, Optional<DailyStatisticsEntity>> windowLoader) {
+
+        // 당일 지표
+        LocalDate date = dailyStatistics.getDate();
+        BigDecimal dailyProfitLoss = dailyStatistics.getDailyProfitLoss();
+        BigDecimal referencePrice = dailyStatistics.getReferencePrice();
+        BigDecimal dailyPlRate = dailyStatistics.getDailyPlRate();
+        BigDecimal cumulativeProfitLoss = dailyStatistics.getCumulativeProfitLoss();
+        BigDecimal cumulativeProfitLossRate = dailyStatistics.getCumulativeProfitLossRate();
+        BigDecimal currentDrawdownAmount = dailyStatistics.getCurrentDrawdownAmount();
+        BigDecimal averageProfitLoss = dailyStatistics.getAverageProfitLoss();
+        Integer tradingDays = dailyStatistics.getTradingDays();
 
+        // 이전 상태 가져오기
+        BigDecimal previousMaxDdInRate = previousState
+                .map(DailyStatisticsEntity::getMaxDdInRate)
+                .orElse(BigDecimal.ZERO); // 이전 maxDDInRate 값 가져오기
+
+        // 최대 자본인하 금액 = 현재 자본인하 금액 포함 전체 자본인하 금액 중 최소값 (0 이하)
+        BigDecimal maxDrawdownAmount = accumulator.calculateMaxDrawdownAmount(currentDrawdownAmount);
+
+        // 현재 자본인하율 = (기준가 - max(이전 기준가, 현재 기준가)) / 기준가
+        // - 기준가가 1000 초과인 경우 계산
+        // - 기준가가 1000 이하이거나 데이터가 없는 경우 0 반환
+        BigDecimal currentDrawdownRate = accumulator.calculateCurrentDrawdownRate(referencePrice);
+
+        // 최대 자본인하율 계산: 현재 자본인하율 포함 모든 자본인하율의 최소값 (0 이하, 소수점 4자리)
+        BigDecimal maxDrawdownRate = accumulator.calculateMaxDrawdownRate(currentDrawdownRate);
+
+        // ROA = 누적손익 / 최대 자본인하 금액 * -1
+        BigDecimal roa = DailyStatisticsCalculator.calculateROA(cumulativeProfitLoss, maxDrawdownAmount);
+
+        // 누적 입출금 계산
+        BigDecimal cumulativeDepWdPrice = accumulator.calculateCumulativeDepWd(dailyStatistics.getDepWdPrice());
+
+        // 최대 일 이익률 = 현재 일손익률 포함 일손익률 중 최대값. 음수면 0
+        BigDecimal maxDailyProfitRate = accumulator.calculateMaxDailyProfitRate(dailyPlRate);
+
+        // 최대 일 손실률 = MIN(일 손익률 리스트 중 최소 값, 0)
+        // - 기존의 모든 일 손익률 데이터와 현재 입력된 일 손익률을 고려하여 최소값(최대 음수)을 반환합니다.
+        BigDecimal maxDailyLossRate = accumulator.calculateMaxDailyLossRate(dailyPlRate);
+
+        // 변동계수(Coefficient of Variation) 계산
+        // (일손익 합산의 표준편차) / 평균손익 * 100
+        BigDecimal coefficientOfVariation = accumulator.calculateCoefficientOfVariation(dailyProfitLoss, averageProfitLoss);
+
+        // Sharp Ratio = 평균손익 / (일손익 합산의 표준편차)
+        BigDecimal sharpRatio = accumulator.calculateSharpRatio(dailyProfitLoss, averageProfitLoss);
+
+        // 총 전략 운용일수 = 일간분석 첫 등록 일자와 마지막 등록 일자 범위
+        // 데이터가 없으면 운용일수는 최소 1로 설정
+        Integer strategyOperationDays = accumulator.calculateStrategyOperationDays(date);
+
+        // 최근 1년 수익률 = ((오늘 기준가 / 1년 전 기준가) - 1) * 100
+        // - 1년 전 기준가는 누적 상태의 1년 구간 첫 데이터, 구간을 벗어나면 다음 데이터 1건만 조회
+        BigDecimal recentOneYearReturn = accumulator.calculateRecentOneYearReturn(
+                date,
+                referencePrice,
+                windowLoader
+        );
+
+        // 고점 이후 최대 하락 기간(dd_day) 계산
+        Integer ddDay = DailyStatisticsCalculator.calculateDdDay(
+                currentDrawdownRate, // 현재 자본인하율
+                previousState.map(DailyStatisticsEntity::getDdDay).orElse(0) // 이전 DD 기간
+        );
+
+        // maxDdInRate 계산
+        BigDecimal maxDdInRate = DailyStatisticsCalculator.calculateMaxDdInRate(
+                currentDrawdownRate,    // 현재 자본인하율
+                previousMaxDdInRate,    // 이전 maxDdInRate
+                ddDay                  // 현재 DD 기간
+        );
+
+        // KP-RATIO의 ∑(ddDay), ∑(maxDdInRate) 갱신 여부는 현재 자본인하율로 판단하므로
+        // 이전 데이터는 결과에 영향을 주지 않고 현재 입력 데이터의 DD 구간만 반영됩니다.
+        List<DdDayAndMaxDdInRate> ddDayAndMaxDdInRateList = List.of(new DdDayAndMaxDdInRate(ddDay, maxDdInRate));
+
+        // KP-RATIO 계산
+        BigDecimal kpRatio = DailyStatisticsCalculator.calculateKPRatio(
+                ddDayAndMaxDdInRateList,   // ddDay 및 maxDdInRate 리스트
+                currentDrawdownRate, // 현재자본인하율
+                cumulativeProfitLossRate, // 누적손익률
+                tradingDays               // 거래일수
+        );
+        // 누적손익의 최대값 (Peak) 계산
+        BigDecimal peak = accumulator.calculatePeak(cumulativeProfitLoss);
+
+        // 누적손익률의 최대값 (Peak Rate) 계산
+        BigDecimal peakRate = accumulator.calculatePeakRate(cumulativeProfitLossRate);
+
+        // 누적 상태로 계산한 지표 반영
+        dailyStatistics.setMaxDrawdownAmount(maxDrawdownAmount);
+        dailyStatistics.setCurrentDrawdownRate(currentDrawdownRate);
+        dailyStatistics.setMaxDrawdownRate(maxDrawdownRate);
+        dailyStatistics.setRoa(roa);
+        dailyStatistics.setCumulativeDepWdPrice(cumulativeDepWdPrice);
+        dailyStatistics.setMaxDailyProfitRate(maxDailyProfitRate);
+        dailyStatistics.setMaxDailyLossRate(maxDailyLossRate);
+        dailyStatistics.setCoefficientOfVariation(coefficientOfVariation);
+        dailyStatistics.setSharpRatio(sharpRatio);
+        dailyStatistics.setStrategyOperationDays(strategyOperationDays);
+        dailyStatistics.setRecentOneYearReturn(recentOneYearReturn);
+        dailyStatistics.setDdDay(ddDay);
+        dailyStatistics.setMaxDdInRate(maxDdInRate);
+        dailyStatistics.setKpRatio(kpRatio);
+        dailyStatistics.setPeak(peak);
+        dailyStatistics.setPeakRate(peakRate);
+        dailyStatistics.setStrategyEntity(strategyEntity);
         return dailyStatistics;
     }
 
     /**
-     * 배치로 SM-SCORE를 업데이트하는 메서드.
+     * 전략 테이블의 KP-RATIO를 갱신하는 메서드.
+     * - KP-RATIO가 0인 경우 SM-SCORE도 0으로 갱신합니다.
      *
-     * - KP-RATIO가 0보다 큰 전략 데이터를 페이징 처리로 조회하여 SM-SCORE를 계산하고 갱신합니다.
-     * - 트랜잭션 격리 수준은 Repeatable Read를 사용하여 데이터의 일관성을 보장합니다.
+     * @param strategyId 전략 ID
+     * @param kpRatio    최신 일간 데이터의 KP-RATIO
      */
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
-    public void batchUpdateSmScores() {
-        // 페이징 처리 작업을 공통 로직으로 수행
-        executePagedOperation(
-                // 1. KP-RATIO가 0보다 큰 전략 데이터를 페이징 처리하여 조회
-                page -> strategyRepository.findByNonZeroKpRatio(PageRequest.of(page, 1000)),
-                // 2. 조회된 데이터를 기반으로 SM-SCORE 계산 및 업데이트
-                kpRatiosPage -> {
-                    if (kpRatiosPage.isEmpty()) {
-                        return; // KP-RATIO가 없는 경우 기본값 유지
-                    }
-
-                    // 2.1. 조회된 전략 데이터(KP-RATIO 리스트)로 SM-SCORE 계산
-                    List<StrategyKpDto> kpRatios = kpRatiosPage.getContent();
-
-                    // 2.2. KP-RATIO의 데이터가 1개인 경우 모든 SM-SCORE를 0으로 처리
-                    if (kpRatios.size() == 1) {
-                        Long strategyId = kpRatios.get(0).getStrategyId();
-                        strategyRepository.updateSmScoreByStrategyId(strategyId, BigDecimal.ZERO);
-                        return;
-                    }
-
-                    // 2.3. 데이터가 2개 이상인 경우 SM-SCORE 계산
-                    Map<Long, BigDecimal> smScores = DailyStatisticsCalculator.calculateAndUpdateSmScores(kpRatios);
-
-                    // 2.4. 계산된 SM-SCORE를 전략 테이블에 업데이트
-                    smScores.forEach(strategyRepository::updateSmScoreByStrategyId);
-                }
-        );
+    private void updateKpRatio(Long strategyId, BigDecimal kpRatio) {
+        if (kpRatio.compareTo(BigDecimal.ZERO) == 0) {
+            // KP-RATIO가 0인 경우, SM-SCORE도 0으로 업데이트
+            strategyRepository.updateKpRatioAndSmScoreByStrategyId(strategyId, kpRatio, BigDecimal.ZERO);
+        } else {
+            // KP-RATIO만 업데이트
+            strategyRepository.updateKpRatioByStrategyId(strategyId, kpRatio);
+        }
     }
 
     /**
-     * 일간 통계 데이터와 SM-SCORE를 갱신하는 메서드.
+     * 현재 입력 데이터만으로 계산한 KP-RATIO를 전체 이력 기반 계산(DailyStatisticsCalculator.calculateKPRatio)과 비교합니다.
+     * - 검증 모드(statistics.kp-ratio.verify=true)에서만 호출되며, 결과가 다르면 예외를 발생시킵니다.
      *
-     * - 전날 데이터가 없는 전략에 대해 일간 데이터를 생성하고 등록합니다.
-     * - 모든 전략의 SM-SCORE를 갱신하고 일간 통계에 반영합니다.
+     * @param strategyId      전략 ID
+     * @param dailyStatistics 현재 입력 데이터로 계산한 일간 데이터 (저장 전)
      */
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
-    public void updateSmScoreInDailyStatistics() {
-        // 1. 전날 날짜를 계산
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-
-        // 2. 데이터가 없는 전략에 대해 일간 데이터를 생성 및 등록
-        executePagedOperation(
-                // 2.1. 전날 데이터가 없는 전략 ID를 페이징 처리하여 조회
-                page -> dsp.findStrategyIdsWithoutDailyStatistics(yesterday, PageRequest.of(page, 1000)),
-                // 2.2. 조회된 전략 ID에 대해 기본 일간 데이터 생성 및 등록
-                strategyIdsPage -> strategyIdsPage.forEach(strategyId -> {
-                    DailyStatisticsReqDto reqDto = DailyStatisticsReqDto.builder()
-                            .date(yesterday)
-                            .depWdPrice(BigDecimal.ZERO) // 입출금 금액 기본값
-                            .dailyProfitLoss(BigDecimal.ZERO) // 일 손익 기본값
-                            .build();
-                    // 일간 데이터 등록
-                    registerDailyStatistics(strategyId, reqDto);
-                })
-        );
+    private void verifyKpRatio(Long strategyId, DailyStatisticsEntity dailyStatistics) {
+        // 등록일 이전 데이터의 ddDay와 maxDdInRate를 날짜 오름차순으로 조회 후 현재 입력 데이터 포함
+        List<DdDayAndMaxDdInRate> ddDayAndMaxDdInRateList = new ArrayList<>();
+        for (DailyStatisticsEntity row : dsp.findAllBeforeDate(strategyId, dailyStatistics.getDate())) {
+            ddDayAndMaxDdInRateList.add(new DdDayAndMaxDdInRate(row.getDdDay(), row.getMaxDdInRate()));
+        }
+        ddDayAndMaxDdInRateList.add(new DdDayAndMaxDdInRate(dailyStatistics.getDdDay(), dailyStatistics.getMaxDdInRate()));
 
-        // 3. 모든 전략의 SM-SCORE를 갱신하고 일간 통계에 반영
-        executePagedOperation(
-                // 3.1. 모든 전략의 SM-SCORE 데이터를 페이징 처리하여 조회
-                page -> strategyRepository.findAllStrategySmScores(PageRequest.of(page, 1000)),
-                // 3.2. 조회된 SM-SCORE를 일간 통계에 업데이트
-                smScorePage -> smScorePage.forEach(strategy -> {
-                    Optional<DailyStatisticsEntity> existingRecord = dsp.findByStrategyIdAndDate(strategy.getStrategyId(), yesterday);
-
-                    // 전날 데이터가 존재하면 SM-SCORE를 갱신
-                    existingRecord.ifPresentOrElse(
-                            record -> {
-                                record.setSmScore(strategy.getSmScore());
-                                dsp.save(record);
-                            },
-                            // 전날 데이터가 존재하지 않으면 예외를 발생시킴
-                            () -> {
-                                throw new IllegalStateException("전날 데이터 자동 등록에 실패했습니다. " +
-                                        "Strategy ID: " + strategy.getStrategyId() + ", Date: " + yesterday);
-                            }
-                    );
-                })
+        BigDecimal expected = DailyStatisticsCalculator.calculateKPRatio(
+                ddDayAndMaxDdInRateList,
+                dailyStatistics.getCurrentDrawdownRate(),
+                dailyStatistics.getCumulativeProfitLossRate(),
+                dailyStatistics.getTradingDays()
         );
+        if (expected.compareTo(dailyStatistics.getKpRatio()) != 0) {
+            throw new IllegalStateException("KP-RATIO 검증 실패. Strategy ID: " + strategyId
+                    + ", Date: " + dailyStatistics.getDate()
+                    + ", 현재 데이터: " + dailyStatistics.getKpRatio() + ", 전체 이력: " + expected);
+        }
     }
 
     /**
-     * 페이징 처리를 포함한 반복 작업을 수행하는 공통 메서드.
+     * 등록할 일자의 직전까지 반영된 누적 상태를 구성합니다.
      *
-     * - 페이징 데이터를 조회(fetchPage)하고, 조회된 데이터를 처리(processPage)합니다.
+     * - 저장된 누적 상태가 직전 데이터까지 반영되어 있으면 그대로 사용합니다. (O(1))
+     * - 과거 일자 등록, 수정/삭제 후 재계산 등으로 상태가 맞지 않으면 기준일 이전 데이터로 다시 구성합니다.
      *
-     * @param fetchPage  현재 페이지 번호를 입력받아 해당 페이지 데이터를 반환하는 함수
-     * @param processPage 조회된 페이지 데이터를 처리하는 함수
-     * @param <T>        페이징 데이터의 타입
+     * @param strategyId    전략 ID
+     * @param date          등록할 일자
+     * @param previousState 직전 데이터
+     * @param state         저장된 누적 상태
+     * @return 누적 상태
      */
-    private <T> void executePagedOperation(Function<Integer, Page<T>> fetchPage, Consumer<Page<T>> processPage) {
-        int page = 0; // 초기 페이지 번호
-        Page<T> pageData; // 현재 페이지 데이터
+    private DailyStatisticsAccumulator loadAccumulator(Long strategyId, LocalDate date,
+                                                       Optional<DailyStatisticsEntity> previousState,
+                                                       DailyStatisticsStateEntity state) {
+        // 직전 데이터가 없으면 빈 상태
+        if (previousState.isEmpty()) {
+            return new DailyStatisticsAccumulator();
+        }
 
-        do {
-            // 1. 현재 페이지 데이터를 조회
-            pageData = fetchPage.apply(page);
+        LocalDate previousDate = previousState.get().getDate();
+        if (previousDate != null && previousDate.equals(state.getLastDate()) && date.isAfter(previousDate)) {
+            return DailyStatisticsAccumulator.fromState(state);
+        }
+        return DailyStatisticsAccumulator.fromRows(dsp.findAllBeforeDate(strategyId, date));
+    }
 
-            // 2. 조회된 데이터를 처리
-            processPage.accept(pageData);
+    /**
+     * 전략의 누적 상태를 무효화합니다.
+     * - 다음 계산 시 일간 데이터로부터 다시 구성됩니다.
+     *
+     * @param strategyId 전략 ID
+     */
+    private void invalidateStatisticsState(Long strategyId) {
+        dailyStatisticsStateRepository.findById(strategyId)
+                .ifPresent(state -> state.setLastDate(null));
+    }
 
-            // 3. 다음 페이지로 이동
-            page++;
-        } while (!pageData.isLast()); // 마지막 페이지가 아니면 반복
+    /**
+     * 전략 테이블의 SM-SCORE를 해당 일자의 일간 통계에 일괄 반영합니다. (자정 배치)
+     *
+     * @param date 반영할 일자
+     * @return 반영된 일간 데이터 수
+     */
+    @Transactional
+    public int stampSmScores(LocalDate date) {
+        return dsp.updateSmScoresFromStrategies(date);
     }
 
     /**
@@ -873,5 +1051,17 @@ public class DailyStatisticsService {
      */
     public void deleteDailyStatisticsByStrategy(StrategyEntity strategy) {
         dsp.deleteAllByStrategyEntity(strategy);
+        deleteStatisticsState(strategy.getStrategyId());
+        strategySeriesCache.evictAfterCommit(strategy.getStrategyId());
+        strategySummaryService.refreshBeforeCommit(strategy.getStrategyId());
+    }
+
+    /**
+     * 전략의 일간 통계 누적 상태를 삭제하는 메서드 (전략 삭제 시)
+     *
+     * @param strategyId 전략 ID
+     */
+    public void deleteStatisticsState(Long strategyId) {
+        dailyStatisticsStateRepository.deleteById(strategyId);
     }
 }
\ No newline at end of file
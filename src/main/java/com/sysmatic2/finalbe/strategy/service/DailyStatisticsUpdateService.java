@@ -1,6 +1,7 @@
 package com.sysmatic2.finalbe.strategy.service;
 
 import com.sysmatic2.finalbe.strategy.common.HolidayUtil;
+import com.sysmatic2.finalbe.strategy.dto.NightlyBatchReportDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -10,7 +11,23 @@ import java.time.LocalDate;
 @Service
 @RequiredArgsConstructor
 public class DailyStatisticsUpdateService {
-    private final DailyStatisticsService dailyStatisticsService;
+    private final DailyStatisticsBatchService dailyStatisticsBatchService;
+    private final SmScoreService smScoreService;
+    private final StrategySummaryService strategySummaryService;
+
+    // KP-RATIO 변경이 있었던 경우에만 SM-SCORE 재계산 (주기 내 변경은 한 번으로 합쳐짐)
+    @Scheduled(fixedDelayString = "${sm-score.refresh-interval-millis:60000}",
+            initialDelayString = "${sm-score.refresh-interval-millis:60000}")
+    public void scheduleSmScoreRefresh() {
+        smScoreService.flushIfDirty();
+    }
+
+    // 일간 데이터가 바뀐 전략의 목록 그래프만 재계산 (주기 내 변경은 한 번으로 합쳐짐)
+    @Scheduled(fixedDelayString = "${strategy.summary.sparkline-refresh-interval-millis:5000}",
+            initialDelayString = "${strategy.summary.sparkline-refresh-interval-millis:5000}")
+    public void scheduleSparklineRefresh() {
+        strategySummaryService.flushStaleSparklines();
+    }
 
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정 실행
     public void scheduleDailySmScoreUpdate() {
@@ -23,6 +40,16 @@ public class DailyStatisticsUpdateService {
         }
 
         System.out.println("Scheduler started: scheduleDailySmScoreUpdate");
-        dailyStatisticsService.updateSmScoreInDailyStatistics();
+        NightlyBatchReportDto report = dailyStatisticsBatchService.runNightlyUpdate(today.minusDays(1));
+
+        // 파티션별 처리량 및 실패 전략 출력
+        for (NightlyBatchReportDto.PartitionReport partition : report.getPartitions()) {
+            System.out.printf("Partition %d: processed=%d, failed=%s, elapsed=%dms, throughput=%.1f/s%n",
+                    partition.getPartition(), partition.getProcessedCount(), partition.getFailedStrategyIds(),
+                    partition.getElapsedMillis(), partition.getThroughput());
+        }
+        System.out.println("Scheduler finished: scheduleDailySmScoreUpdate. Date: " + report.getDate()
+                + ", processed=" + report.getProcessedCount() + ", failed=" + report.getFailedCount()
+                + ", stamped=" + report.getStampedCount() + ", elapsed=" + report.getElapsedMillis() + "ms");
     }
 }
\ No newline at end of file
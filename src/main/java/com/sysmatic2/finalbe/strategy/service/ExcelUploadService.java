@@ -2,15 +2,16 @@ package com.sysmatic2.finalbe.strategy.service;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
+import com.sysmatic2.finalbe.strategy.common.ExcelStreamingReader;
+import com.sysmatic2.finalbe.strategy.common.ExcelStreamingReader.CellValue;
 import com.sysmatic2.finalbe.strategy.common.LocalDateDeserializer;
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsJobResponseDto;
 import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
 import com.sysmatic2.finalbe.exception.ExcelValidationException;
-import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
-import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
 import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.usermodel.CellType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,21 +30,23 @@ public class ExcelUploadService {
 
   private final Validator validator;
   private final StrategyRepository strategyRepository;
-  private final DailyStatisticsService dailyStatisticsService;
-  private final DailyStatisticsRepository dailyStatisticsRepository;
-  private static final int MAX_ROWS = 2000;
+  private final DailyStatisticsJobService dailyStatisticsJobService;
+  private static final int MAX_ROWS = 20000;
   private static final int EXPECTED_COLUMNS = 3;
   private final LocalDateDeserializer localDateDeserializer = new LocalDateDeserializer(); // LocalDateDeserializer 객체 생성
 
   /**
    * 엑셀 파일의 데이터를 추출 및 저장
    *
+   * - 파일 형식과 각 행의 값은 바로 검증하고, 입력 데이터를 작업으로 저장합니다.
+   * - 지표 계산은 백그라운드 작업에서 처리하며, 반환된 작업 ID로 상태와 행 단위 오류를 조회합니다.
+   *
    * @param file       업로드된 엑셀 파일
    * @param strategyId 전략 ID
-   * @return 저장된 DailyStatisticsEntity 리스트
+   * @return 접수된 등록 작업
    */
   @Transactional
-  public List<DailyStatisticsEntity> extractAndSaveData(MultipartFile file, Long strategyId, String memberId, Boolean isTrader) {
+  public DailyStatisticsJobResponseDto extractAndSaveData(MultipartFile file, Long strategyId, String memberId, Boolean isTrader) {
     if (strategyId == null) {
       throw new IllegalArgumentException("Strategy ID는 null일 수 없습니다.");
     }
@@ -57,55 +60,51 @@ public class ExcelUploadService {
       throw new AccessDeniedException("데이터 작성 권한이 없습니다.");
     }
 
-    List<DailyStatisticsReqDto> dataList = extractAndValidateData(file);
-
-    List<DailyStatisticsEntity> savedEntities = new ArrayList<>();
-    for (DailyStatisticsReqDto dto : dataList) {
-      dailyStatisticsService.registerDailyStatistics(strategyId, dto);
-      DailyStatisticsEntity entity = dailyStatisticsRepository.findByStrategyIdAndDate(strategyId, dto.getDate())
-              .orElseThrow(() -> new IllegalStateException("Failed to save DailyStatisticsEntity for date " + dto.getDate()));
-      savedEntities.add(entity);
-    }
+    // 시트 행 번호와 함께 저장 (행 단위 오류 보고용)
+    Map<Integer, DailyStatisticsReqDto> rows = extractAndValidateRows(file);
 
-    return savedEntities;
+    // 날짜순 병합 및 일괄 계산은 백그라운드 작업에서 처리
+    return dailyStatisticsJobService.submit(strategyId, rows, "EXCEL", memberId);
   }
 
   /**
    * 엑셀 파일의 데이터를 추출 및 유효성 검증
    *
+   * - 시트를 한 행씩 스트리밍으로 읽으면서 바로 검증합니다. (워크북 전체를 메모리에 올리지 않음)
+   *
    * @param file 업로드된 엑셀 파일
    * @return 추출된 DailyStatisticsReqDto 리스트
    */
   public List<DailyStatisticsReqDto> extractAndValidateData(MultipartFile file) {
-    List<DailyStatisticsReqDto> excelData = new ArrayList<>();
-    Map<LocalDate, Integer> dateMap = new HashMap<>();
-
-    try (InputStream inputStream = file.getInputStream();
-         Workbook workbook = WorkbookFactory.create(inputStream)) {
-
-      if (workbook.getNumberOfSheets() > 1) {
-        throw new ExcelValidationException("엑셀 파일에 여러 시트가 포함되어 있습니다. 첫 번째 시트만 허용됩니다.");
-      }
+    return new ArrayList<>(extractAndValidateRows(file).values());
+  }
 
-      Sheet sheet = workbook.getSheetAt(0);
+  /**
+   * 엑셀 파일의 데이터를 시트 행 번호와 함께 추출 및 유효성 검증
+   *
+   * @param file 업로드된 엑셀 파일
+   * @return 시트 행 번호별 DailyStatisticsReqDto (시트 순서)
+   */
+  public Map<Integer, DailyStatisticsReqDto> extractAndValidateRows(MultipartFile file) {
+    Map<Integer, DailyStatisticsReqDto> excelData = new LinkedHashMap<>();
+    Map<LocalDate, Integer> dateMap = new HashMap<>();
 
-      int rowNumber = 0;
-      for (Row row : sheet) {
-        rowNumber++;
+    try (InputStream inputStream = file.getInputStream()) {
 
+      ExcelStreamingReader.read(inputStream, EXPECTED_COLUMNS, (rowNumber, cellCount, cells) -> {
         if (rowNumber > MAX_ROWS + 1) {
-          throw new ExcelValidationException("엑셀 파일의 행 수가 2000개를 초과했습니다.");
+          throw new ExcelValidationException("엑셀 파일의 행 수가 " + MAX_ROWS + "개를 초과했습니다.");
         }
 
         if (rowNumber == 1) {
-          continue;
+          return;
         }
 
-        if (row.getPhysicalNumberOfCells() != EXPECTED_COLUMNS) {
+        if (cellCount != EXPECTED_COLUMNS) {
           throw new ExcelValidationException("행 " + rowNumber + "의 칼럼 수가 정확히 " + EXPECTED_COLUMNS + "개가 아닙니다.");
         }
 
-        DailyStatisticsReqDto dto = parseRowToDto(row, rowNumber);
+        DailyStatisticsReqDto dto = parseRowToDto(cells, rowNumber);
 
         if (dateMap.containsKey(dto.getDate())) {
           int firstRowNumber = dateMap.get(dto.getDate());
@@ -115,8 +114,8 @@ public class ExcelUploadService {
 
         validateDto(dto, rowNumber);
 
-        excelData.add(dto);
-      }
+        excelData.put(rowNumber, dto);
+      });
 
       if (excelData.isEmpty()) {
         throw new ExcelValidationException("엑셀 파일에 데이터가 존재하지 않습니다.");
@@ -134,24 +133,24 @@ public class ExcelUploadService {
   /**
    * 엑셀 행을 DTO로 변환
    *
-   * @param row       엑셀 행
+   * @param cells     엑셀 행의 셀 값 (날짜, 입출금, 일손익 순)
    * @param rowNumber 행 번호 (오류 메시지용)
    * @return DailyStatisticsReqDto 객체
    */
-  private DailyStatisticsReqDto parseRowToDto(Row row, int rowNumber) {
+  private DailyStatisticsReqDto parseRowToDto(CellValue[] cells, int rowNumber) {
     try {
-      Cell dateCell = row.getCell(0);
-      Cell depWdPriceCell = row.getCell(1);
-      Cell dailyProfitLossCell = row.getCell(2);
+      CellValue dateCell = cells[0];
+      CellValue depWdPriceCell = cells[1];
+      CellValue dailyProfitLossCell = cells[2];
 
       LocalDate date = null;
       if (dateCell != null) {
-        if (dateCell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(dateCell)) {
-          date = dateCell.getLocalDateTimeCellValue().toLocalDate();
+        if (dateCell.getCellType() == CellType.NUMERIC && dateCell.isDateFormatted()) {
+          date = dateCell.getDateValue();
         } else if (dateCell.getCellType() == CellType.STRING) {
           try {
             // JsonParser 생성 (JSON 형식으로 감싸기)
-            String dateString = dateCell.getStringCellValue();
+            String dateString = dateCell.getStringValue();
             String jsonDate = "\"" + dateString + "\""; // JSON 문자열로 감싸기
             JsonParser parser = new JsonFactory().createParser(jsonDate);
             parser.nextToken(); // 첫 번째 토큰으로 이동
@@ -169,7 +168,7 @@ public class ExcelUploadService {
       BigDecimal depWdPrice = null;
       if (depWdPriceCell != null) {
         if (depWdPriceCell.getCellType() == CellType.NUMERIC) {
-          depWdPrice = BigDecimal.valueOf(depWdPriceCell.getNumericCellValue());
+          depWdPrice = BigDecimal.valueOf(depWdPriceCell.getNumericValue());
         } else {
           throw new ExcelValidationException("행 " + rowNumber + "의 입출금 금액이 유효한 숫자가 아닙니다.");
         }
@@ -178,7 +177,7 @@ public class ExcelUploadService {
       BigDecimal dailyProfitLoss = null;
       if (dailyProfitLossCell != null) {
         if (dailyProfitLossCell.getCellType() == CellType.NUMERIC) {
-          dailyProfitLoss = BigDecimal.valueOf(dailyProfitLossCell.getNumericCellValue());
+          dailyProfitLoss = BigDecimal.valueOf(dailyProfitLossCell.getNumericValue());
         } else {
           throw new ExcelValidationException("행 " + rowNumber + "의 일손익 금액이 유효한 숫자가 아닙니다.");
         }
@@ -11,71 +11,167 @@ import com.sysmatic2.finalbe.util.CreatePageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.util.Map;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class MonthlyStatisticsService {
+    private static final Pageable SINGLE_RESULT_PAGE = PageRequest.of(0, 1);
+
     private final MonthlyStatisticsRepository monthlyStatisticsRepository;
     private final DailyStatisticsRepository dailyStatisticsRepository;
 
     /**
      * 월간 통계 데이터를 업데이트하는 메서드.
      *
+     * - 일간 데이터 1건을 해당 월의 누적 값에 더해 O(1)로 갱신합니다. (해당 월의 일간 데이터를 다시 조회하지 않음)
+     * - 월 손익률과 월 누적 손익은 이전 월의 마지막 기준가와 월 누적 손익으로 계산합니다.
+     * - 일간 데이터가 저장되기 전에 호출해야 합니다.
+     *
      * @param strategyId      업데이트할 전략의 ID
      * @param dailyStatistics 해당 전략의 일간 통계 데이터
      */
     @Transactional
     public void updateMonthlyStatistics(Long strategyId, DailyStatisticsEntity dailyStatistics) {
-        // 1. 현재 월과 이전 월의 YearMonth 객체 생성
+        // 1. 현재 월의 YearMonth 객체 생성
         YearMonth currentMonth = YearMonth.from(dailyStatistics.getDate()); // 일간 통계 데이터의 날짜로 현재 월 추출
-        YearMonth previousMonth = currentMonth.minusMonths(1); // 현재 월에서 1개월 차감해 이전 월 계산
 
         // 2. 월간 통계 데이터 가져오기 (없으면 새로 생성)
         MonthlyStatisticsEntity monthlyStatistics = MonthlyStatisticsCalculator.getOrCreateMonthlyStatistics(
                 strategyId, dailyStatistics, currentMonth, monthlyStatisticsRepository);
 
-        // 3. 월간 통계 계산
-        // 3.1 월평균 원금 계산
-        BigDecimal avgPrincipal = MonthlyStatisticsCalculator.calculateMonthlyAveragePrincipal(
-                strategyId, dailyStatistics, currentMonth, dailyStatisticsRepository);
-        monthlyStatistics.setMonthlyAvgPrincipal(avgPrincipal);
-
-        // 3.2 월 입출금 총액 계산
-        BigDecimal totalDepWd = MonthlyStatisticsCalculator.calculateTotalDepWdAmount(
-                strategyId, dailyStatistics, currentMonth, dailyStatisticsRepository);
-        monthlyStatistics.setMonthlyDepWdAmount(totalDepWd);
-
-        // 3.3 월 손익 계산
-        BigDecimal totalProfitLoss = MonthlyStatisticsCalculator.calculateTotalProfitLoss(
-                strategyId, dailyStatistics, currentMonth, dailyStatisticsRepository);
-        monthlyStatistics.setMonthlyProfitLoss(totalProfitLoss);
-
-        // 3.4 월 손익률 계산
-        BigDecimal monthlyReturn = MonthlyStatisticsCalculator.calculateMonthlyReturn(
-                strategyId, currentMonth, dailyStatisticsRepository);
-        monthlyStatistics.setMonthlyReturn(monthlyReturn);
-
-        // 3.5 월 누적 손익 계산
-        BigDecimal cumulativeProfitLoss = MonthlyStatisticsCalculator.calculateCumulativeProfitLoss(
-                strategyId, dailyStatistics.getDailyProfitLoss(), monthlyStatisticsRepository);
-        monthlyStatistics.setMonthlyCumulativeProfitLoss(cumulativeProfitLoss);
-
-        // 3.6 월 누적 손익률 계산
-        BigDecimal cumulativeReturn = MonthlyStatisticsCalculator.calculateCumulativeReturn(
-                strategyId, currentMonth, dailyStatisticsRepository);
-        monthlyStatistics.setMonthlyCumulativeReturn(cumulativeReturn);
-
-        // 4. 업데이트된 월간 통계 데이터 저장
+        // 이전 버전에서 생성된 데이터는 저장된 일간 데이터로 누적 값을 한 번만 초기화
+        if (!MonthlyStatisticsCalculator.hasRunningTotals(monthlyStatistics)) {
+            MonthlyStatisticsCalculator.initializeRunningTotals(strategyId, monthlyStatistics, dailyStatisticsRepository);
+        }
+
+        // 3. 누적 값에 일간 데이터 반영 (원금 합계, 일간 데이터 수, 입출금 총액, 월 손익, 마지막 기준가)
+        MonthlyStatisticsCalculator.appendDailyStatistics(monthlyStatistics, dailyStatistics);
+
+        // 4. 이전 월 데이터로 월평균 원금, 월 손익률, 월 누적 손익, 월 누적 손익률 계산
+        MonthlyStatisticsEntity previousStatistics = monthlyStatisticsRepository
+                .findLatestBeforeMonth(strategyId, currentMonth, SINGLE_RESULT_PAGE)
+                .stream().findFirst().orElse(null);
+        applyMonthlyMetrics(strategyId, monthlyStatistics, previousStatistics);
+
+        // 5. 업데이트된 월간 통계 데이터 저장
         monthlyStatisticsRepository.save(monthlyStatistics);
     }
 
+    /**
+     * 재계산된 일간 통계가 속한 월들의 월간 통계를 한 번에 갱신하는 메서드.
+     *
+     * - 일간 통계가 모두 저장된 뒤 호출해야 합니다. (일간 데이터마다 갱신하지 않고 월별로 한 번만 계산)
+     * - 가장 이른 월부터 마지막 월까지 일간 데이터를 한 번만 조회하여 다시 구성합니다.
+     *
+     * @param strategy 전략 엔티티
+     * @param months   갱신할 월 목록
+     */
+    @Transactional
+    public void refreshMonthlyStatistics(StrategyEntity strategy, Collection<YearMonth> months) {
+        if (months.isEmpty()) {
+            return;
+        }
+        rebuildMonthlyStatistics(strategy, Collections.min(months));
+    }
+
+    /**
+     * 전략의 모든 월간 통계를 일간 데이터로부터 다시 구성하는 메서드.
+     *
+     * @param strategy 전략 엔티티
+     */
+    @Transactional
+    public void rebuildMonthlyStatistics(StrategyEntity strategy) {
+        rebuildMonthlyStatistics(strategy, null);
+    }
+
+    /**
+     * 기준 월 이후의 월간 통계를 일간 데이터로부터 다시 구성합니다. (일간 데이터 1회 조회, 월별 누적)
+     *
+     * - 월 누적 손익은 기준 월 직전 월의 월 누적 손익부터 이어서 계산합니다.
+     * - 일간 데이터가 없어진 월의 월간 통계는 삭제합니다.
+     *
+     * @param strategy  전략 엔티티
+     * @param fromMonth 기준 월 (포함, null이면 전체)
+     */
+    private void rebuildMonthlyStatistics(StrategyEntity strategy, YearMonth fromMonth) {
+        Long strategyId = strategy.getStrategyId();
+
+        // 1. 기존 월간 통계 조회 (월 오름차순): 재구성 대상 월과 직전 월 구분
+        Map<YearMonth, MonthlyStatisticsEntity> staleStatistics = new HashMap<>();
+        MonthlyStatisticsEntity previousStatistics = null;
+        for (MonthlyStatisticsEntity monthlyStatistics : monthlyStatisticsRepository
+                .findByStrategyEntityStrategyIdOrderByAnalysisMonthAsc(strategyId, Pageable.unpaged())) {
+            if (fromMonth == null || !monthlyStatistics.getAnalysisMonth().isBefore(fromMonth)) {
+                staleStatistics.put(monthlyStatistics.getAnalysisMonth(), monthlyStatistics);
+            } else {
+                previousStatistics = monthlyStatistics;
+            }
+        }
+
+        // 2. 기준 월 이후 일간 데이터를 날짜순으로 한 번만 조회하여 월별로 누적
+        List<DailyStatisticsEntity> dailyRows = fromMonth == null
+                ? dailyStatisticsRepository.findAllByStrategyIdOrderByDateAsc(strategyId)
+                : dailyStatisticsRepository.findAllAfterDate(strategyId, fromMonth.atDay(1));
+
+        List<MonthlyStatisticsEntity> rebuiltStatistics = new ArrayList<>();
+        MonthlyStatisticsEntity currentStatistics = null;
+        for (DailyStatisticsEntity dailyStatistics : dailyRows) {
+            YearMonth month = YearMonth.from(dailyStatistics.getDate());
+            if (currentStatistics == null || !currentStatistics.getAnalysisMonth().equals(month)) {
+                // 이전 월 마무리 후 다음 월 시작
+                if (currentStatistics != null) {
+                    applyMonthlyMetrics(strategyId, currentStatistics, previousStatistics);
+                    previousStatistics = currentStatistics;
+                }
+                currentStatistics = staleStatistics.remove(month);
+                if (currentStatistics == null) {
+                    currentStatistics = MonthlyStatisticsCalculator.createMonthlyStatistics(strategy, month);
+                } else {
+                    MonthlyStatisticsCalculator.resetRunningTotals(currentStatistics);
+                }
+                rebuiltStatistics.add(currentStatistics);
+            }
+            MonthlyStatisticsCalculator.appendDailyStatistics(currentStatistics, dailyStatistics);
+        }
+        if (currentStatistics != null) {
+            applyMonthlyMetrics(strategyId, currentStatistics, previousStatistics);
+        }
+
+        // 3. 일간 데이터가 없어진 월 삭제 후 일괄 저장
+        if (!staleStatistics.isEmpty()) {
+            monthlyStatisticsRepository.deleteAll(staleStatistics.values());
+        }
+        monthlyStatisticsRepository.saveAll(rebuiltStatistics);
+    }
+
+    // 이전 월 데이터로 월평균 원금, 월 손익률, 월 누적 손익, 월 누적 손익률 계산
+    private void applyMonthlyMetrics(Long strategyId, MonthlyStatisticsEntity monthlyStatistics, MonthlyStatisticsEntity previousStatistics) {
+        YearMonth previousMonth = monthlyStatistics.getAnalysisMonth().minusMonths(1);
+
+        // 월 손익률은 바로 이전 월의 마지막 기준가 기준 (이전 월 데이터가 없으면 0)
+        BigDecimal previousLastReferencePrice = BigDecimal.ZERO;
+        if (previousStatistics != null && previousStatistics.getAnalysisMonth().equals(previousMonth)) {
+            previousLastReferencePrice = previousStatistics.getLastReferencePrice() != null
+                    ? previousStatistics.getLastReferencePrice()
+                    : MonthlyStatisticsCalculator.getPreviousMonthLastReferencePrice(strategyId, previousMonth, dailyStatisticsRepository);
+        }
+
+        // 월 누적 손익은 가장 최근 이전 월의 월 누적 손익부터 이어서 계산
+        BigDecimal previousCumulativeProfitLoss = previousStatistics != null
+                ? previousStatistics.getMonthlyCumulativeProfitLoss()
+                : BigDecimal.ZERO;
+
+        MonthlyStatisticsCalculator.applyMonthlyMetrics(monthlyStatistics, previousLastReferencePrice, previousCumulativeProfitLoss);
+    }
+
     /**
      * 전략의 월간 분석 데이터를 페이징 처리하여 조회하는 메서드.
      *
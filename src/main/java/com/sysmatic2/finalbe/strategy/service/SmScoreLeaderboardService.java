@@ -0,0 +1,255 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.dto.SmScoreRankingResponseDto;
+import com.sysmatic2.finalbe.strategy.repository.StrategySummaryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * SM-Score 상위 전략 랭킹(리더보드) 서비스
+ *
+ * - 게시/승인 전략 중 SM-Score 상위 K개를 전체와 매매유형/매매주기/투자자산 분류별로 미리 만들어 메모리에 둡니다.
+ *   항목마다 작성자 프로필, 목록 그래프(전략 요약의 축약 누적손익률), 오늘 일손익률까지 담으므로 조회 시 DB 접근이 없습니다.
+ * - SM-Score 가 바뀐 재계산, 랭킹에 있는 전략/작성자 변경, 전략 승인/공개 시 커밋 후 무효화만 하고,
+ *   다음 조회 때 한 번 다시 만듭니다. (커밋하는 요청 스레드에서는 만들지 않음)
+ * - 날짜가 바뀌면 오늘 일손익률을 다시 담기 위해 다음 조회 때 다시 만듭니다.
+ * - 생성은 호출한 곳의 트랜잭션이 아닌 새 읽기 트랜잭션(READ_COMMITTED)에서 커밋된 최신 값으로 수행합니다.
+ * - 무효화는 같은 서버의 변경에만 반응하므로, 다른 서버의 변경은 보관 기간(ttl-millis)이 지나 다시 만들 때 반영됩니다.
+ */
+@Service
+public class SmScoreLeaderboardService {
+    public static final String ALL = "all";
+    public static final String TRADING_TYPE = "tradingType";
+    public static final String TRADING_CYCLE = "tradingCycle";
+    public static final String INVESTMENT_ASSET_CLASSES = "investmentAssetClasses";
+
+    private final StrategySummaryRepository strategySummaryRepository;
+    private final TransactionTemplate buildTransaction; // 생성용 새 읽기 트랜잭션
+
+    @Value("${strategy.leaderboard.size:5}")
+    private int leaderboardSize; // 랭킹별 보관 전략 수 (K)
+
+    @Value("${strategy.leaderboard.ttl-millis:60000}")
+    private long ttlMillis; // 보관 기간 (0 이하면 만료 없음)
+
+    private volatile Leaderboard leaderboard; // null이면 다음 조회 때 다시 만듦
+    private long generation; // 무효화할 때마다 증가 (생성 중 변경 감지)
+
+    public SmScoreLeaderboardService(StrategySummaryRepository strategySummaryRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.strategySummaryRepository = strategySummaryRepository;
+        this.buildTransaction = new TransactionTemplate(transactionManager);
+        this.buildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.buildTransaction.setReadOnly(true);
+    }
+
+    /**
+     * SM-Score 상위 전략 목록을 조회합니다. (분류는 하나만 지정하거나 지정하지 않음)
+     *
+     * @param size                     조회할 전략 수 (최대 K)
+     * @param tradingTypeId            매매유형 ID (nullable)
+     * @param tradingCycleId           매매주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @return SM-Score, 전략 ID 내림차순 전략 목록
+     * @throws IllegalArgumentException 분류를 두 개 이상 지정한 경우
+     */
+    public List<SmScoreRankingResponseDto> getTopStrategies(int size, Integer tradingTypeId, Integer tradingCycleId,
+                                                            Integer investmentAssetClassesId) {
+        long categories = Stream.of(tradingTypeId, tradingCycleId, investmentAssetClassesId).filter(Objects::nonNull).count();
+        if (categories > 1) {
+            throw new IllegalArgumentException("Only one of tradingTypeId, tradingCycleId, investmentAssetClassesId can be specified.");
+        }
+
+        String key = ALL;
+        if (tradingTypeId != null) {
+            key = key(TRADING_TYPE, tradingTypeId);
+        } else if (tradingCycleId != null) {
+            key = key(TRADING_CYCLE, tradingCycleId);
+        } else if (investmentAssetClassesId != null) {
+            key = key(INVESTMENT_ASSET_CLASSES, investmentAssetClassesId);
+        }
+
+        List<SmScoreRankingResponseDto> board = current().boards().getOrDefault(key, List.of());
+        return board.subList(0, Math.min(Math.max(size, 0), board.size()));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 랭킹을 무효화합니다. (SM-Score 변경, 전략 승인/공개처럼 순위가 바뀔 수 있는 변경)
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        register(PendingInvalidation.class, PendingInvalidation::new);
+    }
+
+    /**
+     * 랭킹에 있는 전략이 포함된 경우에만 커밋 후 무효화합니다. (전략 수정/삭제, 일간 데이터 변경)
+     *
+     * @param strategyIds 변경된 전략 ID 목록
+     */
+    public void invalidateAfterCommitIfListed(Collection<Long> strategyIds) {
+        Leaderboard current = leaderboard;
+        if (current != null && strategyIds.stream().anyMatch(current.strategyIds()::contains)) {
+            invalidateAfterCommit();
+        }
+    }
+
+    /**
+     * 랭킹에 작성자의 전략이 있는 경우에만 커밋 후 무효화합니다. (닉네임, 프로필 이미지 변경)
+     *
+     * @param memberId 회원 ID
+     */
+    public void invalidateAfterCommitIfWriterListed(String memberId) {
+        Leaderboard current = leaderboard;
+        if (current != null && current.writerIds().contains(memberId)) {
+            invalidateAfterCommit();
+        }
+    }
+
+    /**
+     * 랭킹을 무효화합니다. (다음 조회 때 다시 만듦)
+     */
+    public synchronized void invalidate() {
+        generation++;
+        leaderboard = null;
+    }
+
+    // 현재 랭킹 (없거나 날짜가 바뀌었거나 보관 기간이 지났으면 DB 값으로 생성)
+    private Leaderboard current() {
+        LocalDate today = LocalDate.now();
+        Leaderboard current = leaderboard;
+        if (isFresh(current, today)) {
+            return current;
+        }
+        long buildingGeneration;
+        synchronized (this) {
+            if (isFresh(leaderboard, today)) {
+                return leaderboard;
+            }
+            buildingGeneration = generation;
+        }
+
+        // DB 조회는 잠금 밖에서, 새 읽기 트랜잭션으로 수행 (호출한 곳의 트랜잭션 스냅샷보다 이후에 커밋된 변경도 읽음)
+        Leaderboard built = buildTransaction.execute(status -> build(today));
+        synchronized (this) {
+            // 생성 중 무효화되었으면 보관하지 않음 (이번 조회에만 사용)
+            if (generation == buildingGeneration) {
+                leaderboard = built;
+            }
+        }
+        return built;
+    }
+
+    // 게시/승인 전략을 SM-Score 순으로 한 번 읽어 랭킹마다 상위 K개 선택 후 표시 값 조회
+    private Leaderboard build(LocalDate today) {
+        // 1. 전략별 투자자산 분류
+        Map<Long, List<Object>> investmentAssetClasses = new HashMap<>();
+        for (Object[] row : strategySummaryRepository.findFacetInvestmentAssetClasses()) {
+            investmentAssetClasses.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(row[1]);
+        }
+
+        // 2. SM-Score, 전략 ID 내림차순으로 읽으며 랭킹별 상위 K개
+        Map<String, List<Long>> boardIds = new LinkedHashMap<>();
+        for (Object[] row : strategySummaryRepository.findFacetRows()) {
+            Long strategyId = (Long) row[0];
+            add(boardIds, ALL, strategyId);
+            if (row[2] != null) {
+                add(boardIds, key(TRADING_TYPE, row[2]), strategyId);
+            }
+            if (row[3] != null) {
+                add(boardIds, key(TRADING_CYCLE, row[3]), strategyId);
+            }
+            for (Object investmentAssetClassesId : investmentAssetClasses.getOrDefault(strategyId, List.of())) {
+                add(boardIds, key(INVESTMENT_ASSET_CLASSES, investmentAssetClassesId), strategyId);
+            }
+        }
+
+        // 3. 선택된 전략의 표시 값 (전략명, 작성자 프로필, 목록 그래프, 오늘 일손익률) 한 번에 조회
+        Set<Long> strategyIds = new HashSet<>();
+        boardIds.values().forEach(strategyIds::addAll);
+        Map<Long, SmScoreRankingResponseDto> entries = new HashMap<>();
+        Set<String> writerIds = new HashSet<>();
+        if (!strategyIds.isEmpty()) {
+            for (Object[] row : strategySummaryRepository.findLeaderboardRows(strategyIds)) {
+                LocalDate latestDate = (LocalDate) row[6];
+                BigDecimal dailyPlRate = today.equals(latestDate) && row[7] != null ? (BigDecimal) row[7] : BigDecimal.ZERO;
+                entries.put((Long) row[0], new SmScoreRankingResponseDto(
+                        (Long) row[0],                                                 // 전략 ID
+                        (String) row[1],                                               // 전략명
+                        (String) row[4],                                               // 프로필 이미지 링크
+                        (String) row[3],                                               // 닉네임
+                        StrategySummaryService.sparklineValues((String) row[5]),       // 목록 그래프 (축약 누적손익률)
+                        dailyPlRate                                                    // 오늘 일손익률 (없으면 0)
+                ));
+                if (row[2] != null) {
+                    writerIds.add((String) row[2]);
+                }
+            }
+        }
+
+        Map<String, List<SmScoreRankingResponseDto>> boards = new HashMap<>();
+        boardIds.forEach((key, ids) -> boards.put(key,
+                ids.stream().map(entries::get).filter(Objects::nonNull).toList()));
+        return new Leaderboard(today, boards, strategyIds, writerIds, System.nanoTime());
+    }
+
+    private boolean isFresh(Leaderboard current, LocalDate today) {
+        return current != null && current.date().equals(today)
+                && (ttlMillis <= 0 || System.nanoTime() - current.builtAt() <= TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+    }
+
+    private void add(Map<String, List<Long>> boardIds, String key, Long strategyId) {
+        List<Long> ids = boardIds.computeIfAbsent(key, k -> new ArrayList<>(leaderboardSize));
+        if (ids.size() < leaderboardSize) {
+            ids.add(strategyId);
+        }
+    }
+
+    private static String key(String category, Object id) {
+        return category + ":" + id;
+    }
+
+    // 트랜잭션마다 한 번만 등록
+    private static <T extends TransactionSynchronization> void register(Class<T> type, Supplier<T> factory) {
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream().anyMatch(type::isInstance);
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(factory.get());
+        }
+    }
+
+    // 커밋 후 무효화
+    private class PendingInvalidation implements TransactionSynchronization {
+        @Override
+        public void afterCommit() {
+            invalidate();
+        }
+    }
+
+    /**
+     * 특정 날짜의 랭킹 (생성 후 변경하지 않음)
+     *
+     * @param date        생성 날짜 (오늘 일손익률 기준일)
+     * @param boards      랭킹 키(all, 분류:ID)별 상위 전략
+     * @param strategyIds 랭킹에 있는 전략 ID
+     * @param writerIds   랭킹에 있는 전략의 작성자 ID
+     * @param builtAt     생성 시각 (System.nanoTime, 보관 기간 판단)
+     */
+    private record Leaderboard(LocalDate date, Map<String, List<SmScoreRankingResponseDto>> boards,
+                               Set<Long> strategyIds, Set<String> writerIds, long builtAt) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.common.SmScoreCalculator;
+import com.sysmatic2.finalbe.strategy.common.StrategyFacetIndex;
+import com.sysmatic2.finalbe.strategy.repository.SmScoreJdbcRepository;
+import com.sysmatic2.finalbe.strategy.repository.SmScoreJdbcRepository.KpRatioColumns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SM-SCORE 재계산 서비스.
+ *
+ * - SM-SCORE는 전체 전략의 KP-RATIO 분포로 계산되므로 일간 데이터 1건마다 다시 계산하지 않습니다.
+ * - KP-RATIO가 바뀌면 변경 표시(markDirty)만 해두고, 스케줄러가 설정된 주기마다 한 번씩 재계산합니다.
+ * - 일괄 등록, 재계산, 자정 배치처럼 작업이 끝나는 시점이 분명한 경우에는 flush로 즉시 재계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SmScoreService {
+    private final SmScoreJdbcRepository smScoreJdbcRepository;
+    private final StrategyFacetIndex strategyFacetIndex;
+    private final SmScoreLeaderboardService smScoreLeaderboardService;
+
+    // 마지막 재계산 이후 KP-RATIO 변경 여부
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    /**
+     * SM-SCORE 재계산이 필요하다고 표시합니다.
+     *
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 표시하여, 커밋 전 KP-RATIO로 재계산되는 것을 막습니다.
+     * - 롤백되면 표시하지 않습니다.
+     */
+    public void markDirty() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirty.set(true);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirty.set(true);
+            }
+        });
+    }
+
+    /**
+     * 재계산 대기 여부를 반환합니다.
+     *
+     * @return 변경 표시 이후 아직 재계산되지 않았으면 true
+     */
+    public boolean isDirty() {
+        return dirty.get();
+    }
+
+    /**
+     * 변경 표시가 있는 경우에만 SM-SCORE를 재계산합니다. (스케줄러 주기 실행용)
+     *
+     * @return 재계산을 수행했으면 true
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public boolean flushIfDirty() {
+        if (!dirty.getAndSet(false)) {
+            return false;
+        }
+        recalculate();
+        return true;
+    }
+
+    /**
+     * 변경 표시와 관계없이 SM-SCORE를 즉시 재계산합니다.
+     *
+     * - 호출한 트랜잭션에 참여하므로 같은 트랜잭션에서 갱신한 KP-RATIO가 반영됩니다.
+     * - 일괄 작업 종료 시점, 자정 배치, 테스트에서 사용합니다.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void flush() {
+        dirty.set(false);
+        recalculate();
+    }
+
+    /**
+     * KP-RATIO가 0보다 큰 전체 전략의 분포로 SM-SCORE를 계산하고 갱신합니다.
+     *
+     * - 전체 KP-RATIO를 한 번에 읽어 전역 평균/표준편차로 계산합니다.
+     * - 값이 바뀐 전략만 JDBC 배치 업데이트로 반영합니다.
+     * - 실패하면 다음 주기에 다시 시도하도록 변경 표시를 되돌립니다.
+     */
+    private void recalculate() {
+        try {
+            // 1. KP-RATIO가 0보다 큰 전략 데이터 조회
+            KpRatioColumns columns = smScoreJdbcRepository.findAllPositiveKpRatios();
+            int size = columns.getSize();
+
+            // 2. 전체 분포 기준으로 SM-SCORE 계산
+            long[] smScoreCents = SmScoreCalculator.calculateSmScoreCents(columns.getKpRatios(), size);
+
+            // 3. 값이 바뀐 전략만 모아서 배치 업데이트
+            long[] strategyIds = columns.getStrategyIds();
+            long[] currentSmScoreCents = columns.getSmScoreCents();
+            int changed = 0;
+            for (int i = 0; i < size; i++) {
+                if (smScoreCents[i] != currentSmScoreCents[i]) {
+                    strategyIds[changed] = strategyIds[i];
+                    smScoreCents[changed] = smScoreCents[i];
+                    changed++;
+                }
+            }
+            smScoreJdbcRepository.batchUpdateSmScores(strategyIds, smScoreCents, changed);
+            if (changed > 0) {
+                strategyFacetIndex.invalidateAfterCommit(); // 상세 검색 인덱스의 SM-Score 순서 갱신
+                smScoreLeaderboardService.invalidateAfterCommit(); // SM-Score 랭킹은 다음 조회 때 다시 생성
+            }
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            throw e;
+        }
+    }
+}
@@ -12,6 +12,12 @@ import com.sysmatic2.finalbe.exception.*;
 import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
 import com.sysmatic2.finalbe.member.service.FollowingStrategyService;
+import com.sysmatic2.finalbe.member.service.TraderStrategyCountService;
+import com.sysmatic2.finalbe.strategy.common.LttbDownsampler;
+import com.sysmatic2.finalbe.strategy.common.StrategyCursor;
+import com.sysmatic2.finalbe.strategy.common.StrategyFacetIndex;
+import com.sysmatic2.finalbe.strategy.common.StrategySeries;
+import com.sysmatic2.finalbe.strategy.common.StrategySeriesCache;
 import com.sysmatic2.finalbe.strategy.dto.*;
 import com.sysmatic2.finalbe.admin.entity.InvestmentAssetClassesEntity;
 import com.sysmatic2.finalbe.strategy.entity.*;
@@ -22,6 +28,7 @@ import com.sysmatic2.finalbe.admin.repository.TradingTypeRepository;
 import com.sysmatic2.finalbe.util.ParseCsvToList;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -52,6 +59,8 @@ public class StrategyService {
     private final StrategyIACHistoryRepository strategyIACHistoryRepository;
     private final StrategyApprovalRequestsRepository strategyApprovalRequestsRepository;
     private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final StrategySeriesCache strategySeriesCache;
+    private final StrategySummaryService strategySummaryService;
     private final StrategyProposalRepository strategyProposalRepository;
     private final StrategyProposalService strategyProposalService;
     private final FileService fileService;
@@ -65,6 +74,13 @@ public class StrategyService {
     private final DailyStatisticsService dailyStatisticsService;
     private final StrategyApprovalRequestsService strategyApprovalRequestsService;
     private final MonthlyStatisticsRepository monthlyStatisticsRepository;
+    private final StrategyFacetIndex strategyFacetIndex;
+    private final TraderStrategyCountService traderStrategyCountService;
+    private final SmScoreLeaderboardService smScoreLeaderboardService;
+
+    // 상세 검색을 메모리 필터 인덱스로 처리 (false면 DB 조회)
+    @Value("${strategy.facet-index.enabled:true}")
+    private boolean facetIndexEnabled;
 
     //1. 전략 생성
     /**
@@ -193,6 +209,9 @@ public class StrategyService {
 
         strategyHistoryRepo.save(strategyHistoryEntity);
 
+        // 4-1. 전략 목록 요약 생성 (커밋 직전)
+        strategySummaryService.refreshBeforeCommit(createdEntity.getStrategyId());
+
         // 5. 제안서 등록 (sbwoo)
         // strategyPayloadDto.ProposalLink(이하 link)이 null이 아니면, 제안서 등록
         if (strategyPayloadDto.getStrategyProposalLink() != null) {
@@ -224,69 +243,40 @@ public class StrategyService {
         // 투자주기 ID와 투자자산 분류 ID를 기준으로 전략 목록을 페이징 처리하여 조회
         Page<StrategyEntity> findStrategyList = strategyRepo.findStrategiesByFilters(tradingCycleId, investmentAssetClassesId, pageable);
 
-        // 3. 전략 ID 리스트 생성
-        // 조회된 전략 목록에서 각 전략의 ID를 추출하여 리스트로 저장
-        List<Long> strategyIds = findStrategyList.stream()
-                .map(StrategyEntity::getStrategyId)
-                .collect(Collectors.toList());
+        // 3. 전략 목록 요약으로 DTO 생성 (아이콘, 최신 일간 지표, 목록 그래프 포함)
+        List<AdvancedSearchResultDto> dtoList = strategySummaryService.toResultDtos(findStrategyList.getContent());
 
-        // 4. 최신 일간 통계 데이터 가져오기
-        // 각 전략 ID에 해당하는 최신 일간 통계 데이터를 조회하여 Map으로 변환
-        List<DailyStatisticsEntity> latestStatisticsList = dailyStatisticsRepository.findLatestStatisticsByStrategyIds(strategyIds);
-        Map<Long, DailyStatisticsEntity> latestStatisticsMap = latestStatisticsList.stream()
-                .collect(Collectors.toMap(
-                        stat -> stat.getStrategyEntity().getStrategyId(), // 키: 전략 ID
-                        stat -> stat // 값: DailyStatisticsEntity
-                ));
-
-        // 5. 누적 수익률 데이터 조회
-        // 각 전략 ID에 대해 누적 수익률 데이터를 날짜 오름차순으로 조회하여 Map으로 변환
-        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyIds.stream()
-                .collect(Collectors.toMap(
-                        strategyId -> strategyId, // 키: 전략 ID
-                        strategyId -> dailyStatisticsRepository.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId) // 값: 누적 수익률 리스트
-                ));
-
-        // 6. DTO 생성
-        List<AdvancedSearchResultDto> dtoList = findStrategyList.stream()
-                .map(strategyEntity -> {
-                    // 기본 정보 DTO에 삽입
-                    AdvancedSearchResultDto dto = new AdvancedSearchResultDto(
-                            strategyEntity.getStrategyId(),        // 전략 ID
-                            strategyEntity.getTradingTypeEntity().getTradingTypeIcon(),   // 매매유형 아이콘
-                            strategyEntity.getTradingCycleEntity().getTradingCycleIcon(),  // 매매주기 아이콘
-                            strategyEntity.getStrategyIACEntities().stream()
-                                    .map(iac -> iac.getInvestmentAssetClassesEntity().getInvestmentAssetClassesIcon())
-                                    .collect(Collectors.toList()),  // 투자자산 분류 아이콘
-                            strategyEntity.getStrategyTitle(),      // 전략명
-                            BigDecimal.ZERO,                        // 누적손익률 (초기값)
-                            BigDecimal.ZERO,                        // 최근 1년 손익률 (초기값)
-                            BigDecimal.ZERO,                        // MDD (초기값)
-                            strategyEntity.getSmScore(),            // SM-Score
-                            strategyEntity.getFollowersCount(),     // 팔로워 수
-                            null                                    // 누적 수익률 리스트 (초기값)
-                    );
-
-                    // 최신 일간 통계 데이터 삽입
-                    DailyStatisticsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
-                    if (latestStatistics != null) {
-                        dto.setCumulativeProfitLossRate(latestStatistics.getCumulativeProfitLossRate()); // 누적손익률
-                        dto.setRecentOneYearReturn(latestStatistics.getRecentOneYearReturn());           // 최근 1년 손익률
-                        dto.setMdd(latestStatistics.getMaxDrawdownRate());                               // MDD
-                    }
+        // 4. DTO 페이지 객체 생성
+        Page<AdvancedSearchResultDto> dtoPage = new PageImpl<>(dtoList, pageable, findStrategyList.getTotalElements());
 
-                    // 누적 수익률 전체 데이터 삽입
-                    List<BigDecimal> cumulativeProfitLossRates = cumulativeProfitLossRateMap.get(strategyEntity.getStrategyId());
-                    dto.setCumulativeProfitLossRateList(cumulativeProfitLossRates);
+        // 5. 페이지 응답 생성 및 반환
+        return createPageResponse(dtoPage);
+    }
 
-                    return dto;
-                }).collect(Collectors.toList());
+    /**
+     * 2-1-1. 필터 조건에 따라 전략 목록을 커서로 반환 - 랭킹 (무한 스크롤)
+     *
+     * - 커서 다음의 전략만 조회하므로 몇 번째 목록이든 비용이 같고, 전체 개수는 total=true 인 경우에만 조회합니다.
+     *
+     * @param tradingCycleId           투자주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @param cursor                   이전 응답의 nextCursor (null이면 처음부터)
+     * @param pageSize                 한 번에 받을 데이터 개수
+     * @param total                    전체 개수 포함 여부
+     * @return 전략 목록, 다음 커서를 포함한 Map 객체
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStrategiesByCursor(Integer tradingCycleId, Integer investmentAssetClassesId,
+                                                     String cursor, int pageSize, boolean total) {
+        // 1. 다음 목록 존재 여부를 알기 위해 한 개 더 조회
+        List<StrategyEntity> strategies = strategyRepo.findStrategiesByFiltersAfter(
+                tradingCycleId, investmentAssetClassesId, StrategyCursor.decode(cursor), pageSize + 1);
 
-        // 7. DTO 페이지 객체 생성
-        Page<AdvancedSearchResultDto> dtoPage = new PageImpl<>(dtoList, pageable, findStrategyList.getTotalElements());
+        // 2. 전체 개수 (요청한 경우에만)
+        Long totalElements = total ? strategyRepo.countStrategiesByFilters(tradingCycleId, investmentAssetClassesId) : null;
 
-        // 8. 페이지 응답 생성 및 반환
-        return createPageResponse(dtoPage);
+        // 3. 응답 생성
+        return strategySummaryService.toCursorResponse(strategies, pageSize, totalElements);
     }
 
     /**
@@ -337,69 +327,28 @@ public class StrategyService {
         searchOptionsDto.setReturnRateList(returnRates);
         searchOptionsDto.setKeyword(searchOptionsPayload.getKeyword());
 
+        // 4. 필터 인덱스로 전략 ID 페이지와 필터 항목별 전략 수 가져오기 (DB 조회 없음)
+        if (facetIndexEnabled) {
+            StrategyFacetSearchResultDto result = strategyFacetIndex.search(searchOptionsDto, pageable.getOffset(), pageSize);
+
+            // 전략 목록 요약으로 DTO 생성 후 페이지 응답에 필터 항목별 전략 수 추가
+            List<AdvancedSearchResultDto> dtoList = strategySummaryService.toResultDtosByIds(result.getStrategyIds());
+            Map<String, Object> response = new HashMap<>(createPageResponse(new PageImpl<>(dtoList, pageable, result.getTotalCount())));
+            response.put("facetCounts", result.getFacetCounts());
+            return response;
+        }
+
         // 4. Repository 호출로 필터링된 전략 페이지 가져오기
         //2)필터객체, 페이지 객체넣고 db에서 데이터 가져오기
         Page<StrategyEntity> findStrategyPage = strategyRepo.findStrategiesByDetailSearchOptions(searchOptionsDto, pageable);
 
-        //전략 페이지로 일간 데이터들 중 제일 최신값 가져오기
-        // 5. 전략 ID 리스트 생성
-        List<Long> strategyIds = findStrategyPage.stream()
-                .map(StrategyEntity::getStrategyId)
-                .collect(Collectors.toList());
-
-        // 6. 각 전략의 최신 일간 통계 데이터 가져오기
-        List<DailyStatisticsEntity> latestStatisticsList = dailyStatisticsRepository.findLatestStatisticsByStrategyIds(strategyIds);
-        Map<Long, DailyStatisticsEntity> latestStatisticsMap = latestStatisticsList.stream()
-                .collect(Collectors.toMap(
-                        stat -> stat.getStrategyEntity().getStrategyId(),
-                        stat -> stat
-                ));
-
-        // 7. 누적 수익률 데이터 가져오기 (날짜 오름차순)
-        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyIds.stream()
-                .collect(Collectors.toMap(
-                        strategyId -> strategyId, // 전략 ID를 키로 사용
-                        strategyId -> dailyStatisticsRepository.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId) // 누적 수익률 리스트
-                ));
-
-        // 8. DTO 생성
-        List<AdvancedSearchResultDto> dtoList = findStrategyPage.stream()
-                .map(strategyEntity -> {
-                    AdvancedSearchResultDto dto = new AdvancedSearchResultDto(
-                            strategyEntity.getStrategyId(),                                // 전략 ID
-                            strategyEntity.getTradingTypeEntity().getTradingTypeIcon(),    // 매매 유형 아이콘
-                            strategyEntity.getTradingCycleEntity().getTradingCycleIcon(),  // 매매 주기 아이콘
-                            strategyEntity.getStrategyIACEntities().stream()
-                                    .map(iac -> iac.getInvestmentAssetClassesEntity().getInvestmentAssetClassesIcon())
-                                    .collect(Collectors.toList()),                         // 투자 자산 분류 아이콘 리스트
-                            strategyEntity.getStrategyTitle(),                             // 전략명
-                            BigDecimal.ZERO,                                               // 누적 손익률 (초기값)
-                            BigDecimal.ZERO,                                               // 최근 1년 손익률 (초기값)
-                            BigDecimal.ZERO,                                               // MDD (초기값)
-                            strategyEntity.getSmScore(),                                   // SM-Score
-                            strategyEntity.getFollowersCount(),                            // 팔로워 수
-                            null                                                           // 누적 수익률 리스트 (초기값)
-                    );
-
-                    // 최신 일간 통계 데이터 추가
-                    DailyStatisticsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
-                    if (latestStatistics != null) {
-                        dto.setCumulativeProfitLossRate(latestStatistics.getCumulativeProfitLossRate());
-                        dto.setRecentOneYearReturn(latestStatistics.getRecentOneYearReturn());
-                        dto.setMdd(latestStatistics.getMaxDrawdownRate());
-                    }
-
-                    // 누적 수익률 리스트 추가
-                    List<BigDecimal> cumulativeProfitLossRates = cumulativeProfitLossRateMap.get(strategyEntity.getStrategyId());
-                    dto.setCumulativeProfitLossRateList(cumulativeProfitLossRates);
+        // 5. 전략 목록 요약으로 DTO 생성 (아이콘, 최신 일간 지표, 목록 그래프 포함)
+        List<AdvancedSearchResultDto> dtoList = strategySummaryService.toResultDtos(findStrategyPage.getContent());
 
-                    return dto;
-                }).collect(Collectors.toList());
-
-        // 9. DTO 리스트를 페이지 객체로 변환
+        // 6. DTO 리스트를 페이지 객체로 변환
         Page<AdvancedSearchResultDto> dtoPage = new PageImpl<>(dtoList, pageable, findStrategyPage.getTotalElements());
 
-        // 10. 페이지 응답 생성 및 반환
+        // 7. 페이지 응답 생성 및 반환
         return createPageResponse(dtoPage);
     }
 
@@ -431,71 +380,19 @@ public class StrategyService {
             traderStrategyPage = strategyRepo.findByWriterIdAndIsApprovedAndIsPosted(traderId, "Y", "Y", pageable);
         }
 
-        //전략 페이지로 일간 데이터들 중 제일 최신값으로 가져오기
-        //4) 전략 ID 리스트 생성
-        List<Long> strategyIds = traderStrategyPage.stream()
-                .map(StrategyEntity::getStrategyId)
-                .collect(Collectors.toList());
-
-        //5) 각 전략의 최신 일간 통계 데이터 가져오기
-        List<DailyStatisticsEntity> latestStatisticsList = dailyStatisticsRepository.findLatestStatisticsByStrategyIds(strategyIds);
-        Map<Long, DailyStatisticsEntity> latestStatisticsMap = latestStatisticsList.stream()
-                .collect(Collectors.toMap(
-                        stat -> stat.getStrategyEntity().getStrategyId(),
-                        stat -> stat
-                ));
-
-        //6) 누적 수익률 데이터 가져오기 (날짜 오름차순)
-        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyIds.stream()
-                .collect(Collectors.toMap(
-                        strategyId -> strategyId, // 전략 ID를 키로 사용
-                        strategyId -> dailyStatisticsRepository.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId) // 누적 수익률 리스트
-                ));
-
-        //7) DTO 생성
-        List<AdvancedSearchResultDto> dtoList = traderStrategyPage.stream()
-                .map(strategyEntity -> {
-                    AdvancedSearchResultDto dto = new AdvancedSearchResultDto(
-                            strategyEntity.getStrategyId(),                                // 전략 ID
-                            strategyEntity.getTradingTypeEntity().getTradingTypeIcon(),    // 매매 유형 아이콘
-                            strategyEntity.getTradingCycleEntity().getTradingCycleIcon(),  // 매매 주기 아이콘
-                            strategyEntity.getStrategyIACEntities().stream()
-                                    .map(iac -> iac.getInvestmentAssetClassesEntity().getInvestmentAssetClassesIcon())
-                                    .collect(Collectors.toList()),                         // 투자 자산 분류 아이콘 리스트
-                            strategyEntity.getStrategyTitle(),                             // 전략명
-                            BigDecimal.ZERO,                                               // 누적 손익률 (초기값)
-                            BigDecimal.ZERO,                                               // 최근 1년 손익률 (초기값)
-                            BigDecimal.ZERO,                                               // MDD (초기값)
-                            strategyEntity.getSmScore(),                                   // SM-Score
-                            strategyEntity.getFollowersCount(),                            // 팔로워 수
-                            null                                                           // 누적 수익률 리스트 (초기값)
-                    );
-
-                    // 최신 일간 통계 데이터 추가
-                    DailyStatisticsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
-                    if (latestStatistics != null) {
-                        dto.setCumulativeProfitLossRate(latestStatistics.getCumulativeProfitLossRate());
-                        dto.setRecentOneYearReturn(latestStatistics.getRecentOneYearReturn());
-                        dto.setMdd(latestStatistics.getMaxDrawdownRate());
-                    }
-
-                    // 누적 수익률 리스트 추가
-                    List<BigDecimal> cumulativeProfitLossRates = cumulativeProfitLossRateMap.get(strategyEntity.getStrategyId());
-                    dto.setCumulativeProfitLossRateList(cumulativeProfitLossRates);
-
-                    return dto;
-                }).collect(Collectors.toList());
-
+        //4) 전략 목록 요약으로 DTO 생성 (아이콘, 최신 일간 지표, 목록 그래프 포함)
+        List<AdvancedSearchResultDto> dtoList = strategySummaryService.toResultDtos(traderStrategyPage.getContent());
 
-        //8) DTO 리스트를 페이지 객체로 변환
+        //5) DTO 리스트를 페이지 객체로 변환
         Page<AdvancedSearchResultDto> dtoPage = new PageImpl<>(dtoList, pageable, traderStrategyPage.getTotalElements());
 
-        //9) 페이지 응답 생성 및 반환
+        //6) 페이지 응답 생성 및 반환
         return createPageResponse(dtoPage);
     }
 
     /**
      * 2-4. 키워드로 전략명 필터링한 전략 목록을 반환(페이지네이션)
+     * - 필터 인덱스 사용 시 전략명과 작성자 닉네임을 함께 찾고 관련도(전략명 일치/시작/포함, 닉네임 시작/포함) 순으로 정렬
      *
      * @param keyword  검색 키워드
      * @param page     현재 페이지 번호
@@ -507,71 +404,37 @@ public class StrategyService {
         // 1. 페이지 요청 객체 생성
         Pageable pageable = PageRequest.of(page, pageSize);
 
+        // 키워드 역색인으로 관련도 순 전략 ID 페이지 가져오기 (전략명 + 작성자 닉네임, DB 조회 없음)
+        if (facetIndexEnabled) {
+            StrategyFacetSearchResultDto result = strategyFacetIndex.searchKeyword(keyword, pageable.getOffset(), pageSize);
+            List<AdvancedSearchResultDto> dtoList = strategySummaryService.toResultDtosByIds(result.getStrategyIds());
+            return createPageResponse(new PageImpl<>(dtoList, pageable, result.getTotalCount()));
+        }
+
         //2. 키워드 검색으로 전략 페이지 가져오기 - isPosted = Y, isApproved = Y
         Page<StrategyEntity> findStrategyPage = strategyRepo.searchByKeyword(keyword, "Y", "Y", pageable);
 
-        //전략 페이지로 일간 데이터들 중 제일 최신값 가져오기
-        // 3. 전략 ID 리스트 생성
-        List<Long> strategyIds = findStrategyPage.stream()
-                .map(StrategyEntity::getStrategyId)
-                .collect(Collectors.toList());
-
-        // 4. 각 전략의 최신 일간 통계 데이터 가져오기
-        List<DailyStatisticsEntity> latestStatisticsList = dailyStatisticsRepository.findLatestStatisticsByStrategyIds(strategyIds);
-        Map<Long, DailyStatisticsEntity> latestStatisticsMap = latestStatisticsList.stream()
-                .collect(Collectors.toMap(
-                        stat -> stat.getStrategyEntity().getStrategyId(),
-                        stat -> stat
-                ));
-
-        // 5. 누적 수익률 데이터 가져오기 (날짜 오름차순)
-        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyIds.stream()
-                .collect(Collectors.toMap(
-                        strategyId -> strategyId, // 전략 ID를 키로 사용
-                        strategyId -> dailyStatisticsRepository.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId) // 누적 수익률 리스트
-                ));
-
-        // 6. DTO 생성
-        List<AdvancedSearchResultDto> dtoList = findStrategyPage.stream()
-                .map(strategyEntity -> {
-                    AdvancedSearchResultDto dto = new AdvancedSearchResultDto(
-                            strategyEntity.getStrategyId(),                                // 전략 ID
-                            strategyEntity.getTradingTypeEntity().getTradingTypeIcon(),    // 매매 유형 아이콘
-                            strategyEntity.getTradingCycleEntity().getTradingCycleIcon(),  // 매매 주기 아이콘
-                            strategyEntity.getStrategyIACEntities().stream()
-                                    .map(iac -> iac.getInvestmentAssetClassesEntity().getInvestmentAssetClassesIcon())
-                                    .collect(Collectors.toList()),                         // 투자 자산 분류 아이콘 리스트
-                            strategyEntity.getStrategyTitle(),                             // 전략명
-                            BigDecimal.ZERO,                                               // 누적 손익률 (초기값)
-                            BigDecimal.ZERO,                                               // 최근 1년 손익률 (초기값)
-                            BigDecimal.ZERO,                                               // MDD (초기값)
-                            strategyEntity.getSmScore(),                                   // SM-Score
-                            strategyEntity.getFollowersCount(),                            // 팔로워 수
-                            null                                                           // 누적 수익률 리스트 (초기값)
-                    );
-
-                    // 최신 일간 통계 데이터 추가
-                    DailyStatisticsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
-                    if (latestStatistics != null) {
-                        dto.setCumulativeProfitLossRate(latestStatistics.getCumulativeProfitLossRate());
-                        dto.setRecentOneYearReturn(latestStatistics.getRecentOneYearReturn());
-                        dto.setMdd(latestStatistics.getMaxDrawdownRate());
-                    }
-
-                    // 누적 수익률 리스트 추가
-                    List<BigDecimal> cumulativeProfitLossRates = cumulativeProfitLossRateMap.get(strategyEntity.getStrategyId());
-                    dto.setCumulativeProfitLossRateList(cumulativeProfitLossRates);
+        // 3. 전략 목록 요약으로 DTO 생성 (아이콘, 최신 일간 지표, 목록 그래프 포함)
+        List<AdvancedSearchResultDto> dtoList = strategySummaryService.toResultDtos(findStrategyPage.getContent());
 
-                    return dto;
-                }).collect(Collectors.toList());
-
-        // 7. DTO 리스트를 페이지 객체로 변환
+        // 4. DTO 리스트를 페이지 객체로 변환
         Page<AdvancedSearchResultDto> dtoPage = new PageImpl<>(dtoList, pageable, findStrategyPage.getTotalElements());
 
-        // 8. 페이지 응답 생성 및 반환
+        // 5. 페이지 응답 생성 및 반환
         return createPageResponse(dtoPage);
     }
 
+    /**
+     * 2-5. 전략 검색어 자동완성
+     *
+     * @param keyword 입력어
+     * @param size    최대 개수
+     * @return 전략명 또는 작성자 닉네임이 입력어로 시작하는 전략 목록 (SM-Score 순)
+     */
+    public List<StrategySuggestionDto> getStrategySuggestions(String keyword, Integer size) {
+        return strategyFacetIndex.suggest(keyword, size);
+    }
+
     //3. 전략 상세
     /**
      * 3-1. 전략 상세페이지 기본정보 조회 메서드
@@ -729,6 +592,10 @@ public class StrategyService {
         // 10. 전략 일간분석 데이터 삭제
         // DailyStatisticsEntity에서 해당 전략의 데이터를 모두 삭제
         dailyStatisticsRepository.deleteByStrategyId(strategyEntity.getStrategyId());
+        dailyStatisticsService.deleteStatisticsState(strategyEntity.getStrategyId());
+        strategySeriesCache.evictAfterCommit(strategyEntity.getStrategyId());
+        strategySummaryService.refreshBeforeCommit(strategyEntity.getStrategyId()); // 커밋 직전 목록 요약 삭제
+        traderStrategyCountService.recountBeforeCommit(strategyEntity.getWriterId()); // 커밋 직전 트레이더 전략 수 갱신
 
         // 11. 관심전략 삭제
         followingStrategyService.deleteFollowingStrategiesByStrategy(strategyEntity);
@@ -989,6 +856,11 @@ public class StrategyService {
         strategyHistoryEntity.setChangeEndDate(LocalDateTime.now());
         strategyHistoryRepo.save(strategyHistoryEntity);
 
+        //10-1) 전략 목록 요약, 트레이더 전략 수(공개 여부 변경) 갱신 (커밋 직전), 분류/공개 여부가 바뀔 수 있으므로 SM-Score 랭킹 무효화
+        strategySummaryService.refreshBeforeCommit(strategyEntity.getStrategyId());
+        traderStrategyCountService.recountBeforeCommit(strategyEntity.getWriterId());
+        smScoreLeaderboardService.invalidateAfterCommit();
+
         //11) 제안서 수정 (sbwoo)
         // strategyPayloadDto.ProposalLink(이하 link)이 null이 아니고, 링크의 변화가 있다면 제안서 등록
         if (strategyPayloadDto.getStrategyProposalLink() != null) {
@@ -1069,6 +941,10 @@ public class StrategyService {
         StrategyHistoryEntity strategyHistoryEntity = new StrategyHistoryEntity(strategyEntity, "STRATEGY_STATUS_TERMINATED", changeStartDatetime);
         strategyHistoryRepo.save(strategyHistoryEntity);
 
+        //전략 목록 요약, 트레이더 전략 수 갱신 (커밋 직전, 상세 검색 인덱스의 운용상태 반영)
+        strategySummaryService.refreshBeforeCommit(strategyEntity.getStrategyId());
+        traderStrategyCountService.recountBeforeCommit(strategyEntity.getWriterId());
+
         //3. 반환값 생성
         Map<String, Long> responseMap = new HashMap<>();
         responseMap.put("Strategy_Id", strategyEntity.getStrategyId());
@@ -1206,6 +1082,9 @@ public class StrategyService {
 
         // 3. 변경된 엔티티 저장
         strategyRepo.save(strategy);
+
+        // 4. 전략 목록 요약 갱신 (커밋 직전)
+        strategySummaryService.refreshBeforeCommit(strategyId);
     }
 
     // 9. 전략 상세 차트 옵션 2개 조회
@@ -1215,22 +1094,62 @@ public class StrategyService {
      * @param strategyId 전략 ID
      * @param option1 첫 번째 데이터 옵션 (예: "referencePrice", "balance" 등)
      * @param option2 두 번째 데이터 옵션 (예: "dailyProfitLoss", "cumulativeProfitLoss" 등)
-     * @return DailyStatisticsChartResponseDto (전략 차트 데이터와 타임스탬프)
+     * @param maxPoints 반환할 최대 점 수 (null이면 전체)
+     * @return DailyStatisticsChartResponseDto (일자, 전략 차트 데이터와 타임스탬프)
      */
-    public DailyStatisticsChartResponseDto getStrategyChartDetails(Long strategyId, String option1, String option2) {
-        // Repository에서 데이터를 조회하여 Map 형태로 반환
-        Map<String, List<?>> chartData = strategyRepo.findChartDataByOptions(strategyId, option1, option2);
-
-        // 반환된 데이터가 null 또는 비어 있을 경우 예외 처리
-        if (chartData == null || chartData.isEmpty()) {
-            throw new IllegalArgumentException("요청하신 데이터가 존재하지 않습니다. 전략 ID: " + strategyId);
+    public DailyStatisticsChartResponseDto getStrategyChartDetails(Long strategyId, String option1, String option2, Integer maxPoints) {
+        // 캐시하는 시계열이면 캐시에서, 아니면 Repository에서 일자와 두 옵션 값을 한 번에 조회
+        DailyStatisticsChartSeriesDto chartSeries = findCachedChartData(strategyId, option1, option2)
+                .orElseGet(() -> strategyRepo.findChartDataByOptions(strategyId, option1, option2));
+
+        // 최대 점 수가 주어지면 LTTB로 다운샘플링 (두 옵션을 같은 일자로 선택)
+        List<LocalDate> dates = chartSeries.getDates();
+        List<BigDecimal> values1 = chartSeries.getValues1();
+        List<BigDecimal> values2 = chartSeries.getValues2();
+        int totalPoints = dates.size();
+        if (maxPoints != null && maxPoints < totalPoints) {
+            double[] x = new double[totalPoints];
+            double[][] series = new double[2][totalPoints];
+            for (int i = 0; i < totalPoints; i++) {
+                x[i] = dates.get(i).toEpochDay();
+                series[0][i] = values1.get(i).doubleValue();
+                series[1][i] = values2.get(i).doubleValue();
+            }
+            int[] selected = LttbDownsampler.select(x, series, maxPoints);
+            dates = pick(dates, selected);
+            values1 = pick(values1, selected);
+            values2 = pick(values2, selected);
         }
 
+        Map<String, List<?>> chartData = new HashMap<>();
+        chartData.put(option1, values1);
+        chartData.put(option2, values2);
+
         // 현재 UTC 시간 추가
         String timestamp = Instant.now().toString();
 
         // DTO 생성 및 반환
-        return new DailyStatisticsChartResponseDto(chartData, timestamp);
+        return new DailyStatisticsChartResponseDto(dates, chartData, totalPoints, timestamp);
+    }
+
+    // 두 옵션 모두 시계열 캐시 컬럼이면 캐시에서 조회 (캐시할 수 없는 전략이면 empty)
+    private Optional<DailyStatisticsChartSeriesDto> findCachedChartData(Long strategyId, String option1, String option2) {
+        Optional<StrategySeries.Column> column1 = StrategySeries.Column.fromFieldName(option1);
+        Optional<StrategySeries.Column> column2 = StrategySeries.Column.fromFieldName(option2);
+        if (column1.isEmpty() || column2.isEmpty()) {
+            return Optional.empty();
+        }
+        return strategySeriesCache.get(strategyId).map(series ->
+                new DailyStatisticsChartSeriesDto(series.dates(), series.values(column1.get()), series.values(column2.get())));
+    }
+
+    // 선택한 인덱스의 값만 추출
+    private static <T> List<T> pick(List<T> values, int[] indexes) {
+        List<T> picked = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            picked.add(values.get(index));
+        }
+        return picked;
     }
 
     /**
@@ -1261,41 +1180,25 @@ public class StrategyService {
             strategyReviewService.deleteReviewsByStrategy(strategy);  // 전략리뷰 삭제
 
             strategyRepo.delete(strategy);  // 전략 삭제 [X]
+            strategySummaryService.refreshBeforeCommit(strategyId);  // 전략 목록 요약 삭제
+            traderStrategyCountService.recountBeforeCommit(strategy.getWriterId());  // 트레이더 전략 수 갱신
         }
     }
 
-    // 10. SM SCORE 기반 상위 전략 5개 리스트
-    @Transactional(readOnly = true)
-    public Map<String, Object> getSmScoreTop5Strategies() {
-        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "smScore"));
-
-        // 조건: isApproved = "Y" AND isPosted = "Y"
-        Page<StrategyEntity> strategyPage = strategyRepo.findByIsApprovedAndIsPosted("Y", "Y", pageable);
-
-        List<SmScoreRankingResponseDto> dtoList = strategyPage.stream().map(strategy -> {
-            // MemberEntity에서 프로필 이미지 정보 가져오기
-            MemberEntity member = memberRepository.findById(strategy.getWriterId())
-                    .orElseThrow(() -> new IllegalArgumentException("Member not found: " + strategy.getWriterId()));
-
-            // DailyStatisticsEntity에서 누적 수익률 리스트 가져오기
-            List<BigDecimal> cumulativeProfitLossRateList = dailyStatisticsRepository
-                    .findCumulativeProfitLossRateByStrategyIdOrderByDate(strategy.getStrategyId());
-
-            // DailyStatisticsEntity에서 오늘 기준 일손익률 가져오기
-            BigDecimal dailyPlRate = dailyStatisticsRepository.findByStrategyIdAndDate(strategy.getStrategyId(), LocalDate.now())
-                    .map(DailyStatisticsEntity::getDailyPlRate)
-                    .orElse(BigDecimal.ZERO);
-
-            // DTO 생성
-            return new SmScoreRankingResponseDto(
-                    strategy.getStrategyId(),
-                    strategy.getStrategyTitle(),
-                    member.getProfilePath(),
-                    member.getNickname(),
-                    cumulativeProfitLossRateList,
-                    dailyPlRate
-            );
-        }).collect(Collectors.toList());
+    // 10. SM SCORE 기반 상위 전략 리스트 (미리 만든 랭킹, DB 조회 없음)
+    /**
+     * SM-Score 상위 전략 목록을 반환합니다.
+     *
+     * @param size                     조회할 전략 수 (최대 strategy.leaderboard.size)
+     * @param tradingTypeId            매매유형 ID (nullable, 분류는 하나만 지정)
+     * @param tradingCycleId           매매주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @return 상위 전략 목록 (전략 ID, 전략명, 작성자 프로필, 닉네임, 목록 그래프, 오늘 일손익률)
+     */
+    public Map<String, Object> getSmScoreTop5Strategies(Integer size, Integer tradingTypeId, Integer tradingCycleId,
+                                                        Integer investmentAssetClassesId) {
+        List<SmScoreRankingResponseDto> dtoList = smScoreLeaderboardService.getTopStrategies(
+                size, tradingTypeId, tradingCycleId, investmentAssetClassesId);
 
         // 결과를 Map으로 변환
         Map<String, Object> response = new HashMap<>();
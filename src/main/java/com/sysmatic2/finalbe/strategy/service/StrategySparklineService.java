@@ -0,0 +1,83 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.common.LttbDownsampler;
+import com.sysmatic2.finalbe.strategy.common.StrategySeries;
+import com.sysmatic2.finalbe.strategy.common.StrategySeriesCache;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * 전략 목록 그래프(누적손익률) 서비스
+ *
+ * - 한 페이지의 전략 시계열을 캐시에서 꺼내고, 캐시에 없는 전략은 한 번의 IN 조회로 적재합니다.
+ * - 전략마다 최대 statistics.sparkline.points 개 점으로 줄여 반환하므로 응답 크기가 운용 기간과 무관합니다.
+ * - 전략 요약(StrategySummaryService)은 커밋 후 getSparklines 로 다시 계산하고, 요약을 처음 만들 때만 computeSparkline 을 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StrategySparklineService {
+    private final StrategySeriesCache strategySeriesCache;
+    private final DailyStatisticsRepository dsp;
+
+    // 목록 그래프 최대 점 수 (3 이상)
+    @Value("${statistics.sparkline.points:60}")
+    private int sparklinePoints;
+
+    /**
+     * 전략별 목록 그래프용 누적손익률을 조회합니다.
+     *
+     * @param strategyIds 전략 ID 목록 (한 페이지)
+     * @return 전략 ID별 날짜 오름차순 누적손익률 리스트 (최대 statistics.sparkline.points 개)
+     */
+    public Map<Long, List<BigDecimal>> getSparklines(Collection<Long> strategyIds) {
+        Map<Long, StrategySeries> seriesMap = strategySeriesCache.getAll(strategyIds);
+
+        Map<Long, List<BigDecimal>> sparklines = new HashMap<>();
+        for (Long strategyId : strategyIds) {
+            StrategySeries series = seriesMap.get(strategyId);
+            if (series != null) {
+                sparklines.put(strategyId,
+                        series.sample(StrategySeries.Column.CUMULATIVE_PROFIT_LOSS_RATE, sparklinePoints));
+            } else {
+                // 캐시할 수 없는 값이 있는 전략만 개별 조회
+                sparklines.put(strategyId,
+                        downsample(strategySeriesCache.getCumulativeProfitLossRates(strategyId)));
+            }
+        }
+        return sparklines;
+    }
+
+    /**
+     * 캐시를 거치지 않고 DB 값으로 목록 그래프용 누적손익률을 계산합니다.
+     *
+     * - 시계열 캐시는 커밋 후에 제거되므로, 쓰기 트랜잭션 안에서 요약을 처음 만들 때는 이 메서드로 변경된 값을 읽습니다.
+     *
+     * @param strategyId 전략 ID
+     * @return 날짜 오름차순 누적손익률 리스트 (최대 statistics.sparkline.points 개)
+     */
+    public List<BigDecimal> computeSparkline(Long strategyId) {
+        return StrategySeries.fromRows(dsp.findSeriesByStrategyId(strategyId))
+                .map(series -> series.sample(StrategySeries.Column.CUMULATIVE_PROFIT_LOSS_RATE, sparklinePoints))
+                .orElseGet(() -> downsample(dsp.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId)));
+    }
+
+    // 일자 간격 대신 순번을 x 로 사용해 줄임
+    private List<BigDecimal> downsample(List<BigDecimal> values) {
+        double[] x = new double[values.size()];
+        double[][] y = new double[1][values.size()];
+        for (int i = 0; i < values.size(); i++) {
+            x[i] = i;
+            y[0][i] = values.get(i).doubleValue();
+        }
+        List<BigDecimal> result = new ArrayList<>();
+        for (int index : LttbDownsampler.select(x, y, sparklinePoints)) {
+            result.add(values.get(index));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,431 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.common.StrategyCursor;
+import com.sysmatic2.finalbe.strategy.common.StrategyFacetIndex;
+import com.sysmatic2.finalbe.strategy.dto.AdvancedSearchResultDto;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategySummaryEntity;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.repository.StrategySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.sysmatic2.finalbe.util.CreatePageResponse.createCursorResponse;
+
+/**
+ * 전략 목록용 요약(strategy_summary) 서비스
+ *
+ * - 목록 화면은 전략 ID로 요약을 한 번에 읽어 AdvancedSearchResultDto 를 만듭니다. (아이콘/최신 일간 지표/그래프 조회 없음)
+ * - 일간 데이터, 전략 등록/수정/삭제/승인, 팔로우 변경 시 refreshBeforeCommit 으로 요약 갱신을 예약하고,
+ *   같은 트랜잭션의 커밋 직전에 전략마다 한 번만 갱신합니다.
+ * - 일간 데이터 변경(refreshLatestBeforeCommit)은 최신 일간 지표 컬럼만, 팔로우 변경(refreshFollowersBeforeCommit)은
+ *   팔로워 수만, 전략 변경은 전략명/아이콘과 위 두 값을 UPDATE 합니다. 목록 그래프는 전체 이력을 읽어야 하므로 쓰기
+ *   트랜잭션에서 계산하지 않고, 커밋 후 변경 표시만 해두었다가 스케줄러가 주기마다 시계열 캐시로 한 번에 다시 계산합니다.
+ * - 이미 있는 요약은 엔티티로 덮어쓰지 않고 컬럼별 UPDATE 로만 바꾸며, 최신 일간 지표와 팔로워 수는 UPDATE 문 안의
+ *   하위 조회로 다시 읽습니다. 따라서 다른 경로가 먼저 커밋한 컬럼을 트랜잭션 시작 시점의 값으로 되돌리지 않습니다.
+ *   (InnoDB 는 UPDATE 의 하위 조회를 잠금 읽기로 수행) 다만 목록 그래프는 다음 스케줄러 주기까지 늦을 수 있고,
+ *   SM-Score 는 SmScoreService 의 재계산 주기를 따릅니다.
+ * - 요약이 없는 전략(기존 데이터)은 기동 시 생성하고, 그 전에 조회되면 요약 없이 바로 계산해 반환합니다.
+ * - 일자 기준 최신 일간 통계 ID와 최초 일자도 함께 갱신하므로, 최신 통계 조회는 요약과 일간 통계의 기본키 조회입니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StrategySummaryService {
+    private static final String ICON_DELIMITER = "\n";
+    private static final String SPARKLINE_DELIMITER = ",";
+    private static final int SPARKLINE_FLUSH_CHUNK = 500; // 목록 그래프 재계산 시 한 번에 적재할 전략 수
+
+    private final StrategySummaryRepository strategySummaryRepository;
+    private final DailyStatisticsRepository dsp;
+    private final StrategySparklineService strategySparklineService;
+    private final StrategyFacetIndex strategyFacetIndex;
+    private final SmScoreLeaderboardService smScoreLeaderboardService;
+
+    // 커밋 후 목록 그래프를 다시 계산해야 하는 전략 ID
+    private final Set<Long> staleSparklines = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 현재 트랜잭션의 커밋 직전에 전략 요약을 다시 계산하도록 예약합니다. (트랜잭션 밖이면 바로 계산)
+     *
+     * @param strategyId 전략 ID
+     */
+    public void refreshBeforeCommit(Long strategyId) {
+        refreshBeforeCommit(List.of(strategyId));
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 직전에 전략 요약들을 다시 계산하도록 예약합니다. (트랜잭션 밖이면 바로 계산)
+     *
+     * @param strategyIds 전략 ID 목록
+     */
+    public void refreshBeforeCommit(Collection<Long> strategyIds) {
+        strategyFacetIndex.invalidateAfterCommit(); // 상세 검색 인덱스도 커밋 후 다시 생성
+        smScoreLeaderboardService.invalidateAfterCommitIfListed(strategyIds); // 랭킹에 있는 전략이면 랭킹도 무효화
+        PendingRefresh pending = pendingRefresh();
+        if (pending == null) {
+            strategyIds.forEach(this::refresh);
+            return;
+        }
+        pending.strategyIds.addAll(strategyIds);
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 직전에 전략 요약의 최신 일간 지표를 갱신하도록 예약합니다. (일간 데이터 변경용)
+     *
+     * - 최신 일간 통계 ID, 최초/최신 일자, 최신 누적손익률/최근 1년 수익률/MDD 만 UPDATE 합니다.
+     * - 목록 그래프는 커밋 후 다시 계산하도록 표시합니다. (트랜잭션 밖이면 바로 갱신)
+     *
+     * @param strategyId 전략 ID
+     */
+    public void refreshLatestBeforeCommit(Long strategyId) {
+        strategyFacetIndex.invalidateAfterCommit(); // 상세 검색 인덱스도 커밋 후 다시 생성
+        smScoreLeaderboardService.invalidateAfterCommitIfListed(List.of(strategyId)); // 랭킹에 있는 전략이면 랭킹도 무효화
+        PendingRefresh pending = pendingRefresh();
+        if (pending == null) {
+            refreshLatest(strategyId);
+            staleSparklines.add(strategyId);
+            return;
+        }
+        pending.latestIds.add(strategyId);
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 직전에 전략 요약의 팔로워 수를 갱신하도록 예약합니다. (트랜잭션 밖이면 바로 갱신)
+     *
+     * @param strategyId 전략 ID
+     */
+    public void refreshFollowersBeforeCommit(Long strategyId) {
+        PendingRefresh pending = pendingRefresh();
+        if (pending == null) {
+            refreshFollowersCount(strategyId);
+            return;
+        }
+        pending.followerIds.add(strategyId);
+    }
+
+    /**
+     * 전략 요약을 DB 값으로 갱신합니다. (요약이 없으면 전체 계산해 생성, 전략이 없으면 요약 삭제)
+     *
+     * - 이미 있는 요약은 전략명/아이콘, 최신 일간 지표, 팔로워 수만 컬럼별 UPDATE 로 바꿉니다.
+     *
+     * @param strategyId 전략 ID
+     */
+    public void refresh(Long strategyId) {
+        List<Object[]> sources = strategySummaryRepository.findSummarySource(strategyId);
+        boolean exists = strategySummaryRepository.existsById(strategyId);
+        if (sources.isEmpty()) {
+            if (exists) {
+                strategySummaryRepository.deleteById(strategyId);
+            }
+            return;
+        }
+        if (!exists) {
+            strategySummaryRepository.save(build(strategyId, sources.get(0)));
+            return;
+        }
+
+        Object[] source = sources.get(0);
+        LocalDateTime refreshedAt = LocalDateTime.now();
+        strategySummaryRepository.updateStrategyColumns(strategyId, (String) source[0], (String) source[1],
+                (String) source[2], investmentAssetClassesIcons(strategyId), refreshedAt);
+        strategySummaryRepository.updateLatestPointer(strategyId, refreshedAt);
+        strategySummaryRepository.updateLatestValues(strategyId);
+        strategySummaryRepository.updateFollowersCount(strategyId, refreshedAt);
+    }
+
+    /**
+     * 요약의 최신 일간 지표만 일간 통계(전략/일자 인덱스, 기본키)로 다시 읽어 변경합니다. (요약이 없으면 전체 계산)
+     *
+     * @param strategyId 전략 ID
+     */
+    public void refreshLatest(Long strategyId) {
+        if (strategySummaryRepository.updateLatestPointer(strategyId, LocalDateTime.now()) == 0) {
+            refresh(strategyId);
+            return;
+        }
+        strategySummaryRepository.updateLatestValues(strategyId);
+    }
+
+    /**
+     * 요약의 팔로워 수만 전략 값으로 변경합니다. (요약이 없으면 전체 계산)
+     *
+     * @param strategyId 전략 ID
+     */
+    public void refreshFollowersCount(Long strategyId) {
+        if (strategySummaryRepository.updateFollowersCount(strategyId, LocalDateTime.now()) == 0) {
+            refresh(strategyId);
+        }
+    }
+
+    /**
+     * 변경 표시된 전략의 목록 그래프를 다시 계산해 저장합니다. (스케줄러 주기 실행용)
+     *
+     * - 시계열 캐시(커밋된 값)로 계산하므로 같은 주기 안의 여러 변경은 한 번으로 합쳐집니다.
+     * - 실패하면 다음 주기에 다시 시도하도록 변경 표시를 되돌립니다.
+     *
+     * @return 다시 계산한 전략 수
+     */
+    @Transactional
+    public int flushStaleSparklines() {
+        if (staleSparklines.isEmpty()) {
+            return 0;
+        }
+        // 읽기 전에 표시를 지우므로, 계산 중에 커밋된 변경은 다음 주기에 다시 계산됨
+        List<Long> strategyIds = new ArrayList<>(staleSparklines);
+        staleSparklines.removeAll(strategyIds);
+        try {
+            for (int from = 0; from < strategyIds.size(); from += SPARKLINE_FLUSH_CHUNK) {
+                List<Long> chunk = strategyIds.subList(from, Math.min(from + SPARKLINE_FLUSH_CHUNK, strategyIds.size()));
+                strategySparklineService.getSparklines(chunk).forEach((strategyId, values) ->
+                        strategySummaryRepository.updateSparkline(strategyId, joinSparkline(values)));
+            }
+        } catch (RuntimeException e) {
+            staleSparklines.addAll(strategyIds);
+            throw e;
+        }
+        smScoreLeaderboardService.invalidateAfterCommitIfListed(strategyIds); // 랭킹 그래프도 다시 생성
+        return strategyIds.size();
+    }
+
+    /**
+     * 매매유형 아이콘 변경을 요약에 반영합니다.
+     *
+     * @param tradingTypeId 매매유형 ID
+     * @param icon          변경된 아이콘
+     */
+    public void updateTradingTypeIcon(Integer tradingTypeId, String icon) {
+        strategySummaryRepository.updateTradingTypeIcon(tradingTypeId, icon);
+    }
+
+    /**
+     * 매매주기 아이콘 변경을 요약에 반영합니다.
+     *
+     * @param tradingCycleId 매매주기 ID
+     * @param icon           변경된 아이콘
+     */
+    public void updateTradingCycleIcon(Integer tradingCycleId, String icon) {
+        strategySummaryRepository.updateTradingCycleIcon(tradingCycleId, icon);
+    }
+
+    /**
+     * 전략 목록 응답 DTO를 요약으로 만듭니다.
+     *
+     * @param strategies 전략 목록 (한 페이지)
+     * @return 같은 순서의 목록 DTO 리스트
+     */
+    public List<AdvancedSearchResultDto> toResultDtos(List<StrategyEntity> strategies) {
+        return toResultDtosByIds(strategies.stream()
+                .map(StrategyEntity::getStrategyId)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 전략 ID 목록으로 목록 응답 DTO를 요약으로 만듭니다.
+     *
+     * @param strategyIds 전략 ID 목록 (한 페이지)
+     * @return 같은 순서의 목록 DTO 리스트
+     */
+    public List<AdvancedSearchResultDto> toResultDtosByIds(List<Long> strategyIds) {
+        Map<Long, StrategySummaryEntity> summaryMap = strategySummaryRepository.findAllById(strategyIds).stream()
+                .collect(Collectors.toMap(StrategySummaryEntity::getStrategyId, Function.identity()));
+
+        List<AdvancedSearchResultDto> dtoList = new ArrayList<>(strategyIds.size());
+        for (Long strategyId : strategyIds) {
+            // 요약이 아직 없으면 저장하지 않고 바로 계산
+            StrategySummaryEntity summary = summaryMap.containsKey(strategyId)
+                    ? summaryMap.get(strategyId)
+                    : build(strategyId).orElse(null);
+            if (summary != null) {
+                dtoList.add(toResultDto(summary));
+            }
+        }
+        return dtoList;
+    }
+
+    /**
+     * 커서 목록 응답을 요약으로 만듭니다.
+     *
+     * @param strategies    pageSize + 1 개까지 조회한 전략 목록 (한 개 더 있으면 다음 목록 있음)
+     * @param pageSize      한 번에 받을 데이터 개수
+     * @param totalElements 전체 개수 (null이면 응답에서 제외)
+     * @return 전략 목록, 다음 커서를 포함한 Map 객체
+     */
+    public Map<String, Object> toCursorResponse(List<StrategyEntity> strategies, int pageSize, Long totalElements) {
+        boolean hasNext = strategies.size() > pageSize;
+        List<StrategyEntity> content = hasNext ? strategies.subList(0, pageSize) : strategies;
+        String nextCursor = hasNext ? StrategyCursor.of(content.get(content.size() - 1)).encode() : null;
+
+        return createCursorResponse(toResultDtos(content), nextCursor, totalElements);
+    }
+
+    /**
+     * 전략의 요약을 조회합니다. (최신 일간 통계 ID, 최초/최신 일자 조회용)
+     *
+     * - 요약이 없거나 최신 일간 통계 ID가 아직 채워지지 않았으면 저장하지 않고 바로 계산합니다.
+     *
+     * @param strategyId 전략 ID
+     * @return 전략 요약 (전략이 없으면 empty)
+     */
+    public Optional<StrategySummaryEntity> findSummary(Long strategyId) {
+        Optional<StrategySummaryEntity> summary = strategySummaryRepository.findById(strategyId);
+        if (summary.isPresent()
+                && (summary.get().getLatestDate() == null || summary.get().getLatestDailyStatisticsId() != null)) {
+            return summary;
+        }
+        return build(strategyId);
+    }
+
+    /**
+     * 요약이 없는 전략의 요약을 생성하고, 최신 일간 통계 ID가 비어 있는 요약을 보정합니다. (기동 시 1회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void createMissingSummaries() {
+        List<Long> strategyIds = strategySummaryRepository.findStrategyIdsWithoutSummary();
+        strategyIds.forEach(this::refresh);
+        List<Long> pointerMissingIds = strategySummaryRepository.findStrategyIdsWithoutLatestPointer();
+        pointerMissingIds.forEach(this::refresh);
+        if (!strategyIds.isEmpty() || !pointerMissingIds.isEmpty()) {
+            strategyFacetIndex.invalidateAfterCommit();
+            System.out.println("Strategy summaries created: " + strategyIds.size()
+                    + ", latest pointers filled: " + pointerMissingIds.size());
+        }
+    }
+
+    // 전략 원본 값으로 요약 계산 (전략이 없으면 empty)
+    Optional<StrategySummaryEntity> build(Long strategyId) {
+        List<Object[]> sources = strategySummaryRepository.findSummarySource(strategyId);
+        if (sources.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(build(strategyId, sources.get(0)));
+    }
+
+    private StrategySummaryEntity build(Long strategyId, Object[] source) {
+        StrategySummaryEntity summary = StrategySummaryEntity.builder()
+                .strategyId(strategyId)
+                .strategyTitle((String) source[0])
+                .tradingTypeIcon((String) source[1])
+                .tradingCycleIcon((String) source[2])
+                .investmentAssetClassesIcons(investmentAssetClassesIcons(strategyId))
+                .smScore((BigDecimal) source[3])
+                .followersCount((Long) source[4])
+                .sparkline(joinSparkline(strategySparklineService.computeSparkline(strategyId)))
+                .refreshedAt(LocalDateTime.now())
+                .build();
+
+        // 일자 기준 최신 일간 통계 (과거 일자가 나중에 입력되어도 ID가 아닌 일자로 판단)
+        dsp.findLatestByStrategyId(strategyId, PageRequest.of(0, 1)).stream().findFirst()
+                .ifPresent(latest -> {
+                    applyLatest(summary, latest);
+                    summary.setEarliestDate(dsp.findEarliestDateByStrategyId(strategyId).orElse(latest.getDate()));
+                });
+        return summary;
+    }
+
+    private String investmentAssetClassesIcons(Long strategyId) {
+        return String.join(ICON_DELIMITER, strategySummaryRepository.findInvestmentAssetClassesIcons(strategyId));
+    }
+
+    private static void applyLatest(StrategySummaryEntity summary, DailyStatisticsEntity latest) {
+        summary.setLatestDailyStatisticsId(latest.getDailyStatisticsId());
+        summary.setLatestDate(latest.getDate());
+        summary.setCumulativeProfitLossRate(latest.getCumulativeProfitLossRate());
+        summary.setRecentOneYearReturn(latest.getRecentOneYearReturn());
+        summary.setMaxDrawdownRate(latest.getMaxDrawdownRate());
+    }
+
+    private static String joinSparkline(List<BigDecimal> values) {
+        return values.stream()
+                .map(BigDecimal::toPlainString)
+                .collect(Collectors.joining(SPARKLINE_DELIMITER));
+    }
+
+    private static AdvancedSearchResultDto toResultDto(StrategySummaryEntity summary) {
+        return new AdvancedSearchResultDto(
+                summary.getStrategyId(),                                   // 전략 ID
+                summary.getTradingTypeIcon(),                              // 매매유형 아이콘
+                summary.getTradingCycleIcon(),                             // 매매주기 아이콘
+                split(summary.getInvestmentAssetClassesIcons(), ICON_DELIMITER).toList(), // 투자자산 분류 아이콘
+                summary.getStrategyTitle(),                                // 전략명
+                orZero(summary.getCumulativeProfitLossRate()),             // 누적손익률 (일간 데이터 없으면 0)
+                orZero(summary.getRecentOneYearReturn()),                  // 최근 1년 손익률
+                orZero(summary.getMaxDrawdownRate()),                      // MDD
+                summary.getSmScore(),                                      // SM-Score
+                summary.getFollowersCount(),                               // 팔로워 수
+                sparklineValues(summary.getSparkline())                    // 목록 그래프
+        );
+    }
+
+    // 저장된 목록 그래프 문자열을 값 목록으로 변환
+    static List<BigDecimal> sparklineValues(String sparkline) {
+        return split(sparkline, SPARKLINE_DELIMITER).map(BigDecimal::new).toList();
+    }
+
+    private static Stream<String> split(String value, String delimiter) {
+        if (value == null || value.isEmpty()) {
+            return Stream.empty();
+        }
+        return Arrays.stream(value.split(delimiter));
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+
+    // 트랜잭션마다 예약 하나에 전략 ID를 모음 (같은 전략은 한 번만 계산, 트랜잭션 밖이면 null)
+    private PendingRefresh pendingRefresh() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        return TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(PendingRefresh.class::isInstance)
+                .map(PendingRefresh.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    PendingRefresh created = new PendingRefresh();
+                    TransactionSynchronizationManager.registerSynchronization(created);
+                    return created;
+                });
+    }
+
+    // 트랜잭션별 요약 갱신 예약 (커밋 직전에 한 번에 계산, 전체 계산한 전략은 부분 갱신 생략)
+    private class PendingRefresh implements TransactionSynchronization {
+        private final Set<Long> strategyIds = new LinkedHashSet<>(); // 전체 계산
+        private final Set<Long> latestIds = new LinkedHashSet<>(); // 최신 일간 지표
+        private final Set<Long> followerIds = new LinkedHashSet<>(); // 팔로워 수
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            strategyIds.forEach(StrategySummaryService.this::refresh);
+            latestIds.stream()
+                    .filter(strategyId -> !strategyIds.contains(strategyId))
+                    .forEach(StrategySummaryService.this::refreshLatest);
+            followerIds.stream()
+                    .filter(strategyId -> !strategyIds.contains(strategyId))
+                    .forEach(StrategySummaryService.this::refreshFollowersCount);
+        }
+
+        @Override
+        public void afterCommit() {
+            latestIds.stream()
+                    .filter(strategyId -> !strategyIds.contains(strategyId))
+                    .forEach(staleSparklines::add); // 목록 그래프는 커밋 후 다시 계산
+        }
+    }
+}
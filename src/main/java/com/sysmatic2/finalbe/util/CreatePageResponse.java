@@ -4,6 +4,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public class CreatePageResponse {
@@ -20,4 +22,18 @@ public class CreatePageResponse {
                 "timestamp", Instant.now().toString()       // 타임스탬프
         );
     }
+
+    // 커서 기반 목록 응답 (totalElements는 요청한 경우에만 포함)
+    public static <T> Map<String, Object> createCursorResponse(List<T> content, String nextCursor, Long totalElements) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        if (totalElements != null) {
+            response.put("totalElements", totalElements);   // 전체 원소 개수
+        }
+        response.put("hasNext", nextCursor != null);        // 다음 목록 존재 여부
+        response.put("nextCursor", nextCursor);             // 다음 목록 요청 커서 (없으면 null)
+        response.put("pageSize", content.size());           // 이번 응답 원소 개수
+        response.put("data", content);                      // 실제 데이터 리스트
+        response.put("timestamp", Instant.now().toString()); // 타임스탬프
+        return response;
+    }
 }
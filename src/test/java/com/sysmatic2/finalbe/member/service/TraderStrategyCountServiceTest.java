@@ -0,0 +1,71 @@
+package com.sysmatic2.finalbe.member.service;
+
+import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TraderStrategyCountServiceTest {
+
+    @InjectMocks
+    private TraderStrategyCountService traderStrategyCountService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(memberRepository.recountStrategyCount("trader1")).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("작성자의 승인/공개 전략 수를 UPDATE 한 문장으로 다시 세는지 테스트 (엔티티 조회/저장 없음)")
+    void testRecount_updatesMemberCountAtomically() {
+        traderStrategyCountService.recount("trader1");
+
+        verify(memberRepository).recountStrategyCount("trader1");
+        verify(memberRepository, never()).findById(anyString());
+        verify(memberRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션의 같은 작성자는 커밋 직전에 한 번만 다시 세는지 테스트")
+    void testRecountBeforeCommit_deduplicatesUntilBeforeCommit() {
+        // When: 같은 트랜잭션에서 같은 작성자를 두 번 예약
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            traderStrategyCountService.recountBeforeCommit("trader1");
+            traderStrategyCountService.recountBeforeCommit("trader1");
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: 예약 시점에는 세지 않고, 커밋 직전에 한 번 계산
+        assertEquals(1, synchronizations.size());
+        verify(memberRepository, never()).recountStrategyCount(anyString());
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        verify(memberRepository, times(1)).recountStrategyCount("trader1");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖이면 바로 다시 세는지 테스트")
+    void testRecountBeforeCommit_withoutTransaction() {
+        traderStrategyCountService.recountBeforeCommit("trader1");
+
+        verify(memberRepository).recountStrategyCount("trader1");
+    }
+}
@@ -0,0 +1,159 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsStateEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyStatisticsAccumulatorTest {
+
+    @Test
+    @DisplayName("누적 상태 계산 결과가 리스트 기반 계산 결과와 같은지 검증")
+    void accumulatorMatchesListBasedCalculation() {
+        Random random = new Random(42);
+        List<DailyStatisticsEntity> history = new ArrayList<>();
+        DailyStatisticsAccumulator accumulator = new DailyStatisticsAccumulator();
+        LocalDate date = LocalDate.of(2020, 1, 2);
+
+        for (int i = 0; i < 600; i++) {
+            DailyStatisticsEntity current = randomRow(random, date);
+
+            assertSameValue(listMaxDrawdownAmount(history, current.getCurrentDrawdownAmount()),
+                    accumulator.calculateMaxDrawdownAmount(current.getCurrentDrawdownAmount()));
+            assertSameValue(DailyStatisticsCalculator.calculateCurrentDrawdownRate(current.getReferencePrice(), column(history, DailyStatisticsEntity::getReferencePrice)),
+                    accumulator.calculateCurrentDrawdownRate(current.getReferencePrice()));
+            assertSameValue(listMaxDrawdownRate(history, current.getCurrentDrawdownRate()),
+                    accumulator.calculateMaxDrawdownRate(current.getCurrentDrawdownRate()));
+            assertSameValue(DailyStatisticsCalculator.calculateCumulativeDepWd(column(history, DailyStatisticsEntity::getDepWdPrice), current.getDepWdPrice()),
+                    accumulator.calculateCumulativeDepWd(current.getDepWdPrice()));
+
+            List<BigDecimal> dailyPlRates = column(history, DailyStatisticsEntity::getDailyPlRate);
+            List<BigDecimal> dailyPlRatesWithCurrent = new ArrayList<>(dailyPlRates);
+            dailyPlRatesWithCurrent.add(current.getDailyPlRate());
+            assertSameValue(DailyStatisticsCalculator.calculateMaxDailyProfitRate(dailyPlRatesWithCurrent),
+                    accumulator.calculateMaxDailyProfitRate(current.getDailyPlRate()));
+            assertSameValue(DailyStatisticsCalculator.calculateMaxDailyLossRate(dailyPlRates, current.getDailyPlRate()),
+                    accumulator.calculateMaxDailyLossRate(current.getDailyPlRate()));
+
+            List<BigDecimal> dailyProfitLosses = column(history, DailyStatisticsEntity::getDailyProfitLoss);
+            dailyProfitLosses.add(current.getDailyProfitLoss());
+            BigDecimal averageProfitLoss = BigDecimal.valueOf(random.nextInt(2001) - 1000);
+            assertSameValue(DailyStatisticsCalculator.calculateCoefficientOfVariation(dailyProfitLosses, averageProfitLoss),
+                    accumulator.calculateCoefficientOfVariation(current.getDailyProfitLoss(), averageProfitLoss));
+            assertSameValue(DailyStatisticsCalculator.calculateSharpRatio(dailyProfitLosses, averageProfitLoss),
+                    accumulator.calculateSharpRatio(current.getDailyProfitLoss(), averageProfitLoss));
+
+            assertEquals(listOperationDays(history, date), accumulator.calculateStrategyOperationDays(date));
+
+            LocalDate oneYearAgo = date.minusYears(1);
+            List<BigDecimal> referencePrices = history.stream()
+                    .filter(row -> !row.getDate().isBefore(oneYearAgo))
+                    .map(DailyStatisticsEntity::getReferencePrice)
+                    .collect(Collectors.toList());
+            referencePrices.add(current.getReferencePrice());
+            assertSameValue(DailyStatisticsCalculator.calculateRecentOneYearReturn(referencePrices),
+                    accumulator.calculateRecentOneYearReturn(date, current.getReferencePrice(), from -> {
+                        throw new AssertionError("전체 구간을 보관하는 경우 조회하지 않아야 합니다.");
+                    }));
+
+            assertSameValue(DailyStatisticsCalculator.calculatePeak(column(history, DailyStatisticsEntity::getCumulativeProfitLoss), current.getCumulativeProfitLoss()),
+                    accumulator.calculatePeak(current.getCumulativeProfitLoss()));
+            assertSameValue(DailyStatisticsCalculator.calculatePeakRate(column(history, DailyStatisticsEntity::getCumulativeProfitLossRate), current.getCumulativeProfitLossRate()),
+                    accumulator.calculatePeakRate(current.getCumulativeProfitLossRate()));
+
+            accumulator.append(current);
+            history.add(current);
+            date = date.plusDays(1 + random.nextInt(4));
+        }
+    }
+
+    @Test
+    @DisplayName("저장된 누적 상태로 복원해도 최근 1년 수익률이 같은지 검증")
+    void restoredStateMatchesRebuiltState() {
+        Random random = new Random(7);
+        List<DailyStatisticsEntity> history = new ArrayList<>();
+        LocalDate date = LocalDate.of(2021, 3, 1);
+        for (int i = 0; i < 400; i++) {
+            history.add(randomRow(random, date));
+            date = date.plusDays(1 + random.nextInt(3));
+        }
+
+        DailyStatisticsAccumulator rebuilt = DailyStatisticsAccumulator.fromRows(history);
+        DailyStatisticsStateEntity state = DailyStatisticsStateEntity.builder().strategyId(1L).build();
+        rebuilt.writeTo(state);
+
+        // 저장된 상태에는 1년 구간의 첫 데이터만 있으므로, 구간을 벗어나면 조회 함수를 통해 다음 데이터를 찾습니다.
+        DailyStatisticsAccumulator restored = DailyStatisticsAccumulator.fromState(state);
+        for (int i = 0; i < 200; i++) {
+            DailyStatisticsEntity current = randomRow(random, date);
+            LocalDate currentDate = date;
+            BigDecimal expected = rebuilt.calculateRecentOneYearReturn(date, current.getReferencePrice(), oneYearAgo -> Optional.empty());
+            BigDecimal actual = restored.calculateRecentOneYearReturn(date, current.getReferencePrice(), oneYearAgo -> history.stream()
+                    .filter(row -> !row.getDate().isBefore(oneYearAgo) && row.getDate().isBefore(currentDate))
+                    .findFirst());
+            assertSameValue(expected, actual);
+
+            rebuilt.append(current);
+            restored.append(current);
+            history.add(current);
+            date = date.plusDays(1 + random.nextInt(3));
+        }
+        assertEquals(rebuilt.getRowCount(), restored.getRowCount());
+    }
+
+    private DailyStatisticsEntity randomRow(Random random, LocalDate date) {
+        BigDecimal referencePrice = BigDecimal.valueOf(500 + random.nextInt(1500) + random.nextInt(100) / 100.0).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal cumulativeProfitLoss = BigDecimal.valueOf(random.nextInt(200001) - 100000);
+        return DailyStatisticsEntity.builder()
+                .date(date)
+                .depWdPrice(BigDecimal.valueOf(random.nextInt(3) == 0 ? random.nextInt(20001) - 10000 : 0))
+                .dailyProfitLoss(BigDecimal.valueOf(random.nextInt(20001) - 10000, random.nextInt(3)))
+                .referencePrice(referencePrice)
+                .currentDrawdownAmount(BigDecimal.valueOf(-random.nextInt(50000)))
+                .currentDrawdownRate(BigDecimal.valueOf(-random.nextInt(400000), 4))
+                .dailyPlRate(BigDecimal.valueOf(random.nextInt(2000001) - 1000000, 5))
+                .cumulativeProfitLoss(cumulativeProfitLoss)
+                .cumulativeProfitLossRate(BigDecimal.valueOf(random.nextInt(2000001) - 1000000, 4))
+                .build();
+    }
+
+    private List<BigDecimal> column(List<DailyStatisticsEntity> rows, Function<DailyStatisticsEntity, BigDecimal> getter) {
+        return rows.stream().map(getter).collect(Collectors.toList());
+    }
+
+    private BigDecimal listMaxDrawdownAmount(List<DailyStatisticsEntity> rows, BigDecimal current) {
+        List<BigDecimal> values = column(rows, DailyStatisticsEntity::getCurrentDrawdownAmount);
+        values.add(current);
+        return values.stream().min(BigDecimal::compareTo).orElse(BigDecimal.ZERO).min(BigDecimal.ZERO);
+    }
+
+    private BigDecimal listMaxDrawdownRate(List<DailyStatisticsEntity> rows, BigDecimal current) {
+        List<BigDecimal> values = column(rows, DailyStatisticsEntity::getCurrentDrawdownRate);
+        values.add(current);
+        return values.stream().min(BigDecimal::compareTo).orElse(BigDecimal.ZERO).min(BigDecimal.ZERO)
+                .setScale(4, RoundingMode.HALF_UP);
+    }
+
+    private int listOperationDays(List<DailyStatisticsEntity> rows, LocalDate date) {
+        if (rows.isEmpty()) {
+            return 1;
+        }
+        return DailyStatisticsCalculator.calculateStrategyOperationDays(rows.get(0).getDate(), date);
+    }
+
+    private void assertSameValue(BigDecimal expected, BigDecimal actual) {
+        assertEquals(0, expected.compareTo(actual), "expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,67 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.DdDayAndMaxDdInRate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyStatisticsCalculatorTest {
+
+    @Test
+    @DisplayName("무작위 기준가 시계열에서 현재 데이터만으로 계산한 KP-RATIO가 전체 이력 기반 계산 결과와 같은지 검증")
+    void kpRatioWithCurrentRowMatchesFullHistory() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            List<DdDayAndMaxDdInRate> history = new ArrayList<>();
+
+            BigDecimal referencePrice = BigDecimal.valueOf(1000);
+            BigDecimal maxReferencePrice = referencePrice;
+            int ddDay = 0;
+            BigDecimal maxDdInRate = BigDecimal.ZERO.setScale(4);
+            for (int tradingDays = 1; tradingDays <= 500; tradingDays++) {
+                // 기준가를 무작위로 움직이고 DD 기간, DD 기간 내 최대 자본인하율 계산
+                referencePrice = referencePrice.multiply(BigDecimal.valueOf(0.97 + random.nextDouble() * 0.06))
+                        .setScale(2, RoundingMode.HALF_UP);
+                maxReferencePrice = maxReferencePrice.max(referencePrice);
+                BigDecimal currentDrawdownRate = DailyStatisticsCalculator.calculateCurrentDrawdownRate(
+                        referencePrice, List.of(maxReferencePrice));
+                ddDay = DailyStatisticsCalculator.calculateDdDay(currentDrawdownRate, ddDay);
+                maxDdInRate = DailyStatisticsCalculator.calculateMaxDdInRate(currentDrawdownRate, maxDdInRate, ddDay);
+                BigDecimal cumulativeProfitLossRate = BigDecimal.valueOf(random.nextInt(20001) - 5000, 2);
+
+                DdDayAndMaxDdInRate current = new DdDayAndMaxDdInRate(ddDay, maxDdInRate);
+                history.add(current);
+                BigDecimal expected = DailyStatisticsCalculator.calculateKPRatio(
+                        history, currentDrawdownRate, cumulativeProfitLossRate, tradingDays);
+                BigDecimal actual = DailyStatisticsCalculator.calculateKPRatio(
+                        List.of(current), currentDrawdownRate, cumulativeProfitLossRate, tradingDays);
+                assertEquals(0, expected.compareTo(actual), "seed " + seed + ", day " + tradingDays);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("현재 자본인하율이 0이면 KP-RATIO가 0이고, DD 구간 중이면 현재 구간 값으로 계산되는지 검증")
+    void kpRatioUsesCurrentDrawdownRate() {
+        List<DdDayAndMaxDdInRate> history = List.of(
+                new DdDayAndMaxDdInRate(1, BigDecimal.valueOf(-5)),
+                new DdDayAndMaxDdInRate(2, BigDecimal.valueOf(-10)),
+                new DdDayAndMaxDdInRate(0, BigDecimal.ZERO)
+        );
+        assertEquals(0, BigDecimal.ZERO.compareTo(DailyStatisticsCalculator.calculateKPRatio(
+                history, BigDecimal.ZERO, BigDecimal.valueOf(30), 3)));
+
+        // DD 구간 중: 마지막 데이터(ddDay 2, maxDdInRate -10)로 계산
+        // 30 / |-10 * sqrt(2 / 4)| = 4.2426406871
+        BigDecimal kpRatio = DailyStatisticsCalculator.calculateKPRatio(
+                history.subList(0, 2), BigDecimal.valueOf(-10), BigDecimal.valueOf(30), 4);
+        assertEquals(0, new BigDecimal("4.2426406871").compareTo(kpRatio));
+    }
+}
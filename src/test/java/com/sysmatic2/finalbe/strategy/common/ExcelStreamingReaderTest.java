@@ -0,0 +1,196 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.exception.ExcelValidationException;
+import com.sysmatic2.finalbe.strategy.common.ExcelStreamingReader.CellValue;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelStreamingReaderTest {
+
+    @Test
+    @DisplayName("xlsx 스트리밍 결과가 Workbook 순회 결과와 같은지 검증")
+    void xlsxMatchesWorkbookIteration() throws Exception {
+        byte[] xlsx = write(new XSSFWorkbook());
+
+        assertEquals(readWithWorkbook(xlsx), readWithStreaming(xlsx));
+    }
+
+    @Test
+    @DisplayName("xls 파일도 같은 방식으로 읽히는지 검증")
+    void xlsIsReadWithWorkbook() throws Exception {
+        byte[] xls = write(new HSSFWorkbook());
+
+        assertEquals(readWithWorkbook(xls), readWithStreaming(xls));
+    }
+
+    @Test
+    @DisplayName("인라인 문자열로 저장된 xlsx 파일을 읽는지 검증")
+    void inlineStringsAreRead() throws Exception {
+        // SXSSFWorkbook은 공유 문자열 대신 인라인 문자열로 저장합니다.
+        SXSSFWorkbook workbook = new SXSSFWorkbook();
+        Sheet sheet = workbook.createSheet("Sheet1");
+        Row row = sheet.createRow(0);
+        row.createCell(0).setCellValue("2024-01-02");
+        row.createCell(1).setCellValue(1000);
+        row.createCell(2).setCellValue(-200.5);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        workbook.write(outputStream);
+        workbook.dispose();
+        workbook.close();
+
+        assertEquals(List.of("1:3:STRING(2024-01-02)|NUMERIC(1000.0)|NUMERIC(-200.5)"),
+                readWithStreaming(outputStream.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("행 처리 중 발생한 예외가 그대로 전달되고 이후 행은 읽지 않는지 검증")
+    void handlerExceptionStopsReading() throws Exception {
+        byte[] xlsx = write(new XSSFWorkbook());
+        List<Integer> readRows = new ArrayList<>();
+
+        ExcelValidationException exception = assertThrows(ExcelValidationException.class, () ->
+                ExcelStreamingReader.read(new ByteArrayInputStream(xlsx), 3, (rowNumber, cellCount, cells) -> {
+                    readRows.add(rowNumber);
+                    if (rowNumber == 2) {
+                        throw new ExcelValidationException("행 " + rowNumber + " 오류");
+                    }
+                }));
+
+        assertEquals("행 2 오류", exception.getMessage());
+        assertEquals(List.of(1, 2), readRows);
+    }
+
+    @Test
+    @DisplayName("시트가 여러 개인 경우 예외 발생 검증")
+    void multipleSheetsAreRejected() throws Exception {
+        XSSFWorkbook workbook = new XSSFWorkbook();
+        workbook.createSheet("Sheet1").createRow(0).createCell(0).setCellValue("Date");
+        workbook.createSheet("Sheet2");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        workbook.write(outputStream);
+        workbook.close();
+
+        assertThrows(ExcelValidationException.class, () ->
+                ExcelStreamingReader.read(new ByteArrayInputStream(outputStream.toByteArray()), 3, (rowNumber, cellCount, cells) -> {
+                }));
+    }
+
+    // 헤더, 날짜 서식 숫자, 문자열 날짜, 빈 행, 누락된 셀, 수식, 빈 셀 등을 포함한 파일 생성
+    private byte[] write(Workbook workbook) throws IOException {
+        CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+        CellStyle numberStyle = workbook.createCellStyle();
+        numberStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("#,##0.00"));
+
+        Sheet sheet = workbook.createSheet("Sheet1");
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("Date");
+        header.createCell(1).setCellValue("DepWdPrice");
+        header.createCell(2).setCellValue("DailyProfitLoss");
+
+        Row dateFormatted = sheet.createRow(1);
+        Cell dateCell = dateFormatted.createCell(0);
+        dateCell.setCellValue(LocalDate.of(2024, 1, 2));
+        dateCell.setCellStyle(dateStyle);
+        Cell priceCell = dateFormatted.createCell(1);
+        priceCell.setCellValue(1000.25);
+        priceCell.setCellStyle(numberStyle);
+        dateFormatted.createCell(2).setCellValue(-150);
+
+        // 빈 행(3행)은 건너뛰고 4행에 문자열 날짜
+        Row stringDate = sheet.createRow(3);
+        stringDate.createCell(0).setCellValue("2024/01/03");
+        stringDate.createCell(1).setCellValue(0);
+        stringDate.createCell(2).setCellValue(12.5);
+
+        // 가운데 셀이 없는 행
+        Row sparse = sheet.createRow(4);
+        sparse.createCell(0).setCellValue("20240104");
+        sparse.createCell(2).setCellValue(1);
+        sparse.createCell(5).setCellValue("extra");
+
+        // 수식, 빈 셀, 불리언
+        Row others = sheet.createRow(5);
+        others.createCell(0).setCellFormula("1+1");
+        others.createCell(1).setBlank();
+        others.createCell(2).setCellValue(true);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        workbook.write(outputStream);
+        workbook.close();
+        return outputStream.toByteArray();
+    }
+
+    private List<String> readWithStreaming(byte[] file) throws Exception {
+        List<String> rows = new ArrayList<>();
+        ExcelStreamingReader.read(new ByteArrayInputStream(file), 3,
+                (rowNumber, cellCount, cells) -> rows.add(describe(rowNumber, cellCount, cells)));
+        return rows;
+    }
+
+    // 기존 방식(Workbook 순회)으로 읽은 결과
+    private List<String> readWithWorkbook(byte[] file) throws IOException {
+        List<String> rows = new ArrayList<>();
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(file))) {
+            int rowNumber = 0;
+            for (Row row : workbook.getSheetAt(0)) {
+                rowNumber++;
+                StringBuilder description = new StringBuilder(rowNumber + ":" + row.getPhysicalNumberOfCells() + ":");
+                for (int column = 0; column < 3; column++) {
+                    Cell cell = row.getCell(column);
+                    if (column > 0) {
+                        description.append('|');
+                    }
+                    if (cell == null) {
+                        description.append("null");
+                    } else if (cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell)) {
+                        description.append("DATE(").append(cell.getLocalDateTimeCellValue().toLocalDate()).append(')');
+                    } else if (cell.getCellType() == CellType.NUMERIC) {
+                        description.append("NUMERIC(").append(cell.getNumericCellValue()).append(')');
+                    } else if (cell.getCellType() == CellType.STRING) {
+                        description.append("STRING(").append(cell.getStringCellValue()).append(')');
+                    } else {
+                        description.append(cell.getCellType());
+                    }
+                }
+                rows.add(description.toString());
+            }
+        }
+        return rows;
+    }
+
+    private String describe(int rowNumber, int cellCount, CellValue[] cells) {
+        StringBuilder description = new StringBuilder(rowNumber + ":" + cellCount + ":");
+        for (int column = 0; column < cells.length; column++) {
+            CellValue cell = cells[column];
+            if (column > 0) {
+                description.append('|');
+            }
+            if (cell == null) {
+                description.append("null");
+            } else if (cell.getCellType() == CellType.NUMERIC && cell.isDateFormatted()) {
+                description.append("DATE(").append(cell.getDateValue()).append(')');
+            } else if (cell.getCellType() == CellType.NUMERIC) {
+                description.append("NUMERIC(").append(cell.getNumericValue()).append(')');
+            } else if (cell.getCellType() == CellType.STRING) {
+                description.append("STRING(").append(cell.getStringValue()).append(')');
+            } else {
+                description.append(cell.getCellType());
+            }
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointDailyStatisticsKernelTest {
+
+    @Test
+    @DisplayName("첫 번째 데이터부터 잔고, 원금, 기준가, 손익률이 계산되는지 테스트")
+    void computeFromFirstEntry() {
+        List<DailyStatisticsReqDto> reqDtos = List.of(
+                reqDto(LocalDate.of(2024, 1, 2), "1000000", "0"),
+                reqDto(LocalDate.of(2024, 1, 3), "0", "50000"),
+                reqDto(LocalDate.of(2024, 1, 4), "500000", "-20000")
+        );
+
+        FixedPointDailyStatisticsKernel kernel = FixedPointDailyStatisticsKernel.compute(reqDtos, null).orElseThrow();
+        DailyStatisticsEntity second = kernel.toEntity(1);
+        DailyStatisticsEntity third = kernel.toEntity(2);
+
+        assertEquals(3, kernel.size());
+        assertEquals(0, new BigDecimal("1050000").compareTo(second.getBalance()));
+        assertEquals(0, new BigDecimal("1050.00").compareTo(second.getReferencePrice()));
+        assertEquals(0, new BigDecimal("5.00000").compareTo(second.getDailyPlRate()));
+        assertEquals(0, new BigDecimal("5.0000").compareTo(second.getCumulativeProfitLossRate()));
+
+        // 입금은 현재 기준가로 환산하여 원금에 반영: 1000000 + 500000 / 1.05 = 1476190.476... -> 1476190
+        assertEquals(0, new BigDecimal("1530000").compareTo(third.getBalance()));
+        assertEquals(0, new BigDecimal("1476190").compareTo(third.getPrincipal()));
+        assertEquals(0, new BigDecimal("500000").compareTo(third.getDepositAmount()));
+        assertEquals(-1, third.getCurrentConsecutivePlDays());
+        assertEquals(1, third.getDaysSincePeak());
+    }
+
+    @Test
+    @DisplayName("소수점 4자리를 넘는 입력값은 고정 소수점으로 계산하지 않는지 테스트")
+    void fallbackWhenInputNotRepresentable() {
+        List<DailyStatisticsReqDto> reqDtos = List.of(
+                reqDto(LocalDate.of(2024, 1, 2), "1000000", "0"),
+                reqDto(LocalDate.of(2024, 1, 3), "0", "0.00001")
+        );
+
+        Optional<FixedPointDailyStatisticsKernel> kernel = FixedPointDailyStatisticsKernel.compute(reqDtos, null);
+
+        assertTrue(kernel.isEmpty());
+    }
+
+    @Test
+    @DisplayName("잔고가 0보다 작아지면 BigDecimal 계산과 같이 예외 발생")
+    void negativeBalanceThrowsException() {
+        List<DailyStatisticsReqDto> reqDtos = List.of(
+                reqDto(LocalDate.of(2024, 1, 2), "1000", "0"),
+                reqDto(LocalDate.of(2024, 1, 3), "0", "-2000")
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> FixedPointDailyStatisticsKernel.compute(reqDtos, null));
+    }
+
+    private static DailyStatisticsReqDto reqDto(LocalDate date, String depWdPrice, String dailyProfitLoss) {
+        return DailyStatisticsReqDto.builder()
+                .date(date)
+                .depWdPrice(new BigDecimal(depWdPrice))
+                .dailyProfitLoss(new BigDecimal(dailyProfitLoss))
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointMathTest {
+    private static final RoundingMode[] ROUNDING_MODES = {RoundingMode.DOWN, RoundingMode.HALF_UP};
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    @Test
+    @DisplayName("무작위 값의 나눗셈 결과가 BigDecimal.divide(divisor, scale, roundingMode)와 같은지 검증")
+    void divideMatchesBigDecimal() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            long a = randomLong(random);
+            long b = randomLong(random);
+            if (b == 0) {
+                continue;
+            }
+            int aScale = random.nextInt(11);
+            int bScale = random.nextInt(11);
+            // 결과 스케일은 지원 범위(10^0 ~ 10^18 배) 안에서 선택
+            int scale = Math.max(0, aScale - bScale) + random.nextInt(19 - Math.max(0, bScale - aScale));
+            RoundingMode roundingMode = ROUNDING_MODES[random.nextInt(ROUNDING_MODES.length)];
+
+            BigInteger expected = BigDecimal.valueOf(a, aScale)
+                    .divide(BigDecimal.valueOf(b, bScale), scale, roundingMode)
+                    .unscaledValue();
+            assertResult(expected, () -> FixedPointMath.divide(a, aScale, b, bScale, scale, roundingMode),
+                    a + "@" + aScale + " / " + b + "@" + bScale + " -> " + scale + " " + roundingMode);
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 값의 스케일 변경 결과가 BigDecimal.setScale과 같은지 검증")
+    void rescaleMatchesBigDecimal() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            long value = randomLong(random);
+            int fromScale = random.nextInt(19);
+            int toScale = random.nextInt(19);
+            RoundingMode roundingMode = ROUNDING_MODES[random.nextInt(ROUNDING_MODES.length)];
+
+            BigInteger expected = BigDecimal.valueOf(value, fromScale).setScale(toScale, roundingMode).unscaledValue();
+            assertResult(expected, () -> FixedPointMath.rescale(value, fromScale, toScale, roundingMode),
+                    value + "@" + fromScale + " -> " + toScale + " " + roundingMode);
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 값의 덧셈 후 스케일 변경 결과가 BigDecimal.add().setScale()과 같은지 검증")
+    void addAndRescaleMatchesBigDecimal() {
+        Random random = new Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            long a = randomLong(random);
+            long b = randomLong(random);
+            int aScale = random.nextInt(11);
+            int bScale = random.nextInt(11);
+            int scale = random.nextInt(11);
+            RoundingMode roundingMode = ROUNDING_MODES[random.nextInt(ROUNDING_MODES.length)];
+
+            BigInteger expected = BigDecimal.valueOf(a, aScale)
+                    .add(BigDecimal.valueOf(b, bScale))
+                    .setScale(scale, roundingMode)
+                    .unscaledValue();
+            assertResult(expected, () -> FixedPointMath.addAndRescale(a, aScale, b, bScale, scale, roundingMode),
+                    a + "@" + aScale + " + " + b + "@" + bScale + " -> " + scale + " " + roundingMode);
+        }
+    }
+
+    @Test
+    @DisplayName("반올림 경계값(정확히 절반)에서 HALF_UP은 0에서 먼 쪽으로, DOWN은 0 쪽으로 반올림하는지 검증")
+    void roundingAtHalf() {
+        assertEquals(3, FixedPointMath.divide(5, 0, 2, 0, 0, RoundingMode.HALF_UP));
+        assertEquals(-3, FixedPointMath.divide(-5, 0, 2, 0, 0, RoundingMode.HALF_UP));
+        assertEquals(2, FixedPointMath.divide(5, 0, 2, 0, 0, RoundingMode.DOWN));
+        assertEquals(-2, FixedPointMath.divide(-5, 0, 2, 0, 0, RoundingMode.DOWN));
+        assertEquals(12346, FixedPointMath.rescale(123455, 3, 2, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    @DisplayName("0으로 나누거나 결과가 long 범위를 벗어나면 ArithmeticException 발생")
+    void overflowThrowsArithmeticException() {
+        assertThrows(ArithmeticException.class, () -> FixedPointMath.divide(1, 0, 0, 0, 2, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> FixedPointMath.divide(Long.MAX_VALUE, 0, 1, 0, 1, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> FixedPointMath.rescale(Long.MAX_VALUE, 0, 1, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> FixedPointMath.toUnscaled(new BigDecimal("1.00001"), 4));
+    }
+
+    // 결과가 long 범위이면 같은 값, 범위를 벗어나면 ArithmeticException
+    private static void assertResult(BigInteger expected, LongSupplier actual, String message) {
+        boolean fitsInLong = expected.compareTo(LONG_MIN) > 0 && expected.compareTo(LONG_MAX) <= 0;
+        if (fitsInLong) {
+            assertEquals(expected.longValueExact(), actual.getAsLong(), message);
+        } else {
+            assertThrows(ArithmeticException.class, actual::getAsLong, message);
+        }
+    }
+
+    // 작은 값부터 long 경계 근처 값까지 고르게 생성
+    private static long randomLong(Random random) {
+        int bits = 1 + random.nextInt(63);
+        long value = random.nextLong() >>> (64 - bits);
+        return random.nextBoolean() ? value : -value;
+    }
+}
@@ -0,0 +1,80 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LttbDownsamplerTest {
+
+    @Test
+    @DisplayName("점 수가 maxPoints 이하이면 전체 인덱스를 반환하는지 테스트")
+    void testSelect_returnsAllWhenSmall() {
+        double[] x = {1, 2, 3};
+        double[][] series = {{10, 20, 30}};
+
+        assertArrayEquals(new int[]{0, 1, 2}, LttbDownsampler.select(x, series, 5));
+    }
+
+    @Test
+    @DisplayName("첫 점과 마지막 점을 남기고 maxPoints개를 오름차순으로 고르는지 테스트")
+    void testSelect_keepsEndpointsAndCount() {
+        // Given: 1,000개 점
+        int size = 1000;
+        double[] x = new double[size];
+        double[][] series = new double[2][size];
+        for (int i = 0; i < size; i++) {
+            x[i] = i;
+            series[0][i] = Math.sin(i / 10.0);
+            series[1][i] = i * 1000.0;
+        }
+
+        // When
+        int[] selected = LttbDownsampler.select(x, series, 50);
+
+        // Then
+        assertEquals(50, selected.length);
+        assertEquals(0, selected[0]);
+        assertEquals(size - 1, selected[selected.length - 1]);
+        for (int i = 1; i < selected.length; i++) {
+            assertTrue(selected[i] > selected[i - 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("평탄한 구간의 급등/급락 점을 남기는지 테스트")
+    void testSelect_keepsSpikes() {
+        // Given: 0 으로 평탄한 100개 점 중 두 곳만 급등/급락
+        int size = 100;
+        double[] x = new double[size];
+        double[][] series = new double[1][size];
+        for (int i = 0; i < size; i++) {
+            x[i] = i;
+        }
+        series[0][30] = 100;
+        series[0][70] = -100;
+
+        // When
+        int[] selected = LttbDownsampler.select(x, series, 10);
+
+        // Then
+        assertTrue(contains(selected, 30));
+        assertTrue(contains(selected, 70));
+    }
+
+    @Test
+    @DisplayName("maxPoints가 3 미만이면 예외 발생 테스트")
+    void testSelect_invalidMaxPoints() {
+        assertThrows(IllegalArgumentException.class,
+                () -> LttbDownsampler.select(new double[]{1, 2, 3}, new double[][]{{1, 2, 3}}, 2));
+    }
+
+    private static boolean contains(int[] values, int target) {
+        for (int value : values) {
+            if (value == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
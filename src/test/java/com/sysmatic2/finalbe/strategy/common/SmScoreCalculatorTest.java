@@ -0,0 +1,70 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmScoreCalculatorTest {
+
+    @Test
+    @DisplayName("KP-RATIO 분포로 SM-SCORE 계산 검증")
+    void calculateSmScoreCents() {
+        // 평균 2, 표준편차 sqrt(2/3) -> Z = -1.2247, 0, 1.2247
+        long[] smScores = SmScoreCalculator.calculateSmScoreCents(new double[]{1, 2, 3}, 3);
+
+        assertArrayEquals(new long[]{1103, 5000, 8897}, smScores);
+    }
+
+    @Test
+    @DisplayName("전략이 1개이거나 KP-RATIO가 모두 같으면 SM-SCORE는 0")
+    void zeroStdDev() {
+        assertArrayEquals(new long[]{0}, SmScoreCalculator.calculateSmScoreCents(new double[]{1.5}, 1));
+        assertArrayEquals(new long[]{0, 0}, SmScoreCalculator.calculateSmScoreCents(new double[]{2, 2}, 2));
+        assertArrayEquals(new long[0], SmScoreCalculator.calculateSmScoreCents(new double[0], 0));
+    }
+
+    @Test
+    @DisplayName("배열의 size 이후 데이터는 계산에 포함하지 않는지 검증")
+    void ignoresUnusedCapacity() {
+        long[] smScores = SmScoreCalculator.calculateSmScoreCents(new double[]{1, 2, 3, 100, 100}, 3);
+
+        assertArrayEquals(new long[]{1103, 5000, 8897}, smScores);
+    }
+
+    @Test
+    @DisplayName("1000개가 넘는 전략도 전체 분포 기준으로 계산하는지 검증 (BigDecimal 계산과 비교)")
+    void matchesGlobalBigDecimalCalculation() {
+        Random random = new Random(42);
+        int size = 2500;
+        double[] kpRatios = new double[size];
+        for (int i = 0; i < size; i++) {
+            kpRatios[i] = BigDecimal.valueOf(random.nextDouble() * 5).setScale(4, RoundingMode.HALF_UP).doubleValue();
+        }
+
+        long[] smScores = SmScoreCalculator.calculateSmScoreCents(kpRatios, size);
+
+        // 전체 데이터로 평균/모분산을 BigDecimal로 계산한 결과와 비교 (반올림 경계에서 최대 0.01 차이 허용)
+        BigDecimal sum = BigDecimal.ZERO;
+        for (double kpRatio : kpRatios) {
+            sum = sum.add(BigDecimal.valueOf(kpRatio));
+        }
+        BigDecimal mean = sum.divide(BigDecimal.valueOf(size), 10, RoundingMode.HALF_UP);
+        BigDecimal variance = BigDecimal.ZERO;
+        for (double kpRatio : kpRatios) {
+            variance = variance.add(BigDecimal.valueOf(kpRatio).subtract(mean).pow(2));
+        }
+        double stdDev = Math.sqrt(variance.divide(BigDecimal.valueOf(size), 10, RoundingMode.HALF_UP).doubleValue());
+
+        NormalDistribution normal = new NormalDistribution();
+        for (int i = 0; i < size; i++) {
+            double expected = normal.cumulativeProbability((kpRatios[i] - mean.doubleValue()) / stdDev) * 10000;
+            assertTrue(Math.abs(expected - smScores[i]) <= 1, "SM-SCORE 오류: index " + i);
+        }
+    }
+}
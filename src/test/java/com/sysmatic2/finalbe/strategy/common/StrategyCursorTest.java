@@ -0,0 +1,40 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyCursorTest {
+
+    @Test
+    @DisplayName("커서 문자열로 만든 뒤 다시 해석하면 같은 값인지 테스트")
+    void testEncodeDecode_roundTrip() {
+        StrategyCursor cursor = new StrategyCursor(new BigDecimal("87.25"), 123L);
+
+        String encoded = cursor.encode();
+
+        assertFalse(encoded.contains("87.25")); // 내부 값 노출 없음
+        assertEquals(cursor, StrategyCursor.decode(encoded));
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)로 해석하는지 테스트")
+    void testDecode_emptyIsFirstPage() {
+        assertNull(StrategyCursor.decode(null));
+        assertNull(StrategyCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException을 던지는지 테스트")
+    void testDecode_invalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> StrategyCursor.decode("not a cursor!"));
+        String noId = Base64.getUrlEncoder().encodeToString("87.25".getBytes());
+        assertThrows(IllegalArgumentException.class, () -> StrategyCursor.decode(noId));
+        String badNumber = Base64.getUrlEncoder().encodeToString("abc:1".getBytes());
+        assertThrows(IllegalArgumentException.class, () -> StrategyCursor.decode(badNumber));
+    }
+}
@@ -0,0 +1,202 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
+import com.sysmatic2.finalbe.strategy.dto.StrategyFacetSearchResultDto;
+import com.sysmatic2.finalbe.strategy.dto.StrategySuggestionDto;
+import com.sysmatic2.finalbe.strategy.repository.StrategySummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StrategyFacetIndexTest {
+
+    @Mock
+    private StrategySummaryRepository strategySummaryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StrategyFacetIndex strategyFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        strategyFacetIndex = new StrategyFacetIndex(strategySummaryRepository, transactionManager, 0);
+
+        // SM-Score 내림차순으로 조회된 게시/승인 전략 4개
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(row(4L, "90.00", 1, 1, "OPERATING", "Alpha 추세", now.minusMonths(6), "-5.0", "0.35", "1000000"));
+        rows.add(row(3L, "80.00", 2, 1, "OPERATING", "Beta 역추세", now.minusYears(2).plusMonths(6), "-12.0", "0.20", "5000000"));
+        rows.add(row(2L, "80.00", 1, 2, "TERMINATED", "alpha 스윙", now.minusYears(4), "-20.0", "0.05", "3000000"));
+        rows.add(row(1L, "10.00", 1, 1, "OPERATING", "감마", now.minusMonths(1), null, null, null)); // 일간 데이터 없음
+        when(strategySummaryRepository.findFacetRows()).thenReturn(rows);
+
+        List<Object[]> iacRows = new ArrayList<>();
+        iacRows.add(new Object[]{4L, 10});
+        iacRows.add(new Object[]{4L, 20});
+        iacRows.add(new Object[]{3L, 20});
+        iacRows.add(new Object[]{99L, 10}); // 게시/승인되지 않은 전략은 무시
+        when(strategySummaryRepository.findFacetInvestmentAssetClasses()).thenReturn(iacRows);
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 SM-Score, 전략 ID 내림차순으로 페이지를 나누는지 테스트")
+    void testSearch_pagesInRankingOrder() {
+        StrategyFacetSearchResultDto first = strategyFacetIndex.search(new SearchOptionsDto(), 0, 3);
+        StrategyFacetSearchResultDto second = strategyFacetIndex.search(new SearchOptionsDto(), 3, 3);
+
+        assertEquals(List.of(4L, 3L, 2L), first.getStrategyIds());
+        assertEquals(List.of(1L), second.getStrategyIds());
+        assertEquals(4, first.getTotalCount());
+        verify(strategySummaryRepository, times(1)).findFacetRows(); // 인덱스는 한 번만 생성
+    }
+
+    @Test
+    @DisplayName("목록 항목은 OR, 항목끼리는 AND로 결합하는지 테스트")
+    void testSearch_combinesFacets() {
+        SearchOptionsDto options = new SearchOptionsDto();
+        options.setTradingTypeIdList(List.of(1, 2));
+        options.setInvestmentAssetClassesIdList(List.of(20));
+        options.setKeyword("ALPHA");
+
+        StrategyFacetSearchResultDto result = strategyFacetIndex.search(options, 0, 10);
+
+        assertEquals(List.of(4L), result.getStrategyIds());
+    }
+
+    @Test
+    @DisplayName("범위 조건(MDD, 손익률 구간, SM-Score, 원금, 운용 기간)을 정렬 컬럼으로 거르는지 테스트")
+    void testSearch_rangeFilters() {
+        SearchOptionsDto mdd = new SearchOptionsDto();
+        mdd.setMinMdd(new BigDecimal("-12"));
+        mdd.setMaxMdd(BigDecimal.ZERO);
+        assertEquals(List.of(4L, 3L), strategyFacetIndex.search(mdd, 0, 10).getStrategyIds());
+
+        SearchOptionsDto returnRate = new SearchOptionsDto();
+        returnRate.setReturnRateList(List.of(1, 3)); // 10% 이하 또는 30% 이상
+        assertEquals(List.of(4L, 2L), strategyFacetIndex.search(returnRate, 0, 10).getStrategyIds());
+
+        SearchOptionsDto smScore = new SearchOptionsDto();
+        smScore.setMinSmscore(80);
+        smScore.setMaxSmscore(80);
+        assertEquals(List.of(3L, 2L), strategyFacetIndex.search(smScore, 0, 10).getStrategyIds());
+
+        SearchOptionsDto principal = new SearchOptionsDto();
+        principal.setMinPrincipal(new BigDecimal("3000000"));
+        assertEquals(List.of(3L, 2L), strategyFacetIndex.search(principal, 0, 10).getStrategyIds());
+
+        SearchOptionsDto operationDays = new SearchOptionsDto();
+        operationDays.setOperationDaysList(List.of(0, 3)); // 1년 미만 또는 3년 이상
+        assertEquals(List.of(4L, 2L, 1L), strategyFacetIndex.search(operationDays, 0, 10).getStrategyIds());
+
+        SearchOptionsDto dateRange = new SearchOptionsDto();
+        dateRange.setStartDate(LocalDate.of(2024, 3, 1));
+        dateRange.setEndDate(LocalDate.of(2024, 3, 31));
+        assertEquals(List.of(4L, 3L, 2L), strategyFacetIndex.search(dateRange, 0, 10).getStrategyIds());
+    }
+
+    @Test
+    @DisplayName("필터 항목별 전략 수는 해당 항목 조건만 빼고 계산하는지 테스트")
+    void testSearch_facetCountsExcludeOwnCondition() {
+        SearchOptionsDto options = new SearchOptionsDto();
+        options.setTradingTypeIdList(List.of(2));
+        options.setStrategyOperationStatusList(List.of("OPERATING"));
+
+        StrategyFacetSearchResultDto result = strategyFacetIndex.search(options, 0, 10);
+
+        assertEquals(List.of(3L), result.getStrategyIds());
+        // 매매유형 수: 운용상태 조건만 적용 (1번 유형 2개, 2번 유형 1개)
+        assertEquals(2, result.getFacetCounts().get(StrategyFacetIndex.TRADING_TYPES).get(1));
+        assertEquals(1, result.getFacetCounts().get(StrategyFacetIndex.TRADING_TYPES).get(2));
+        // 운용상태 수: 매매유형 조건만 적용
+        assertEquals(1, result.getFacetCounts().get(StrategyFacetIndex.STRATEGY_OPERATION_STATUSES).get("OPERATING"));
+        assertEquals(0, result.getFacetCounts().get(StrategyFacetIndex.STRATEGY_OPERATION_STATUSES).get("TERMINATED"));
+    }
+
+    @Test
+    @DisplayName("키워드 검색은 관련도 순, 같은 관련도는 SM-Score 순으로 정렬하는지 테스트")
+    void testSearchKeyword_ranksByRelevance() {
+        // "alpha 스윙"(2번)은 전략명 시작, "Alpha 추세"(4번)도 전략명 시작 -> SM-Score 순
+        StrategyFacetSearchResultDto alpha = strategyFacetIndex.searchKeyword("ALPHA", 0, 10);
+        assertEquals(List.of(4L, 2L), alpha.getStrategyIds());
+
+        // 전략명 포함(3번 "Beta 역추세")이 전략명 시작(4번 "Alpha 추세")보다 뒤
+        StrategyFacetSearchResultDto trend = strategyFacetIndex.searchKeyword("추세", 0, 10);
+        assertEquals(List.of(4L, 3L), trend.getStrategyIds());
+
+        // 닉네임으로도 검색
+        assertEquals(List.of(1L), strategyFacetIndex.searchKeyword("trader1", 0, 10).getStrategyIds());
+        assertEquals(4, strategyFacetIndex.searchKeyword("trader", 0, 10).getTotalCount());
+    }
+
+    @Test
+    @DisplayName("자동완성은 전략명 또는 닉네임이 입력어로 시작하는 전략을 SM-Score 순으로 반환하는지 테스트")
+    void testSuggest_prefixMatches() {
+        List<StrategySuggestionDto> suggestions = strategyFacetIndex.suggest("al", 5);
+
+        assertEquals(2, suggestions.size());
+        assertEquals(4L, suggestions.get(0).getStrategyId());
+        assertEquals("Alpha 추세", suggestions.get(0).getStrategyTitle());
+        assertEquals("trader4", suggestions.get(0).getNickname());
+        assertEquals(1, strategyFacetIndex.suggest("trader", 1).size());
+        assertTrue(strategyFacetIndex.suggest("추세", 5).isEmpty()); // 중간 일치는 제외
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 검색 때 인덱스를 다시 만드는지 테스트")
+    void testInvalidate_rebuildsOnNextSearch() {
+        strategyFacetIndex.search(new SearchOptionsDto(), 0, 10);
+
+        strategyFacetIndex.invalidateAfterCommit(); // 트랜잭션 밖이면 바로 무효화
+        strategyFacetIndex.search(new SearchOptionsDto(), 0, 10);
+
+        verify(strategySummaryRepository, times(2)).findFacetRows();
+    }
+
+    @Test
+    @DisplayName("새 READ_COMMITTED 읽기 트랜잭션에서 만들고, 보관 기간이 지나면 다시 만드는지 테스트")
+    void testSearch_buildsInFreshTransactionAndExpires() throws InterruptedException {
+        // Given: 보관 기간 1ms
+        strategyFacetIndex = new StrategyFacetIndex(strategySummaryRepository, transactionManager, 1);
+        strategyFacetIndex.search(new SearchOptionsDto(), 0, 10);
+
+        // When
+        Thread.sleep(5);
+        strategyFacetIndex.search(new SearchOptionsDto(), 0, 10);
+
+        // Then
+        verify(strategySummaryRepository, times(2)).findFacetRows();
+        verify(transactionManager, times(2)).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW
+                        && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_READ_COMMITTED
+                        && definition.isReadOnly()));
+    }
+
+    private static Object[] row(Long strategyId, String smScore, Integer tradingTypeId, Integer tradingCycleId, String status,
+                                String title, LocalDateTime writedAt, String mdd, String returnRate, String principal) {
+        boolean hasStatistics = mdd != null;
+        return new Object[]{
+                strategyId, new BigDecimal(smScore), tradingTypeId, tradingCycleId, status, "1000만원 ~ 2000만원", writedAt, title,
+                hasStatistics ? new BigDecimal(mdd) : null,
+                hasStatistics ? new BigDecimal(returnRate) : null,
+                hasStatistics ? LocalDate.of(2024, 1, 2) : null,
+                hasStatistics ? LocalDate.of(2024, 6, 28) : null,
+                hasStatistics ? new BigDecimal(principal) : null,
+                "trader" + strategyId
+        };
+    }
+}
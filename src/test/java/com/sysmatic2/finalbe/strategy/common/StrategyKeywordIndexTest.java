@@ -0,0 +1,57 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyKeywordIndexTest {
+
+    // 순번 = SM-Score 순
+    private final StrategyKeywordIndex index = new StrategyKeywordIndex(
+            new String[]{"국내 주식 추세", "추세추종", "해외선물 스윙", "추세"},
+            new String[]{"김트레이더", "추세왕", "박트레이더", "이트레이더"});
+
+    @Test
+    @DisplayName("2-gram 교집합 후 실제 포함 여부를 확인해 한글 부분 일치를 찾는지 테스트")
+    void testMatch_koreanSubstring() {
+        assertEquals(bits(0, 1, 3), index.match("추세"));
+        assertEquals(bits(2), index.match("외선"));
+        assertEquals(bits(), index.match("세추세")); // 2-gram("세추", "추세")은 모두 있지만 연속으로 포함한 전략은 없음
+        assertEquals(bits(1), index.match("세추"));
+        assertEquals(bits(0, 2, 3), index.match("트레이더")); // 닉네임
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드와 빈 키워드를 처리하는지 테스트")
+    void testMatch_singleCharacterAndBlank() {
+        assertEquals(bits(2), index.match("윙"));
+        assertEquals(bits(0, 1, 2, 3), index.match(" "));
+        assertEquals(bits(), index.match("없는말"));
+    }
+
+    @Test
+    @DisplayName("전략명 일치 > 전략명 시작 > 전략명 포함 > 닉네임 시작 순으로 정렬하는지 테스트")
+    void testRank_relevanceThenOrdinal() {
+        assertArrayEquals(new int[]{3, 1, 0}, index.rank("추세", index.match("추세")));
+        assertArrayEquals(new int[]{0, 2, 3}, index.rank("트레이더", index.match("트레이더")));
+    }
+
+    @Test
+    @DisplayName("자동완성은 시작 일치만 순번 순으로 최대 개수까지 반환하는지 테스트")
+    void testSuggest_prefixOnly() {
+        assertArrayEquals(new int[]{1, 3}, index.suggest("추세", 5));
+        assertArrayEquals(new int[]{1}, index.suggest("추세", 1));
+        assertArrayEquals(new int[]{}, index.suggest("", 5));
+    }
+
+    private static BitSet bits(int... ordinals) {
+        BitSet bits = new BitSet();
+        for (int ordinal : ordinals) {
+            bits.set(ordinal);
+        }
+        return bits;
+    }
+}
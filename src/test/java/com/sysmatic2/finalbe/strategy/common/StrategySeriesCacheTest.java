@@ -0,0 +1,232 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StrategySeriesCacheTest {
+
+    @Mock
+    private DailyStatisticsRepository dsp;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StrategySeriesCache strategySeriesCache;
+
+    private final LocalDate startDate = LocalDate.of(2024, 1, 1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        strategySeriesCache = new StrategySeriesCache(dsp, transactionManager, 5, 0);
+    }
+
+    @Test
+    @DisplayName("처음 조회는 DB 에서 적재하고 이후 조회는 캐시에서 반환하는지 테스트")
+    void testGet_loadsOnceAndHits() {
+        // Given
+        when(dsp.findSeriesByStrategyId(1L)).thenReturn(rows(3));
+
+        // When
+        StrategySeries first = strategySeriesCache.get(1L).orElseThrow();
+        StrategySeries second = strategySeriesCache.get(1L).orElseThrow();
+
+        // Then: DB 값과 같은 값(scale 포함)으로 복원
+        assertSame(first, second);
+        verify(dsp, times(1)).findSeriesByStrategyId(1L);
+        assertEquals(List.of(new BigDecimal("1.5000000000"), new BigDecimal("2.5000000000"), new BigDecimal("3.5000000000")),
+                first.values(StrategySeries.Column.CUMULATIVE_PROFIT_LOSS_RATE));
+        assertEquals(Optional.of(new BigDecimal("0.0200000000")),
+                first.valueAt(StrategySeries.Column.DAILY_PL_RATE, startDate.plusDays(1)));
+        assertEquals(Optional.empty(), first.valueAt(StrategySeries.Column.DAILY_PL_RATE, startDate.minusDays(1)));
+        assertEquals(1L, strategySeriesCache.getStats().get("hits"));
+        assertEquals(1L, strategySeriesCache.getStats().get("misses"));
+
+        // 호출한 곳의 트랜잭션이 아닌 새 READ_COMMITTED 읽기 트랜잭션에서 적재
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW
+                        && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_READ_COMMITTED
+                        && definition.isReadOnly()));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지나면 DB 에서 다시 적재하는지 테스트")
+    void testGet_reloadsAfterTtl() throws InterruptedException {
+        // Given: 보관 기간 1ms
+        strategySeriesCache = new StrategySeriesCache(dsp, transactionManager, 5, 1);
+        when(dsp.findSeriesByStrategyId(1L)).thenAnswer(invocation -> rows(2));
+        StrategySeries first = strategySeriesCache.get(1L).orElseThrow();
+
+        // When
+        Thread.sleep(5);
+        StrategySeries second = strategySeriesCache.get(1L).orElseThrow();
+
+        // Then
+        assertNotSame(first, second);
+        verify(dsp, times(2)).findSeriesByStrategyId(1L);
+        assertEquals(2L, strategySeriesCache.getStats().get("points"));
+    }
+
+    @Test
+    @DisplayName("전체 일자 수를 넘으면 가장 오래 사용하지 않은 전략부터 제거하는지 테스트")
+    void testGet_evictsLeastRecentlyUsed() {
+        // Given: 전략마다 2일, 최대 5일
+        when(dsp.findSeriesByStrategyId(anyLong())).thenAnswer(invocation -> rows(2));
+        strategySeriesCache.get(1L);
+        strategySeriesCache.get(2L);
+        strategySeriesCache.get(1L); // 1번 최근 사용
+
+        // When: 3번 적재 시 6일 > 5일
+        strategySeriesCache.get(3L);
+
+        // Then: 2번 제거
+        assertEquals(2L, strategySeriesCache.getStats().get("strategies"));
+        assertEquals(4L, strategySeriesCache.getStats().get("points"));
+        assertEquals(1L, strategySeriesCache.getStats().get("evictions"));
+        strategySeriesCache.get(1L);
+        strategySeriesCache.get(2L);
+        verify(dsp, times(1)).findSeriesByStrategyId(1L);
+        verify(dsp, times(2)).findSeriesByStrategyId(2L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 커밋 후에만 캐시에서 제거하는지 테스트")
+    void testEvictAfterCommit() {
+        // Given
+        when(dsp.findSeriesByStrategyId(1L)).thenReturn(rows(2));
+        strategySeriesCache.get(1L);
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            strategySeriesCache.evictAfterCommit(1L);
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: 커밋 전에는 유지, 커밋 후 제거
+        assertEquals(1L, strategySeriesCache.getStats().get("strategies"));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertEquals(0L, strategySeriesCache.getStats().get("strategies"));
+        assertEquals(0L, strategySeriesCache.getStats().get("points"));
+    }
+
+    @Test
+    @DisplayName("적재 중 변경이 있으면 적재 결과를 캐시하지 않는지 테스트")
+    void testGet_discardsLoadRacingWithEviction() {
+        // Given: 적재 중 다른 전략 데이터 변경으로 제거 발생
+        when(dsp.findSeriesByStrategyId(1L)).thenAnswer(invocation -> {
+            strategySeriesCache.evict(1L);
+            return rows(2);
+        });
+
+        // When
+        Optional<StrategySeries> loaded = strategySeriesCache.get(1L);
+
+        // Then: 이번 조회에는 반환하지만 캐시에는 남기지 않음
+        assertTrue(loaded.isPresent());
+        assertEquals(0L, strategySeriesCache.getStats().get("strategies"));
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 값이 있으면 캐시하지 않고 DB 에서 조회하는지 테스트")
+    void testGetCumulativeProfitLossRates_fallsBackWhenNotCacheable() {
+        // Given
+        List<Object[]> rows = rows(1);
+        rows.get(0)[1] = new BigDecimal("1000000000000"); // 기준가 * 10^10 > Long.MAX_VALUE
+        when(dsp.findSeriesByStrategyId(1L)).thenReturn(rows);
+        when(dsp.findCumulativeProfitLossRateByStrategyIdOrderByDate(1L)).thenReturn(List.of(BigDecimal.ONE));
+
+        // When
+        List<BigDecimal> rates = strategySeriesCache.getCumulativeProfitLossRates(1L);
+
+        // Then
+        assertEquals(List.of(BigDecimal.ONE), rates);
+        assertEquals(0L, strategySeriesCache.getStats().get("strategies"));
+    }
+
+    @Test
+    @DisplayName("여러 전략 조회 시 캐시에 없는 전략만 한 번의 IN 조회로 적재하는지 테스트")
+    void testGetAll_loadsMissesInOneQuery() {
+        // Given: 1번은 캐시됨
+        when(dsp.findSeriesByStrategyId(1L)).thenReturn(rows(1));
+        strategySeriesCache.get(1L);
+        List<Object[]> batchRows = new ArrayList<>();
+        for (Object[] row : rows(2)) {
+            batchRows.add(withStrategyId(2L, row));
+        }
+        when(dsp.findSeriesByStrategyIds(List.of(2L, 3L))).thenReturn(batchRows);
+
+        // When
+        Map<Long, StrategySeries> seriesMap = strategySeriesCache.getAll(List.of(1L, 2L, 3L));
+
+        // Then: 데이터가 없는 3번은 빈 시계열
+        verify(dsp, times(1)).findSeriesByStrategyIds(List.of(2L, 3L));
+        assertEquals(1, seriesMap.get(1L).size());
+        assertEquals(2, seriesMap.get(2L).size());
+        assertEquals(0, seriesMap.get(3L).size());
+        assertEquals(3L, strategySeriesCache.getStats().get("strategies"));
+        assertEquals(1L, strategySeriesCache.getStats().get("hits"));
+        assertEquals(3L, strategySeriesCache.getStats().get("misses"));
+    }
+
+    @Test
+    @DisplayName("다운샘플링 결과가 첫/마지막 값을 유지하고 같은 요청에는 재사용되는지 테스트")
+    void testSample_keepsEndpointsAndReuses() {
+        // Given
+        when(dsp.findSeriesByStrategyId(1L)).thenReturn(rows(100));
+        StrategySeries series = strategySeriesCache.get(1L).orElseThrow();
+
+        // When
+        List<BigDecimal> sampled = series.sample(StrategySeries.Column.CUMULATIVE_PROFIT_LOSS_RATE, 10);
+
+        // Then
+        assertEquals(10, sampled.size());
+        assertEquals(new BigDecimal("1.5000000000"), sampled.get(0));
+        assertEquals(new BigDecimal("100.5000000000"), sampled.get(9));
+        assertSame(sampled, series.sample(StrategySeries.Column.CUMULATIVE_PROFIT_LOSS_RATE, 10));
+        assertEquals(3, series.sample(StrategySeries.Column.CUMULATIVE_PROFIT_LOSS_RATE, 3).size());
+    }
+
+    private Object[] withStrategyId(Long strategyId, Object[] row) {
+        Object[] result = new Object[row.length + 1];
+        result[0] = strategyId;
+        System.arraycopy(row, 0, result, 1, row.length);
+        return result;
+    }
+
+    // 날짜 오름차순 행 (일자, 기준가, 누적손익률, 일손익률, 현재자본인하율)
+    private List<Object[]> rows(int size) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            rows.add(new Object[]{
+                    startDate.plusDays(i),
+                    new BigDecimal("1000.00").add(BigDecimal.valueOf(i)),
+                    new BigDecimal("1.5").add(BigDecimal.valueOf(i)),
+                    new BigDecimal("0.01").multiply(BigDecimal.valueOf(i + 1)),
+                    BigDecimal.ZERO
+            });
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,93 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyWriteLanesTest {
+
+    private final StrategyWriteLanes strategyWriteLanes = new StrategyWriteLanes(64, 50);
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 잠그면 예외 발생 테스트")
+    void testLock_outsideTransaction() {
+        assertThrows(IllegalStateException.class, () -> strategyWriteLanes.lock(1L));
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션 안에서는 여러 번 잠글 수 있고, 트랜잭션 종료 후 해제되는지 테스트")
+    void testLock_reentrantAndReleasedAfterCompletion() throws InterruptedException {
+        inTransaction(() -> {
+            strategyWriteLanes.lock(1L);
+            strategyWriteLanes.lock(1L);
+        });
+
+        // 다른 스레드에서 바로 잠글 수 있어야 함
+        Thread other = new Thread(() -> inTransaction(() -> strategyWriteLanes.lock(1L)));
+        other.start();
+        other.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(other.isAlive());
+    }
+
+    @Test
+    @DisplayName("같은 전략은 이전 트랜잭션이 끝날 때까지 대기하고, 다른 전략은 바로 처리되는지 테스트")
+    void testLock_serializesSameStrategyOnly() throws InterruptedException {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 전략 1의 쓰기 레인을 잡고 있는 트랜잭션
+        Thread writer = new Thread(() -> inTransaction(() -> {
+            strategyWriteLanes.lock(1L);
+            locked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        writer.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        // 같은 전략: 대기 시간 초과 시 409
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> inTransaction(() -> strategyWriteLanes.lock(1L)));
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+
+        // 다른 전략: 바로 처리
+        assertNotEquals(strategyWriteLanes.stripe(1L), strategyWriteLanes.stripe(2L));
+        assertDoesNotThrow(() -> inTransaction(() -> strategyWriteLanes.lock(2L)));
+
+        // 이전 트랜잭션 종료 후 같은 전략 처리
+        release.countDown();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        assertDoesNotThrow(() -> inTransaction(() -> strategyWriteLanes.lock(1L)));
+    }
+
+    @Test
+    @DisplayName("stripe 수가 0 이하이면 예외 발생 테스트")
+    void testConstructor_invalidStripes() {
+        assertThrows(IllegalArgumentException.class, () -> new StrategyWriteLanes(0, 50));
+    }
+
+    // 트랜잭션 동기화를 흉내 내어 실행 후 종료 콜백 호출
+    private static void inTransaction(Runnable body) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            body.run();
+        } finally {
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.dto.NightlyBatchReportDto;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DailyStatisticsBatchServiceTest {
+
+    @InjectMocks
+    private DailyStatisticsBatchService dailyStatisticsBatchService;
+
+    @Mock
+    private DailyStatisticsService dailyStatisticsService;
+
+    @Mock
+    private DailyStatisticsRepository dsp;
+
+    @Mock
+    private SmScoreService smScoreService;
+
+    private final LocalDate date = LocalDate.of(2024, 1, 2);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(dailyStatisticsBatchService, "workerThreads", 3);
+    }
+
+    @Test
+    @DisplayName("전략을 파티션으로 나누어 모두 등록하고 SM-SCORE는 마지막에 한 번만 재계산/반영하는지 테스트")
+    void runNightlyUpdate_partitionsAndStampsOnce() {
+        // Given: 데이터가 없는 전략 10개
+        List<Long> strategyIds = LongStream.rangeClosed(1, 10).boxed().toList();
+        when(dsp.findStrategyIdsWithoutDailyStatistics(eq(date), any()))
+                .thenReturn(new PageImpl<>(strategyIds, PageRequest.of(0, 1000), strategyIds.size()));
+        when(dailyStatisticsService.stampSmScores(date)).thenReturn(10);
+
+        // When
+        NightlyBatchReportDto report = dailyStatisticsBatchService.runNightlyUpdate(date);
+
+        // Then: 전략마다 한 번씩 등록, 파티션 3개
+        verify(dailyStatisticsService, times(10)).registerDailyStatistics(any(), argThat(reqDto -> date.equals(reqDto.getDate())));
+        assertEquals(3, report.getPartitions().size());
+        assertEquals(10, report.getProcessedCount());
+        assertEquals(0, report.getFailedCount());
+        assertEquals(10, report.getStampedCount());
+
+        // SM-SCORE 재계산 후 일괄 반영
+        InOrder inOrder = inOrder(smScoreService, dailyStatisticsService);
+        inOrder.verify(smScoreService, times(1)).flush();
+        inOrder.verify(dailyStatisticsService, times(1)).stampSmScores(date);
+    }
+
+    @Test
+    @DisplayName("일부 전략 등록이 실패해도 나머지 전략은 처리하고 실패 전략을 보고하는지 테스트")
+    void runNightlyUpdate_reportsFailures() {
+        List<Long> strategyIds = new ArrayList<>(LongStream.rangeClosed(1, 6).boxed().toList());
+        when(dsp.findStrategyIdsWithoutDailyStatistics(eq(date), any()))
+                .thenReturn(new PageImpl<>(strategyIds, PageRequest.of(0, 1000), strategyIds.size()));
+        doThrow(new IllegalStateException("등록 실패"))
+                .when(dailyStatisticsService).registerDailyStatistics(eq(4L), any());
+
+        NightlyBatchReportDto report = dailyStatisticsBatchService.runNightlyUpdate(date);
+
+        assertEquals(5, report.getProcessedCount());
+        assertEquals(1, report.getFailedCount());
+        assertTrue(report.getPartitions().stream().anyMatch(partition -> partition.getFailedStrategyIds().equals(List.of(4L))));
+        verify(smScoreService, times(1)).flush();
+        verify(dailyStatisticsService, times(1)).stampSmScores(date);
+    }
+}
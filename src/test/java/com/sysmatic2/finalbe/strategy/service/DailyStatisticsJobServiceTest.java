@@ -0,0 +1,341 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsJobResponseDto;
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobEntity;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobRowEntity;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsJobStatus;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsJobRepository;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsJobRowRepository;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DailyStatisticsJobServiceTest {
+
+    @InjectMocks
+    private DailyStatisticsJobService dailyStatisticsJobService;
+
+    @Mock
+    private DailyStatisticsJobRepository jobRepository;
+
+    @Mock
+    private DailyStatisticsJobRowRepository jobRowRepository;
+
+    @Mock
+    private DailyStatisticsRepository dsp;
+
+    @Mock
+    private StrategyRepository strategyRepository;
+
+    @Mock
+    private DailyStatisticsService dailyStatisticsService;
+
+    private final Long strategyId = 1L;
+    private final Long jobId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(dailyStatisticsJobService, "workerThreads", 1);
+        ReflectionTestUtils.setField(dailyStatisticsJobService, "queueCapacity", 1);
+        dailyStatisticsJobService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dailyStatisticsJobService.stop();
+    }
+
+    @Test
+    @DisplayName("입력 데이터를 작업 행으로 저장하고 커밋 후 대기열에 넣는지 테스트")
+    void testSubmit_savesRowsAndEnqueuesAfterCommit() {
+        // Given
+        when(jobRepository.save(any(DailyStatisticsJobEntity.class))).thenAnswer(invocation -> {
+            DailyStatisticsJobEntity job = invocation.getArgument(0);
+            job.setJobId(jobId);
+            return job;
+        });
+        Map<Integer, DailyStatisticsReqDto> rows = new LinkedHashMap<>();
+        rows.put(2, reqDto(LocalDate.of(2024, 1, 2)));
+        rows.put(3, reqDto(LocalDate.of(2024, 1, 3)));
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        DailyStatisticsJobResponseDto response;
+        List<TransactionSynchronization> synchronizations;
+        try {
+            response = dailyStatisticsJobService.submit(strategyId, rows, "EXCEL", "trader");
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: PENDING 상태로 접수, 시트 행 번호 유지, 커밋 전에는 계산하지 않음
+        assertEquals(jobId, response.getJobId());
+        assertEquals(DailyStatisticsJobStatus.PENDING, response.getStatus());
+        assertEquals(2, response.getRowCount());
+        verify(jobRowRepository).saveAll(argThat(jobRows -> {
+            List<DailyStatisticsJobRowEntity> list = (List<DailyStatisticsJobRowEntity>) jobRows;
+            return list.size() == 2 && list.get(0).getRowNumber() == 2 && list.get(1).getRowNumber() == 3
+                    && list.stream().allMatch(row -> jobId.equals(row.getJobId()));
+        }));
+        verify(jobRepository, never()).markComputing(any(), any());
+
+        // 커밋 후 작업 스레드에서 계산 시작
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(jobRepository, timeout(5000)).markComputing(eq(jobId), any());
+    }
+
+    @Test
+    @DisplayName("처리 자리가 없으면 저장하지 않고 503 반환 테스트")
+    void testSubmit_queueFull() {
+        // Given: 작업 스레드 1개와 대기열 1칸을 모두 예약
+        Semaphore slots = (Semaphore) ReflectionTestUtils.getField(dailyStatisticsJobService, "slots");
+        assertEquals(2, slots.drainPermits());
+
+        // When & Then
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> dailyStatisticsJobService.submit(strategyId, Map.of(1, reqDto(LocalDate.of(2024, 1, 2))), "MANUAL", "trader"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("롤백되면 예약한 처리 자리를 반환하고 계산하지 않는지 테스트")
+    void testSubmit_rollbackReleasesSlot() {
+        // Given
+        when(jobRepository.save(any(DailyStatisticsJobEntity.class))).thenAnswer(invocation -> {
+            DailyStatisticsJobEntity job = invocation.getArgument(0);
+            job.setJobId(jobId);
+            return job;
+        });
+        Semaphore slots = (Semaphore) ReflectionTestUtils.getField(dailyStatisticsJobService, "slots");
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            dailyStatisticsJobService.submit(strategyId, Map.of(1, reqDto(LocalDate.of(2024, 1, 2))), "MANUAL", "trader");
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(1, slots.availablePermits());
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertEquals(2, slots.availablePermits());
+        verify(jobRepository, never()).markComputing(any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 등록된 날짜와 중복 날짜는 행 오류로 기록하고 나머지만 등록하는지 테스트")
+    void testProcess_recordsRowErrorsAndRegistersRest() {
+        // Given
+        DailyStatisticsJobEntity job = pendingJob();
+        when(jobRepository.markComputing(eq(jobId), any())).thenReturn(1);
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        DailyStatisticsJobRowEntity registered = jobRow(2, LocalDate.of(2024, 1, 2));
+        DailyStatisticsJobRowEntity valid = jobRow(3, LocalDate.of(2024, 1, 3));
+        DailyStatisticsJobRowEntity duplicate = jobRow(4, LocalDate.of(2024, 1, 3));
+        when(jobRowRepository.findByJobIdOrderByRowNumberAsc(jobId)).thenReturn(List.of(registered, valid, duplicate));
+        when(dsp.findRegisteredDates(eq(strategyId), anyCollection())).thenReturn(List.of(LocalDate.of(2024, 1, 2)));
+
+        // When
+        dailyStatisticsJobService.process(jobId);
+
+        // Then
+        assertEquals("이미 등록된 날짜입니다: 2024-01-02", registered.getErrorMessage());
+        assertNull(valid.getErrorMessage());
+        assertEquals("중복된 날짜가 포함되어 있습니다: 2024-01-03", duplicate.getErrorMessage());
+        verify(jobRowRepository).saveAll(List.of(registered, duplicate));
+        verify(dailyStatisticsService).registerDailyStatisticsBulk(eq(strategyId),
+                argThat(reqDtos -> reqDtos.size() == 1 && reqDtos.get(0).getDate().equals(LocalDate.of(2024, 1, 3))));
+        assertEquals(DailyStatisticsJobStatus.DONE, job.getStatus());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    @DisplayName("등록 중 예외 발생 시 실패 상태와 사유를 기록하는지 테스트")
+    void testProcess_failure() {
+        // Given
+        DailyStatisticsJobEntity job = pendingJob();
+        when(jobRepository.markComputing(eq(jobId), any())).thenReturn(1);
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(jobRowRepository.findByJobIdOrderByRowNumberAsc(jobId)).thenReturn(List.of(jobRow(1, LocalDate.of(2024, 1, 2))));
+        when(dsp.findRegisteredDates(eq(strategyId), anyCollection())).thenReturn(List.of());
+        when(dailyStatisticsService.registerDailyStatisticsBulk(eq(strategyId), anyList()))
+                .thenThrow(new IllegalStateException("계산 실패"));
+
+        // When
+        dailyStatisticsJobService.process(jobId);
+
+        // Then: 모든 행이 실패하면 작업 실패, 행마다 사유 기록
+        assertEquals(DailyStatisticsJobStatus.FAILED, job.getStatus());
+        assertEquals("모든 행의 등록에 실패했습니다. 행 오류를 확인해 주세요.", job.getErrorMessage());
+        verify(jobRepository).save(job);
+    }
+
+    @Test
+    @DisplayName("일괄 등록이 실패하면 한 행씩 등록하여 실패한 행과 사유를 기록하는지 테스트")
+    void testProcess_recordsFailedRowAfterBulkFailure() {
+        // Given
+        DailyStatisticsJobEntity job = pendingJob();
+        when(jobRepository.markComputing(eq(jobId), any())).thenReturn(1);
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        DailyStatisticsJobRowEntity later = jobRow(2, LocalDate.of(2024, 1, 3));
+        DailyStatisticsJobRowEntity earlier = jobRow(3, LocalDate.of(2024, 1, 2));
+        when(jobRowRepository.findByJobIdOrderByRowNumberAsc(jobId)).thenReturn(List.of(later, earlier));
+        when(dsp.findRegisteredDates(eq(strategyId), anyCollection())).thenReturn(List.of());
+        when(dailyStatisticsService.registerDailyStatisticsBulk(eq(strategyId), anyList())).thenAnswer(invocation -> {
+            List<DailyStatisticsReqDto> reqDtos = invocation.getArgument(1);
+            if (reqDtos.size() > 1 || reqDtos.get(0).getDate().equals(LocalDate.of(2024, 1, 3))) {
+                throw new IllegalArgumentException("잘못된 일손익입니다.");
+            }
+            return List.of();
+        });
+
+        // When
+        dailyStatisticsJobService.process(jobId);
+
+        // Then: 날짜순으로 한 행씩 등록, 실패한 행만 사유 기록
+        assertNull(earlier.getErrorMessage());
+        assertEquals("잘못된 일손익입니다.", later.getErrorMessage());
+        verify(jobRowRepository).saveAll(List.of(later));
+        verify(dailyStatisticsService).registerDailyStatisticsBulk(eq(strategyId),
+                argThat(reqDtos -> reqDtos.size() == 1 && reqDtos.get(0).getDate().equals(LocalDate.of(2024, 1, 2))));
+        assertEquals(DailyStatisticsJobStatus.DONE, job.getStatus());
+    }
+
+    @Test
+    @DisplayName("대기 상태가 아닌 작업은 다시 계산하지 않는지 테스트")
+    void testProcess_skipsNonPendingJob() {
+        // Given
+        when(jobRepository.markComputing(eq(jobId), any())).thenReturn(0);
+
+        // When
+        dailyStatisticsJobService.process(jobId);
+
+        // Then
+        verify(jobRowRepository, never()).findByJobIdOrderByRowNumberAsc(any());
+        verifyNoInteractions(dailyStatisticsService);
+    }
+
+    @Test
+    @DisplayName("서버 시작 시 이전 실행의 계산 중 작업은 실패로, 대기 작업은 다시 대기열에 넣는지 테스트")
+    void testRecoverJobs() {
+        // Given
+        DailyStatisticsJobEntity interrupted = pendingJob();
+        interrupted.setStatus(DailyStatisticsJobStatus.COMPUTING);
+        interrupted.setStartedAt(LocalDateTime.now().minusDays(1));
+        when(jobRepository.findByStatusOrderByJobIdAsc(DailyStatisticsJobStatus.COMPUTING)).thenReturn(List.of(interrupted));
+        when(jobRepository.findByStatusOrderByJobIdAsc(DailyStatisticsJobStatus.PENDING)).thenReturn(List.of(pendingJob()));
+
+        // When
+        dailyStatisticsJobService.recoverJobs();
+
+        // Then
+        assertEquals(DailyStatisticsJobStatus.FAILED, interrupted.getStatus());
+        verify(jobRepository).save(interrupted);
+        verify(jobRepository, timeout(5000)).markComputing(eq(jobId), any());
+    }
+
+    @Test
+    @DisplayName("서버 시작 시 처리 자리가 없는 대기 작업은 실패로 처리하는지 테스트")
+    void testRecoverJobs_noSlot() {
+        // Given
+        Semaphore slots = (Semaphore) ReflectionTestUtils.getField(dailyStatisticsJobService, "slots");
+        slots.drainPermits();
+        when(jobRepository.findByStatusOrderByJobIdAsc(DailyStatisticsJobStatus.PENDING)).thenReturn(List.of(pendingJob()));
+
+        // When
+        dailyStatisticsJobService.recoverJobs();
+
+        // Then
+        verify(jobRepository).markFailed(eq(jobId), anyString(), any());
+        verify(jobRepository, never()).markComputing(any(), any());
+    }
+
+    @Test
+    @DisplayName("작업 상태 조회 시 행 오류를 함께 반환하고, 다른 트레이더는 조회할 수 없는지 테스트")
+    void testGetJob() {
+        // Given
+        StrategyEntity strategy = new StrategyEntity();
+        strategy.setStrategyId(strategyId);
+        strategy.setWriterId("trader");
+        when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategy));
+        DailyStatisticsJobEntity job = pendingJob();
+        job.setStatus(DailyStatisticsJobStatus.DONE);
+        when(jobRepository.findByJobIdAndStrategyId(jobId, strategyId)).thenReturn(Optional.of(job));
+        DailyStatisticsJobRowEntity errorRow = jobRow(5, LocalDate.of(2024, 1, 5));
+        errorRow.setErrorMessage("이미 등록된 날짜입니다: 2024-01-05");
+        when(jobRowRepository.findByJobIdAndErrorMessageIsNotNullOrderByRowNumberAsc(jobId)).thenReturn(List.of(errorRow));
+
+        // When
+        DailyStatisticsJobResponseDto response = dailyStatisticsJobService.getJob(strategyId, jobId, "trader", true);
+
+        // Then
+        assertEquals(DailyStatisticsJobStatus.DONE, response.getStatus());
+        assertEquals(1, response.getRowErrors().size());
+        assertEquals(5, response.getRowErrors().get(0).getRowNumber());
+        assertThrows(AccessDeniedException.class,
+                () -> dailyStatisticsJobService.getJob(strategyId, jobId, "other", true));
+    }
+
+    private DailyStatisticsJobEntity pendingJob() {
+        return DailyStatisticsJobEntity.builder()
+                .jobId(jobId)
+                .strategyId(strategyId)
+                .status(DailyStatisticsJobStatus.PENDING)
+                .source("EXCEL")
+                .rowCount(1)
+                .requestedBy("trader")
+                .requestedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private DailyStatisticsJobRowEntity jobRow(int rowNumber, LocalDate date) {
+        return DailyStatisticsJobRowEntity.builder()
+                .jobId(jobId)
+                .rowNumber(rowNumber)
+                .date(date)
+                .depWdPrice(BigDecimal.ZERO)
+                .dailyProfitLoss(BigDecimal.valueOf(100))
+                .build();
+    }
+
+    private DailyStatisticsReqDto reqDto(LocalDate date) {
+        return DailyStatisticsReqDto.builder()
+                .date(date)
+                .depWdPrice(BigDecimal.ZERO)
+                .dailyProfitLoss(BigDecimal.valueOf(100))
+                .build();
+    }
+}
@@ -1,25 +1,37 @@
 package com.sysmatic2.finalbe.strategy.service;
 
+import com.sysmatic2.finalbe.exception.DuplicateDateException;
+import com.sysmatic2.finalbe.strategy.common.StrategySeriesCache;
+import com.sysmatic2.finalbe.strategy.common.StrategyWriteLanes;
 import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
 import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
 import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsHistoryRepository;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsStateRepository;
 import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.TreeSet;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,6 +50,24 @@ class DailyStatisticsServiceTest {
     @Mock
     private StrategyRepository strategyRepository;
 
+    @Mock
+    private DailyStatisticsStateRepository dailyStatisticsStateRepository;
+
+    @Mock
+    private MonthlyStatisticsService monthlyStatisticsService;
+
+    @Mock
+    private SmScoreService smScoreService;
+
+    @Mock
+    private StrategyWriteLanes strategyWriteLanes;
+
+    @Mock
+    private StrategySeriesCache strategySeriesCache;
+
+    @Mock
+    private StrategySummaryService strategySummaryService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -88,9 +118,9 @@ class DailyStatisticsServiceTest {
         // Then: 계산 결과 검증
         assertNotNull(result, "결과 엔티티는 null이 아니어야 합니다.");
         assertEquals(BigDecimal.valueOf(1400), result.getBalance(), "잔고 계산 결과가 예상과 일치하지 않습니다.");
-        assertEquals(BigDecimal.valueOf(1041.6667), result.getPrincipal(), "원금 계산 결과가 예상과 일치하지 않습니다.");
+        assertEquals(BigDecimal.valueOf(1042), result.getPrincipal(), "원금 계산 결과가 예상과 일치하지 않습니다.");
         assertEquals(BigDecimal.valueOf(350), result.getCumulativeProfitLoss(), "누적손익 계산 결과가 예상과 일치하지 않습니다.");
-        assertEquals(BigDecimal.valueOf(1343.9999).setScale(4), result.getReferencePrice(), "기준가 계산 결과가 예상과 일치하지 않습니다.");
+        assertEquals(new BigDecimal("1343.57"), result.getReferencePrice(), "기준가 계산 결과가 예상과 일치하지 않습니다.");
 
         // Mock 검증
         verify(dssp, never()).save(any()); // 이 테스트에서는 save가 호출되지 않아야 합니다.
@@ -157,6 +187,10 @@ class DailyStatisticsServiceTest {
 
         // Then: 저장 동작 검증
         verify(dssp, times(1)).save(any(DailyStatisticsEntity.class));
+
+        // SM-SCORE는 즉시 재계산하지 않고 재계산 대상으로만 표시
+        verify(smScoreService, times(1)).markDirty();
+        verify(smScoreService, never()).flush();
     }
 
     @Test
@@ -196,11 +230,11 @@ class DailyStatisticsServiceTest {
 
         // Then: 계산된 모든 필드 검증
         assertEquals(BigDecimal.valueOf(1400), result.getBalance(), "잔고 계산 오류");
-        assertEquals(BigDecimal.valueOf(1041.6667), result.getPrincipal(), "원금 계산 오류");
+        assertEquals(BigDecimal.valueOf(1042), result.getPrincipal(), "원금 계산 오류");
         assertEquals(BigDecimal.valueOf(350), result.getCumulativeProfitLoss(), "누적손익 계산 오류");
-        assertEquals(BigDecimal.valueOf(1343.9999).setScale(4, RoundingMode.HALF_UP), result.getReferencePrice(), "기준가 계산 오류");
-        assertEquals(BigDecimal.valueOf(0.2218).setScale(4, RoundingMode.HALF_UP), result.getDailyPlRate(), "일손익률 계산 오류");
-        assertEquals(BigDecimal.valueOf(34.4000).setScale(4, RoundingMode.HALF_UP), result.getCumulativeProfitLossRate(), "누적손익률 계산 오류");
+        assertEquals(new BigDecimal("1343.57"), result.getReferencePrice(), "기준가 계산 오류");
+        assertEquals(new BigDecimal("22.14273"), result.getDailyPlRate(), "일손익률 계산 오류");
+        assertEquals(new BigDecimal("34.3570"), result.getCumulativeProfitLossRate(), "누적손익률 계산 오류");
     }
 
     @Test
@@ -254,4 +288,332 @@ class DailyStatisticsServiceTest {
             return true;
         }));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("삭제 후 재계산 시 이후 데이터를 한 번에 계산하여 일괄 저장하는지 테스트")
+    void testDeleteAndRecalculate_singlePassRecalculation() {
+        // Given: 첫 번째 데이터를 삭제하고 이후 두 건을 재계산
+        Long strategyId = 1L;
+        StrategyEntity strategyEntity = new StrategyEntity();
+        strategyEntity.setStrategyId(strategyId);
+
+        DailyStatisticsEntity deleted = DailyStatisticsEntity.builder()
+                .dailyStatisticsId(10L)
+                .date(LocalDate.of(2024, 1, 1))
+                .strategyEntity(strategyEntity)
+                .build();
+        DailyStatisticsEntity first = DailyStatisticsEntity.builder()
+                .dailyStatisticsId(11L)
+                .date(LocalDate.of(2024, 1, 2))
+                .depWdPrice(BigDecimal.valueOf(1000))
+                .dailyProfitLoss(BigDecimal.ZERO)
+                .build();
+        DailyStatisticsEntity second = DailyStatisticsEntity.builder()
+                .dailyStatisticsId(12L)
+                .date(LocalDate.of(2024, 2, 1))
+                .depWdPrice(BigDecimal.ZERO)
+                .dailyProfitLoss(BigDecimal.valueOf(100))
+                .build();
+
+        when(dssp.findAllById(List.of(10L))).thenReturn(List.of(deleted));
+        when(dssp.findPreviousStates(eq(strategyId), any(), any())).thenReturn(new PageImpl<>(List.of()));
+        when(dssp.findNextDatesAfter(eq(strategyId), any(), any())).thenReturn(new PageImpl<>(List.of(first.getDate())));
+        when(dssp.findAllAfterDate(strategyId, first.getDate())).thenReturn(List.of(first, second));
+        when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategyEntity));
+        when(dailyStatisticsStateRepository.findById(strategyId)).thenReturn(Optional.empty());
+
+        // When: 삭제 후 재계산
+        dailyStatisticsService.deleteAndRecalculate(strategyId, "writer", false, List.of(10L));
+
+        // Then: 건별 저장 없이 일괄 저장, 이후 데이터는 삭제하지 않고 기존 ID로 갱신
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DailyStatisticsEntity>> savedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(dssp, times(1)).saveAll(savedCaptor.capture());
+        verify(dssp, never()).save(any(DailyStatisticsEntity.class));
+        verify(dssp, never()).deleteFromDate(any(), any());
+        verify(strategyWriteLanes, times(1)).lock(strategyId);
+
+        List<DailyStatisticsEntity> saved = savedCaptor.getValue();
+        assertEquals(2, saved.size());
+        assertEquals(List.of(11L, 12L), saved.stream().map(DailyStatisticsEntity::getDailyStatisticsId).toList());
+        // 두 번째 데이터는 첫 번째 재계산 결과를 이전 데이터로 사용해야 합니다.
+        assertEquals(0, BigDecimal.valueOf(1100).compareTo(saved.get(1).getBalance()), "재계산 잔고 오류");
+        assertEquals(2, saved.get(1).getTradingDays(), "재계산 거래일수 오류");
+
+        // 월간 통계와 KP-RATIO는 마지막에 한 번만 갱신, SM-SCORE는 재계산 대상으로만 표시 (전체 재계산 없음)
+        verify(monthlyStatisticsService, times(1)).refreshMonthlyStatistics(strategyEntity,
+                new TreeSet<>(List.of(YearMonth.of(2024, 1), YearMonth.of(2024, 2))));
+        verify(monthlyStatisticsService, never()).updateMonthlyStatistics(any(), any());
+        verify(strategyRepository, times(1)).updateKpRatioAndSmScoreByStrategyId(eq(strategyId), any(), any());
+        verify(smScoreService, times(1)).markDirty();
+        verify(smScoreService, never()).flush();
+    }
+
+    @Test
+    @DisplayName("일괄 등록 시 날짜순으로 정렬하고 기존 데이터와 병합하여 한 번에 저장하는지 테스트")
+    void testRegisterDailyStatisticsBulk_mergesWithExistingRows() {
+        // Given: 정렬되지 않은 요청 데이터 2건과 그 사이의 기존 데이터 1건
+        Long strategyId = 1L;
+        StrategyEntity strategyEntity = new StrategyEntity();
+        strategyEntity.setStrategyId(strategyId);
+
+        DailyStatisticsReqDto later = DailyStatisticsReqDto.builder()
+                .date(LocalDate.of(2024, 1, 4))
+                .depWdPrice(BigDecimal.ZERO)
+                .dailyProfitLoss(BigDecimal.valueOf(-50))
+                .build();
+        DailyStatisticsReqDto earlier = DailyStatisticsReqDto.builder()
+                .date(LocalDate.of(2024, 1, 2))
+                .depWdPrice(BigDecimal.valueOf(1000))
+                .dailyProfitLoss(BigDecimal.ZERO)
+                .build();
+        DailyStatisticsEntity existing = DailyStatisticsEntity.builder()
+                .dailyStatisticsId(30L)
+                .date(LocalDate.of(2024, 1, 3))
+                .depWdPrice(BigDecimal.ZERO)
+                .dailyProfitLoss(BigDecimal.valueOf(100))
+                .build();
+
+        when(dssp.findLatestBeforeDate(eq(strategyId), eq(earlier.getDate()), any())).thenReturn(List.of());
+        when(dssp.findAllAfterDate(strategyId, earlier.getDate())).thenReturn(List.of(existing));
+        when(dssp.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategyEntity));
+        when(dailyStatisticsStateRepository.findById(strategyId)).thenReturn(Optional.empty());
+
+        // When: 일괄 등록
+        List<DailyStatisticsEntity> result = dailyStatisticsService.registerDailyStatisticsBulk(strategyId, List.of(later, earlier));
+
+        // Then: 기존 데이터를 포함해 한 번에 저장하고(기존 데이터는 ID 유지), 등록한 날짜만 날짜순으로 반환
+        verify(dssp, never()).deleteFromDate(any(), any());
+        verify(dssp, times(1)).saveAll(argThat(rows -> ((List<?>) rows).size() == 3
+                && Long.valueOf(30L).equals(((List<DailyStatisticsEntity>) rows).get(1).getDailyStatisticsId())
+                && ((List<DailyStatisticsEntity>) rows).get(0).getDailyStatisticsId() == null));
+        verify(dssp, never()).save(any(DailyStatisticsEntity.class));
+        verify(dssp, never()).findByStrategyIdAndDate(any(), any());
+
+        assertEquals(List.of(earlier.getDate(), later.getDate()),
+                result.stream().map(DailyStatisticsEntity::getDate).toList());
+        assertEquals(0, BigDecimal.valueOf(1050).compareTo(result.get(1).getBalance()), "병합 후 잔고 오류");
+        assertEquals(3, result.get(1).getTradingDays(), "병합 후 거래일수 오류");
+
+        // 일괄 등록은 끝난 시점에 SM-SCORE를 한 번 재계산
+        verify(smScoreService, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("일간 데이터 날짜 수정 시 이후 데이터를 삭제하지 않고 기존 ID로 재계산하는지 테스트")
+    void testUpdateDailyData_recalculatesInPlace() {
+        // Given: 1/2 데이터를 1/4로 수정 (사이에 1/3 데이터)
+        Long strategyId = 1L;
+        StrategyEntity strategyEntity = new StrategyEntity();
+        strategyEntity.setStrategyId(strategyId);
+
+        DailyStatisticsEntity target = DailyStatisticsEntity.builder()
+                .dailyStatisticsId(20L)
+                .strategyEntity(strategyEntity)
+                .date(LocalDate.of(2024, 1, 2))
+                .depWdPrice(BigDecimal.ZERO)
+                .dailyProfitLoss(BigDecimal.valueOf(100))
+                .build();
+        DailyStatisticsEntity between = DailyStatisticsEntity.builder()
+                .dailyStatisticsId(21L)
+                .strategyEntity(strategyEntity)
+                .date(LocalDate.of(2024, 1, 3))
+                .depWdPrice(BigDecimal.valueOf(1000))
+                .dailyProfitLoss(BigDecimal.ZERO)
+                .build();
+        DailyStatisticsReqDto reqDto = DailyStatisticsReqDto.builder()
+                .date(LocalDate.of(2024, 1, 4))
+                .depWdPrice(BigDecimal.ZERO)
+                .dailyProfitLoss(BigDecimal.valueOf(-50))
+                .build();
+
+        when(dssp.findById(20L)).thenReturn(Optional.of(target));
+        when(dssp.existsByStrategyIdAndDate(strategyId, reqDto.getDate())).thenReturn(false);
+        when(dssp.findLatestBeforeDate(eq(strategyId), eq(LocalDate.of(2024, 1, 2)), any())).thenReturn(List.of());
+        when(dssp.findAllAfterDate(strategyId, LocalDate.of(2024, 1, 2))).thenReturn(List.of(between, target));
+        when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategyEntity));
+        when(dailyStatisticsStateRepository.findById(strategyId)).thenReturn(Optional.empty());
+
+        // When
+        dailyStatisticsService.updateDailyData(strategyId, 20L, "writer", false, reqDto);
+
+        // Then: 날짜순으로 재계산하여 기존 ID로 일괄 저장 (삭제/건별 저장 없음)
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DailyStatisticsEntity>> savedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(dssp, times(1)).saveAll(savedCaptor.capture());
+        verify(dssp, never()).deleteFromDate(any(), any());
+        verify(dssp, never()).save(any(DailyStatisticsEntity.class));
+
+        List<DailyStatisticsEntity> saved = savedCaptor.getValue();
+        assertEquals(List.of(21L, 20L), saved.stream().map(DailyStatisticsEntity::getDailyStatisticsId).toList());
+        assertEquals(LocalDate.of(2024, 1, 4), saved.get(1).getDate());
+        assertEquals(0, BigDecimal.valueOf(950).compareTo(saved.get(1).getBalance()), "수정된 데이터 재계산 잔고 오류");
+
+        // 수정은 SM-SCORE 재계산 대상으로만 표시 (전체 재계산 없음)
+        verify(smScoreService, times(1)).markDirty();
+        verify(smScoreService, never()).flush();
+    }
+
+    @Test
+    @DisplayName("일괄 등록 시 이미 등록된 날짜가 있으면 예외 발생 테스트")
+    void testRegisterDailyStatisticsBulk_duplicateDate() {
+        // Given: 이미 등록된 날짜를 포함한 요청
+        Long strategyId = 1L;
+        LocalDate date = LocalDate.of(2024, 1, 2);
+        DailyStatisticsReqDto reqDto = DailyStatisticsReqDto.builder()
+                .date(date)
+                .depWdPrice(BigDecimal.valueOf(1000))
+                .dailyProfitLoss(BigDecimal.ZERO)
+                .build();
+
+        when(dssp.findLatestBeforeDate(eq(strategyId), eq(date), any())).thenReturn(List.of());
+        when(dssp.findAllAfterDate(strategyId, date)).thenReturn(List.of(DailyStatisticsEntity.builder().date(date).build()));
+
+        // When & Then: 중복 날짜 예외 발생, 데이터는 삭제/저장되지 않음
+        assertThrows(DuplicateDateException.class,
+                () -> dailyStatisticsService.registerDailyStatisticsBulk(strategyId, List.of(reqDto)));
+        verify(dssp, never()).deleteFromDate(any(), any());
+        verify(dssp, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("고정 소수점 계산 모드의 일괄 재계산 결과가 BigDecimal 계산 결과와 저장 정밀도에서 같은지 검증 (무작위 시계열)")
+    void testRegisterDailyStatisticsBulk_fixedPointKernelMatchesBigDecimal() throws IllegalAccessException {
+        Long strategyId = 1L;
+        StrategyEntity strategyEntity = new StrategyEntity();
+        strategyEntity.setStrategyId(strategyId);
+        when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategyEntity));
+        when(dailyStatisticsStateRepository.findById(strategyId)).thenReturn(Optional.empty());
+        when(dssp.findAllAfterDate(eq(strategyId), any())).thenReturn(List.of());
+        when(dssp.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            LocalDate startDate = LocalDate.of(2022, 1, 3);
+            List<DailyStatisticsReqDto> reqDtos = randomSeries(random, startDate, 200 + random.nextInt(200));
+
+            // 처음부터 재계산
+            when(dssp.findLatestBeforeDate(eq(strategyId), any(), any())).thenReturn(List.of());
+            List<DailyStatisticsEntity> expected = assertSameRecalculation(strategyId, reqDtos, "seed " + seed);
+            if (expected == null) {
+                continue;
+            }
+
+            // 중간부터 재계산 (직전 데이터는 DB에서 조회한 것처럼 소수점 10자리)
+            int splitIndex = 1 + random.nextInt(reqDtos.size() - 1);
+            List<DailyStatisticsEntity> storedRows = new ArrayList<>();
+            for (DailyStatisticsEntity row : expected.subList(0, splitIndex)) {
+                storedRows.add(toStoredRow(row));
+            }
+            List<DailyStatisticsReqDto> suffix = reqDtos.subList(splitIndex, reqDtos.size());
+            when(dssp.findLatestBeforeDate(eq(strategyId), any(), any())).thenReturn(List.of(storedRows.get(splitIndex - 1)));
+            when(dssp.findAllBeforeDate(eq(strategyId), any())).thenReturn(storedRows);
+            when(dssp.findAllBetweenDates(eq(strategyId), any(), any())).thenReturn(storedRows);
+            assertSameRecalculation(strategyId, suffix, "seed " + seed + ", split " + splitIndex);
+        }
+    }
+
+    // 두 계산 모드의 결과가 같은지 검증 (BigDecimal 계산에서 예외가 발생하면 같은 예외 발생)
+    private List<DailyStatisticsEntity> assertSameRecalculation(Long strategyId, List<DailyStatisticsReqDto> reqDtos, String message)
+            throws IllegalAccessException {
+        List<DailyStatisticsEntity> expected;
+        try {
+            expected = registerBulk(strategyId, reqDtos, false);
+        } catch (RuntimeException e) {
+            assertThrows(e.getClass(), () -> registerBulk(strategyId, reqDtos, true), message);
+            return null;
+        }
+        assertSameStatistics(expected, registerBulk(strategyId, reqDtos, true), message);
+        return expected;
+    }
+
+    private List<DailyStatisticsEntity> registerBulk(Long strategyId, List<DailyStatisticsReqDto> reqDtos, boolean fixedPointKernelEnabled) {
+        ReflectionTestUtils.setField(dailyStatisticsService, "fixedPointKernelEnabled", fixedPointKernelEnabled);
+        return dailyStatisticsService.registerDailyStatisticsBulk(strategyId, reqDtos);
+    }
+
+    // 잔고가 음수가 되지 않는 무작위 입출금/일손익 시계열 (금액은 정수 또는 소수점 4자리 이하)
+    private static List<DailyStatisticsReqDto> randomSeries(Random random, LocalDate startDate, int size) {
+        List<DailyStatisticsReqDto> reqDtos = new ArrayList<>(size);
+        BigDecimal balance = BigDecimal.ZERO;
+        for (int i = 0; i < size; i++) {
+            // 입출금 (가끔 전액 출금)
+            BigDecimal depWdPrice = BigDecimal.ZERO;
+            if (i == 0 || random.nextInt(20) == 0) {
+                depWdPrice = randomAmount(random);
+                if (i > 0 && random.nextBoolean()) {
+                    depWdPrice = (random.nextInt(10) == 0 ? balance : depWdPrice.min(balance)).negate();
+                }
+            }
+
+            // 일손익 = 잔고의 약 ±2%
+            BigDecimal available = balance.add(depWdPrice);
+            BigDecimal dailyProfitLoss = BigDecimal.ZERO;
+            if (random.nextInt(10) != 0) {
+                dailyProfitLoss = available.multiply(BigDecimal.valueOf(random.nextGaussian() * 0.02))
+                        .setScale(randomScale(random), RoundingMode.HALF_UP)
+                        .max(available.negate());
+            }
+
+            balance = available.add(dailyProfitLoss);
+            reqDtos.add(DailyStatisticsReqDto.builder()
+                    .date(startDate.plusDays(i))
+                    .depWdPrice(depWdPrice)
+                    .dailyProfitLoss(dailyProfitLoss)
+                    .build());
+        }
+        return reqDtos;
+    }
+
+    // 10^3 ~ 10^11 범위의 양수 금액
+    private static BigDecimal randomAmount(Random random) {
+        long magnitude = (long) Math.pow(10, 3 + random.nextInt(9));
+        return BigDecimal.valueOf(1 + (long) (random.nextDouble() * magnitude))
+                .add(BigDecimal.valueOf(random.nextInt(10_000), 4))
+                .setScale(randomScale(random), RoundingMode.DOWN);
+    }
+
+    // 대부분 정수, 가끔 소수점 1~4자리
+    private static int randomScale(Random random) {
+        return random.nextInt(10) < 7 ? 0 : 1 + random.nextInt(4);
+    }
+
+    // DB에 저장된 값처럼 소수점 10자리로 변환
+    private static DailyStatisticsEntity toStoredRow(DailyStatisticsEntity row) throws IllegalAccessException {
+        DailyStatisticsEntity storedRow = new DailyStatisticsEntity();
+        for (Field field : DailyStatisticsEntity.class.getDeclaredFields()) {
+            if (java.lang.reflect.Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            Object value = field.get(row);
+            field.set(storedRow, value instanceof BigDecimal decimal ? decimal.setScale(10, RoundingMode.HALF_UP) : value);
+        }
+        return storedRow;
+    }
+
+    // 모든 컬럼을 저장 정밀도(소수점 10자리)에서 비교
+    private static void assertSameStatistics(List<DailyStatisticsEntity> expected, List<DailyStatisticsEntity> actual, String message)
+            throws IllegalAccessException {
+        assertEquals(expected.size(), actual.size(), message);
+        for (int i = 0; i < expected.size(); i++) {
+            for (Field field : DailyStatisticsEntity.class.getDeclaredFields()) {
+                if (java.lang.reflect.Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                Object expectedValue = field.get(expected.get(i));
+                Object actualValue = field.get(actual.get(i));
+                String fieldMessage = message + ", row " + i + ", " + field.getName();
+                if (expectedValue instanceof BigDecimal expectedDecimal) {
+                    assertNotNull(actualValue, fieldMessage);
+                    assertEquals(expectedDecimal.setScale(10, RoundingMode.HALF_UP),
+                            ((BigDecimal) actualValue).setScale(10, RoundingMode.HALF_UP), fieldMessage);
+                } else {
+                    assertEquals(expectedValue, actualValue, fieldMessage);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.MonthlyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.repository.MonthlyStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MonthlyStatisticsServiceTest {
+
+    @InjectMocks
+    private MonthlyStatisticsService monthlyStatisticsService;
+
+    @Mock
+    private MonthlyStatisticsRepository monthlyStatisticsRepository;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    private final Long strategyId = 1L;
+    private StrategyEntity strategyEntity;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        strategyEntity = new StrategyEntity();
+        strategyEntity.setStrategyId(strategyId);
+    }
+
+    @Test
+    @DisplayName("일간 데이터 1건 추가 시 월별 일간 데이터 조회 없이 누적 값으로 갱신하는지 테스트")
+    void testUpdateMonthlyStatistics_appendsWithoutMonthQueries() {
+        // Given: 누적 값이 있는 2월 데이터(2일치)와 1월 데이터
+        MonthlyStatisticsEntity january = monthly(YearMonth.of(2024, 1), "1100", "500");
+        MonthlyStatisticsEntity february = monthly(YearMonth.of(2024, 2), "1200", "800");
+        february.setPrincipalSum(BigDecimal.valueOf(2000));
+        february.setDailyCount(2);
+        february.setMonthlyDepWdAmount(BigDecimal.valueOf(1000));
+        february.setMonthlyProfitLoss(BigDecimal.valueOf(300));
+        february.setLastDate(LocalDate.of(2024, 2, 2));
+
+        when(monthlyStatisticsRepository.findByStrategyIdAndAnalysisMonth(strategyId, YearMonth.of(2024, 2)))
+                .thenReturn(Optional.of(february));
+        when(monthlyStatisticsRepository.findLatestBeforeMonth(eq(strategyId), eq(YearMonth.of(2024, 2)), any()))
+                .thenReturn(List.of(january));
+
+        // When: 2월 3일 데이터 추가
+        monthlyStatisticsService.updateMonthlyStatistics(strategyId,
+                daily(LocalDate.of(2024, 2, 3), "1000", "0", "100", "1320"));
+
+        // Then: 누적 값 갱신, 월 누적 손익은 이전 월 값 + 이번 월 손익
+        verify(monthlyStatisticsRepository, times(1)).save(february);
+        verifyNoInteractions(dailyStatisticsRepository);
+
+        assertEquals(0, BigDecimal.valueOf(3000).compareTo(february.getPrincipalSum()), "원금 합계 오류");
+        assertEquals(3, february.getDailyCount(), "일간 데이터 수 오류");
+        assertEquals(0, BigDecimal.valueOf(400).compareTo(february.getMonthlyProfitLoss()), "월 손익 오류");
+        assertEquals(0, BigDecimal.valueOf(1000).compareTo(february.getMonthlyAvgPrincipal()), "월평균 원금 오류");
+        assertEquals(0, new BigDecimal("0.2000").compareTo(february.getMonthlyReturn()), "월 손익률 오류");
+        assertEquals(0, BigDecimal.valueOf(900).compareTo(february.getMonthlyCumulativeProfitLoss()), "월 누적 손익 오류");
+        assertEquals(0, new BigDecimal("0.3200").compareTo(february.getMonthlyCumulativeReturn()), "월 누적 손익률 오류");
+        assertEquals(LocalDate.of(2024, 2, 3), february.getLastDate(), "마지막 일자 오류");
+    }
+
+    @Test
+    @DisplayName("누적 값이 없는 이전 버전 월간 데이터는 저장된 일간 데이터로 한 번 초기화하는지 테스트")
+    void testUpdateMonthlyStatistics_initializesLegacyMonth() {
+        // Given: 누적 값이 없는 1월 데이터 (저장된 일간 데이터 2건)
+        MonthlyStatisticsEntity january = monthly(YearMonth.of(2024, 1), null, "0");
+        january.setMonthlyDepWdAmount(BigDecimal.valueOf(1000));
+        january.setMonthlyProfitLoss(BigDecimal.valueOf(50));
+
+        when(monthlyStatisticsRepository.findByStrategyIdAndAnalysisMonth(strategyId, YearMonth.of(2024, 1)))
+                .thenReturn(Optional.of(january));
+        when(monthlyStatisticsRepository.findLatestBeforeMonth(eq(strategyId), eq(YearMonth.of(2024, 1)), any()))
+                .thenReturn(List.of());
+        when(dailyStatisticsRepository.findDailyPrincipalsByStrategyIdAndMonth(strategyId, 2024, 1))
+                .thenReturn(List.of(BigDecimal.valueOf(1000), BigDecimal.valueOf(1000)));
+        when(dailyStatisticsRepository.findLastReferencePriceByStrategyIdAndMonth(eq(strategyId), eq(2024), eq(1), any()))
+                .thenReturn(List.of(BigDecimal.valueOf(1050)));
+
+        // When: 1월 3일 데이터 추가
+        monthlyStatisticsService.updateMonthlyStatistics(strategyId,
+                daily(LocalDate.of(2024, 1, 3), "1000", "0", "30", "1080"));
+
+        // Then: 저장된 2건 + 추가 1건 기준으로 계산
+        assertEquals(3, january.getDailyCount(), "일간 데이터 수 오류");
+        assertEquals(0, BigDecimal.valueOf(80).compareTo(january.getMonthlyProfitLoss()), "월 손익 오류");
+        assertEquals(0, BigDecimal.valueOf(80).compareTo(january.getMonthlyCumulativeProfitLoss()), "월 누적 손익 오류");
+        assertEquals(0, BigDecimal.valueOf(1080).compareTo(january.getLastReferencePrice()), "마지막 기준가 오류");
+        assertEquals(0, BigDecimal.ZERO.compareTo(january.getMonthlyReturn()), "이전 월이 없으면 월 손익률은 0");
+        verify(monthlyStatisticsRepository, times(1)).save(january);
+    }
+
+    @Test
+    @DisplayName("일괄 재구성 시 일간 데이터를 한 번만 조회하여 월별로 다시 계산하고 빈 월은 삭제하는지 테스트")
+    @SuppressWarnings("unchecked")
+    void testRefreshMonthlyStatistics_rebuildsInOnePass() {
+        // Given: 기존 1월(기준 월 이전), 2월, 3월(일간 데이터 없음) 월간 데이터
+        MonthlyStatisticsEntity january = monthly(YearMonth.of(2024, 1), "1100", "100");
+        MonthlyStatisticsEntity february = monthly(YearMonth.of(2024, 2), "9999", "9999");
+        february.setPrincipalSum(BigDecimal.valueOf(99999));
+        february.setDailyCount(99);
+        MonthlyStatisticsEntity march = monthly(YearMonth.of(2024, 3), "9999", "9999");
+        when(monthlyStatisticsRepository.findByStrategyEntityStrategyIdOrderByAnalysisMonthAsc(eq(strategyId), any()))
+                .thenReturn(new PageImpl<>(List.of(january, february, march)));
+
+        // 2월 2건, 4월 1건 (3월 데이터 없음)
+        when(dailyStatisticsRepository.findAllAfterDate(strategyId, LocalDate.of(2024, 2, 1))).thenReturn(List.of(
+                daily(LocalDate.of(2024, 2, 1), "1000", "0", "100", "1200"),
+                daily(LocalDate.of(2024, 2, 2), "2000", "1000", "-60", "1140"),
+                daily(LocalDate.of(2024, 4, 1), "2000", "0", "40", "1160")
+        ));
+
+        // When
+        monthlyStatisticsService.refreshMonthlyStatistics(strategyEntity,
+                List.of(YearMonth.of(2024, 4), YearMonth.of(2024, 2)));
+
+        // Then: 일간 데이터 1회 조회, 월별 조회 없음
+        verify(dailyStatisticsRepository, times(1)).findAllAfterDate(strategyId, LocalDate.of(2024, 2, 1));
+        verify(dailyStatisticsRepository, never()).findDailyPrincipalsByStrategyIdAndMonth(any(), anyInt(), anyInt());
+        verify(monthlyStatisticsRepository, never()).save(any());
+
+        ArgumentCaptor<Collection<MonthlyStatisticsEntity>> deletedCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(monthlyStatisticsRepository, times(1)).deleteAll(deletedCaptor.capture());
+        assertEquals(List.of(march), new ArrayList<>(deletedCaptor.getValue()), "빈 월 삭제 오류");
+
+        ArgumentCaptor<List<MonthlyStatisticsEntity>> savedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(monthlyStatisticsRepository, times(1)).saveAll(savedCaptor.capture());
+        List<MonthlyStatisticsEntity> saved = savedCaptor.getValue();
+        assertEquals(2, saved.size());
+
+        // 2월: 기존 엔티티 재사용, 누적 값 재계산
+        MonthlyStatisticsEntity rebuiltFebruary = saved.get(0);
+        assertSame(february, rebuiltFebruary);
+        assertEquals(2, rebuiltFebruary.getDailyCount(), "2월 일간 데이터 수 오류");
+        assertEquals(0, BigDecimal.valueOf(1500).compareTo(rebuiltFebruary.getMonthlyAvgPrincipal()), "2월 월평균 원금 오류");
+        assertEquals(0, BigDecimal.valueOf(1000).compareTo(rebuiltFebruary.getMonthlyDepWdAmount()), "2월 입출금 총액 오류");
+        assertEquals(0, BigDecimal.valueOf(40).compareTo(rebuiltFebruary.getMonthlyProfitLoss()), "2월 손익 오류");
+        assertEquals(0, BigDecimal.valueOf(140).compareTo(rebuiltFebruary.getMonthlyCumulativeProfitLoss()), "2월 누적 손익 오류");
+        assertEquals(0, new BigDecimal("0.0364").compareTo(rebuiltFebruary.getMonthlyReturn()), "2월 손익률 오류");
+
+        // 4월: 새로 생성, 직전 월(3월) 데이터가 없으므로 월 손익률 0, 누적 손익은 2월부터 이어서 계산
+        MonthlyStatisticsEntity april = saved.get(1);
+        assertEquals(YearMonth.of(2024, 4), april.getAnalysisMonth());
+        assertSame(strategyEntity, april.getStrategyEntity());
+        assertEquals(0, BigDecimal.ZERO.compareTo(april.getMonthlyReturn()), "4월 손익률 오류");
+        assertEquals(0, BigDecimal.valueOf(180).compareTo(april.getMonthlyCumulativeProfitLoss()), "4월 누적 손익 오류");
+    }
+
+    @Test
+    @DisplayName("갱신할 월이 없으면 재구성하지 않는지 테스트")
+    void testRefreshMonthlyStatistics_emptyMonths() {
+        monthlyStatisticsService.refreshMonthlyStatistics(strategyEntity, List.of());
+
+        verifyNoInteractions(monthlyStatisticsRepository, dailyStatisticsRepository);
+    }
+
+    private MonthlyStatisticsEntity monthly(YearMonth month, String lastReferencePrice, String cumulativeProfitLoss) {
+        return MonthlyStatisticsEntity.builder()
+                .strategyEntity(strategyEntity)
+                .analysisMonth(month)
+                .monthlyAvgPrincipal(BigDecimal.ZERO)
+                .monthlyDepWdAmount(BigDecimal.ZERO)
+                .monthlyProfitLoss(BigDecimal.ZERO)
+                .monthlyReturn(BigDecimal.ZERO)
+                .monthlyCumulativeProfitLoss(new BigDecimal(cumulativeProfitLoss))
+                .monthlyCumulativeReturn(BigDecimal.ZERO)
+                .lastReferencePrice(lastReferencePrice == null ? null : new BigDecimal(lastReferencePrice))
+                .build();
+    }
+
+    private DailyStatisticsEntity daily(LocalDate date, String principal, String depWdPrice, String dailyProfitLoss,
+                                        String referencePrice) {
+        return DailyStatisticsEntity.builder()
+                .strategyEntity(strategyEntity)
+                .date(date)
+                .principal(new BigDecimal(principal))
+                .depWdPrice(new BigDecimal(depWdPrice))
+                .dailyProfitLoss(new BigDecimal(dailyProfitLoss))
+                .referencePrice(new BigDecimal(referencePrice))
+                .build();
+    }
+}
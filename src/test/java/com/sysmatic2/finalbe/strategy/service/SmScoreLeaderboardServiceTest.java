@@ -0,0 +1,161 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.dto.SmScoreRankingResponseDto;
+import com.sysmatic2.finalbe.strategy.repository.StrategySummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class SmScoreLeaderboardServiceTest {
+
+    @Mock
+    private StrategySummaryRepository strategySummaryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SmScoreLeaderboardService smScoreLeaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        smScoreLeaderboardService = new SmScoreLeaderboardService(strategySummaryRepository, transactionManager);
+        ReflectionTestUtils.setField(smScoreLeaderboardService, "leaderboardSize", 2);
+
+        // SM-Score 내림차순 게시/승인 전략 (전략 ID, SM-Score, 매매유형 ID, 매매주기 ID)
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{4L, new BigDecimal("90"), 1, 1});
+        rows.add(new Object[]{3L, new BigDecimal("80"), 2, 1});
+        rows.add(new Object[]{2L, new BigDecimal("70"), 1, 2});
+        rows.add(new Object[]{1L, new BigDecimal("60"), 1, 2});
+        when(strategySummaryRepository.findFacetRows()).thenReturn(rows);
+
+        List<Object[]> iacRows = new ArrayList<>();
+        iacRows.add(new Object[]{1L, 10});
+        when(strategySummaryRepository.findFacetInvestmentAssetClasses()).thenReturn(iacRows);
+
+        when(strategySummaryRepository.findLeaderboardRows(any())).thenAnswer(invocation -> {
+            List<Object[]> details = new ArrayList<>();
+            for (Long id : (Set<Long>) invocation.getArgument(0)) {
+                details.add(new Object[]{id, "전략" + id, "trader" + id, "닉네임" + id, "/profile/" + id,
+                        "0.1,0.2", id == 4L ? LocalDate.now() : LocalDate.now().minusDays(1), new BigDecimal("1.5")});
+            }
+            return details;
+        });
+    }
+
+    @Test
+    @DisplayName("전체와 분류별로 상위 K개를 담고, 조회 크기는 K로 제한하는지 테스트")
+    void testGetTopStrategies_buildsBoardsPerCategory() {
+        assertEquals(List.of(4L, 3L), ids(smScoreLeaderboardService.getTopStrategies(10, null, null, null)));
+        assertEquals(List.of(4L), ids(smScoreLeaderboardService.getTopStrategies(1, null, null, null)));
+        assertEquals(List.of(4L, 2L), ids(smScoreLeaderboardService.getTopStrategies(5, 1, null, null)));
+        assertEquals(List.of(2L, 1L), ids(smScoreLeaderboardService.getTopStrategies(5, null, 2, null)));
+        assertEquals(List.of(1L), ids(smScoreLeaderboardService.getTopStrategies(5, null, null, 10)));
+        assertTrue(smScoreLeaderboardService.getTopStrategies(5, 99, null, null).isEmpty());
+
+        // 한 번 만든 랭킹으로 조회 (DB 조회 없음)
+        verify(strategySummaryRepository, times(1)).findFacetRows();
+        verify(strategySummaryRepository, times(1)).findLeaderboardRows(any());
+    }
+
+    @Test
+    @DisplayName("프로필, 목록 그래프, 오늘 일손익률(오늘 데이터가 없으면 0)을 담는지 테스트")
+    void testGetTopStrategies_entryValues() {
+        List<SmScoreRankingResponseDto> top = smScoreLeaderboardService.getTopStrategies(2, null, null, null);
+
+        assertEquals("전략4", top.get(0).getStrategyTitle());
+        assertEquals("닉네임4", top.get(0).getNickname());
+        assertEquals("/profile/4", top.get(0).getProfilePath());
+        assertEquals(List.of(new BigDecimal("0.1"), new BigDecimal("0.2")), top.get(0).getCumulativeProfitLossRateList());
+        assertEquals(new BigDecimal("1.5"), top.get(0).getDailyPlRate());
+        assertEquals(BigDecimal.ZERO, top.get(1).getDailyPlRate());
+    }
+
+    @Test
+    @DisplayName("분류를 두 개 이상 지정하면 IllegalArgumentException을 던지는지 테스트")
+    void testGetTopStrategies_rejectsMultipleCategories() {
+        assertThrows(IllegalArgumentException.class, () -> smScoreLeaderboardService.getTopStrategies(5, 1, 1, null));
+    }
+
+    @Test
+    @DisplayName("랭킹에 있는 전략/작성자가 바뀐 경우에만 무효화하는지 테스트")
+    void testInvalidateIfListed_onlyListedStrategiesAndWriters() {
+        smScoreLeaderboardService.getTopStrategies(5, null, null, null);
+
+        smScoreLeaderboardService.invalidateAfterCommitIfListed(List.of(99L)); // 랭킹에 없는 전략
+        smScoreLeaderboardService.invalidateAfterCommitIfWriterListed("nobody");
+        smScoreLeaderboardService.getTopStrategies(5, null, null, null);
+        verify(strategySummaryRepository, times(1)).findFacetRows();
+
+        smScoreLeaderboardService.invalidateAfterCommitIfListed(List.of(1L)); // 분류 랭킹에 있는 전략
+        smScoreLeaderboardService.getTopStrategies(5, null, null, null);
+        verify(strategySummaryRepository, times(2)).findFacetRows();
+
+        smScoreLeaderboardService.invalidateAfterCommitIfWriterListed("trader4");
+        smScoreLeaderboardService.getTopStrategies(5, null, null, null);
+        verify(strategySummaryRepository, times(3)).findFacetRows();
+    }
+
+    @Test
+    @DisplayName("커밋 후에는 무효화만 하고, 다음 조회 때 한 번 다시 만드는지 테스트")
+    void testInvalidateAfterCommit_rebuildsLazilyOnNextRead() {
+        smScoreLeaderboardService.getTopStrategies(5, null, null, null);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            smScoreLeaderboardService.invalidateAfterCommit();
+            smScoreLeaderboardService.invalidateAfterCommit();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // 커밋 시점에는 만들지 않음
+        verify(strategySummaryRepository, times(1)).findFacetRows();
+        smScoreLeaderboardService.getTopStrategies(5, null, null, null);
+        smScoreLeaderboardService.getTopStrategies(5, null, null, null);
+        verify(strategySummaryRepository, times(2)).findFacetRows(); // 다시 만든 랭킹 사용
+    }
+
+    @Test
+    @DisplayName("새 READ_COMMITTED 읽기 트랜잭션에서 만들고, 보관 기간이 지나면 다시 만드는지 테스트")
+    void testGetTopStrategies_buildsInFreshTransactionAndExpires() throws InterruptedException {
+        // Given: 보관 기간 1ms
+        ReflectionTestUtils.setField(smScoreLeaderboardService, "ttlMillis", 1L);
+        smScoreLeaderboardService.getTopStrategies(5, null, null, null);
+
+        // When
+        Thread.sleep(5);
+        smScoreLeaderboardService.getTopStrategies(5, null, null, null);
+
+        // Then
+        verify(strategySummaryRepository, times(2)).findFacetRows();
+        verify(transactionManager, times(2)).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW
+                        && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_READ_COMMITTED
+                        && definition.isReadOnly()));
+    }
+
+    private static List<Long> ids(List<SmScoreRankingResponseDto> dtos) {
+        return dtos.stream().map(SmScoreRankingResponseDto::getStrategyId).toList();
+    }
+}
@@ -0,0 +1,128 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.common.SmScoreCalculator;
+import com.sysmatic2.finalbe.strategy.common.StrategyFacetIndex;
+import com.sysmatic2.finalbe.strategy.repository.SmScoreJdbcRepository;
+import com.sysmatic2.finalbe.strategy.repository.SmScoreJdbcRepository.KpRatioColumns;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SmScoreServiceTest {
+
+    @InjectMocks
+    private SmScoreService smScoreService;
+
+    @Mock
+    private SmScoreJdbcRepository smScoreJdbcRepository;
+
+    @Mock
+    private StrategyFacetIndex strategyFacetIndex;
+
+    @Mock
+    private SmScoreLeaderboardService smScoreLeaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(smScoreJdbcRepository.findAllPositiveKpRatios()).thenAnswer(invocation -> kpRatios());
+    }
+
+    @Test
+    @DisplayName("여러 번 변경 표시해도 주기 실행 시 한 번만 재계산하는지 테스트")
+    void flushIfDirty_coalescesMarks() {
+        // Given: KP-RATIO 변경이 여러 번 발생
+        smScoreService.markDirty();
+        smScoreService.markDirty();
+        smScoreService.markDirty();
+
+        // When: 주기 실행 두 번
+        assertTrue(smScoreService.flushIfDirty());
+        assertFalse(smScoreService.flushIfDirty());
+
+        // Then: 분포 조회와 갱신, 랭킹 무효화는 한 번만 수행
+        verify(smScoreJdbcRepository, times(1)).findAllPositiveKpRatios();
+        verify(smScoreJdbcRepository, times(1)).batchUpdateSmScores(any(), any(), anyInt());
+        verify(smScoreLeaderboardService, times(1)).invalidateAfterCommit();
+        assertFalse(smScoreService.isDirty());
+    }
+
+    @Test
+    @DisplayName("재계산 결과 SM-SCORE가 바뀐 전략이 없으면 검색 인덱스와 랭킹을 무효화하지 않는지 테스트")
+    void flush_skipsInvalidationWhenUnchanged() {
+        // Given: 저장된 SM-SCORE가 재계산 결과와 같음
+        KpRatioColumns calculated = kpRatios();
+        long[] smScoreCents = SmScoreCalculator.calculateSmScoreCents(calculated.getKpRatios(), calculated.getSize());
+        KpRatioColumns unchanged = new KpRatioColumns(calculated.getSize());
+        for (int i = 0; i < calculated.getSize(); i++) {
+            unchanged.add(calculated.getStrategyIds()[i], calculated.getKpRatios()[i], smScoreCents[i]);
+        }
+        when(smScoreJdbcRepository.findAllPositiveKpRatios()).thenReturn(unchanged);
+
+        // When
+        smScoreService.flush();
+
+        // Then
+        verify(smScoreJdbcRepository, times(1)).batchUpdateSmScores(any(), any(), eq(0));
+        verify(strategyFacetIndex, never()).invalidateAfterCommit();
+        verify(smScoreLeaderboardService, never()).invalidateAfterCommit();
+    }
+
+    @Test
+    @DisplayName("변경 표시가 없으면 주기 실행 시 재계산하지 않는지 테스트")
+    void flushIfDirty_skipsWhenClean() {
+        assertFalse(smScoreService.flushIfDirty());
+
+        verify(smScoreJdbcRepository, never()).findAllPositiveKpRatios();
+        verify(smScoreJdbcRepository, never()).batchUpdateSmScores(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("flush는 변경 표시와 관계없이 즉시 재계산하고 표시를 지우는지 테스트")
+    void flush_recalculatesImmediately() {
+        smScoreService.flush();
+        verify(smScoreJdbcRepository, times(1)).findAllPositiveKpRatios();
+
+        smScoreService.markDirty();
+        smScoreService.flush();
+        verify(smScoreJdbcRepository, times(2)).findAllPositiveKpRatios();
+        assertFalse(smScoreService.isDirty());
+    }
+
+    @Test
+    @DisplayName("재계산에 실패하면 다음 주기에 다시 시도하도록 변경 표시가 유지되는지 테스트")
+    void flushIfDirty_keepsMarkOnFailure() {
+        smScoreService.markDirty();
+        when(smScoreJdbcRepository.findAllPositiveKpRatios()).thenThrow(new IllegalStateException("DB 오류"));
+
+        assertThrows(IllegalStateException.class, () -> smScoreService.flushIfDirty());
+        assertTrue(smScoreService.isDirty());
+    }
+
+    @Test
+    @DisplayName("SM-SCORE가 바뀐 전략만 배치 업데이트하는지 테스트")
+    void flush_updatesOnlyChangedScores() {
+        // Given: KP-RATIO [1, 2, 3] -> SM-SCORE [11.03, 50.00, 88.97], 2번 전략은 이미 50.00
+        smScoreService.flush();
+
+        // Then: 1번, 3번 전략만 업데이트
+        verify(smScoreJdbcRepository).batchUpdateSmScores(
+                argThat(ids -> ids[0] == 1L && ids[1] == 3L),
+                argThat(scores -> scores[0] == 1103L && scores[1] == 8897L),
+                eq(2));
+    }
+
+    private KpRatioColumns kpRatios() {
+        KpRatioColumns columns = new KpRatioColumns(2);
+        columns.add(1L, 1.0, 0L);
+        columns.add(2L, 2.0, 5000L);
+        columns.add(3L, 3.0, 0L);
+        return columns;
+    }
+}
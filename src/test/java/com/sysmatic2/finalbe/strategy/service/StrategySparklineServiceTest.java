@@ -0,0 +1,106 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.common.StrategySeriesCache;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class StrategySparklineServiceTest {
+
+    @Mock
+    private DailyStatisticsRepository dsp;
+
+    private StrategySparklineService strategySparklineService;
+
+    private final LocalDate startDate = LocalDate.of(2024, 1, 1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        strategySparklineService = new StrategySparklineService(new StrategySeriesCache(dsp, mock(PlatformTransactionManager.class), 1000000, 0), dsp);
+        ReflectionTestUtils.setField(strategySparklineService, "sparklinePoints", 5);
+    }
+
+    @Test
+    @DisplayName("페이지의 전략을 한 번에 조회하고 전략마다 최대 점 수로 줄이는지 테스트")
+    void testGetSparklines_batchesAndDownsamples() {
+        // Given: 1번 100일, 2번 3일
+        List<Object[]> rows = new ArrayList<>(rows(1L, 100));
+        rows.addAll(rows(2L, 3));
+        when(dsp.findSeriesByStrategyIds(List.of(1L, 2L))).thenReturn(rows);
+
+        // When
+        Map<Long, List<BigDecimal>> sparklines = strategySparklineService.getSparklines(List.of(1L, 2L));
+
+        // Then: 한 번만 조회하고 전략별 개별 조회는 없음
+        verify(dsp, times(1)).findSeriesByStrategyIds(anyCollection());
+        verify(dsp, never()).findSeriesByStrategyId(anyLong());
+        verify(dsp, never()).findCumulativeProfitLossRateByStrategyIdOrderByDate(anyLong());
+        assertEquals(5, sparklines.get(1L).size());
+        assertEquals(new BigDecimal("0E-10"), sparklines.get(1L).get(0));
+        assertEquals(new BigDecimal("99.0000000000"), sparklines.get(1L).get(4));
+        assertEquals(3, sparklines.get(2L).size());
+
+        // 다시 조회하면 캐시에서 반환
+        strategySparklineService.getSparklines(List.of(1L, 2L));
+        verify(dsp, times(1)).findSeriesByStrategyIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("캐시할 수 없는 전략만 개별 조회 후 줄이는지 테스트")
+    void testGetSparklines_fallsBackWhenNotCacheable() {
+        // Given: 기준가가 long 범위를 넘음
+        List<Object[]> rows = rows(1L, 1);
+        rows.get(0)[2] = new BigDecimal("1000000000000");
+        when(dsp.findSeriesByStrategyIds(List.of(1L))).thenReturn(rows);
+        List<Object[]> singleRows = new ArrayList<>();
+        singleRows.add(new Object[]{startDate, new BigDecimal("1000000000000"), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO});
+        when(dsp.findSeriesByStrategyId(1L)).thenReturn(singleRows);
+        List<BigDecimal> rates = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            rates.add(BigDecimal.valueOf(i));
+        }
+        when(dsp.findCumulativeProfitLossRateByStrategyIdOrderByDate(1L)).thenReturn(rates);
+
+        // When
+        Map<Long, List<BigDecimal>> sparklines = strategySparklineService.getSparklines(List.of(1L));
+
+        // Then
+        List<BigDecimal> sparkline = sparklines.get(1L);
+        assertEquals(5, sparkline.size());
+        assertEquals(BigDecimal.ZERO, sparkline.get(0));
+        assertEquals(BigDecimal.valueOf(19), sparkline.get(4));
+    }
+
+    // 날짜 오름차순 행 (전략 ID, 일자, 기준가, 누적손익률, 일손익률, 현재자본인하율)
+    private List<Object[]> rows(Long strategyId, int size) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            rows.add(new Object[]{
+                    strategyId,
+                    startDate.plusDays(i),
+                    new BigDecimal("1000.00"),
+                    BigDecimal.valueOf(i),
+                    BigDecimal.ZERO,
+                    BigDecimal.ZERO
+            });
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,346 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.common.StrategyCursor;
+import com.sysmatic2.finalbe.strategy.common.StrategyFacetIndex;
+import com.sysmatic2.finalbe.strategy.dto.AdvancedSearchResultDto;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategySummaryEntity;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.repository.StrategySummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class StrategySummaryServiceTest {
+
+    @InjectMocks
+    private StrategySummaryService strategySummaryService;
+
+    @Mock
+    private StrategySummaryRepository strategySummaryRepository;
+
+    @Mock
+    private DailyStatisticsRepository dsp;
+
+    @Mock
+    private StrategySparklineService strategySparklineService;
+
+    @Mock
+    private StrategyFacetIndex strategyFacetIndex;
+
+    @Mock
+    private SmScoreLeaderboardService smScoreLeaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 직전에 전략마다 한 번만 요약을 갱신하는지 테스트")
+    void testRefreshBeforeCommit_deduplicatesUntilBeforeCommit() {
+        // Given
+        givenStrategy(1L);
+
+        // When: 같은 트랜잭션에서 같은 전략을 두 번 예약
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            strategySummaryService.refreshBeforeCommit(1L);
+            strategySummaryService.refreshBeforeCommit(List.of(1L));
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: 예약 시점에는 갱신하지 않고, 커밋 직전에 한 번 갱신
+        assertEquals(1, synchronizations.size());
+        verify(strategySummaryRepository, never()).save(any());
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        verify(strategySummaryRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("일간 데이터 변경은 최신 일간 지표만 갱신하고, 목록 그래프는 커밋 후 스케줄러에서 한 번 계산하는지 테스트")
+    void testRefreshLatestBeforeCommit_updatesLatestColumnsAndDefersSparkline() {
+        // Given
+        when(strategySummaryRepository.updateLatestPointer(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(strategySparklineService.getSparklines(List.of(1L)))
+                .thenReturn(Map.of(1L, List.of(BigDecimal.ZERO, new BigDecimal("1.5"))));
+
+        // When: 같은 트랜잭션에서 두 번 예약 후 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            strategySummaryService.refreshLatestBeforeCommit(1L);
+            strategySummaryService.refreshLatestBeforeCommit(1L);
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+        // Then: 최신 일간 지표만 한 번 UPDATE, 전체 계산/이력 조회 없음
+        verify(strategySummaryRepository, times(1)).updateLatestPointer(eq(1L), any(LocalDateTime.class));
+        verify(strategySummaryRepository, times(1)).updateLatestValues(1L);
+        verify(strategySummaryRepository, never()).save(any());
+        verify(strategySparklineService, never()).computeSparkline(anyLong());
+
+        // 커밋 전에는 목록 그래프를 계산하지 않음
+        assertEquals(0, strategySummaryService.flushStaleSparklines());
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        // 커밋 후 한 번 계산하고, 다음 주기에는 다시 계산하지 않음
+        assertEquals(1, strategySummaryService.flushStaleSparklines());
+        verify(strategySummaryRepository).updateSparkline(1L, "0,1.5");
+        assertEquals(0, strategySummaryService.flushStaleSparklines());
+        verify(strategySparklineService, times(1)).getSparklines(any());
+    }
+
+    @Test
+    @DisplayName("요약이 없는 전략의 최신 일간 지표 갱신은 전체 계산으로 요약을 만드는지 테스트")
+    void testRefreshLatest_buildsMissingSummary() {
+        // Given: UPDATE 대상 요약 없음
+        givenStrategy(1L);
+        when(strategySummaryRepository.updateLatestPointer(eq(1L), any(LocalDateTime.class))).thenReturn(0);
+
+        // When
+        strategySummaryService.refreshLatest(1L);
+
+        // Then
+        verify(strategySummaryRepository).save(any());
+        verify(strategySummaryRepository, never()).updateLatestValues(anyLong());
+    }
+
+    @Test
+    @DisplayName("팔로우 변경은 팔로워 수만 갱신하고, 전체 계산이 함께 예약되면 생략하는지 테스트")
+    void testRefreshFollowersBeforeCommit_updatesFollowersCountOnly() {
+        // Given
+        givenStrategy(2L);
+        when(strategySummaryRepository.updateFollowersCount(anyLong(), any(LocalDateTime.class))).thenReturn(1);
+
+        // When: 1번은 팔로우 변경만, 2번은 전체 계산도 예약
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            strategySummaryService.refreshFollowersBeforeCommit(1L);
+            strategySummaryService.refreshFollowersBeforeCommit(2L);
+            strategySummaryService.refreshBeforeCommit(2L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.beforeCommit(false));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        verify(strategySummaryRepository).updateFollowersCount(eq(1L), any(LocalDateTime.class));
+        verify(strategySummaryRepository, never()).updateFollowersCount(eq(2L), any(LocalDateTime.class));
+        verify(strategySummaryRepository, never()).findSummarySource(1L);
+        verify(strategySummaryRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("전략 원본 값과 최신 일간 통계로 요약을 저장하는지 테스트")
+    void testRefresh_savesSummary() {
+        // Given
+        givenStrategy(1L);
+        DailyStatisticsEntity latest = DailyStatisticsEntity.builder()
+                .dailyStatisticsId(10L)
+                .date(LocalDate.of(2024, 1, 31))
+                .cumulativeProfitLossRate(new BigDecimal("12.5"))
+                .recentOneYearReturn(new BigDecimal("10.0"))
+                .maxDrawdownRate(new BigDecimal("-3.2"))
+                .build();
+        when(dsp.findLatestByStrategyId(eq(1L), any(Pageable.class))).thenReturn(List.of(latest));
+        when(dsp.findEarliestDateByStrategyId(1L)).thenReturn(Optional.of(LocalDate.of(2023, 6, 1)));
+
+        // When
+        strategySummaryService.refresh(1L);
+
+        // Then
+        ArgumentCaptor<StrategySummaryEntity> captor = ArgumentCaptor.forClass(StrategySummaryEntity.class);
+        verify(strategySummaryRepository).save(captor.capture());
+        StrategySummaryEntity summary = captor.getValue();
+        assertEquals("전략1", summary.getStrategyTitle());
+        assertEquals("type.png", summary.getTradingTypeIcon());
+        assertEquals("stock.png\nfuture.png", summary.getInvestmentAssetClassesIcons());
+        assertEquals("0,1.5,2", summary.getSparkline());
+        assertEquals(10L, summary.getLatestDailyStatisticsId());
+        assertEquals(LocalDate.of(2023, 6, 1), summary.getEarliestDate());
+        assertEquals(LocalDate.of(2024, 1, 31), summary.getLatestDate());
+        assertEquals(new BigDecimal("-3.2"), summary.getMaxDrawdownRate());
+        assertEquals(3L, summary.getFollowersCount());
+    }
+
+    @Test
+    @DisplayName("이미 있는 요약은 엔티티로 덮어쓰지 않고 컬럼별 UPDATE 로 갱신하는지 테스트")
+    void testRefresh_updatesExistingSummaryByColumns() {
+        // Given
+        givenStrategy(1L);
+        when(strategySummaryRepository.existsById(1L)).thenReturn(true);
+
+        // When
+        strategySummaryService.refresh(1L);
+
+        // Then: 전략명/아이콘, 최신 일간 지표, 팔로워 수만 UPDATE (목록 그래프 계산, 저장 없음)
+        verify(strategySummaryRepository).updateStrategyColumns(eq(1L), eq("전략1"), eq("type.png"), eq("cycle.png"),
+                eq("stock.png\nfuture.png"), any(LocalDateTime.class));
+        verify(strategySummaryRepository).updateLatestPointer(eq(1L), any(LocalDateTime.class));
+        verify(strategySummaryRepository).updateLatestValues(1L);
+        verify(strategySummaryRepository).updateFollowersCount(eq(1L), any(LocalDateTime.class));
+        verify(strategySummaryRepository, never()).save(any());
+        verify(strategySparklineService, never()).computeSparkline(anyLong());
+    }
+
+    @Test
+    @DisplayName("최신 일간 통계 ID가 있는 요약은 그대로, 비어 있는 요약은 다시 계산해 반환하는지 테스트")
+    void testFindSummary_usesStoredPointerOrBuilds() {
+        // Given: 1번은 최신 일간 통계 ID 있음, 2번은 일간 데이터가 있지만 ID 비어 있음 (기존 요약)
+        StrategySummaryEntity stored = StrategySummaryEntity.builder()
+                .strategyId(1L)
+                .latestDailyStatisticsId(10L)
+                .earliestDate(LocalDate.of(2023, 6, 1))
+                .latestDate(LocalDate.of(2024, 1, 31))
+                .build();
+        StrategySummaryEntity stale = StrategySummaryEntity.builder()
+                .strategyId(2L)
+                .latestDate(LocalDate.of(2024, 1, 31))
+                .build();
+        when(strategySummaryRepository.findById(1L)).thenReturn(Optional.of(stored));
+        when(strategySummaryRepository.findById(2L)).thenReturn(Optional.of(stale));
+        givenStrategy(2L);
+        DailyStatisticsEntity latest = DailyStatisticsEntity.builder()
+                .dailyStatisticsId(20L)
+                .date(LocalDate.of(2024, 1, 31))
+                .build();
+        when(dsp.findLatestByStrategyId(eq(2L), any(Pageable.class))).thenReturn(List.of(latest));
+        when(dsp.findEarliestDateByStrategyId(2L)).thenReturn(Optional.of(LocalDate.of(2023, 1, 2)));
+
+        // When
+        StrategySummaryEntity first = strategySummaryService.findSummary(1L).orElseThrow();
+        StrategySummaryEntity second = strategySummaryService.findSummary(2L).orElseThrow();
+
+        // Then: 1번은 일간 통계 조회 없음
+        assertSame(stored, first);
+        verify(dsp, never()).findLatestByStrategyId(eq(1L), any(Pageable.class));
+        assertEquals(20L, second.getLatestDailyStatisticsId());
+        assertEquals(LocalDate.of(2023, 1, 2), second.getEarliestDate());
+        verify(strategySummaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("전략이 삭제되었으면 요약을 삭제하는지 테스트")
+    void testRefresh_deletesSummaryOfDeletedStrategy() {
+        // Given
+        when(strategySummaryRepository.findSummarySource(1L)).thenReturn(List.of());
+        when(strategySummaryRepository.existsById(1L)).thenReturn(true);
+
+        // When
+        strategySummaryService.refresh(1L);
+
+        // Then
+        verify(strategySummaryRepository).deleteById(1L);
+        verify(strategySummaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("목록 DTO를 요약으로 만들고, 요약이 없는 전략은 바로 계산하는지 테스트")
+    void testToResultDtos_readsSummariesAndBuildsMissing() {
+        // Given: 1번은 요약 있음 (일간 데이터 없음), 2번은 요약 없음
+        StrategySummaryEntity stored = StrategySummaryEntity.builder()
+                .strategyId(1L)
+                .strategyTitle("요약 전략")
+                .tradingTypeIcon("type.png")
+                .tradingCycleIcon("cycle.png")
+                .investmentAssetClassesIcons("")
+                .smScore(new BigDecimal("55.10"))
+                .followersCount(7L)
+                .sparkline("")
+                .refreshedAt(LocalDateTime.now())
+                .build();
+        when(strategySummaryRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(stored));
+        givenStrategy(2L);
+
+        // When
+        List<AdvancedSearchResultDto> dtoList = strategySummaryService.toResultDtos(List.of(strategy(1L), strategy(2L)));
+
+        // Then: 페이지 순서 유지, 요약 있는 전략은 원본 조회 없음
+        assertEquals(2, dtoList.size());
+        AdvancedSearchResultDto first = dtoList.get(0);
+        assertEquals("요약 전략", first.getStrategyTitle());
+        assertEquals(BigDecimal.ZERO, first.getCumulativeProfitLossRate());
+        assertEquals(List.of(), first.getInvestmentAssetClassesIcons());
+        assertEquals(List.of(), first.getCumulativeProfitLossRateList());
+        AdvancedSearchResultDto second = dtoList.get(1);
+        assertEquals(List.of("stock.png", "future.png"), second.getInvestmentAssetClassesIcons());
+        assertEquals(List.of(BigDecimal.ZERO, new BigDecimal("1.5"), new BigDecimal("2")), second.getCumulativeProfitLossRateList());
+        verify(strategySummaryRepository, never()).findSummarySource(1L);
+        verify(strategySummaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("한 개 더 조회된 전략이 있으면 마지막 반환 전략으로 다음 커서를 만드는지 테스트")
+    void testToCursorResponse_buildsNextCursor() {
+        // Given: pageSize 2, 3개 조회 (다음 목록 있음)
+        StrategyEntity first = strategy(3L);
+        first.setSmScore(new BigDecimal("70.00"));
+        StrategyEntity second = strategy(2L);
+        second.setSmScore(new BigDecimal("60.00"));
+        StrategyEntity extra = strategy(1L);
+        extra.setSmScore(new BigDecimal("60.00"));
+        when(strategySummaryRepository.findAllById(List.of(3L, 2L))).thenReturn(List.of(
+                StrategySummaryEntity.builder().strategyId(3L).strategyTitle("전략3").smScore(first.getSmScore()).followersCount(0L).build(),
+                StrategySummaryEntity.builder().strategyId(2L).strategyTitle("전략2").smScore(second.getSmScore()).followersCount(0L).build()));
+
+        // When
+        Map<String, Object> response = strategySummaryService.toCursorResponse(List.of(first, second, extra), 2, null);
+
+        // Then: 반환은 2개, 커서는 2번 전략 기준, 전체 개수는 요청하지 않아 제외
+        assertEquals(2, ((List<?>) response.get("data")).size());
+        assertEquals(true, response.get("hasNext"));
+        assertEquals(new StrategyCursor(new BigDecimal("60.00"), 2L), StrategyCursor.decode((String) response.get("nextCursor")));
+        assertFalse(response.containsKey("totalElements"));
+
+        // 마지막 목록이면 커서 없음
+        Map<String, Object> last = strategySummaryService.toCursorResponse(List.of(first, second), 2, 2L);
+        assertEquals(false, last.get("hasNext"));
+        assertNull(last.get("nextCursor"));
+        assertEquals(2L, last.get("totalElements"));
+    }
+
+    private void givenStrategy(Long strategyId) {
+        List<Object[]> sources = new ArrayList<>();
+        sources.add(new Object[]{"전략" + strategyId, "type.png", "cycle.png", new BigDecimal("50.00"), 3L});
+        when(strategySummaryRepository.findSummarySource(strategyId)).thenReturn(sources);
+        when(strategySummaryRepository.findInvestmentAssetClassesIcons(strategyId)).thenReturn(List.of("stock.png", "future.png"));
+        when(strategySparklineService.computeSparkline(strategyId))
+                .thenReturn(List.of(BigDecimal.ZERO, new BigDecimal("1.5"), new BigDecimal("2")));
+        when(dsp.findLatestByStrategyId(anyLong(), any(Pageable.class))).thenReturn(List.of());
+    }
+
+    private StrategyEntity strategy(Long strategyId) {
+        StrategyEntity strategy = new StrategyEntity();
+        strategy.setStrategyId(strategyId);
+        return strategy;
+    }
+}